@@ -0,0 +1,66 @@
+package br.com.josenaldo.codeflix.catalog.application.category.create;
+
+import br.com.josenaldo.codeflix.catalog.domain.validation.Error;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a command for creating many categories at once.
+ * <p>
+ * This record holds one {@link CreateCategoryCommand} per category to be created. The position of
+ * each command in the list identifies its result in the {@link CreateCategoriesOutput}. A
+ * {@code null} command stands for an item of the request that had no data, and is reported as a
+ * failed item instead of failing the whole request.
+ *
+ * @param categories the commands for each category to be created, possibly with {@code null}
+ *                   elements.
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public record CreateCategoriesCommand(
+    List<CreateCategoryCommand> categories
+) {
+
+    /**
+     * Error reported when a bulk creation is requested without any category.
+     */
+    public static final Error EMPTY_CATEGORIES = new Error("'categories' should not be empty");
+
+    /**
+     * Error reported for an item of a bulk creation that holds no category.
+     */
+    public static final Error NULL_CATEGORY = new Error("'category' should not be null");
+
+    /**
+     * Creates a new {@code CreateCategoriesCommand}, validating its attributes.
+     *
+     * @param categories the commands for each category to be created. Must not be {@code null},
+     *                   but may hold {@code null} elements.
+     */
+    public CreateCategoriesCommand {
+        Objects.requireNonNull(categories, "the categories must not be null");
+        categories = Collections.unmodifiableList(new ArrayList<>(categories));
+    }
+
+    /**
+     * Creates a new instance of {@code CreateCategoriesCommand} with the specified commands.
+     *
+     * @param categories the commands for each category to be created.
+     * @return a new {@code CreateCategoriesCommand} instance.
+     */
+    public static CreateCategoriesCommand with(final List<CreateCategoryCommand> categories) {
+        return new CreateCategoriesCommand(categories);
+    }
+
+    /**
+     * Builds the error reported when a bulk creation holds more categories than allowed.
+     *
+     * @param maxSize the maximum number of categories of a bulk creation.
+     * @return the error.
+     */
+    public static Error tooManyCategories(final int maxSize) {
+        return new Error("'categories' should have at most %d items".formatted(maxSize));
+    }
+}
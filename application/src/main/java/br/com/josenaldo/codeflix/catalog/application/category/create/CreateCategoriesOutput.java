@@ -0,0 +1,73 @@
+package br.com.josenaldo.codeflix.catalog.application.category.create;
+
+import br.com.josenaldo.codeflix.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the output of the create categories use case.
+ * <p>
+ * This record holds one result per command of the {@link CreateCategoriesCommand}, in the same
+ * order. Each result is either a {@link Notification} with the errors that prevented the category
+ * from being created, or the {@link CreateCategoryOutput} of the created category, just like the
+ * result of the {@link CreateCategoryUseCase}.
+ *
+ * @param results the result of each category, in the order of the command.
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public record CreateCategoriesOutput(
+    List<Either<Notification, CreateCategoryOutput>> results
+) {
+
+    /**
+     * Creates a new {@code CreateCategoriesOutput}, validating its attributes.
+     *
+     * @param results the result of each category. Must not be {@code null}.
+     */
+    public CreateCategoriesOutput {
+        Objects.requireNonNull(results, "the results must not be null");
+        results = List.copyOf(results);
+    }
+
+    /**
+     * Creates a new instance of {@code CreateCategoriesOutput} with the specified results.
+     *
+     * @param results the result of each category, in the order of the command.
+     * @return a new {@code CreateCategoriesOutput} instance.
+     */
+    public static CreateCategoriesOutput from(
+        final List<Either<Notification, CreateCategoryOutput>> results
+    ) {
+        return new CreateCategoriesOutput(results);
+    }
+
+    /**
+     * Returns the number of categories that were created.
+     *
+     * @return the number of successful results.
+     */
+    public int createdCount() {
+        return (int) results.stream().filter(Either::isRight).count();
+    }
+
+    /**
+     * Returns the number of categories that could not be created.
+     *
+     * @return the number of failed results.
+     */
+    public int failedCount() {
+        return results.size() - createdCount();
+    }
+
+    /**
+     * Determines if any category could not be created.
+     *
+     * @return {@code true} if at least one result is a {@link Notification}; {@code false}
+     * otherwise.
+     */
+    public boolean hasErrors() {
+        return results.stream().anyMatch(Either::isLeft);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.josenaldo.codeflix.catalog.application.category.create;
+
+import br.com.josenaldo.codeflix.catalog.application.UseCase;
+
+/**
+ * Represents the abstract use case for creating many categories at once.
+ * <p>
+ * This abstract class extends {@link UseCase} to define the contract for a bulk category creation.
+ * The input is a {@link CreateCategoriesCommand} and the output is a
+ * {@link CreateCategoriesOutput} with the result of each category, so that invalid items do not
+ * prevent the valid ones from being created.
+ * <p>
+ * Implementations of this use case must provide the specific business logic for creating the
+ * categories.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public abstract class CreateCategoriesUseCase extends
+    UseCase<CreateCategoriesCommand, CreateCategoriesOutput> {
+
+}
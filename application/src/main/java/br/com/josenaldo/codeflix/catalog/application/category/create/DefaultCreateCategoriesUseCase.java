@@ -0,0 +1,124 @@
+package br.com.josenaldo.codeflix.catalog.application.category.create;
+
+import static io.vavr.API.Try;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
+import br.com.josenaldo.codeflix.catalog.domain.utils.DomainClocks;
+import br.com.josenaldo.codeflix.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Default implementation of {@link CreateCategoriesUseCase} that handles the creation of many
+ * categories at once.
+ * <p>
+ * Each command is validated on its own, with its own {@link Notification}. The valid categories
+ * are then handed to the {@link CategoryGateway} in a single call, so they are written in one unit
+ * of work and as few round trips as the data store allows, instead of one transaction per
+ * category.
+ * <p>
+ * The categories of a request are built inside a {@linkplain DomainClocks#batch() batch scope},
+ * so they all share the same {@code createdAt} and {@code updatedAt}, and the clock is read once
+ * per request.
+ * <p>
+ * Invalid categories get their validation errors as result, and {@code null} commands get
+ * {@link CreateCategoriesCommand#NULL_CATEGORY}. If the gateway fails, no category is
+ * created and every valid category gets the error of the gateway as result.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    /**
+     * The gateway used to persist categories.
+     */
+    private final CategoryGateway categoryGateway;
+
+    /**
+     * Constructs a new {@code DefaultCreateCategoriesUseCase} with the specified
+     * {@link CategoryGateway}.
+     *
+     * @param categoryGateway the gateway used for category persistence; must not be {@code null}.
+     */
+    public DefaultCreateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(
+            categoryGateway,
+            "the CategoryGateway must not be null"
+        );
+    }
+
+    /**
+     * Executes the bulk category creation use case.
+     * <p>
+     * It creates and validates a {@link Category} for each command, persists the valid ones with a
+     * single call to {@link CategoryGateway#createAll(List)} and returns the result of every
+     * command in its original position.
+     *
+     * @param command the command containing the data for each category to be created.
+     * @return a {@link CreateCategoriesOutput} with a {@link Notification} for each category that
+     * could not be created and a {@link CreateCategoryOutput} for each created one.
+     */
+    @Override
+    public CreateCategoriesOutput execute(final CreateCategoriesCommand command) {
+        final var commands = command.categories();
+        final var results = new ArrayList<Either<Notification, CreateCategoryOutput>>(
+            commands.size()
+        );
+        final var validCategories = new ArrayList<Category>(commands.size());
+        final var validPositions = new ArrayList<Integer>(commands.size());
+
+        try (var scope = DomainClocks.batch()) {
+            for (final CreateCategoryCommand aCommand : commands) {
+                if (aCommand == null) {
+                    results.add(Either.left(
+                        Notification.create(CreateCategoriesCommand.NULL_CATEGORY)
+                    ));
+                    continue;
+                }
+
+                final var notification = Notification.create();
+                final var category = Category.newCategory(
+                    aCommand.name(),
+                    aCommand.description(),
+                    aCommand.isActive()
+                );
+                category.validate(notification);
+
+                if (notification.hasErrors()) {
+                    results.add(Either.left(notification));
+                } else {
+                    validPositions.add(results.size());
+                    validCategories.add(category);
+                    results.add(Either.right(CreateCategoryOutput.from(category)));
+                }
+            }
+        }
+
+        if (!validCategories.isEmpty()) {
+            createAll(validCategories).ifPresent(notification ->
+                validPositions.forEach(position -> results.set(position, Either.left(notification)))
+            );
+        }
+
+        return CreateCategoriesOutput.from(results);
+    }
+
+    /**
+     * Persists the provided categories using the {@link CategoryGateway}.
+     *
+     * @param categories the valid categories to persist.
+     * @return an empty {@link Option} if the categories were created, or one with
+     * a {@link Notification} holding the error of the gateway.
+     */
+    private Option<Notification> createAll(final List<Category> categories) {
+        return Try(() -> categoryGateway.createAll(categories))
+            .failed()
+            .map(Notification::create)
+            .toOption();
+    }
+}
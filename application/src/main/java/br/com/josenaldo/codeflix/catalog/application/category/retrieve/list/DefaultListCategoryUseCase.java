@@ -5,6 +5,7 @@ import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
 import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
 import java.util.Objects;
 
 /**
@@ -68,4 +69,25 @@ public class DefaultListCategoryUseCase extends ListCategoryUseCase {
             throw DomainException.with(e.getMessage());
         }
     }
+
+    /**
+     * Executes the use case for listing categories without counting them.
+     * <p>
+     * This method uses the {@link CategoryGateway} to fetch a {@link Slice} of {@link Category}
+     * objects, which skips the {@code COUNT(*)} query, and maps them to a
+     * {@link CategoryListOutput} format.
+     *
+     * @param aSearchQuery the search query containing filtering and pagination parameters.
+     * @return a {@link Slice} containing a page of {@link CategoryListOutput} objects.
+     * @throws DomainException if an error occurs during the category retrieval process.
+     */
+    @Override
+    public Slice<CategoryListOutput> executeSlice(SearchQuery aSearchQuery) {
+        try {
+            Slice<Category> categorySlice = categoryGateway.findSlice(aSearchQuery);
+            return categorySlice.map(CategoryListOutput::from);
+        } catch (RuntimeException e) {
+            throw DomainException.with(e.getMessage());
+        }
+    }
 }
@@ -3,6 +3,7 @@ package br.com.josenaldo.codeflix.catalog.application.category.retrieve.list;
 import br.com.josenaldo.codeflix.catalog.application.UseCase;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
 
 /**
  * Represents the abstract use case for listing categories.
@@ -14,6 +15,10 @@ import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
  * Concrete implementations should override the {@code execute} method to provide the business logic
  * for retrieving and filtering categories from the underlying data source.
  * <p>
+ * When the client does not need the total number of categories (see
+ * {@link SearchQuery#countTotal()}), {@link #executeSlice(SearchQuery)} returns a {@link Slice}
+ * instead, which is computed without counting the matching categories.
+ * <p>
  *
  * @author Josenaldo de Oliveira Matos Filho
  * @version 1.0
@@ -21,4 +26,12 @@ import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
 public abstract class ListCategoryUseCase extends
     UseCase<SearchQuery, Pagination<CategoryListOutput>> {
 
+    /**
+     * Executes the use case without counting the total number of matching categories.
+     *
+     * @param aSearchQuery the search query containing filtering and pagination parameters.
+     * @return a {@link Slice} of {@link CategoryListOutput} objects, which tells whether there is a
+     * next page instead of the total number of categories.
+     */
+    public abstract Slice<CategoryListOutput> executeSlice(SearchQuery aSearchQuery);
 }
@@ -3,6 +3,7 @@ package br.com.josenaldo.codeflix.catalog.application.genre.create;
 import br.com.josenaldo.codeflix.catalog.domain.category.Category;
 import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
 import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryIDSet;
 import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
 import br.com.josenaldo.codeflix.catalog.domain.exceptions.NotificationException;
 import br.com.josenaldo.codeflix.catalog.domain.genre.Genre;
@@ -10,7 +11,6 @@ import br.com.josenaldo.codeflix.catalog.domain.genre.GenreGateway;
 import br.com.josenaldo.codeflix.catalog.domain.validation.Error;
 import br.com.josenaldo.codeflix.catalog.domain.validation.ValidationHandler;
 import br.com.josenaldo.codeflix.catalog.domain.validation.handler.Notification;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -127,6 +127,10 @@ public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
      * This method checks whether the provided list of {@code CategoryID}s is valid by ensuring that
      * all referenced IDs exist in the system's database. If any IDs are missing, the validation
      * process appends an error to the returned {@code ValidationHandler}.
+     * <p>
+     * The identifiers are deduplicated into a {@link CategoryIDSet} before the lookup, and the
+     * missing ones are the difference between the requested and retrieved sets, computed in a
+     * single linear pass.
      *
      * @param ids the list of {@code CategoryID}s to be validated. It can be {@code null} or empty,
      *            in which case no validation is performed and an empty notification is returned.
@@ -142,14 +146,15 @@ public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
             return notification;
         }
 
-        final List<CategoryID> retrievedIds = categoryGateway.existsByIds(ids);
-
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
+        final CategoryIDSet requestedIds = CategoryIDSet.from(ids);
+        final CategoryIDSet retrievedIds = CategoryIDSet.from(
+            categoryGateway.existsByIds(requestedIds.asList())
+        );
+        final CategoryIDSet missingIds = requestedIds.difference(retrievedIds);
 
-            final var missingIdsCsv
-                = missingIds
+        if (!missingIds.isEmpty()) {
+            final var missingIdsCsv = missingIds
+                .asList()
                 .stream()
                 .map(CategoryID::getValue)
                 .collect(Collectors.joining(", "));
@@ -3,6 +3,7 @@ package br.com.josenaldo.codeflix.catalog.application.genre.retrieve.list;
 import br.com.josenaldo.codeflix.catalog.domain.genre.GenreGateway;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
 import java.util.Objects;
 
 /**
@@ -58,4 +59,21 @@ public class DefaultListGenreUseCase extends ListGenreUseCase {
     public Pagination<GenreListOutput> execute(final SearchQuery aQuery) {
         return this.genreGateway.findAll(aQuery).map(GenreListOutput::from);
     }
+
+    /**
+     * Executes the use case to retrieve a page of genres without counting them.
+     *
+     * <p>This method delegates to {@link GenreGateway#findSlice(SearchQuery)} and maps the
+     * retrieved genres into the {@link GenreListOutput} format.
+     *
+     * @param aQuery The search query containing the criteria for filtering genres. Must not be
+     *               {@code null}.
+     * @return A {@link Slice} object containing the page of {@link GenreListOutput} objects that
+     * match the search criteria.
+     * @throws NullPointerException If {@code aQuery} is {@code null}.
+     */
+    @Override
+    public Slice<GenreListOutput> executeSlice(final SearchQuery aQuery) {
+        return this.genreGateway.findSlice(aQuery).map(GenreListOutput::from);
+    }
 }
@@ -3,6 +3,7 @@ package br.com.josenaldo.codeflix.catalog.application.genre.retrieve.list;
 import br.com.josenaldo.codeflix.catalog.application.UseCase;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
 
 /**
  * Abstract use case for listing genres based on search query parameters.
@@ -41,4 +42,17 @@ public abstract class ListGenreUseCase
      * underlying data source for genres.
      */
     public static final String GENRE_GATEWAY_NULL_ERROR = "GenreGateway must not be null";
+
+    /**
+     * Executes the use case without counting the total number of matching genres.
+     *
+     * <p>This is the entry point for clients that opted out of totals (see
+     * {@link SearchQuery#countTotal()}): the result tells whether there is a next page instead of
+     * the total number of genres, so no {@code COUNT(*)} query is needed.
+     *
+     * @param aQuery The search query containing the criteria for filtering genres. Must not be
+     *               {@code null}.
+     * @return A {@link Slice} of {@link GenreListOutput} objects that match the search criteria.
+     */
+    public abstract Slice<GenreListOutput> executeSlice(SearchQuery aQuery);
 }
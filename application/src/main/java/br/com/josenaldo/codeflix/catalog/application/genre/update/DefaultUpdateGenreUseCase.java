@@ -3,6 +3,7 @@ package br.com.josenaldo.codeflix.catalog.application.genre.update;
 import br.com.josenaldo.codeflix.catalog.domain.category.Category;
 import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
 import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryIDSet;
 import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
 import br.com.josenaldo.codeflix.catalog.domain.exceptions.NotFoundException;
 import br.com.josenaldo.codeflix.catalog.domain.exceptions.NotificationException;
@@ -12,7 +13,6 @@ import br.com.josenaldo.codeflix.catalog.domain.genre.GenreID;
 import br.com.josenaldo.codeflix.catalog.domain.validation.Error;
 import br.com.josenaldo.codeflix.catalog.domain.validation.ValidationHandler;
 import br.com.josenaldo.codeflix.catalog.domain.validation.handler.Notification;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -146,7 +146,8 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
      * Validation involves:
      * <ul>
      *   <li>Checking if the list of IDs is {@code null} or empty, returning an empty {@code ValidationHandler} in such cases.</li>
-     *   <li>Verifying the existence of each category ID using the category gateway, and collecting missing IDs in error messages.</li>
+     *   <li>Verifying the existence of the distinct category IDs using the category gateway, and collecting missing IDs in error messages.</li>
+     *   <li>Computing the missing IDs as the difference between the requested and retrieved {@link CategoryIDSet}s, in a single linear pass.</li>
      * </ul>
      * </p>
      *
@@ -163,12 +164,15 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
             return notification;
         }
 
-        final List<CategoryID> retrievedIds = categoryGateway.existsByIds(ids);
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
+        final CategoryIDSet requestedIds = CategoryIDSet.from(ids);
+        final CategoryIDSet retrievedIds = CategoryIDSet.from(
+            categoryGateway.existsByIds(requestedIds.asList())
+        );
+        final CategoryIDSet missingIds = requestedIds.difference(retrievedIds);
 
+        if (!missingIds.isEmpty()) {
             final var missingIdsMessage = missingIds
+                .asList()
                 .stream()
                 .map(CategoryID::getValue)
                 .collect(Collectors.joining(", "));
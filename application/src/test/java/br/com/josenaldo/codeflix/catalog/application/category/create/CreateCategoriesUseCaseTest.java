@@ -0,0 +1,196 @@
+package br.com.josenaldo.codeflix.catalog.application.category.create;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.josenaldo.codeflix.catalog.application.UseCaseTest;
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
+import br.com.josenaldo.codeflix.catalog.domain.utils.DomainClock;
+import br.com.josenaldo.codeflix.catalog.domain.utils.DomainClocks;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+/**
+ * Unit tests for the CreateCategoriesUseCase.
+ */
+class CreateCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    public List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DomainClocks.reset();
+    }
+
+    /**
+     * Tests that valid and invalid commands are reported in their own positions, and that only the
+     * valid categories are handed to the gateway, in a single call.
+     */
+    @Test
+    void givenValidAndInvalidCommands_whenCreateCategories_thenCreatesOnlyValidOnesInOneCall() {
+        // Arrange - Given
+        final var expectedErrorMessage = "'name' should not be null";
+        final var command = CreateCategoriesCommand.with(List.of(
+            CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+            CreateCategoryCommand.with(null, "Sem nome", true),
+            CreateCategoryCommand.with("Séries", null, false)
+        ));
+
+        when(categoryGateway.createAll(anyList())).thenAnswer(returnsFirstArg());
+
+        // Act - When
+        final var output = useCase.execute(command);
+
+        // Assert - Then
+        assertThat(output.results()).hasSize(3);
+        assertThat(output.createdCount()).isEqualTo(2);
+        assertThat(output.failedCount()).isEqualTo(1);
+        assertThat(output.hasErrors()).isTrue();
+
+        assertThat(output.results().get(0).isRight()).isTrue();
+        assertThat(output.results().get(0).get().id()).isNotNull();
+        assertThat(output.results().get(1).isLeft()).isTrue();
+        assertThat(output.results().get(1).getLeft().fisrtError().message())
+            .isEqualTo(expectedErrorMessage);
+        assertThat(output.results().get(2).isRight()).isTrue();
+
+        verify(categoryGateway, times(1)).createAll(
+            argThat(categories -> categories.size() == 2
+                && "Filmes".equals(categories.get(0).getName())
+                && "Séries".equals(categories.get(1).getName()))
+        );
+        verify(categoryGateway, never()).create(any());
+    }
+
+    /**
+     * Tests that when the gateway fails, no category is reported as created and every valid item
+     * carries the error of the gateway, while invalid items keep their own errors.
+     */
+    @Test
+    void givenAGatewayError_whenCreateCategories_thenEveryValidItemGetsTheError() {
+        // Arrange - Given
+        final var expectedErrorMessage = "Gateway error";
+        final var command = CreateCategoriesCommand.with(List.of(
+            CreateCategoryCommand.with("Filmes", null, true),
+            CreateCategoryCommand.with(" ", null, true),
+            CreateCategoryCommand.with("Séries", null, true)
+        ));
+
+        when(categoryGateway.createAll(anyList()))
+            .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // Act - When
+        final var output = useCase.execute(command);
+
+        // Assert - Then
+        assertThat(output.createdCount()).isZero();
+        assertThat(output.failedCount()).isEqualTo(3);
+        assertThat(output.results().get(0).getLeft().fisrtError().message())
+            .isEqualTo(expectedErrorMessage);
+        assertThat(output.results().get(1).getLeft().fisrtError().message())
+            .isNotEqualTo(expectedErrorMessage);
+        assertThat(output.results().get(2).getLeft().fisrtError().message())
+            .isEqualTo(expectedErrorMessage);
+    }
+
+    /**
+     * Tests that the gateway is not called when no command is valid.
+     */
+    @Test
+    void givenOnlyInvalidCommands_whenCreateCategories_thenDoesNotCallGateway() {
+        // Arrange - Given
+        final var command = CreateCategoriesCommand.with(List.of(
+            CreateCategoryCommand.with(null, null, true)
+        ));
+
+        // Act - When
+        final var output = useCase.execute(command);
+
+        // Assert - Then
+        assertThat(output.createdCount()).isZero();
+        assertThat(output.results().getFirst().isLeft()).isTrue();
+        verify(categoryGateway, never()).createAll(anyList());
+    }
+
+    /**
+     * Tests that the categories of a request are created within one batch scope, so they all
+     * share the same creation and update instants even on a clock that ticks on every read.
+     */
+    @Test
+    void givenATickingClock_whenCreateCategories_thenEveryCategorySharesTheSameInstants() {
+        // Arrange - Given
+        final var start = Instant.parse("2025-01-01T00:00:00Z");
+        DomainClocks.use(DomainClock.ticking(start, Duration.ofSeconds(1)));
+        final var command = CreateCategoriesCommand.with(List.of(
+            CreateCategoryCommand.with("Filmes", null, true),
+            CreateCategoryCommand.with("Séries", null, false),
+            CreateCategoryCommand.with("Documentários", null, true)
+        ));
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Category>> captor = ArgumentCaptor.forClass(List.class);
+
+        when(categoryGateway.createAll(anyList())).thenAnswer(returnsFirstArg());
+
+        // Act - When
+        useCase.execute(command);
+
+        // Assert - Then
+        verify(categoryGateway).createAll(captor.capture());
+        assertThat(captor.getValue())
+            .hasSize(3)
+            .allSatisfy(category -> {
+                assertThat(category.getCreatedAt()).isEqualTo(start);
+                assertThat(category.getUpdatedAt()).isEqualTo(start);
+            });
+    }
+
+    /**
+     * Tests that a {@code null} command is reported as a failed item in its own position, while
+     * the other items are created.
+     */
+    @Test
+    void givenANullCommand_whenCreateCategories_thenReportsItAsFailed() {
+        // Arrange - Given
+        final var expectedErrorMessage = CreateCategoriesCommand.NULL_CATEGORY.message();
+        final var command = CreateCategoriesCommand.with(Arrays.asList(
+            null,
+            CreateCategoryCommand.with("Filmes", null, true)
+        ));
+
+        when(categoryGateway.createAll(anyList())).thenAnswer(returnsFirstArg());
+
+        // Act - When
+        final var output = useCase.execute(command);
+
+        // Assert - Then
+        assertThat(output.results()).hasSize(2);
+        assertThat(output.results().get(0).getLeft().fisrtError().message())
+            .isEqualTo(expectedErrorMessage);
+        assertThat(output.results().get(1).isRight()).isTrue();
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 1));
+    }
+}
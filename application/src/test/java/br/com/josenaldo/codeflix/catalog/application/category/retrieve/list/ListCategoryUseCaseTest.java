@@ -3,6 +3,8 @@ package br.com.josenaldo.codeflix.catalog.application.category.retrieve.list;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import br.com.josenaldo.codeflix.catalog.application.UseCaseTest;
@@ -11,6 +13,7 @@ import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
 import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -169,4 +172,33 @@ class ListCategoryUseCaseTest extends UseCaseTest {
         assertThat(actualDomainException.getErrors()).hasSize(expectedArrorCount);
     }
 
+    @Test
+    void givenAQueryWithoutTotal_whenCallsExecuteSlice_thenReturnSliceWithoutCounting() {
+        // Arrange - Given
+        final var categories = List.of(
+            Category.newCategory("Filmes", "A categoria mais vista", true),
+            Category.newCategory("Séries", "A categoria mais assistida", true)
+        );
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 2;
+        final var expectedHasNext = true;
+        final var expectedItems = categories.stream().map(CategoryListOutput::from).toList();
+
+        final var aQuery = SearchQuery.of(expectedPage, expectedPerPage, "", "name", "asc", false);
+
+        when(categoryGateway.findSlice(any()))
+            .thenReturn(Slice.fromPage(expectedPage, expectedPerPage, expectedHasNext, categories));
+
+        // Act - When
+        final var actualOutput = useCase.executeSlice(aQuery);
+
+        // Assert - Then
+        assertThat(actualOutput.page()).isEqualTo(expectedPage);
+        assertThat(actualOutput.perPage()).isEqualTo(expectedPerPage);
+        assertThat(actualOutput.hasNext()).isEqualTo(expectedHasNext);
+        assertThat(actualOutput.data()).isEqualTo(expectedItems);
+
+        verify(categoryGateway, never()).findAll(any());
+    }
 }
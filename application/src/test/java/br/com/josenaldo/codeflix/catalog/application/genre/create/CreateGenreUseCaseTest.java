@@ -281,6 +281,38 @@ public class CreateGenreUseCaseTest extends UseCaseTest {
         verify(genreGateway, times(0)).create(any());
     }
 
+    @Test
+    void givenACommandWithDuplicatedCategories_whenCreateGenre_thenQueriesEachCategoryOnce() {
+        // Arrange - Given
+        final var expectedName = "Ação";
+        final var expectedIsActive = true;
+        final CategoryID categoryID1 = CategoryID.unique();
+        final CategoryID categoryID2 = CategoryID.unique();
+        final var expectedCategories = List.of(categoryID1, categoryID2);
+
+        CreateGenreCommand aCommand = CreateGenreCommand.with(
+            expectedName,
+            expectedIsActive,
+            asString(List.of(categoryID2, categoryID1, categoryID2, categoryID1))
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(categoryID2, categoryID1));
+
+        when(genreGateway.create(any()))
+            .thenAnswer(returnsFirstArg());
+
+        // Act - When
+        final CreateGenreOutput actualOutput = useCase.execute(aCommand);
+
+        // Assert - Then
+        assertThat(actualOutput).isNotNull();
+
+        verify(categoryGateway, times(1)).existsByIds(expectedCategories);
+        verify(genreGateway, times(1)).create(
+            argThat(aGenre -> Objects.equals(expectedCategories, aGenre.getCategories()))
+        );
+    }
+
     @Test
     void givenAnInvalidNames_whenCallsCreateGenreAndSomeCategoriesDoesNotExists_thenThrowsNotificationException() {
         // Arrange - Given
@@ -12,6 +12,7 @@ import br.com.josenaldo.codeflix.catalog.domain.genre.Genre;
 import br.com.josenaldo.codeflix.catalog.domain.genre.GenreGateway;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -147,4 +148,34 @@ public class ListGenreUseCaseTest extends UseCaseTest {
 
         verify(genreGateway, times(1)).findAll(eq(aQuery));
     }
+
+    @Test
+    void givenAQueryWithoutTotal_whenCallsExecuteSlice_thenReturnSliceOfGenres() {
+        // Arrange - Given
+        final var genres = List.of(
+            Genre.newGenre("Ação", true),
+            Genre.newGenre("Aventura", true)
+        );
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedHasNext = false;
+        final var expectedItems = genres.stream().map(GenreListOutput::from).toList();
+
+        final var aQuery = SearchQuery.of(expectedPage, expectedPerPage, "A", "name", "asc", false);
+
+        when(genreGateway.findSlice(eq(aQuery)))
+            .thenReturn(Slice.fromPage(expectedPage, expectedPerPage, expectedHasNext, genres));
+
+        // Act - When
+        final var actualOutput = useCase.executeSlice(aQuery);
+
+        // Assert - Then
+        assertThat(actualOutput.page()).isEqualTo(expectedPage);
+        assertThat(actualOutput.perPage()).isEqualTo(expectedPerPage);
+        assertThat(actualOutput.hasNext()).isFalse();
+        assertThat(actualOutput.data()).isEqualTo(expectedItems);
+
+        verify(genreGateway, times(1)).findSlice(eq(aQuery));
+    }
 }
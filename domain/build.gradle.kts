@@ -1,5 +1,6 @@
 plugins {
     id("java")
+    alias(libs.plugins.jmh.plugin)
 }
 
 group = "br.com.josenaldo.codeflix.domain"
@@ -12,3 +13,12 @@ repositories {
 dependencies {
 
 }
+
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    // Allocation rates (gc.alloc.rate.norm) are part of what the domain benchmarks measure.
+    profilers.add("gc")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+}
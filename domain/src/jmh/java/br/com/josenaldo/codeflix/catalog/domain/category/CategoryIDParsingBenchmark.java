@@ -0,0 +1,80 @@
+package br.com.josenaldo.codeflix.catalog.domain.category;
+
+import com.github.f4b6a3.ulid.Ulid;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the allocation rate and throughput of the ways a {@link CategoryID} is built from its
+ * textual form.
+ * <p>
+ * {@code legacy} reproduces the original implementation of {@code CategoryID.fromString}
+ * (lowercase, {@code Ulid.from}, re-encode, lowercase again), {@code fromString} is the validated
+ * fast path (or the normalizing path, for uppercase input) and {@code fromTrustedString} is the path
+ * used by the persistence mappers, which always sees canonical values. Run with
+ * {@code ./gradlew :domain:jmh}; the {@code gc.alloc.rate.norm} column of the gc profiler shows the
+ * bytes allocated per parsed identifier.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryIDParsingBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"lowercase", "uppercase"})
+    public String inputCase;
+
+    private String[] values;
+
+    private String[] canonicalValues;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        values = new String[SIZE];
+        canonicalValues = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            final var value = CategoryID.unique().getValue();
+            canonicalValues[i] = value;
+            values[i] = "uppercase".equals(inputCase) ? value.toUpperCase() : value;
+        }
+    }
+
+    private String next() {
+        index = (index + 1) & (SIZE - 1);
+        return values[index];
+    }
+
+    private String nextCanonical() {
+        index = (index + 1) & (SIZE - 1);
+        return canonicalValues[index];
+    }
+
+    @Benchmark
+    public String legacy() {
+        final var value = next();
+        return Ulid.from(value.toLowerCase()).toString().toLowerCase();
+    }
+
+    @Benchmark
+    public CategoryID fromString() {
+        return CategoryID.fromString(next());
+    }
+
+    @Benchmark
+    public CategoryID fromTrustedString() {
+        return CategoryID.fromTrustedString(nextCanonical());
+    }
+}
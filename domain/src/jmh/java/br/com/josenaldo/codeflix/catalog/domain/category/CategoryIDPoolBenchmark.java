@@ -0,0 +1,116 @@
+package br.com.josenaldo.codeflix.catalog.domain.category;
+
+import br.com.josenaldo.codeflix.catalog.domain.identity.IdentifierPool;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap retained by the category identifiers of a page of genres, with and without
+ * the {@link IdentifierPool}.
+ * <p>
+ * Each invocation rebuilds {@code genres} lists of {@code categoriesPerGenre} identifiers, drawn
+ * from a set of {@code popularCategories} identifiers, from freshly allocated strings - the way the
+ * persistence mappers see them coming from JDBC. The {@code retainedBytes} counter reports the
+ * growth of the used heap after a full GC while the page is still reachable; {@code unpooled} runs
+ * in a JVM started with {@value IdentifierPool#ENABLED_PROPERTY}{@code =false}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+public class CategoryIDPoolBenchmark {
+
+    @Param({"100"})
+    public int genres;
+
+    @Param({"50", "500"})
+    public int categoriesPerGenre;
+
+    @Param({"300"})
+    public int popularCategories;
+
+    private char[][] popular;
+
+    private int[][] picks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        popular = new char[popularCategories][];
+        for (int i = 0; i < popularCategories; i++) {
+            popular[i] = CategoryID.unique().getValue().toCharArray();
+        }
+
+        final var random = new SplittableRandom(42);
+        picks = new int[genres][categoriesPerGenre];
+        for (int g = 0; g < genres; g++) {
+            for (int c = 0; c < categoriesPerGenre; c++) {
+                picks[g][c] = random.nextInt(popularCategories);
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    public List<List<CategoryID>> pooled(final HeapCounters counters) {
+        return loadPage(counters);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + IdentifierPool.ENABLED_PROPERTY + "=false")
+    public List<List<CategoryID>> unpooled(final HeapCounters counters) {
+        return loadPage(counters);
+    }
+
+    private List<List<CategoryID>> loadPage(final HeapCounters counters) {
+        final long before = usedHeapAfterGc();
+
+        final List<List<CategoryID>> page = new ArrayList<>(genres);
+        for (int g = 0; g < genres; g++) {
+            final List<CategoryID> categories = new ArrayList<>(categoriesPerGenre);
+            for (int c = 0; c < categoriesPerGenre; c++) {
+                categories.add(CategoryID.fromTrustedString(new String(popular[picks[g][c]])));
+            }
+            page.add(categories);
+        }
+
+        counters.retainedBytes = usedHeapAfterGc() - before;
+        return page;
+    }
+
+    private static long usedHeapAfterGc() {
+        final var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Secondary results reported next to the timing of each invocation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+
+        public long retainedBytes;
+    }
+}
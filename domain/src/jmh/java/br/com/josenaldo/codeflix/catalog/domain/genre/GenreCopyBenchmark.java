@@ -0,0 +1,113 @@
+package br.com.josenaldo.codeflix.catalog.domain.genre;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of copying a {@link Genre} with 10, 1k and 10k categories along the paths
+ * taken by {@code DefaultUpdateGenreUseCase}: rehydration from the persistence layer,
+ * {@code Genre.with(Genre)}, {@code clone()} and an update that keeps the same categories.
+ * <p>
+ * {@code legacyListCopies} reproduces the three defensive {@code ArrayList} copies the aggregate
+ * used to make on such a run and serves as the baseline. Run with {@code ./gradlew :domain:jmh};
+ * the {@code gc.alloc.rate.norm} column of the gc profiler shows the bytes allocated per
+ * operation, which no longer grows with the number of categories on the sharing paths.
+ * <p>
+ * {@code iterateCategories} reads every category of a copy, which shares the identifiers already
+ * materialized by the set, while {@code iterateRehydratedCategories} reads them from a freshly
+ * rehydrated genre, which has to rebuild and intern each one on its first read.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GenreCopyBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int categoryCount;
+
+    private Genre genre;
+
+    private List<CategoryID> storedCategories;
+
+    private List<CategoryID> requestedCategories;
+
+    @Setup
+    public void setUp() {
+        storedCategories = new ArrayList<>(categoryCount);
+        for (int i = 0; i < categoryCount; i++) {
+            storedCategories.add(CategoryID.unique());
+        }
+        requestedCategories = new ArrayList<>(storedCategories);
+        genre = Genre.newGenre("Ação", true, storedCategories);
+    }
+
+    @Benchmark
+    public List<CategoryID> legacyListCopies() {
+        final List<CategoryID> rehydrated = new ArrayList<>(storedCategories);
+        final List<CategoryID> cloned = new ArrayList<>(rehydrated);
+        final List<CategoryID> updated = new ArrayList<>(requestedCategories);
+        return cloned.size() == updated.size() ? Collections.unmodifiableList(updated) : cloned;
+    }
+
+    @Benchmark
+    public Genre rehydrate() {
+        return Genre.with(
+            genre.getId(),
+            genre.getCreatedAt(),
+            genre.getUpdatedAt(),
+            genre.getDeletedAt(),
+            genre.getName(),
+            genre.isActive(),
+            storedCategories
+        );
+    }
+
+    @Benchmark
+    public Genre copy() {
+        return Genre.with(genre);
+    }
+
+    @Benchmark
+    public Genre cloneGenre() {
+        return genre.clone();
+    }
+
+    @Benchmark
+    public Genre noChangeUpdate() {
+        return genre.clone().update("Ação", true, requestedCategories);
+    }
+
+    @Benchmark
+    public Genre addCategory() {
+        return genre.clone().addCategory(CategoryID.unique());
+    }
+
+    @Benchmark
+    public void iterateCategories(final Blackhole blackhole) {
+        for (final CategoryID categoryID : Genre.with(genre).getCategories()) {
+            blackhole.consume(categoryID);
+        }
+    }
+
+    @Benchmark
+    public void iterateRehydratedCategories(final Blackhole blackhole) {
+        for (final CategoryID categoryID : rehydrate().getCategories()) {
+            blackhole.consume(categoryID);
+        }
+    }
+}
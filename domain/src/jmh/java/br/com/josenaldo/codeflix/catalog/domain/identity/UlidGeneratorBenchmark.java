@@ -0,0 +1,65 @@
+package br.com.josenaldo.codeflix.catalog.domain.identity;
+
+import com.github.f4b6a3.ulid.Ulid;
+import com.github.f4b6a3.ulid.UlidCreator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the throughput of the ULID generation strategies when several threads create
+ * identifiers at the same time, as in a bulk load.
+ * <p>
+ * {@code random} is {@link RandomUlidGenerator}, {@code shared-monotonic} is the global monotonic
+ * factory of the {@code ulid-creator} library (a single lock for every thread) and
+ * {@code thread-local-monotonic} is {@link ThreadLocalMonotonicUlidGenerator}. Run with
+ * {@code ./gradlew :domain:jmh}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UlidGeneratorBenchmark {
+
+    @Param({"random", "shared-monotonic", "thread-local-monotonic"})
+    public String strategy;
+
+    private UlidGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = switch (strategy) {
+            case "random" -> new RandomUlidGenerator();
+            case "shared-monotonic" -> UlidCreator::getMonotonicUlid;
+            case "thread-local-monotonic" -> new ThreadLocalMonotonicUlidGenerator();
+            default -> throw new IllegalArgumentException(strategy);
+        };
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Ulid singleThread() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Ulid eightThreads() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Ulid allProcessors() {
+        return generator.generate();
+    }
+}
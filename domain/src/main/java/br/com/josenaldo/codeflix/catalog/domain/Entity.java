@@ -40,7 +40,7 @@ public abstract class Entity<ID extends Identifier> {
 
     /**
      * Constructs a new {@code Entity} with the provided identifier. Initializes
-     * {@code createdAt} and {@code updatedAt} to the current time.
+     * {@code createdAt} and {@code updatedAt} to the same current instant.
      *
      * @param id The unique identifier of the entity. Must not be {@code null}.
      * @throws NullPointerException If the {@code id} is {@code null}.
@@ -49,8 +49,9 @@ public abstract class Entity<ID extends Identifier> {
 
         this.id = Objects.requireNonNull(id, "id must not be null");
 
-        this.createdAt = InstantUtils.now();
-        this.updatedAt = InstantUtils.now();
+        final var now = InstantUtils.now();
+        this.createdAt = now;
+        this.updatedAt = now;
     }
 
     /**
@@ -126,7 +127,17 @@ public abstract class Entity<ID extends Identifier> {
      * called whenever an entity is modified.
      */
     protected void touch() {
-        this.updatedAt = InstantUtils.now();
+        this.touch(InstantUtils.now());
+    }
+
+    /**
+     * Updates the {@code updatedAt} timestamp to the given instant, so that an operation that
+     * changes several timestamps reads the clock only once.
+     *
+     * @param now The instant of the current operation.
+     */
+    protected void touch(final Instant now) {
+        this.updatedAt = now;
     }
 
     /**
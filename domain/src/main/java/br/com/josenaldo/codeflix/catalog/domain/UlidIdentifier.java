@@ -0,0 +1,173 @@
+package br.com.josenaldo.codeflix.catalog.domain;
+
+import br.com.josenaldo.codeflix.catalog.domain.utils.UlidUtils;
+import com.github.f4b6a3.ulid.Ulid;
+
+/**
+ * Base class for identifiers backed by a ULID (Universally Unique Lexicographically Sortable
+ * Identifier).
+ * <p>
+ * The identifier is held as two {@code long} values, the most and least significant 64 bits of the
+ * 128-bit ULID, which is the same layout used by the {@code BINARY(16)} columns in the database.
+ * The canonical textual form (26 lowercase Crockford Base32 characters) is derived on demand and
+ * cached, so the REST surface and logs keep seeing the familiar string representation.
+ * <p>
+ * Equality and hash code are based on the concrete identifier type and the 128 bits, never on the
+ * textual form.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public abstract class UlidIdentifier extends Identifier {
+
+    /**
+     * Number of bytes of the binary representation of a ULID.
+     */
+    public static final int BYTES = 16;
+
+    /**
+     * The most significant 64 bits of the ULID (timestamp and the first 16 bits of randomness).
+     */
+    private final long mostSignificantBits;
+
+    /**
+     * The least significant 64 bits of the ULID (the remaining 64 bits of randomness).
+     */
+    private final long leastSignificantBits;
+
+    /**
+     * Cached canonical lowercase textual form. It is computed lazily, and because the computation
+     * is idempotent, a benign race between threads only costs a duplicate encoding.
+     */
+    private String value;
+
+    /**
+     * Creates a new identifier from the two halves of the ULID.
+     *
+     * @param mostSignificantBits  the most significant 64 bits of the ULID.
+     * @param leastSignificantBits the least significant 64 bits of the ULID.
+     * @param value                the canonical lowercase textual form of the ULID, or {@code null}
+     *                             to have it derived from the bits when first requested.
+     */
+    protected UlidIdentifier(
+        final long mostSignificantBits,
+        final long leastSignificantBits,
+        final String value
+    ) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.value = value;
+    }
+
+    /**
+     * Checks that the given array is a {@code BINARY(16)} ULID value.
+     *
+     * @param bytes the array to be checked.
+     * @return the given array.
+     * @throws IllegalArgumentException if {@code bytes} is {@code null} or does not have exactly
+     *                                  {@value #BYTES} bytes.
+     */
+    protected static byte[] requireUlidBytes(final byte[] bytes) {
+        if (bytes == null || bytes.length != BYTES) {
+            throw new IllegalArgumentException("a ULID must have exactly %d bytes".formatted(BYTES));
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the most significant 64 bits of this identifier.
+     *
+     * @return the most significant 64 bits of the ULID.
+     */
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    /**
+     * Returns the least significant 64 bits of this identifier.
+     *
+     * @return the least significant 64 bits of the ULID.
+     */
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    /**
+     * Returns the 16-byte, big-endian binary representation of this identifier, suitable for a
+     * {@code BINARY(16)} column. The byte order preserves the lexicographic order of the textual
+     * form.
+     *
+     * @return a new array with the 16 bytes of the ULID.
+     */
+    public byte[] toBytes() {
+        return UlidUtils.toBytes(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Returns this identifier as a {@link Ulid}.
+     *
+     * @return a {@code Ulid} with the same 128 bits as this identifier.
+     */
+    public Ulid toUlid() {
+        return new Ulid(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Retrieves the canonical lowercase textual form of this identifier.
+     *
+     * @return the 26-character ULID string in lowercase.
+     */
+    @Override
+    public String getValue() {
+        String current = value;
+        if (current == null) {
+            current = UlidUtils.toString(mostSignificantBits, leastSignificantBits);
+            value = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the string representation of this identifier.
+     *
+     * @return the canonical lowercase ULID string.
+     */
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     * <p>
+     * Two identifiers are equal when they are of the same concrete type and hold the same 128
+     * bits.
+     *
+     * @param o the object to compare with this identifier.
+     * @return {@code true} if the given object is equal to this identifier; {@code false}
+     * otherwise.
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final UlidIdentifier that = (UlidIdentifier) o;
+        return mostSignificantBits == that.mostSignificantBits
+            && leastSignificantBits == that.leastSignificantBits;
+    }
+
+    /**
+     * Returns a hash code value for this identifier, based on its 128 bits.
+     *
+     * @return the hash code of this identifier.
+     */
+    @Override
+    public int hashCode() {
+        final long hilo = mostSignificantBits ^ leastSignificantBits;
+        return ((int) (hilo >> 32)) ^ (int) hilo;
+    }
+}
@@ -135,7 +135,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
      */
     @Override
     public void validate(final ValidationHandler validationHandler) {
-        new CategoryValidator(this, validationHandler).validate();
+        CategoryValidator.validate(this, validationHandler);
     }
 
     /**
@@ -181,11 +181,22 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
      * @return This {@code Category} instance, for a fluent interface.
      */
     public Category deactivate() {
+        return this.deactivate(InstantUtils.now());
+    }
+
+    /**
+     * Deactivates this category using the given instant for {@code deletedAt} and
+     * {@code updatedAt}.
+     *
+     * @param now The instant of the current operation.
+     * @return This {@code Category} instance, for a fluent interface.
+     */
+    private Category deactivate(final Instant now) {
         if (getDeletedAt() == null) {
-            this.deletedAt = InstantUtils.now();
+            this.deletedAt = now;
         }
         this.active = false;
-        this.touch();
+        this.touch(now);
         return this;
     }
 
@@ -196,15 +207,26 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
      * @return This {@code Category} instance, for a fluent interface.
      */
     public Category activate() {
+        return this.activate(InstantUtils.now());
+    }
+
+    /**
+     * Activates this category using the given instant for {@code updatedAt}.
+     *
+     * @param now The instant of the current operation.
+     * @return This {@code Category} instance, for a fluent interface.
+     */
+    private Category activate(final Instant now) {
         this.deletedAt = null;
         this.active = true;
-        this.touch();
+        this.touch(now);
         return this;
     }
 
     /**
      * Updates the name, description, and active status of this category. If {@code active} is
-     * {@code true}, the category is activated; otherwise, it is deactivated.
+     * {@code true}, the category is activated; otherwise, it is deactivated. All timestamps changed
+     * by the update share a single instant.
      *
      * @param name        The new name of the category.
      * @param description The new description of the category.
@@ -212,14 +234,14 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
      * @return This {@code Category} instance, for a fluent interface.
      */
     public Category update(final String name, final String description, final boolean active) {
+        final var now = InstantUtils.now();
         this.name = name;
         this.description = description;
         if (active) {
-            this.activate();
+            this.activate(now);
         } else {
-            this.deactivate();
+            this.deactivate(now);
         }
-        this.touch();
         return this;
     }
 
@@ -2,6 +2,7 @@ package br.com.josenaldo.codeflix.catalog.domain.category;
 
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +17,12 @@ import java.util.Optional;
  * This interface supports:
  * <ul>
  *   <li>Creating a new category.</li>
+ *   <li>Creating many categories at once.</li>
  *   <li>Updating an existing category.</li>
  *   <li>Deleting a category by its unique identifier.</li>
  *   <li>Finding a category by its unique identifier.</li>
  *   <li>Searching and paginating categories based on specific criteria.</li>
+ *   <li>Searching categories page by page without counting them.</li>
  * </ul>
  *
  * @author Josenaldo de Oliveira Matos Filho
@@ -35,6 +38,18 @@ public interface CategoryGateway {
      */
     Category create(Category aCategory);
 
+    /**
+     * Creates all the given {@link Category} objects in the underlying data store, as a single
+     * unit of work.
+     * <p>
+     * Implementations should write the categories in as few round trips as the data store allows.
+     * Either every category is created or, if any of them fails, none is.
+     *
+     * @param categories The categories to be created; must not be {@code null}.
+     * @return The created categories, in the same order as the given ones.
+     */
+    List<Category> createAll(List<Category> categories);
+
     /**
      * Deletes the {@link Category} identified by the given {@link CategoryID} from the underlying
      * data store.
@@ -69,6 +84,19 @@ public interface CategoryGateway {
      */
     Pagination<Category> findAll(SearchQuery aSearchQuery);
 
+    /**
+     * Retrieves a page of {@link Category} objects based on the provided search criteria, without
+     * counting the total number of matching categories.
+     * <p>
+     * Implementations fetch one row more than {@link SearchQuery#perPage()} to tell whether there is
+     * a next page, so this method costs a single query.
+     *
+     * @param aSearchQuery A {@link SearchQuery} containing parameters to filter and sort
+     *                     categories.
+     * @return A {@link Slice} of categories that match the specified search query.
+     */
+    Slice<Category> findSlice(SearchQuery aSearchQuery);
+
     /**
      * Resolves the subset of the provided identifiers that correspond to existing categories.
      * <p>
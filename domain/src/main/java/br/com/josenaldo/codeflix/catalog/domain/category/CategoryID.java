@@ -1,10 +1,13 @@
 package br.com.josenaldo.codeflix.catalog.domain.category;
 
 import br.com.josenaldo.codeflix.catalog.domain.Identifier;
+import br.com.josenaldo.codeflix.catalog.domain.UlidIdentifier;
 import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
+import br.com.josenaldo.codeflix.catalog.domain.identity.UlidGenerators;
+import br.com.josenaldo.codeflix.catalog.domain.identity.IdentifierPool;
+import br.com.josenaldo.codeflix.catalog.domain.utils.UlidUtils;
 import br.com.josenaldo.codeflix.catalog.domain.validation.Error;
 import com.github.f4b6a3.ulid.Ulid;
-import com.github.f4b6a3.ulid.UlidCreator;
 import java.util.Objects;
 
 /**
@@ -13,105 +16,141 @@ import java.util.Objects;
  * This class extends {@link Identifier} and uses ULID (Universally Unique Lexicographically
  * Sortable Identifier) to generate and validate unique Category IDs.
  * <p>
- * All identifiers are stored in lowercase format to ensure consistency.
+ * The ULID is held as two {@code long} values (see {@link UlidIdentifier}), matching the
+ * {@code BINARY(16)} storage used by the persistence layer, while the textual form is always
+ * exposed in lowercase to ensure consistency.
+ * <p>
+ * Identifiers rebuilt from a string, bytes or bits are interned in a weak {@link IdentifierPool},
+ * so the same category referenced by many genres is represented by a single shared instance.
  *
  * @author Josenaldo de Oliveira Matos Filho
  * @version 1.0
  */
-public class CategoryID extends Identifier {
+public class CategoryID extends UlidIdentifier {
 
     /**
-     * The string representation of the unique identifier.
+     * Canonicalizing pool shared by every {@code CategoryID} rebuilt from an external
+     * representation.
      */
-    private final String value;
+    private static final IdentifierPool<CategoryID> POOL = new IdentifierPool<>(CategoryID::new);
 
     /**
-     * Private constructor that creates a new {@code CategoryID} instance with the specified value.
+     * Private constructor that creates a new {@code CategoryID} instance with the specified bits.
      *
-     * @param value the unique identifier value, must not be {@code null}.
-     * @throws NullPointerException if {@code value} is {@code null}.
+     * @param mostSignificantBits  the most significant 64 bits of the ULID.
+     * @param leastSignificantBits the least significant 64 bits of the ULID.
+     * @param value                the canonical lowercase textual form, or {@code null} to derive
+     *                             it lazily.
      */
-    private CategoryID(String value) {
-        Objects.requireNonNull(value, "value must not be null");
-        this.value = value;
+    private CategoryID(
+        final long mostSignificantBits,
+        final long leastSignificantBits,
+        final String value
+    ) {
+        super(mostSignificantBits, leastSignificantBits, value);
+    }
+
+    /**
+     * Creates a new {@code CategoryID} from the given {@link Ulid}.
+     *
+     * @param ulid the ULID to be wrapped.
+     * @return a new {@code CategoryID} with the same bits as the given ULID.
+     */
+    private static CategoryID of(final Ulid ulid) {
+        return new CategoryID(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits(), null);
     }
 
     /**
      * Generates a new unique {@code CategoryID} using ULID.
+     * <p>
+     * The ULID is created by the generator held by {@link UlidGenerators}, which by default is
+     * monotonic per thread.
      *
      * @return a new {@code CategoryID} instance with a generated unique value.
      * <p>
      * The generated ID is returned in lowercase.
      */
     public static CategoryID unique() {
-        Ulid ulid = UlidCreator.getUlid();
-        return new CategoryID(ulid.toString().toLowerCase());
+        return of(UlidGenerators.current().generate());
     }
 
     /**
      * Creates a {@code CategoryID} from the provided string.
+     * <p>
+     * Canonical input (26 lowercase Crockford Base32 characters) is decoded in place and the given
+     * string is kept as the identifier value, so this path allocates at most the identifier itself,
+     * and nothing at all when an equal identifier is already pooled.
+     * Any other valid ULID, such as an uppercase one, is accepted and normalized to lowercase.
      *
      * @param value the string representation of the identifier.
      * @return a {@code CategoryID} instance representing the given string.
      * @throws NullPointerException if {@code value} is {@code null}.
      * @throws DomainException      if the provided string is not a valid ULID.
      */
-    public static CategoryID fromString(String value) {
-        try {
+    public static CategoryID fromString(final String value) {
+        Objects.requireNonNull(value, "value must not be null");
 
-            Objects.requireNonNull(value, "value must not be null");
-            Ulid ulid = Ulid.from(value.toLowerCase());
-            return new CategoryID(ulid.toString().toLowerCase());
-        } catch (IllegalArgumentException e) {
+        if (UlidUtils.isCanonical(value)) {
+            return fromTrustedString(value);
+        }
+
+        if (!UlidUtils.isValid(value)) {
             throw DomainException.with(new Error("the Id %s is invalid".formatted(value)));
         }
-    }
 
-    /**
-     * Retrieves the string value of this identifier.
-     *
-     * @return the unique identifier as a string.
-     */
-    @Override
-    public String getValue() {
-        return value;
+        return fromBits(UlidUtils.mostSignificantBits(value), UlidUtils.leastSignificantBits(value));
     }
 
     /**
-     * Returns the string representation of this {@code CategoryID}.
+     * Creates a {@code CategoryID} from a canonical ULID string that is known to be valid, such as
+     * an identifier read back from our own database.
+     * <p>
+     * No validation is performed: the string is decoded and, unless an equal identifier is already
+     * pooled, kept as the identifier value. Passing a
+     * string that is not a canonical lowercase ULID results in an identifier with undefined bits.
+     * Use {@link #fromString(String)} for any input that comes from outside the application.
      *
-     * @return the unique identifier as a string.
+     * @param value a canonical lowercase ULID string.
+     * @return a {@code CategoryID} instance representing the given string.
+     * @throws NullPointerException if {@code value} is {@code null}.
      */
-    @Override
-    public String toString() {
-        return value;
+    public static CategoryID fromTrustedString(final String value) {
+        Objects.requireNonNull(value, "value must not be null");
+        return POOL.intern(
+            UlidUtils.mostSignificantBits(value),
+            UlidUtils.leastSignificantBits(value),
+            value
+        );
     }
 
     /**
-     * Indicates whether some other object is "equal to" this one.
+     * Creates a {@code CategoryID} from its 16-byte binary representation, as stored in a
+     * {@code BINARY(16)} column.
      *
-     * @param o the object to compare with this {@code CategoryID}.
-     * @return {@code true} if the given object is equal to this {@code CategoryID}; {@code false}
-     * otherwise.
-     * <p>
-     * Equality is based on the value of the identifier.
+     * @param bytes the 16 bytes of the ULID, in big-endian order.
+     * @return a {@code CategoryID} instance representing the given bytes.
+     * @throws DomainException if {@code bytes} is {@code null} or does not have 16 bytes.
      */
-    @Override
-    public boolean equals(Object o) {
-        if (o == null || getClass() != o.getClass()) {
-            return false;
+    public static CategoryID fromBytes(final byte[] bytes) {
+        try {
+            requireUlidBytes(bytes);
+        } catch (IllegalArgumentException e) {
+            throw DomainException.with(new Error(e.getMessage()));
         }
-        CategoryID categoryID = (CategoryID) o;
-        return Objects.equals(value, categoryID.value);
+        return fromBits(UlidUtils.readLong(bytes, 0), UlidUtils.readLong(bytes, 8));
     }
 
     /**
-     * Returns a hash code value for this {@code CategoryID}.
+     * Creates a {@code CategoryID} from the two halves of its 128-bit ULID.
      *
-     * @return the hash code of this {@code CategoryID}, based on its value.
+     * @param mostSignificantBits  the most significant 64 bits of the ULID.
+     * @param leastSignificantBits the least significant 64 bits of the ULID.
+     * @return the pooled {@code CategoryID} instance holding the given bits.
      */
-    @Override
-    public int hashCode() {
-        return Objects.hashCode(value);
+    public static CategoryID fromBits(
+        final long mostSignificantBits,
+        final long leastSignificantBits
+    ) {
+        return POOL.intern(mostSignificantBits, leastSignificantBits, null);
     }
 }
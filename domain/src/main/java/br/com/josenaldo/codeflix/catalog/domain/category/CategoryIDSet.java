@@ -0,0 +1,630 @@
+package br.com.josenaldo.codeflix.catalog.domain.category;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, sorted set of {@link CategoryID} values backed by primitive arrays.
+ * <p>
+ * Each identifier is stored as its two 64-bit halves in a pair of parallel {@code long[]} arrays,
+ * the same layout used by the {@code BINARY(16)} columns in the database, sorted in ULID order
+ * (unsigned comparison of the most significant bits, then of the least significant bits). This
+ * keeps a genre with thousands of categories at 16 bytes per reference, with no per-element
+ * object, and gives:
+ * <ul>
+ *     <li>{@code O(log n)} membership checks through binary search;</li>
+ *     <li>deduplication, since every factory and operation keeps the values unique;</li>
+ *     <li>linear-time {@link #union(CategoryIDSet) union} and
+ *     {@link #difference(CategoryIDSet) difference} by merging two sorted arrays, which is what
+ *     the persistence layer needs to diff the stored associations against the new ones.</li>
+ * </ul>
+ * <p>
+ * Instances are immutable: every operation that changes the contents returns a new set and
+ * operations that would not change anything return the same instance. This makes a set safe to be
+ * shared between copies of an aggregate and lets {@link #asList()} hand out a single read-only
+ * view that is a snapshot by construction.
+ * <p>
+ * Reading the elements, through {@link #get(int)} or the view, materializes each identifier once
+ * and keeps it in the view, so iterating the set again, from any copy of the aggregate that shares
+ * it, neither interns nor allocates. Only the sets that are read pay for the references.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class CategoryIDSet {
+
+    /**
+     * The shared empty set.
+     */
+    private static final CategoryIDSet EMPTY = new CategoryIDSet(new long[0], new long[0]);
+
+    /**
+     * Orders identifiers by their 128 bits, compared as unsigned values.
+     */
+    private static final Comparator<CategoryID> ULID_ORDER = (a, b) -> compare(
+        a.getMostSignificantBits(),
+        a.getLeastSignificantBits(),
+        b.getMostSignificantBits(),
+        b.getLeastSignificantBits()
+    );
+
+    /**
+     * The most significant 64 bits of each identifier, in ascending ULID order.
+     */
+    private final long[] mostSignificantBits;
+
+    /**
+     * The least significant 64 bits of each identifier, parallel to {@link #mostSignificantBits}.
+     */
+    private final long[] leastSignificantBits;
+
+    /**
+     * Lazily created read-only list view, which also holds the materialized identifiers. Creating
+     * it twice in a race is harmless, since both views are backed by the same immutable arrays and
+     * materialize the same pooled identifiers.
+     */
+    private View view;
+
+    /**
+     * Private constructor that takes ownership of the given arrays, which must already be sorted,
+     * free of duplicates and of the same length.
+     *
+     * @param mostSignificantBits  the most significant bits of each identifier.
+     * @param leastSignificantBits the least significant bits of each identifier.
+     */
+    private CategoryIDSet(final long[] mostSignificantBits, final long[] leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+    }
+
+    /**
+     * Returns the empty set.
+     *
+     * @return the shared empty {@code CategoryIDSet}.
+     */
+    public static CategoryIDSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a set holding the given identifiers.
+     * <p>
+     * Duplicates and {@code null} elements are dropped. Input that is already in ULID order, such
+     * as identifiers read back from the database or created in sequence by a monotonic generator,
+     * is copied in a single pass without sorting.
+     *
+     * @param categories the identifiers to be held; may be {@code null}.
+     * @return a set with the distinct, non-null identifiers of {@code categories}.
+     */
+    public static CategoryIDSet from(final Collection<CategoryID> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return EMPTY;
+        }
+        if (categories instanceof CategoryIDSet.View aView) {
+            return aView.owner();
+        }
+
+        CategoryID[] ids = categories.toArray(new CategoryID[0]);
+        int count = 0;
+        boolean sorted = true;
+        for (final CategoryID id : ids) {
+            if (id == null) {
+                continue;
+            }
+            if (sorted && count > 0 && ULID_ORDER.compare(ids[count - 1], id) >= 0) {
+                sorted = false;
+            }
+            ids[count++] = id;
+        }
+        if (!sorted) {
+            Arrays.sort(ids, 0, count, ULID_ORDER);
+        }
+
+        final long[] msb = new long[count];
+        final long[] lsb = new long[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            final long hi = ids[i].getMostSignificantBits();
+            final long lo = ids[i].getLeastSignificantBits();
+            if (size > 0 && msb[size - 1] == hi && lsb[size - 1] == lo) {
+                continue;
+            }
+            msb[size] = hi;
+            lsb[size] = lo;
+            size++;
+        }
+        return size == 0 ? EMPTY : new CategoryIDSet(trim(msb, size), trim(lsb, size));
+    }
+
+    /**
+     * Creates a set holding the given identifiers.
+     *
+     * @param categories the identifiers to be held.
+     * @return a set with the distinct, non-null identifiers given.
+     */
+    public static CategoryIDSet of(final CategoryID... categories) {
+        return categories == null ? EMPTY : from(Arrays.asList(categories));
+    }
+
+    /**
+     * Returns the number of identifiers in this set.
+     *
+     * @return the size of this set.
+     */
+    public int size() {
+        return mostSignificantBits.length;
+    }
+
+    /**
+     * Indicates whether this set holds no identifiers.
+     *
+     * @return {@code true} if this set is empty; {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return mostSignificantBits.length == 0;
+    }
+
+    /**
+     * Checks, in {@code O(log n)}, whether this set holds the given identifier.
+     *
+     * @param categoryID the identifier to be looked up; may be {@code null}.
+     * @return {@code true} if this set holds {@code categoryID}; {@code false} otherwise.
+     */
+    public boolean contains(final CategoryID categoryID) {
+        return categoryID != null && indexOf(
+            categoryID.getMostSignificantBits(),
+            categoryID.getLeastSignificantBits()
+        ) >= 0;
+    }
+
+    /**
+     * Returns the identifier at the given position, in ULID order.
+     * <p>
+     * The first read of a position rebuilds the identifier from its bits through
+     * {@link CategoryID#fromBits(long, long)}, so it is the pooled instance shared with the rest
+     * of the application, and keeps it for the next reads.
+     *
+     * @param index the position of the identifier.
+     * @return the identifier at {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public CategoryID get(final int index) {
+        return view().get(index);
+    }
+
+    /**
+     * Returns a set holding the identifiers of this set plus the given one.
+     *
+     * @param categoryID the identifier to be added; may be {@code null}.
+     * @return a new set with {@code categoryID}, or this set if it is {@code null} or already
+     * present.
+     */
+    public CategoryIDSet with(final CategoryID categoryID) {
+        if (categoryID == null) {
+            return this;
+        }
+        final long hi = categoryID.getMostSignificantBits();
+        final long lo = categoryID.getLeastSignificantBits();
+        final int index = indexOf(hi, lo);
+        if (index >= 0) {
+            return this;
+        }
+
+        final int insertAt = -(index + 1);
+        final int size = size();
+        final long[] msb = new long[size + 1];
+        final long[] lsb = new long[size + 1];
+        System.arraycopy(mostSignificantBits, 0, msb, 0, insertAt);
+        System.arraycopy(leastSignificantBits, 0, lsb, 0, insertAt);
+        msb[insertAt] = hi;
+        lsb[insertAt] = lo;
+        System.arraycopy(mostSignificantBits, insertAt, msb, insertAt + 1, size - insertAt);
+        System.arraycopy(leastSignificantBits, insertAt, lsb, insertAt + 1, size - insertAt);
+        return new CategoryIDSet(msb, lsb);
+    }
+
+    /**
+     * Returns a set holding the identifiers of this set except the given one.
+     *
+     * @param categoryID the identifier to be removed; may be {@code null}.
+     * @return a new set without {@code categoryID}, or this set if it is {@code null} or not
+     * present.
+     */
+    public CategoryIDSet without(final CategoryID categoryID) {
+        if (categoryID == null) {
+            return this;
+        }
+        final int index = indexOf(
+            categoryID.getMostSignificantBits(),
+            categoryID.getLeastSignificantBits()
+        );
+        if (index < 0) {
+            return this;
+        }
+
+        final int size = size();
+        if (size == 1) {
+            return EMPTY;
+        }
+        final long[] msb = new long[size - 1];
+        final long[] lsb = new long[size - 1];
+        System.arraycopy(mostSignificantBits, 0, msb, 0, index);
+        System.arraycopy(leastSignificantBits, 0, lsb, 0, index);
+        System.arraycopy(mostSignificantBits, index + 1, msb, index, size - index - 1);
+        System.arraycopy(leastSignificantBits, index + 1, lsb, index, size - index - 1);
+        return new CategoryIDSet(msb, lsb);
+    }
+
+    /**
+     * Returns a set holding the identifiers of this set plus the given ones.
+     * <p>
+     * When every given identifier is already present, this set is returned and nothing is
+     * allocated.
+     *
+     * @param categories the identifiers to be added; may be {@code null}.
+     * @return the union of this set and {@code categories}.
+     */
+    public CategoryIDSet withAll(final Collection<CategoryID> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return this;
+        }
+        if (categories instanceof CategoryIDSet.View aView) {
+            return union(aView.owner());
+        }
+        for (final CategoryID id : categories) {
+            if (id != null && !contains(id)) {
+                return union(from(categories));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns a set holding exactly the given identifiers, reusing this instance when they are the
+     * ones it already holds.
+     * <p>
+     * This is the operation behind updates that replace all associations at once: a list equal to
+     * the current one, in ULID order, is recognized in a single pass and without allocating, so
+     * no-change updates keep sharing the existing storage.
+     *
+     * @param categories the identifiers the resulting set must hold; may be {@code null}.
+     * @return this set, if it holds the same identifiers; otherwise, a new set.
+     */
+    public CategoryIDSet replace(final Collection<CategoryID> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return EMPTY;
+        }
+        if (categories instanceof CategoryIDSet.View aView) {
+            return aView.owner().equals(this) ? this : aView.owner();
+        }
+        if (categories.size() == size() && holdsInOrder(categories)) {
+            return this;
+        }
+        final CategoryIDSet replacement = from(categories);
+        return replacement.equals(this) ? this : replacement;
+    }
+
+    /**
+     * Returns a set holding the identifiers present in this set or in the given one.
+     *
+     * @param other the set to be merged with this one; may be {@code null}.
+     * @return the union of both sets; this set or {@code other} when the other one adds nothing.
+     */
+    public CategoryIDSet union(final CategoryIDSet other) {
+        if (other == null || other.isEmpty() || other == this) {
+            return this;
+        }
+        if (this.isEmpty()) {
+            return other;
+        }
+
+        final int sizeA = this.size();
+        final int sizeB = other.size();
+        final long[] msb = new long[sizeA + sizeB];
+        final long[] lsb = new long[sizeA + sizeB];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < sizeA || j < sizeB) {
+            final int cmp;
+            if (i == sizeA) {
+                cmp = 1;
+            } else if (j == sizeB) {
+                cmp = -1;
+            } else {
+                cmp = compare(
+                    mostSignificantBits[i], leastSignificantBits[i],
+                    other.mostSignificantBits[j], other.leastSignificantBits[j]
+                );
+            }
+            if (cmp <= 0) {
+                msb[size] = mostSignificantBits[i];
+                lsb[size] = leastSignificantBits[i];
+                i++;
+                if (cmp == 0) {
+                    j++;
+                }
+            } else {
+                msb[size] = other.mostSignificantBits[j];
+                lsb[size] = other.leastSignificantBits[j];
+                j++;
+            }
+            size++;
+        }
+
+        if (size == sizeA) {
+            return this;
+        }
+        if (size == sizeB) {
+            return other;
+        }
+        return new CategoryIDSet(trim(msb, size), trim(lsb, size));
+    }
+
+    /**
+     * Returns a set holding the identifiers of this set that are not in the given one.
+     * <p>
+     * Given the stored and the requested associations of a genre, {@code requested.difference(
+     * stored)} yields the links to be inserted and {@code stored.difference(requested)} the links
+     * to be deleted.
+     *
+     * @param other the set whose identifiers are to be removed; may be {@code null}.
+     * @return the difference of both sets; this set when nothing is removed.
+     */
+    public CategoryIDSet difference(final CategoryIDSet other) {
+        if (other == this) {
+            return EMPTY;
+        }
+        if (other == null || other.isEmpty() || this.isEmpty()) {
+            return this;
+        }
+
+        final int sizeA = this.size();
+        final int sizeB = other.size();
+        final long[] msb = new long[sizeA];
+        final long[] lsb = new long[sizeA];
+        int j = 0;
+        int size = 0;
+        for (int i = 0; i < sizeA; i++) {
+            int cmp = 1;
+            while (j < sizeB && (cmp = compare(
+                other.mostSignificantBits[j], other.leastSignificantBits[j],
+                mostSignificantBits[i], leastSignificantBits[i]
+            )) < 0) {
+                j++;
+            }
+            if (j < sizeB && cmp == 0) {
+                continue;
+            }
+            msb[size] = mostSignificantBits[i];
+            lsb[size] = leastSignificantBits[i];
+            size++;
+        }
+
+        if (size == sizeA) {
+            return this;
+        }
+        return size == 0 ? EMPTY : new CategoryIDSet(trim(msb, size), trim(lsb, size));
+    }
+
+    /**
+     * Returns a read-only {@link List} view of this set, in ULID order.
+     * <p>
+     * Because the set is immutable, the view is a snapshot: later changes to the aggregate that
+     * handed it out replace the set instead of modifying it. The view is created once per set and
+     * implements {@link RandomAccess}, and it honors the {@link List#equals(Object)} and
+     * {@link List#hashCode()} contracts, so it compares equal to any list with the same
+     * identifiers in the same order.
+     *
+     * @return an unmodifiable list of the identifiers of this set; never {@code null}.
+     */
+    public List<CategoryID> asList() {
+        return view();
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one. Two sets are equal when they hold
+     * the same identifiers.
+     *
+     * @param o the object to compare with this set.
+     * @return {@code true} if the given object is an equal set; {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CategoryIDSet that)) {
+            return false;
+        }
+        return Arrays.equals(mostSignificantBits, that.mostSignificantBits)
+            && Arrays.equals(leastSignificantBits, that.leastSignificantBits);
+    }
+
+    /**
+     * Returns a hash code value for this set, based on the bits of its identifiers.
+     *
+     * @return the hash code of this set.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(mostSignificantBits) + Arrays.hashCode(leastSignificantBits);
+    }
+
+    /**
+     * Returns the string representation of this set, as the list of its identifiers.
+     *
+     * @return the textual form of this set.
+     */
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    /**
+     * Returns the view of this set, creating it on first use.
+     *
+     * @return the view of this set.
+     */
+    private View view() {
+        View current = view;
+        if (current == null) {
+            current = new View(this);
+            view = current;
+        }
+        return current;
+    }
+
+    /**
+     * Looks up the given bits with a binary search.
+     *
+     * @param hi the most significant bits to be found.
+     * @param lo the least significant bits to be found.
+     * @return the index of the identifier, if present; otherwise, {@code -(insertion point) - 1},
+     * as in {@link Arrays#binarySearch(long[], long)}.
+     */
+    private int indexOf(final long hi, final long lo) {
+        int low = 0;
+        int high = mostSignificantBits.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = compare(mostSignificantBits[mid], leastSignificantBits[mid], hi, lo);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Checks whether the given identifiers, in iteration order, are exactly the ones of this set.
+     *
+     * @param categories the identifiers to be checked, of the same size as this set.
+     * @return {@code true} if the {@code i}-th identifier matches the {@code i}-th element of this
+     * set for every position; {@code false} otherwise.
+     */
+    private boolean holdsInOrder(final Collection<CategoryID> categories) {
+        int i = 0;
+        for (final CategoryID id : categories) {
+            if (id == null
+                || id.getMostSignificantBits() != mostSignificantBits[i]
+                || id.getLeastSignificantBits() != leastSignificantBits[i]) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    /**
+     * Compares two ULIDs given by their halves, as unsigned 128-bit values.
+     *
+     * @param hiA the most significant bits of the first ULID.
+     * @param loA the least significant bits of the first ULID.
+     * @param hiB the most significant bits of the second ULID.
+     * @param loB the least significant bits of the second ULID.
+     * @return a negative number, zero or a positive number as the first ULID is less than, equal
+     * to or greater than the second one.
+     */
+    private static int compare(final long hiA, final long loA, final long hiB, final long loB) {
+        final int cmp = Long.compareUnsigned(hiA, hiB);
+        return cmp != 0 ? cmp : Long.compareUnsigned(loA, loB);
+    }
+
+    /**
+     * Returns the given array, or a copy of its first {@code size} elements if it is longer.
+     *
+     * @param values the array to be trimmed.
+     * @param size   the number of elements to be kept.
+     * @return an array of exactly {@code size} elements.
+     */
+    private static long[] trim(final long[] values, final int size) {
+        return values.length == size ? values : Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Read-only, random access list view of a {@link CategoryIDSet}, which materializes each
+     * identifier on its first read.
+     */
+    private static final class View extends AbstractList<CategoryID> implements RandomAccess {
+
+        /**
+         * The set backing this view.
+         */
+        private final CategoryIDSet owner;
+
+        /**
+         * The identifiers read so far, by position; {@code null} for the ones not read yet. Two
+         * threads reading the same position store the same pooled instance, or equal ones when
+         * the pool is disabled.
+         */
+        private final CategoryID[] ids;
+
+        /**
+         * Creates a view of the given set.
+         *
+         * @param owner the set backing this view.
+         */
+        private View(final CategoryIDSet owner) {
+            this.owner = owner;
+            this.ids = new CategoryID[owner.size()];
+        }
+
+        /**
+         * Returns the set backing this view.
+         *
+         * @return the owner set.
+         */
+        private CategoryIDSet owner() {
+            return owner;
+        }
+
+        @Override
+        public CategoryID get(final int index) {
+            CategoryID id = ids[index];
+            if (id == null) {
+                id = CategoryID.fromBits(
+                    owner.mostSignificantBits[index],
+                    owner.leastSignificantBits[index]
+                );
+                ids[index] = id;
+            }
+            return id;
+        }
+
+        @Override
+        public int size() {
+            return owner.size();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return o instanceof CategoryID categoryID && owner.contains(categoryID);
+        }
+
+        @Override
+        public int indexOf(final Object o) {
+            if (!(o instanceof CategoryID categoryID)) {
+                return -1;
+            }
+            final int index = owner.indexOf(
+                categoryID.getMostSignificantBits(),
+                categoryID.getLeastSignificantBits()
+            );
+            return index < 0 ? -1 : index;
+        }
+
+        @Override
+        public int lastIndexOf(final Object o) {
+            return indexOf(o);
+        }
+    }
+}
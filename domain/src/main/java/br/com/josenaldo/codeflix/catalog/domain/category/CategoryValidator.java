@@ -44,6 +44,41 @@ public class CategoryValidator extends Validator {
      */
     public static final String NAME_LENGTH_OUT_OF_RANGE_ERROR = "'name' length must be between 3 and 255 characters";
 
+    /**
+     * Rule id of the check that the name is not null.
+     */
+    public static final int NULL_NAME_RULE = 1;
+
+    /**
+     * Rule id of the check that the name is not blank.
+     */
+    public static final int EMPTY_NAME_RULE = 1 << 1;
+
+    /**
+     * Rule id of the check that the trimmed name length is within the allowed range.
+     */
+    public static final int NAME_LENGTH_RULE = 1 << 2;
+
+    /**
+     * Shared error reported when the name is null.
+     */
+    public static final Error NULL_NAME = new Error(NULL_NAME_ERROR);
+
+    /**
+     * Shared error reported when the name is blank.
+     */
+    public static final Error EMPTY_NAME = new Error(EMPTY_NAME_ERROR);
+
+    /**
+     * Shared error reported when the name's length is out of the allowed range.
+     */
+    public static final Error NAME_LENGTH_OUT_OF_RANGE = new Error(NAME_LENGTH_OUT_OF_RANGE_ERROR);
+
+    /**
+     * The error of each rule, indexed by the position of its bit.
+     */
+    private static final Error[] ERRORS = {NULL_NAME, EMPTY_NAME, NAME_LENGTH_OUT_OF_RANGE};
+
     /**
      * The Category instance to be validated.
      */
@@ -66,12 +101,24 @@ public class CategoryValidator extends Validator {
     /**
      * Executes the validation logic for the category.
      * <p>
-     * This method triggers the internal validation process by calling the checkNameConstraints method that
-     * performs the name constraint checks.
+     * This method delegates to {@link #validate(Category, ValidationHandler)}, which performs the name
+     * constraint checks.
      */
     @Override
     public void validate() {
-        checkNameConstraints();
+        validate(this.category, this.validationHandler());
+    }
+
+    /**
+     * Validates the given category and appends an error for each failed rule to the given handler.
+     * <p>
+     * Nothing is allocated when the category is valid.
+     *
+     * @param category          the Category to validate.
+     * @param validationHandler the handler used to collect validation errors.
+     */
+    public static void validate(final Category category, final ValidationHandler validationHandler) {
+        report(check(category.getName()), ERRORS, validationHandler);
     }
 
     /**
@@ -79,28 +126,30 @@ public class CategoryValidator extends Validator {
      * <p>
      * The validation includes:
      * <ul>
-     *   <li>Ensuring the name is not null.</li>
-     *   <li>Ensuring the name is not blank.</li>
-     *   <li>Ensuring the trimmed name length is between {@code NAME_MIN_LENGTH} and {@code NAME_MAX_LENGTH}.</li>
+     *   <li>Ensuring the name is not null ({@link #NULL_NAME_RULE}).</li>
+     *   <li>Ensuring the name is not blank ({@link #EMPTY_NAME_RULE}).</li>
+     *   <li>Ensuring the trimmed name length is between {@code NAME_MIN_LENGTH} and
+     *   {@code NAME_MAX_LENGTH} ({@link #NAME_LENGTH_RULE}).</li>
      * </ul>
-     * If any of these checks fail, an appropriate error is appended to the {@link ValidationHandler}.
+     * The checks stop at the first failure, and neither the name nor any error is copied.
+     *
+     * @param name the name to be checked; may be {@code null}.
+     * @return the bitmask of the failed rules, or {@link Validator#VALID} if the name is valid.
      */
-    private void checkNameConstraints() {
-        final String name = category.getName();
-
+    public static int check(final String name) {
         if (name == null) {
-            this.validationHandler().append(new Error(NULL_NAME_ERROR));
-            return;
+            return NULL_NAME_RULE;
         }
 
         if (name.isBlank()) {
-            this.validationHandler().append(new Error(EMPTY_NAME_ERROR));
-            return;
+            return EMPTY_NAME_RULE;
         }
 
-        int length = name.trim().length();
+        final int length = trimmedLength(name);
         if (length < NAME_MIN_LENGTH || length > NAME_MAX_LENGTH) {
-            this.validationHandler().append(new Error(NAME_LENGTH_OUT_OF_RANGE_ERROR));
+            return NAME_LENGTH_RULE;
         }
+
+        return VALID;
     }
 }
@@ -2,13 +2,13 @@ package br.com.josenaldo.codeflix.catalog.domain.genre;
 
 import br.com.josenaldo.codeflix.catalog.domain.AggregateRoot;
 import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryIDSet;
 import br.com.josenaldo.codeflix.catalog.domain.exceptions.NotificationException;
 import br.com.josenaldo.codeflix.catalog.domain.utils.InstantUtils;
 import br.com.josenaldo.codeflix.catalog.domain.validation.ValidationHandler;
+import br.com.josenaldo.codeflix.catalog.domain.validation.Validator;
 import br.com.josenaldo.codeflix.catalog.domain.validation.handler.Notification;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -47,9 +47,10 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
     private boolean active;
 
     /**
-     * The list of categories associated with this genre.
+     * The categories associated with this genre, held as an immutable sorted set of binary ULIDs.
+     * Every change replaces the set, so it can be freely shared with copies of this genre.
      */
-    private List<CategoryID> categories;
+    private CategoryIDSet categories;
 
     /**
      * Internal constructor for creating a {@code Genre} instance with all necessary fields.
@@ -75,12 +76,37 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
         final String name,
         final boolean active,
         final List<CategoryID> categories
+    ) {
+        this(id, createdAt, updatedAt, deletedAt, name, active, CategoryIDSet.from(categories));
+    }
+
+    /**
+     * Internal constructor for creating a {@code Genre} instance that shares an existing,
+     * immutable set of categories instead of copying it.
+     *
+     * @param id         The unique identifier of this genre.
+     * @param createdAt  The date/time when the genre was created.
+     * @param updatedAt  The date/time when the genre was last updated.
+     * @param deletedAt  The date/time when the genre was deactivated, or {@code null} if it is
+     *                   still active.
+     * @param name       The name of the genre.
+     * @param active     {@code true} if the genre is active; {@code false} otherwise.
+     * @param categories The set of categories associated with this genre.
+     * @throws NotificationException If the provided attributes do not pass validation.
+     */
+    private Genre(
+        final GenreID id,
+        final Instant createdAt,
+        final Instant updatedAt,
+        final Instant deletedAt,
+        final String name,
+        final boolean active,
+        final CategoryIDSet categories
     ) {
         super(id, createdAt, updatedAt, deletedAt);
         this.name = name;
         this.active = active;
-        this.categories = new ArrayList<>(
-            categories != null ? categories : Collections.emptyList());
+        this.categories = categories;
 
         this.selfValidate();
     }
@@ -161,12 +187,15 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
 
     /**
      * Creates a new {@code Genre} instance with the same attributes as the specified genre.
+     * <p>
+     * The categories are immutable, so the copy shares them with the original genre instead of
+     * copying them.
      *
      * @param genre The genre to copy.
      * @return A new {@code Genre} instance.
      */
     public static Genre with(final Genre genre) {
-        return with(
+        return new Genre(
             genre.id,
             genre.createdAt,
             genre.updatedAt,
@@ -182,8 +211,10 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
      * the required conditions and business rules. If the validation detects any errors, a
      * {@link NotificationException} is thrown with detailed information about the issues.
      * <p>
-     * This method internally creates a {@link Notification} object to collect validation errors and
-     * calls the {@link #validate(ValidationHandler)} method to perform the actual validation.
+     * The rules are first evaluated with {@link GenreValidator#check(String)}, which allocates
+     * nothing. Only when a rule fails does this method create a {@link Notification} object to
+     * collect the validation errors, calling the {@link #validate(ValidationHandler)} method to
+     * perform the actual validation.
      * <p>
      * If the {@link Notification} contains errors after validation, a {@link NotificationException}
      * is raised with the error details.
@@ -195,6 +226,10 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
      *                               the issues.
      */
     protected void selfValidate() {
+        if (GenreValidator.check(this.name) == Validator.VALID) {
+            return;
+        }
+
         Notification notification = Notification.create();
         this.validate(notification);
 
@@ -212,7 +247,7 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
      */
     @Override
     public void validate(final ValidationHandler validationHandler) {
-        new GenreValidator(this, validationHandler).validate();
+        GenreValidator.validate(this, validationHandler);
     }
 
     /**
@@ -222,11 +257,22 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
      * @return This {@code Genre} instance, for a fluent interface.
      */
     public Genre deactivate() {
+        return this.deactivate(InstantUtils.now());
+    }
+
+    /**
+     * Deactivates this genre using the given instant for {@code deletedAt} and
+     * {@code updatedAt}.
+     *
+     * @param now The instant of the current operation.
+     * @return This {@code Genre} instance, for a fluent interface.
+     */
+    private Genre deactivate(final Instant now) {
         if (getDeletedAt() == null) {
-            this.deletedAt = InstantUtils.now();
+            this.deletedAt = now;
         }
         this.active = false;
-        this.touch();
+        this.touch(now);
         return this;
     }
 
@@ -237,9 +283,19 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
      * @return This {@code Genre} instance, for a fluent interface.
      */
     public Genre activate() {
+        return this.activate(InstantUtils.now());
+    }
+
+    /**
+     * Activates this genre using the given instant for {@code updatedAt}.
+     *
+     * @param now The instant of the current operation.
+     * @return This {@code Genre} instance, for a fluent interface.
+     */
+    private Genre activate(final Instant now) {
         this.deletedAt = null;
         this.active = true;
-        this.touch();
+        this.touch(now);
         return this;
     }
 
@@ -249,8 +305,10 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
      * If {@code active} is {@code true}, the genre is activated; otherwise, it is deactivated  (and
      * {@code deletedAt} is set to the current time).
      * <p>
-     * If categories are provided, they will replace the existing ones, ven if the list is empty. If
-     * no categories are null, the existing list of categories will replaced by an empty list.
+     * If categories are provided, they will replace the existing ones, even if the list is empty.
+     * If categories are {@code null}, the existing categories will be replaced by an empty set.
+     * Duplicated identifiers are kept only once. When the given categories are the ones the genre
+     * already has, the current set is kept and nothing is copied.
      *
      * @param aName      the new name of the genre; must not be {@code null} or blank and must
      *                   respect length constraints.
@@ -265,17 +323,16 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
         final boolean isActive,
         final List<CategoryID> categories
     ) {
+        final var now = InstantUtils.now();
         this.name = aName;
         if (isActive) {
-            this.activate();
+            this.activate(now);
         } else {
-            this.deactivate();
+            this.deactivate(now);
         }
 
-        this.categories = new ArrayList<>(
-            categories != null ? categories : Collections.emptyList());
+        this.categories = this.categories.replace(categories);
 
-        this.touch();
         this.selfValidate();
         return this;
     }
@@ -284,8 +341,8 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
      * Adds a new category to the list of categories associated with this {@code Genre}.
      * <p>
      * If the provided {@code categoryID} is {@code null}, the method returns the current instance
-     * of the genre without making any changes. Otherwise, the category is added to the genre, and
-     * the last updated timestamp is adjusted.
+     * of the genre without making any changes. Otherwise, the category is added to the genre, unless
+     * it is already associated with it, and the last updated timestamp is adjusted.
      *
      * @param categoryID The {@link CategoryID} to add to this genre. Must not be {@code null} to
      *                   take effect.
@@ -297,7 +354,7 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
             return this;
         }
 
-        this.categories.add(categoryID);
+        this.categories = this.categories.with(categoryID);
         this.touch();
         return this;
     }
@@ -306,8 +363,9 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
      * Adds a list of categories to the current genre.
      * <p>
      * This method updates the associated categories by adding all provided {@link CategoryID}
-     * instances to the existing list. If the provided list of categories is {@code null}, the
-     * method does nothing and immediately returns the current instance.
+     * instances to the existing ones, ignoring those already associated with the genre. If the
+     * provided list of categories is {@code null}, the method does nothing and immediately returns
+     * the current instance.
      *
      * @param categories a list of {@link CategoryID} objects to associate with the genre. If
      *                   {@code null}, no categories are added.
@@ -318,7 +376,7 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
             return this;
         }
 
-        this.categories.addAll(categories);
+        this.categories = this.categories.withAll(categories);
         this.touch();
         return this;
     }
@@ -340,7 +398,7 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
             return this;
         }
 
-        this.categories.remove(aCategoryID);
+        this.categories = this.categories.without(aCategoryID);
         this.touch();
         return this;
     }
@@ -374,17 +432,41 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
     }
 
     /**
-     * Retrieves the list of category identifiers associated with this genre.
+     * Retrieves the list of category identifiers associated with this genre, in ULID order.
+     * <p>
+     * The returned list is an immutable snapshot: later changes to this genre do not affect it.
      *
      * @return an unmodifiable list of {@link CategoryID}; never {@code null}.
      */
-
     public List<CategoryID> getCategories() {
-        return Collections.unmodifiableList(categories);
+        return categories.asList();
+    }
+
+    /**
+     * Retrieves the category identifiers associated with this genre as a {@link CategoryIDSet},
+     * suitable for {@code O(log n)} lookups and for diffing against another set of associations.
+     *
+     * @return the immutable set of category identifiers; never {@code null}.
+     */
+    public CategoryIDSet getCategoryIDSet() {
+        return categories;
+    }
+
+    /**
+     * Indicates whether the given category is associated with this genre.
+     *
+     * @param aCategoryID the category identifier to be checked; may be {@code null}.
+     * @return {@code true} if the category is associated with this genre; {@code false} otherwise.
+     */
+    public boolean hasCategory(final CategoryID aCategoryID) {
+        return categories.contains(aCategoryID);
     }
 
     /**
      * Creates and returns an exact copy (clone) of this genre, preserving all its attributes.
+     * <p>
+     * The categories are immutable, so the clone shares them with this genre; a later change on
+     * either side replaces its own set and never affects the other one.
      *
      * @return A new {@code Genre} instance that is a clone of this one.
      * @throws IllegalStateException If the cloning process fails.
@@ -392,9 +474,7 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
     @Override
     public Genre clone() {
         try {
-            Genre clone = (Genre) super.clone();
-            clone.categories = new ArrayList<>(this.categories);
-            return clone;
+            return (Genre) super.clone();
         } catch (CloneNotSupportedException e) {
             throw new IllegalStateException("The Genre object could not be cloned.", e);
         }
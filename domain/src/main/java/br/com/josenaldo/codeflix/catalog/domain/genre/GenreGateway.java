@@ -2,6 +2,7 @@ package br.com.josenaldo.codeflix.catalog.domain.genre;
 
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
 import java.util.Optional;
 
 /**
@@ -18,6 +19,7 @@ import java.util.Optional;
  *   <li>Deleting a genre by its unique identifier.</li>
  *   <li>Finding a genre by its unique identifier.</li>
  *   <li>Searching and paginating genres based on specific criteria.</li>
+ *   <li>Searching genres page by page without counting them.</li>
  * </ul>
  *
  * @author Josenaldo de Oliveira Matos Filho
@@ -64,4 +66,16 @@ public interface GenreGateway {
      * @return A {@link Pagination} of genres that match the specified search query.
      */
     Pagination<Genre> findAll(SearchQuery aSearchQuery);
+
+    /**
+     * Retrieves a page of {@link Genre} objects based on the provided search criteria, without
+     * counting the total number of matching genres.
+     * <p>
+     * Implementations fetch one row more than {@link SearchQuery#perPage()} to tell whether there is
+     * a next page, so this method costs a single query.
+     *
+     * @param aSearchQuery A {@link SearchQuery} containing parameters to filter and sort genres.
+     * @return A {@link Slice} of genres that match the specified search query.
+     */
+    Slice<Genre> findSlice(SearchQuery aSearchQuery);
 }
@@ -44,6 +44,41 @@ public class GenreValidator extends Validator {
      */
     public static final String NAME_LENGTH_OUT_OF_RANGE_ERROR = "'name' length must be between 1 and 255 characters";
 
+    /**
+     * Rule id of the check that the name is not null.
+     */
+    public static final int NULL_NAME_RULE = 1;
+
+    /**
+     * Rule id of the check that the name is not blank.
+     */
+    public static final int EMPTY_NAME_RULE = 1 << 1;
+
+    /**
+     * Rule id of the check that the trimmed name length is within the allowed range.
+     */
+    public static final int NAME_LENGTH_RULE = 1 << 2;
+
+    /**
+     * Shared error reported when the name is null.
+     */
+    public static final Error NULL_NAME = new Error(NULL_NAME_ERROR);
+
+    /**
+     * Shared error reported when the name is blank.
+     */
+    public static final Error EMPTY_NAME = new Error(EMPTY_NAME_ERROR);
+
+    /**
+     * Shared error reported when the name's length is out of the allowed range.
+     */
+    public static final Error NAME_LENGTH_OUT_OF_RANGE = new Error(NAME_LENGTH_OUT_OF_RANGE_ERROR);
+
+    /**
+     * The error of each rule, indexed by the position of its bit.
+     */
+    private static final Error[] ERRORS = {NULL_NAME, EMPTY_NAME, NAME_LENGTH_OUT_OF_RANGE};
+
     /**
      * Represents the Genre object being validated by the {@link GenreValidator}.
      */
@@ -66,12 +101,24 @@ public class GenreValidator extends Validator {
     /**
      * Executes the validation logic for the genre.
      * <p>
-     * This method triggers the internal validation process by calling the checkNameConstraints
-     * method that performs the name constraint checks.
+     * This method delegates to {@link #validate(Genre, ValidationHandler)}, which performs the name
+     * constraint checks.
      */
     @Override
     public void validate() {
-        checkConstrains();
+        validate(this.genre, this.validationHandler());
+    }
+
+    /**
+     * Validates the given genre and appends an error for each failed rule to the given handler.
+     * <p>
+     * Nothing is allocated when the genre is valid.
+     *
+     * @param genre          the Genre to validate.
+     * @param validationHandler the handler used to collect validation errors.
+     */
+    public static void validate(final Genre genre, final ValidationHandler validationHandler) {
+        report(check(genre.getName()), ERRORS, validationHandler);
     }
 
     /**
@@ -79,27 +126,30 @@ public class GenreValidator extends Validator {
      * <p>
      * The validation includes:
      * <ul>
-     *   <li>Ensuring the name is not null.</li>
-     *   <li>Ensuring the name is not blank.</li>
-     *   <li>Ensuring the trimmed name length is between {@code NAME_MIN_LENGTH} and {@code NAME_MAX_LENGTH}.</li>
+     *   <li>Ensuring the name is not null ({@link #NULL_NAME_RULE}).</li>
+     *   <li>Ensuring the name is not blank ({@link #EMPTY_NAME_RULE}).</li>
+     *   <li>Ensuring the trimmed name length is between {@code NAME_MIN_LENGTH} and
+     *   {@code NAME_MAX_LENGTH} ({@link #NAME_LENGTH_RULE}).</li>
      * </ul>
-     * If any of these checks fail, an appropriate error is appended to the {@link ValidationHandler}.
+     * The checks stop at the first failure, and neither the name nor any error is copied.
+     *
+     * @param name the name to be checked; may be {@code null}.
+     * @return the bitmask of the failed rules, or {@link Validator#VALID} if the name is valid.
      */
-    private void checkConstrains() {
-        if (genre.getName() == null) {
-            this.validationHandler().append(new Error(NULL_NAME_ERROR));
-            return;
+    public static int check(final String name) {
+        if (name == null) {
+            return NULL_NAME_RULE;
         }
 
-        if (genre.getName().isBlank()) {
-            this.validationHandler().append(new Error(EMPTY_NAME_ERROR));
-            return;
+        if (name.isBlank()) {
+            return EMPTY_NAME_RULE;
         }
 
-        int length = genre.getName().trim().length();
+        final int length = trimmedLength(name);
         if (length < NAME_MIN_LENGTH || length > NAME_MAX_LENGTH) {
-            this.validationHandler().append(new Error(NAME_LENGTH_OUT_OF_RANGE_ERROR));
+            return NAME_LENGTH_RULE;
         }
 
+        return VALID;
     }
 }
@@ -0,0 +1,255 @@
+package br.com.josenaldo.codeflix.catalog.domain.identity;
+
+import br.com.josenaldo.codeflix.catalog.domain.UlidIdentifier;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+
+/**
+ * A canonicalizing pool of weakly referenced ULID identifiers.
+ * <p>
+ * The same few hundred popular categories show up in almost every genre, so loading a page of
+ * genres would otherwise build thousands of equal identifier objects, each with its own textual
+ * value. Interning through this pool makes every identifier with the same 128 bits resolve to a
+ * single shared instance - and a single backing string - for as long as some aggregate, page or
+ * cache still references it. Entries are held through {@link WeakReference}s, so the pool never
+ * keeps an identifier alive on its own and shrinks back as aggregates are collected.
+ * <p>
+ * Lookups are keyed by the two halves of the ULID and do not allocate. The pool is split into
+ * independently locked segments, selected by the hash of the identifier, so concurrent mappers
+ * rarely contend on the same lock. Each segment is a small chained hash table that expunges the
+ * entries cleared by the garbage collector whenever it is accessed.
+ * <p>
+ * Pooling can be switched off for the whole JVM with the system property
+ * {@value #ENABLED_PROPERTY}{@code =false}, in which case {@link #intern(long, long, String)}
+ * simply creates a new identifier.
+ *
+ * @param <T> the type of identifier held by the pool.
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class IdentifierPool<T extends UlidIdentifier> {
+
+    /**
+     * System property that enables or disables identifier pooling. Defaults to {@code true}.
+     */
+    public static final String ENABLED_PROPERTY = "codeflix.catalog.identifier-pool.enabled";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(
+        System.getProperty(ENABLED_PROPERTY, "true")
+    );
+
+    private static final int SEGMENT_COUNT = 64;
+
+    private static final int SEGMENT_SHIFT = Integer.numberOfTrailingZeros(SEGMENT_COUNT);
+
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    private final Factory<T> factory;
+
+    private final Segment<T>[] segments;
+
+    /**
+     * Creates a new, empty pool.
+     *
+     * @param factory the function used to create an identifier that is not in the pool yet.
+     * @throws NullPointerException if {@code factory} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public IdentifierPool(final Factory<T> factory) {
+        this.factory = Objects.requireNonNull(factory, "factory must not be null");
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            this.segments[i] = new Segment<>();
+        }
+    }
+
+    /**
+     * Indicates whether identifier pooling is enabled in this JVM.
+     *
+     * @return {@code true} if identifiers are pooled; {@code false} otherwise.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the pooled identifier with the given bits, creating and pooling it if needed.
+     *
+     * @param mostSignificantBits  the most significant 64 bits of the ULID.
+     * @param leastSignificantBits the least significant 64 bits of the ULID.
+     * @param value                the canonical textual form of the ULID, or {@code null} to have it
+     *                             derived lazily. It is only used when a new identifier is created.
+     * @return the canonical identifier instance for the given bits.
+     */
+    public T intern(
+        final long mostSignificantBits,
+        final long leastSignificantBits,
+        final String value
+    ) {
+        if (!ENABLED) {
+            return factory.create(mostSignificantBits, leastSignificantBits, value);
+        }
+
+        final int hash = hash(mostSignificantBits, leastSignificantBits);
+        final Segment<T> segment = segments[hash & (SEGMENT_COUNT - 1)];
+
+        synchronized (segment) {
+            segment.expungeStaleEntries();
+
+            final Entry<T>[] table = segment.table;
+            final int index = (hash >>> SEGMENT_SHIFT) & (table.length - 1);
+            for (Entry<T> entry = table[index]; entry != null; entry = entry.next) {
+                if (entry.hash == hash
+                    && entry.mostSignificantBits == mostSignificantBits
+                    && entry.leastSignificantBits == leastSignificantBits) {
+                    final T pooled = entry.get();
+                    if (pooled != null) {
+                        return pooled;
+                    }
+                }
+            }
+
+            final T created = factory.create(mostSignificantBits, leastSignificantBits, value);
+            segment.add(created, hash);
+            return created;
+        }
+    }
+
+    /**
+     * Returns the number of entries currently held by the pool, including entries whose identifier
+     * was collected but not expunged yet.
+     *
+     * @return the approximate number of pooled identifiers.
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment<T> segment : segments) {
+            synchronized (segment) {
+                segment.expungeStaleEntries();
+                size += segment.count;
+            }
+        }
+        return size;
+    }
+
+    private static int hash(final long mostSignificantBits, final long leastSignificantBits) {
+        final long bits = mostSignificantBits * 0x9E3779B97F4A7C15L ^ leastSignificantBits;
+        final int hash = (int) (bits ^ (bits >>> 32));
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Creates identifiers that are not in the pool yet.
+     *
+     * @param <T> the type of identifier created.
+     */
+    @FunctionalInterface
+    public interface Factory<T extends UlidIdentifier> {
+
+        /**
+         * Creates a new identifier.
+         *
+         * @param mostSignificantBits  the most significant 64 bits of the ULID.
+         * @param leastSignificantBits the least significant 64 bits of the ULID.
+         * @param value                the canonical textual form of the ULID, or {@code null}.
+         * @return a new identifier with the given bits.
+         */
+        T create(long mostSignificantBits, long leastSignificantBits, String value);
+    }
+
+    /**
+     * A weak reference to a pooled identifier, chained in a segment bucket. The bits are copied
+     * into the entry so lookups never need to dereference it, except on a match.
+     */
+    private static final class Entry<T extends UlidIdentifier> extends WeakReference<T> {
+
+        private final long mostSignificantBits;
+
+        private final long leastSignificantBits;
+
+        private final int hash;
+
+        private Entry<T> next;
+
+        private Entry(
+            final T identifier,
+            final ReferenceQueue<T> queue,
+            final int hash,
+            final Entry<T> next
+        ) {
+            super(identifier, queue);
+            this.mostSignificantBits = identifier.getMostSignificantBits();
+            this.leastSignificantBits = identifier.getLeastSignificantBits();
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    /**
+     * An independently locked hash table of entries. All methods must be called while holding the
+     * segment monitor.
+     */
+    private static final class Segment<T extends UlidIdentifier> {
+
+        private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+        private Entry<T>[] table = newTable(INITIAL_SEGMENT_CAPACITY);
+
+        private int count;
+
+        @SuppressWarnings("unchecked")
+        private static <T extends UlidIdentifier> Entry<T>[] newTable(final int capacity) {
+            return new Entry[capacity];
+        }
+
+        private void add(final T identifier, final int hash) {
+            if (count >= table.length - (table.length >>> 2)) {
+                resize();
+            }
+            final int index = (hash >>> SEGMENT_SHIFT) & (table.length - 1);
+            table[index] = new Entry<>(identifier, queue, hash, table[index]);
+            count++;
+        }
+
+        private void resize() {
+            final Entry<T>[] oldTable = table;
+            final Entry<T>[] newTable = newTable(oldTable.length << 1);
+            for (Entry<T> head : oldTable) {
+                while (head != null) {
+                    final Entry<T> next = head.next;
+                    if (head.get() == null) {
+                        count--;
+                    } else {
+                        final int index = (head.hash >>> SEGMENT_SHIFT) & (newTable.length - 1);
+                        head.next = newTable[index];
+                        newTable[index] = head;
+                    }
+                    head = next;
+                }
+            }
+            table = newTable;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void expungeStaleEntries() {
+            Entry<T> stale;
+            while ((stale = (Entry<T>) queue.poll()) != null) {
+                final int index = (stale.hash >>> SEGMENT_SHIFT) & (table.length - 1);
+                Entry<T> previous = null;
+                for (Entry<T> entry = table[index]; entry != null; entry = entry.next) {
+                    if (entry == stale) {
+                        if (previous == null) {
+                            table[index] = entry.next;
+                        } else {
+                            previous.next = entry.next;
+                        }
+                        count--;
+                        break;
+                    }
+                    previous = entry;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.josenaldo.codeflix.catalog.domain.identity;
+
+import com.github.f4b6a3.ulid.Ulid;
+import com.github.f4b6a3.ulid.UlidCreator;
+
+/**
+ * A {@link UlidGenerator} that creates ULIDs with a fully random component, through
+ * {@link UlidCreator#getUlid()}.
+ * <p>
+ * ULIDs generated in the same millisecond are not ordered among themselves. This was the only
+ * strategy available before {@link ThreadLocalMonotonicUlidGenerator}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class RandomUlidGenerator implements UlidGenerator {
+
+    /**
+     * Generates a new ULID with a random component.
+     *
+     * @return a new ULID.
+     */
+    @Override
+    public Ulid generate() {
+        return UlidCreator.getUlid();
+    }
+}
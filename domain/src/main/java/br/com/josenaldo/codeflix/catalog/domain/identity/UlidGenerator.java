@@ -0,0 +1,25 @@
+package br.com.josenaldo.codeflix.catalog.domain.identity;
+
+import com.github.f4b6a3.ulid.Ulid;
+
+/**
+ * Generates new ULIDs for the identifiers of the domain.
+ * <p>
+ * Implementations must be safe for concurrent use. The generator used by
+ * {@code CategoryID.unique()} and {@code GenreID.unique()} is held by {@link UlidGenerators} and
+ * can be replaced, for instance, to trade monotonicity for the plain random generation of the
+ * {@code ulid-creator} library.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface UlidGenerator {
+
+    /**
+     * Generates a new ULID.
+     *
+     * @return a new ULID.
+     */
+    Ulid generate();
+}
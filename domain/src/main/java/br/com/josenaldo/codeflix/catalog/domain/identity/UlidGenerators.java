@@ -0,0 +1,69 @@
+package br.com.josenaldo.codeflix.catalog.domain.identity;
+
+import java.util.Objects;
+
+/**
+ * Holds the {@link UlidGenerator} used to create new identifiers in the domain.
+ * <p>
+ * The default generator is selected by the system property {@value #STRATEGY_PROPERTY}:
+ * {@code monotonic} (the default) uses a {@link ThreadLocalMonotonicUlidGenerator} and
+ * {@code random} uses a {@link RandomUlidGenerator}. It can also be replaced at runtime, for
+ * example by the application configuration or by tests that need predictable identifiers.
+ * <p>
+ * The class is final and has a private constructor to prevent instantiation.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class UlidGenerators {
+
+    /**
+     * System property that selects the default generation strategy.
+     */
+    public static final String STRATEGY_PROPERTY = "codeflix.catalog.ulid-generator";
+
+    private static volatile UlidGenerator current = defaultGenerator();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private UlidGenerators() {
+    }
+
+    /**
+     * Returns the generator currently in use.
+     *
+     * @return the current generator.
+     */
+    public static UlidGenerator current() {
+        return current;
+    }
+
+    /**
+     * Replaces the generator used to create new identifiers.
+     *
+     * @param generator the generator to be used from now on.
+     * @throws NullPointerException if {@code generator} is {@code null}.
+     */
+    public static void use(final UlidGenerator generator) {
+        current = Objects.requireNonNull(generator, "generator must not be null");
+    }
+
+    /**
+     * Restores the default generator selected by {@value #STRATEGY_PROPERTY}.
+     */
+    public static void reset() {
+        current = defaultGenerator();
+    }
+
+    private static UlidGenerator defaultGenerator() {
+        final var strategy = System.getProperty(STRATEGY_PROPERTY, "monotonic");
+        return switch (strategy) {
+            case "monotonic" -> new ThreadLocalMonotonicUlidGenerator();
+            case "random" -> new RandomUlidGenerator();
+            default -> throw new IllegalStateException(
+                "unknown ULID generator strategy: %s".formatted(strategy)
+            );
+        };
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.josenaldo.codeflix.catalog.domain.pagination;
+
+import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
+import br.com.josenaldo.codeflix.catalog.domain.utils.UlidUtils;
+import br.com.josenaldo.codeflix.catalog.domain.validation.Error;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Represents the position of the last item of a page in a keyset (cursor) pagination, containing:
+ * <ul>
+ *   <li>The attribute the items are sorted by.</li>
+ *   <li>The direction of the sort.</li>
+ *   <li>The value of the sort attribute for the last item, which may be {@code null}.</li>
+ *   <li>The identifier of the last item, used to break ties between equal sort values.</li>
+ * </ul>
+ * <p>
+ * A data store answers the page after a cursor with a {@code WHERE (sort, id) > (key, id)}
+ * predicate on an index instead of skipping {@code OFFSET} rows, so the cost of a page does not
+ * depend on how deep it is.
+ * <p>
+ * Clients only see cursors as opaque tokens: {@link #encode()} serializes the four attributes into
+ * a URL-safe Base64 string, and {@link #decode(String)} reads them back, failing with a
+ * {@link DomainException} for any token it did not produce or whose identifier is not a valid
+ * ULID, so every data store receives only identifiers it can bind.
+ *
+ * @param sort      The attribute the items are sorted by.
+ * @param direction The direction of the sort, in lower case.
+ * @param key       The textual value of the sort attribute for the last item, or {@code null}.
+ * @param id        The identifier of the last item.
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public record Cursor(
+    String sort,
+    String direction,
+    String key,
+    String id
+) {
+
+    /**
+     * Error reported for tokens that are malformed or were issued for a different sort order.
+     */
+    public static final Error INVALID_CURSOR = new Error("'cursor' is invalid");
+
+    /**
+     * Version of the token format, written as the first byte of every token.
+     */
+    private static final byte VERSION = 1;
+
+    /**
+     * Creates a new {@code Cursor}, validating its attributes.
+     *
+     * @param sort      The attribute the items are sorted by. Must not be null.
+     * @param direction The direction of the sort. Must not be null.
+     * @param key       The value of the sort attribute for the last item. May be null.
+     * @param id        The identifier of the last item. Must not be null.
+     */
+    public Cursor {
+        Objects.requireNonNull(sort, "Sort cannot be null.");
+        Objects.requireNonNull(direction, "Direction cannot be null.");
+        Objects.requireNonNull(id, "Id cannot be null.");
+        direction = direction.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Creates a new {@code Cursor} pointing after the item with the given sort value and
+     * identifier.
+     *
+     * @param sort      The attribute the items are sorted by.
+     * @param direction The direction of the sort.
+     * @param key       The value of the sort attribute for the item, or {@code null}.
+     * @param id        The identifier of the item.
+     * @return A new {@code Cursor} instance.
+     */
+    public static Cursor of(
+        final String sort,
+        final String direction,
+        final String key,
+        final String id
+    ) {
+        return new Cursor(sort, direction, key, id);
+    }
+
+    /**
+     * Reads a cursor from a token produced by {@link #encode()}.
+     *
+     * @param token The opaque token sent by the client.
+     * @return The decoded cursor.
+     * @throws DomainException if the token is not a valid cursor or its identifier is not a valid
+     *                         ULID.
+     */
+    public static Cursor decode(final String token) {
+        if (token == null) {
+            throw DomainException.with(INVALID_CURSOR);
+        }
+
+        try {
+            final byte[] bytes = Base64.getUrlDecoder().decode(token);
+            final var in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+            if (in.readByte() != VERSION) {
+                throw DomainException.with(INVALID_CURSOR);
+            }
+
+            final String sort = in.readUTF();
+            final String direction = in.readUTF();
+            final String key = in.readBoolean() ? in.readUTF() : null;
+            final String id = in.readUTF();
+
+            if (in.available() > 0 || !UlidUtils.isValid(id)) {
+                throw DomainException.with(INVALID_CURSOR);
+            }
+
+            return new Cursor(sort, direction, key, id);
+        } catch (IOException | IllegalArgumentException e) {
+            throw DomainException.with(INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * Serializes this cursor into an opaque, URL-safe token.
+     *
+     * @return The token to be handed to the client.
+     */
+    public String encode() {
+        try {
+            final var bytes = new ByteArrayOutputStream(64);
+            final var out = new DataOutputStream(bytes);
+
+            out.writeByte(VERSION);
+            out.writeUTF(sort);
+            out.writeUTF(direction);
+            out.writeBoolean(key != null);
+            if (key != null) {
+                out.writeUTF(key);
+            }
+            out.writeUTF(id);
+            out.flush();
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks whether this cursor was issued for the given sort attribute and direction.
+     *
+     * @param aSort      The attribute the items are sorted by.
+     * @param aDirection The direction of the sort.
+     * @return {@code true} if both match; {@code false} otherwise.
+     */
+    public boolean matches(final String aSort, final String aDirection) {
+        return sort.equals(aSort) && direction.equalsIgnoreCase(aDirection);
+    }
+
+    /**
+     * Determines if the items are sorted in ascending order.
+     *
+     * @return {@code true} if the direction is {@code asc}; {@code false} otherwise.
+     */
+    public boolean isAscending() {
+        return "asc".equals(direction);
+    }
+}
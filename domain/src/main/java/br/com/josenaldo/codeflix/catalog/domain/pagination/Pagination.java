@@ -11,8 +11,14 @@ import java.util.function.Function;
  *   <li>The number of items per page.</li>
  *   <li>The total number of items available.</li>
  *   <li>The items for the current page.</li>
+ *   <li>The cursor of the next page, if there is one.</li>
+ *   <li>Whether the total was counted or estimated.</li>
  * </ul>
  * <p>
+ * Counting every matching item may be too costly for large listings, so a data store may answer
+ * with an estimated total instead, flagged by {@code exactTotal = false}. Such a total is never
+ * lower than the number of items up to the current page.
+ * <p>
  * This record also provides utility methods to calculate additional pagination
  * details, such as the total number of pages, the start and end item indices,
  * and the ability to navigate between pages.
@@ -21,7 +27,11 @@ import java.util.function.Function;
  * @param page    The current page number being viewed.
  * @param perPage The number of items displayed on each page.
  * @param total   The total number of items across all pages.
- * @param data    The list of items for the current page.
+ * @param data       The list of items for the current page.
+ * @param nextCursor The opaque token to fetch the page after this one (see {@link Cursor}), or
+ *                   {@code null} if this is the last page.
+ * @param exactTotal {@code true} if {@code total} was counted; {@code false} if it is an
+ *                   estimate.
  * @author Josenaldo de Oliveira Matos Filho
  * @version 1.0
  */
@@ -29,7 +39,9 @@ public record Pagination<T>(
     int page,
     int perPage,
     long total,
-    List<T> data
+    List<T> data,
+    String nextCursor,
+    boolean exactTotal
 ) {
 
     /**
@@ -50,7 +62,9 @@ public record Pagination<T>(
      * @param perPage The number of items to display per page. Must be greater than 0.
      * @param total   The total count of items across all pages. Must be greater than or equal to
      *                0.
-     * @param data    The list of items for the given page. Must not be null.
+     * @param data       The list of items for the given page. Must not be null.
+     * @param nextCursor The opaque token of the next page, or {@code null} if there is none.
+     * @param exactTotal Whether the total was counted rather than estimated.
      */
     public Pagination {
 
@@ -77,6 +91,31 @@ public record Pagination<T>(
         Objects.requireNonNull(data, "Data cannot be null.");
     }
 
+    /**
+     * Creates a new {@code Pagination} object without a cursor for the next page.
+     *
+     * @param page    The current page number.
+     * @param perPage The number of items to display per page.
+     * @param total   The total count of items across all pages.
+     * @param data    The list of items for the given page.
+     */
+    public Pagination(int page, int perPage, long total, List<T> data) {
+        this(page, perPage, total, data, null, true);
+    }
+
+    /**
+     * Creates a new {@code Pagination} object with a counted total.
+     *
+     * @param page       The current page number.
+     * @param perPage    The number of items to display per page.
+     * @param total      The total count of items across all pages.
+     * @param data       The list of items for the given page.
+     * @param nextCursor The opaque token of the next page, or {@code null} if there is none.
+     */
+    public Pagination(int page, int perPage, long total, List<T> data, String nextCursor) {
+        this(page, perPage, total, data, nextCursor, true);
+    }
+
     /**
      * Creates a new {@code Pagination} object by specifying the current page number, the number of
      * items per page, and the total count of items.
@@ -276,7 +315,8 @@ public record Pagination<T>(
      * <p>
      * This method applies the provided mapping function to each element in the data list, producing
      * a new list of mapped results. It then creates a new {@code Pagination} instance with the same
-     * pagination details (page, perPage, and total) but with the new mapped data.
+     * pagination details (page, perPage, total, nextCursor and exactTotal) but with the new mapped
+     * data.
      * <p>
      *
      * @param mapper the function used to transform each element of type {@code T} into type
@@ -286,6 +326,48 @@ public record Pagination<T>(
      */
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> mappedList = this.data().stream().map(mapper).toList();
-        return new Pagination<>(this.page(), this.perPage(), this.total(), mappedList);
+        return new Pagination<>(
+            this.page(),
+            this.perPage(),
+            this.total(),
+            mappedList,
+            this.nextCursor(),
+            this.exactTotal()
+        );
+    }
+
+    /**
+     * Returns a copy of this pagination pointing to the given cursor for the next page.
+     *
+     * @param aNextCursor the opaque token of the next page, or {@code null} if there is none.
+     * @return a new {@code Pagination} instance with the same data and the given cursor.
+     */
+    public Pagination<T> withNextCursor(final String aNextCursor) {
+        return new Pagination<>(
+            this.page(),
+            this.perPage(),
+            this.total(),
+            this.data(),
+            aNextCursor,
+            this.exactTotal()
+        );
+    }
+
+    /**
+     * Returns a copy of this pagination whose total is flagged as counted or estimated.
+     *
+     * @param anExactTotal {@code true} if the total was counted; {@code false} if it is an
+     *                     estimate.
+     * @return a new {@code Pagination} instance with the same data and the given flag.
+     */
+    public Pagination<T> withExactTotal(final boolean anExactTotal) {
+        return new Pagination<>(
+            this.page(),
+            this.perPage(),
+            this.total(),
+            this.data(),
+            this.nextCursor(),
+            anExactTotal
+        );
     }
 }
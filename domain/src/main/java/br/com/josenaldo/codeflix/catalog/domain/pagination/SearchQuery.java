@@ -1,5 +1,8 @@
 package br.com.josenaldo.codeflix.catalog.domain.pagination;
 
+import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
+import java.util.Optional;
+
 /**
  * Represents a search query for filtering and sorting categories.
  * <p>
@@ -8,12 +11,24 @@ package br.com.josenaldo.codeflix.catalog.domain.pagination;
  * <p>
  * It is typically used to transfer search criteria from the presentation layer to the service
  * layer.
+ * <p>
+ * The {@code countTotal} flag tells whether the caller needs the total number of matching items.
+ * When it is {@code false}, the result can be a {@link Slice}, which is computed without a
+ * {@code COUNT(*)} query.
+ * <p>
+ * The optional {@code cursor} is an opaque token taken from a previous result (see
+ * {@link Cursor}). When present, the results start right after the item it points to and
+ * {@code page} is no longer used to skip items, so every page costs the same to fetch.
  *
- * @param page      the current page number for the search result.
- * @param perPage   the number of categories to display per page.
- * @param terms     the search terms used to filter categories.
- * @param sort      the attribute by which the categories should be sorted.
- * @param direction the direction of the sort (e.g., ascending or descending).
+ * @param page       the current page number for the search result.
+ * @param perPage    the number of categories to display per page.
+ * @param terms      the search terms used to filter categories.
+ * @param sort       the attribute by which the categories should be sorted.
+ * @param direction  the direction of the sort (e.g., ascending or descending).
+ * @param countTotal {@code true} if the total number of matching items is required;
+ *                   {@code false} to skip counting them.
+ * @param cursor     the opaque token of the item after which the results start, or {@code null}
+ *                   to start from {@code page}.
  * @author Josenaldo de Oliveira Matos Filho
  * @version 1.0
  */
@@ -22,7 +37,9 @@ public record SearchQuery(
     int perPage,
     String terms,
     String sort,
-    String direction) {
+    String direction,
+    boolean countTotal,
+    String cursor) {
 
     /**
      * Constructs a new SearchQuery with validation and normalization of input parameters.
@@ -34,13 +51,17 @@ public record SearchQuery(
      *   <li>Trims terms or sets to null if empty</li>
      *   <li>Validates and trims sort field, defaulting to {@link #DEFAULT_SORT} if invalid</li>
      *   <li>Validates and trims direction, defaulting to {@link #DEFAULT_DIRECTION} if invalid</li>
+     *   <li>Trims cursor or sets to null if empty</li>
      * </ul>
      *
      * @param page      the page number to request (will be set to {@link Pagination#FIRST_PAGE} if < 0)
      * @param perPage   number of items per page (will be set to {@link Pagination#DEFAULT_PER_PAGE} if <= 0)
      * @param terms     search terms to filter by (will be trimmed if not null)
      * @param sort      field name to sort by (will default to {@link #DEFAULT_SORT} if invalid)
-     * @param direction sort direction (will default to {@link #DEFAULT_DIRECTION} if invalid)
+     * @param direction  sort direction (will default to {@link #DEFAULT_DIRECTION} if invalid)
+     * @param countTotal whether the total number of matching items is required
+     * @param cursor     opaque token of the item after which the results start (will be trimmed
+     *                   or set to null if empty)
      */
     public SearchQuery {
         page = Math.max(page, Pagination.FIRST_PAGE);
@@ -50,6 +71,41 @@ public record SearchQuery(
         direction = direction != null && !direction.trim().isEmpty()
             ? direction.trim()
             : DEFAULT_DIRECTION;
+        cursor = cursor != null && !cursor.isBlank() ? cursor.trim() : null;
+    }
+
+    /**
+     * Constructs a new SearchQuery that requires the total number of matching items.
+     *
+     * @param page      the page number to request.
+     * @param perPage   number of items per page.
+     * @param terms     search terms to filter by.
+     * @param sort      field name to sort by.
+     * @param direction sort direction.
+     */
+    public SearchQuery(int page, int perPage, String terms, String sort, String direction) {
+        this(page, perPage, terms, sort, direction, true, null);
+    }
+
+    /**
+     * Constructs a new SearchQuery that starts from {@code page}, without a cursor.
+     *
+     * @param page       the page number to request.
+     * @param perPage    number of items per page.
+     * @param terms      search terms to filter by.
+     * @param sort       field name to sort by.
+     * @param direction  sort direction.
+     * @param countTotal whether the total number of matching items is required.
+     */
+    public SearchQuery(
+        int page,
+        int perPage,
+        String terms,
+        String sort,
+        String direction,
+        boolean countTotal
+    ) {
+        this(page, perPage, terms, sort, direction, countTotal, null);
     }
 
     /**
@@ -77,6 +133,8 @@ public record SearchQuery(
      *   <li>terms: {@link #EMPTY_TERM}</li>
      *   <li>sort: {@link #DEFAULT_SORT}</li>
      *   <li>direction: {@link #DEFAULT_DIRECTION}</li>
+     *   <li>countTotal: {@code true}</li>
+     *   <li>cursor: {@code null}</li>
      * </ul>
      *
      * @return a new {@code SearchQuery} instance with default search criteria.
@@ -87,7 +145,9 @@ public record SearchQuery(
             Pagination.DEFAULT_PER_PAGE,
             EMPTY_TERM,
             DEFAULT_SORT,
-            DEFAULT_DIRECTION
+            DEFAULT_DIRECTION,
+            true,
+            null
         );
     }
 
@@ -113,4 +173,70 @@ public record SearchQuery(
     ) {
         return new SearchQuery(page, perPage, terms, sort, direction);
     }
+
+    /**
+     * Creates a new {@code SearchQuery} with the specified parameters, including whether the total
+     * number of matching items is required.
+     *
+     * @param page       the current page number for the search result.
+     * @param perPage    the number of categories to display per page.
+     * @param terms      the search terms used to filter categories.
+     * @param sort       the attribute by which the categories should be sorted.
+     * @param direction  the direction of the sort (e.g., ascending or descending).
+     * @param countTotal {@code true} if the total number of matching items is required;
+     *                   {@code false} to skip counting them.
+     * @return a new {@code SearchQuery} instance with the specified parameters.
+     */
+    public static SearchQuery of(
+        int page,
+        int perPage,
+        String terms,
+        String sort,
+        String direction,
+        boolean countTotal
+    ) {
+        return new SearchQuery(page, perPage, terms, sort, direction, countTotal);
+    }
+
+    /**
+     * Returns a copy of this query that does not require the total number of matching items.
+     *
+     * @return a new {@code SearchQuery} with the same criteria and {@code countTotal} set to
+     * {@code false}.
+     */
+    public SearchQuery withoutTotal() {
+        return new SearchQuery(page, perPage, terms, sort, direction, false, cursor);
+    }
+
+    /**
+     * Returns a copy of this query whose results start right after the item the given token points
+     * to.
+     *
+     * @param aCursor the opaque token taken from a previous result, or {@code null} to start from
+     *                {@code page}.
+     * @return a new {@code SearchQuery} with the same criteria and the given cursor.
+     */
+    public SearchQuery withCursor(final String aCursor) {
+        return new SearchQuery(page, perPage, terms, sort, direction, countTotal, aCursor);
+    }
+
+    /**
+     * Decodes the cursor of this query.
+     *
+     * @return an {@link Optional} containing the decoded {@link Cursor}, or empty if this query has
+     * no cursor.
+     * @throws DomainException if the cursor is malformed or was issued for a different sort
+     *                         attribute or direction.
+     */
+    public Optional<Cursor> after() {
+        if (cursor == null) {
+            return Optional.empty();
+        }
+
+        final var decoded = Cursor.decode(cursor);
+        if (!decoded.matches(sort, direction)) {
+            throw DomainException.with(Cursor.INVALID_CURSOR);
+        }
+        return Optional.of(decoded);
+    }
 }
@@ -0,0 +1,164 @@
+package br.com.josenaldo.codeflix.catalog.domain.pagination;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Represents a page of results that, unlike {@link Pagination}, does not know the total number of
+ * items, containing:
+ * <ul>
+ *   <li>The current page index.</li>
+ *   <li>The number of items per page.</li>
+ *   <li>Whether there is at least one more page after the current one.</li>
+ *   <li>The items for the current page.</li>
+ *   <li>The cursor of the next page, if there is one.</li>
+ * </ul>
+ * <p>
+ * A slice is what a data store can answer without a second {@code COUNT(*)} query: it fetches
+ * {@code perPage + 1} rows and uses the extra one only to tell whether a next page exists (see
+ * {@link #fromLookahead(int, int, List)}).
+ *
+ * @param <T>     The type of items contained in the slice.
+ * @param page    The current page number being viewed.
+ * @param perPage The number of items displayed on each page.
+ * @param hasNext {@code true} if there are items after this page; {@code false} otherwise.
+ * @param data       The list of items for the current page.
+ * @param nextCursor The opaque token to fetch the page after this one (see {@link Cursor}), or
+ *                   {@code null} if this is the last page.
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public record Slice<T>(
+    int page,
+    int perPage,
+    boolean hasNext,
+    List<T> data,
+    String nextCursor
+) {
+
+    /**
+     * Creates a new {@code Slice} object, validating its attributes.
+     *
+     * @param page    The current page number. Must be equal or greater than 0.
+     * @param perPage The number of items to display per page. Must be greater than 0.
+     * @param hasNext Whether there are items after this page.
+     * @param data       The list of items for the given page. Must not be null.
+     * @param nextCursor The opaque token of the next page, or {@code null} if there is none.
+     */
+    public Slice {
+        if (page < Pagination.FIRST_PAGE) {
+            throw new IllegalArgumentException("Page number must be equal or greater than 0.");
+        }
+
+        if (perPage < 1) {
+            throw new IllegalArgumentException("Items per page must be greater than 0.");
+        }
+
+        Objects.requireNonNull(data, "Data cannot be null.");
+    }
+
+    /**
+     * Creates a new {@code Slice} object without a cursor for the next page.
+     *
+     * @param page    The current page number.
+     * @param perPage The number of items to display per page.
+     * @param hasNext Whether there are items after this page.
+     * @param data    The list of items for the given page.
+     */
+    public Slice(int page, int perPage, boolean hasNext, List<T> data) {
+        this(page, perPage, hasNext, data, null);
+    }
+
+    /**
+     * Creates a new {@code Slice} object by specifying all of its attributes.
+     *
+     * @param <T>     The type of items in the resulting {@code Slice}.
+     * @param page    The current page number.
+     * @param perPage The number of items to display per page.
+     * @param hasNext Whether there are items after this page.
+     * @param data    The list of items for the given page.
+     * @return A new {@code Slice} instance based on the provided parameters.
+     */
+    public static <T> Slice<T> fromPage(int page, int perPage, boolean hasNext, List<T> data) {
+        return new Slice<>(page, perPage, hasNext, data);
+    }
+
+    /**
+     * Creates a new {@code Slice} object from the result of a query that asked for
+     * {@code perPage + 1} rows.
+     * <p>
+     * If more than {@code perPage} rows were fetched, there is a next page and the extra row is
+     * dropped from the data of this slice.
+     *
+     * @param <T>     The type of items in the resulting {@code Slice}.
+     * @param page    The current page number.
+     * @param perPage The number of items to display per page.
+     * @param fetched The rows fetched for this page, up to {@code perPage + 1}.
+     * @return A new {@code Slice} instance with at most {@code perPage} items.
+     */
+    public static <T> Slice<T> fromLookahead(int page, int perPage, List<T> fetched) {
+        final boolean hasNext = fetched.size() > perPage;
+        final List<T> data = hasNext ? fetched.subList(0, perPage) : fetched;
+        return new Slice<>(page, perPage, hasNext, data);
+    }
+
+    /**
+     * Returns the number of rows a data store must fetch to build a slice of {@code perPage}
+     * items, one more than the page size.
+     *
+     * @param perPage The number of items to display per page.
+     * @return {@code perPage + 1}.
+     */
+    public static int lookaheadLimit(int perPage) {
+        return perPage + 1;
+    }
+
+    /**
+     * Calculates and returns the number of items in the current page.
+     *
+     * @return The number of items
+     */
+    public int itemsCount() {
+        return data.size();
+    }
+
+    /**
+     * Returns the offset for database queries or other data-fetching operations.
+     *
+     * @return The zero-based index of the first item of this page.
+     */
+    public long offset() {
+        return (long) page * perPage;
+    }
+
+    /**
+     * Transforms the elements of the current slice data to a different type, keeping the page,
+     * perPage, hasNext and nextCursor attributes.
+     *
+     * @param mapper the function used to transform each element of type {@code T} into type
+     *               {@code R}.
+     * @param <R>    the type of elements in the resulting {@code Slice}.
+     * @return a new {@code Slice} instance containing the mapped data.
+     */
+    public <R> Slice<R> map(final Function<T, R> mapper) {
+        final List<R> mappedList = this.data().stream().map(mapper).toList();
+        return new Slice<>(
+            this.page(),
+            this.perPage(),
+            this.hasNext(),
+            mappedList,
+            this.nextCursor()
+        );
+    }
+
+    /**
+     * Returns a copy of this slice pointing to the given cursor for the next page.
+     *
+     * @param aNextCursor the opaque token of the next page, or {@code null} if there is none.
+     * @return a new {@code Slice} instance with the same data and the given cursor.
+     */
+    public Slice<T> withNextCursor(final String aNextCursor) {
+        return new Slice<>(this.page(), this.perPage(), this.hasNext(), this.data(), aNextCursor);
+    }
+}
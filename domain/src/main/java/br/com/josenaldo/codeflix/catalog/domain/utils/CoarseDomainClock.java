@@ -0,0 +1,77 @@
+package br.com.josenaldo.codeflix.catalog.domain.utils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link DomainClock} that returns a cached instant refreshed at a fixed tick.
+ * <p>
+ * A single daemon thread reads the system clock once per tick and publishes the result through a
+ * volatile field, so callers on hot write paths pay for a memory read instead of a clock read. The
+ * trade-off is resolution: every call within the same tick returns the same instant, so this clock
+ * is meant for bulk paths, where one timestamp per batch is the desired behavior, and not for code
+ * that relies on consecutive timestamps being different.
+ * <p>
+ * The clock must be {@linkplain #close() closed} to stop its thread.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class CoarseDomainClock implements DomainClock, AutoCloseable {
+
+    private final ScheduledExecutorService ticker;
+
+    private volatile Instant current;
+
+    /**
+     * Creates a new coarse clock and starts its ticker thread.
+     *
+     * @param tick the interval between refreshes; must be positive.
+     * @throws NullPointerException     if {@code tick} is {@code null}.
+     * @throws IllegalArgumentException if {@code tick} is zero or negative.
+     */
+    CoarseDomainClock(final Duration tick) {
+        Objects.requireNonNull(tick, "tick must not be null");
+        if (tick.isZero() || tick.isNegative()) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+
+        this.current = DomainClock.system().now();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform()
+                .daemon()
+                .name("domain-clock-ticker")
+                .unstarted(runnable)
+        );
+
+        final long nanos = tick.toNanos();
+        this.ticker.scheduleAtFixedRate(
+            () -> this.current = DomainClock.system().now(),
+            nanos,
+            nanos,
+            TimeUnit.NANOSECONDS
+        );
+    }
+
+    /**
+     * Returns the instant read at the last tick.
+     *
+     * @return the cached current instant.
+     */
+    @Override
+    public Instant now() {
+        return current;
+    }
+
+    /**
+     * Stops the ticker thread. After closing, the clock keeps returning the last cached instant.
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+}
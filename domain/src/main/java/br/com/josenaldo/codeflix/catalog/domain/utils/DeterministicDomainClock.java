@@ -0,0 +1,75 @@
+package br.com.josenaldo.codeflix.catalog.domain.utils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * A deterministic {@link DomainClock} for tests.
+ * <p>
+ * The clock starts at a given instant and advances by a fixed step after every call, or stays still
+ * when the step is zero. It can also be moved explicitly with {@link #advance(Duration)} and
+ * {@link #set(Instant)}. The clock is thread-safe.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class DeterministicDomainClock implements DomainClock {
+
+    private final Duration step;
+
+    private Instant current;
+
+    /**
+     * Creates a new deterministic clock.
+     *
+     * @param start the first instant to be returned.
+     * @param step  how much the clock advances after each call; must not be negative.
+     * @throws NullPointerException     if {@code start} or {@code step} is {@code null}.
+     * @throws IllegalArgumentException if {@code step} is negative.
+     */
+    DeterministicDomainClock(final Instant start, final Duration step) {
+        Objects.requireNonNull(start, "start must not be null");
+        this.step = Objects.requireNonNull(step, "step must not be null");
+        if (step.isNegative()) {
+            throw new IllegalArgumentException("step must not be negative");
+        }
+        this.current = start.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * Returns the current instant of this clock and then advances it by the configured step.
+     *
+     * @return the current instant.
+     */
+    @Override
+    public synchronized Instant now() {
+        final var now = current;
+        current = current.plus(step);
+        return now;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param duration how much the clock must advance.
+     * @return this clock, for a fluent interface.
+     */
+    public synchronized DeterministicDomainClock advance(final Duration duration) {
+        current = current.plus(duration).truncatedTo(ChronoUnit.MICROS);
+        return this;
+    }
+
+    /**
+     * Moves the clock to the given instant.
+     *
+     * @param instant the next instant to be returned.
+     * @return this clock, for a fluent interface.
+     */
+    public synchronized DeterministicDomainClock set(final Instant instant) {
+        current = Objects.requireNonNull(instant, "instant must not be null")
+            .truncatedTo(ChronoUnit.MICROS);
+        return this;
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.josenaldo.codeflix.catalog.domain.utils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Source of the current time for the domain.
+ * <p>
+ * Every timestamp written by the aggregates ({@code createdAt}, {@code updatedAt} and
+ * {@code deletedAt}) comes from the clock held by {@link DomainClocks}, through
+ * {@link InstantUtils#now()}. Three kinds of clock are available:
+ * <ul>
+ *   <li>{@link #system()}: reads the system clock on every call, with microsecond precision. This is
+ *   the default.</li>
+ *   <li>{@link #coarse(Duration)}: returns a cached instant refreshed once per tick by a background
+ *   thread, so reading it costs a volatile read instead of a system call.</li>
+ *   <li>{@link #fixed(Instant)} and {@link #ticking(Instant, Duration)}: deterministic clocks for
+ *   tests.</li>
+ * </ul>
+ * All clocks return instants truncated to microseconds, the precision of the {@code DATETIME(6)}
+ * columns.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface DomainClock {
+
+    /**
+     * Returns the current instant, truncated to microsecond precision.
+     *
+     * @return the current instant according to this clock.
+     */
+    Instant now();
+
+    /**
+     * Returns the high-resolution clock backed by {@link Instant#now()}.
+     *
+     * @return the system clock.
+     */
+    static DomainClock system() {
+        return SystemDomainClock.INSTANCE;
+    }
+
+    /**
+     * Creates a coarse clock that caches the system time and refreshes it once per {@code tick}.
+     * <p>
+     * The returned clock owns a daemon thread and must be closed when it is no longer used.
+     *
+     * @param tick the interval between refreshes; must be positive.
+     * @return a new coarse clock.
+     */
+    static CoarseDomainClock coarse(final Duration tick) {
+        return new CoarseDomainClock(tick);
+    }
+
+    /**
+     * Creates a deterministic clock that always returns the given instant.
+     *
+     * @param instant the instant to be returned.
+     * @return a new fixed clock.
+     */
+    static DeterministicDomainClock fixed(final Instant instant) {
+        return new DeterministicDomainClock(instant, Duration.ZERO);
+    }
+
+    /**
+     * Creates a deterministic clock that starts at the given instant and advances by {@code step}
+     * after every call, so consecutive timestamps are strictly increasing.
+     *
+     * @param start the first instant to be returned.
+     * @param step  how much the clock advances after each call; must not be negative.
+     * @return a new ticking clock.
+     */
+    static DeterministicDomainClock ticking(final Instant start, final Duration step) {
+        return new DeterministicDomainClock(start, step);
+    }
+
+    /**
+     * The default, high-resolution clock.
+     */
+    final class SystemDomainClock implements DomainClock {
+
+        private static final SystemDomainClock INSTANCE = new SystemDomainClock();
+
+        private SystemDomainClock() {
+        }
+
+        @Override
+        public Instant now() {
+            return Instant.now().truncatedTo(ChronoUnit.MICROS);
+        }
+    }
+}
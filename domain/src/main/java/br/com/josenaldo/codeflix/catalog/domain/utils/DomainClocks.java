@@ -0,0 +1,115 @@
+package br.com.josenaldo.codeflix.catalog.domain.utils;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Holds the {@link DomainClock} used by the domain and manages batch time scopes.
+ * <p>
+ * The clock in use is the {@linkplain DomainClock#system() system clock} unless it is replaced
+ * with {@link #use(DomainClock)}, for instance by tests that need deterministic timestamps.
+ * <p>
+ * A {@linkplain #batch() batch scope} pins the current instant for the calling thread: until the
+ * scope is closed, every timestamp created on that thread is the same instant, read once when the
+ * scope was opened. Bulk use cases open a scope per batch or request, so the whole batch shares
+ * consistent {@code createdAt}/{@code updatedAt} values and the clock is read only once.
+ * <p>
+ * The class is final and has a private constructor to prevent instantiation.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class DomainClocks {
+
+    private static final ThreadLocal<Instant> PINNED = new ThreadLocal<>();
+
+    private static volatile DomainClock clock = DomainClock.system();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private DomainClocks() {
+    }
+
+    /**
+     * Returns the current instant: the instant pinned by an open batch scope on this thread, if
+     * any, or the time of the clock in use.
+     *
+     * @return the current instant, truncated to microsecond precision.
+     */
+    public static Instant now() {
+        final Instant pinned = PINNED.get();
+        return pinned != null ? pinned : clock.now();
+    }
+
+    /**
+     * Returns the clock in use.
+     *
+     * @return the current clock.
+     */
+    public static DomainClock current() {
+        return clock;
+    }
+
+    /**
+     * Replaces the clock used by the domain.
+     *
+     * @param aClock the clock to be used from now on.
+     * @throws NullPointerException if {@code aClock} is {@code null}.
+     */
+    public static void use(final DomainClock aClock) {
+        clock = Objects.requireNonNull(aClock, "clock must not be null");
+    }
+
+    /**
+     * Restores the system clock.
+     */
+    public static void reset() {
+        clock = DomainClock.system();
+    }
+
+    /**
+     * Opens a batch scope on the calling thread, pinning the current instant until the scope is
+     * closed. Scopes can be nested; an inner scope keeps the instant of the outer one.
+     *
+     * @return the scope, to be closed with try-with-resources.
+     */
+    public static BatchScope batch() {
+        final Instant previous = PINNED.get();
+        PINNED.set(previous != null ? previous : clock.now());
+        return new BatchScope(previous);
+    }
+
+    /**
+     * A batch time scope opened by {@link #batch()}.
+     */
+    public static final class BatchScope implements AutoCloseable {
+
+        private final Instant previous;
+
+        private BatchScope(final Instant previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * Returns the instant pinned by this scope.
+         *
+         * @return the instant shared by every timestamp created inside the scope.
+         */
+        public Instant instant() {
+            return PINNED.get();
+        }
+
+        /**
+         * Closes the scope, restoring the state of the enclosing scope, if any.
+         */
+        @Override
+        public void close() {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+}
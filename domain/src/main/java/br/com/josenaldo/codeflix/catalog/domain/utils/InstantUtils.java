@@ -1,7 +1,6 @@
 package br.com.josenaldo.codeflix.catalog.domain.utils;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 
 /**
  * Provides utility methods for working with {@link Instant} objects.
@@ -44,10 +43,13 @@ public final class InstantUtils {
      * This method ensures that the returned {@link Instant} has no more precision than
      * microseconds, discarding any nanoseconds. This is particularly useful for systems
      * requiring consistent timestamp precision, such as when storing or comparing time values.
+     * <p>
+     * The instant comes from the {@link DomainClock} held by {@link DomainClocks}, or from the
+     * batch scope open on the calling thread.
      *
      * @return The current {@link Instant} truncated to microsecond precision.
      */
     public static Instant now() {
-        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+        return DomainClocks.now();
     }
 }
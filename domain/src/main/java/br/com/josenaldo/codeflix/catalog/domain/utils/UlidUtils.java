@@ -0,0 +1,193 @@
+package br.com.josenaldo.codeflix.catalog.domain.utils;
+
+import java.util.Arrays;
+
+/**
+ * Utility class for decoding and encoding ULIDs (Universally Unique Lexicographically Sortable
+ * Identifiers) without intermediate objects.
+ * <p>
+ * A ULID is a 128-bit value written as 26 Crockford Base32 characters. This class converts between
+ * that textual form and the two {@code long} halves held by
+ * {@link br.com.josenaldo.codeflix.catalog.domain.UlidIdentifier}, working directly on the
+ * characters of the input string. The canonical form used across the application is the lowercase
+ * one, so the hot path - checking and decoding an already canonical string - allocates nothing and
+ * lets callers reuse the given string as is.
+ * <p>
+ * Besides the 32 symbols of the alphabet in both cases, decoding accepts the Crockford aliases
+ * {@code I}, {@code L} (for {@code 1}) and {@code O} (for {@code 0}), like the {@code ulid-creator}
+ * library does. Such inputs are never canonical, so they are always re-encoded.
+ * <p>
+ * The class is final and has a private constructor to prevent instantiation.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class UlidUtils {
+
+    /**
+     * Number of characters of the textual form of a ULID.
+     */
+    public static final int ULID_LENGTH = 26;
+
+    /**
+     * The lowercase Crockford Base32 alphabet, indexed by the 5-bit value of each symbol.
+     */
+    private static final char[] ALPHABET = "0123456789abcdefghjkmnpqrstvwxyz".toCharArray();
+
+    /**
+     * Lookup table from an ASCII character to its 5-bit value, or {@code -1} if the character is
+     * not a valid symbol.
+     */
+    private static final byte[] VALUES = new byte[128];
+
+    /**
+     * Lookup table telling whether an ASCII character belongs to the canonical lowercase alphabet.
+     */
+    private static final boolean[] CANONICAL = new boolean[128];
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            final char symbol = ALPHABET[i];
+            VALUES[symbol] = (byte) i;
+            VALUES[Character.toUpperCase(symbol)] = (byte) i;
+            CANONICAL[symbol] = true;
+        }
+        VALUES['i'] = VALUES['I'] = 1;
+        VALUES['l'] = VALUES['L'] = 1;
+        VALUES['o'] = VALUES['O'] = 0;
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private UlidUtils() {
+    }
+
+    /**
+     * Checks whether the given string is a ULID in canonical form: 26 characters of the lowercase
+     * Crockford alphabet whose value fits in 128 bits.
+     * <p>
+     * This method does not allocate.
+     *
+     * @param value the string to be checked; may be {@code null}.
+     * @return {@code true} if {@code value} is a canonical ULID; {@code false} otherwise.
+     */
+    public static boolean isCanonical(final String value) {
+        if (value == null || value.length() != ULID_LENGTH || value.charAt(0) > '7') {
+            return false;
+        }
+        for (int i = 0; i < ULID_LENGTH; i++) {
+            final char c = value.charAt(i);
+            if (c >= 128 || !CANONICAL[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the given string can be decoded as a ULID, in any case.
+     *
+     * @param value the string to be checked; may be {@code null}.
+     * @return {@code true} if {@code value} is a valid ULID; {@code false} otherwise.
+     */
+    public static boolean isValid(final String value) {
+        if (value == null || value.length() != ULID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < ULID_LENGTH; i++) {
+            final char c = value.charAt(i);
+            if (c >= 128 || VALUES[c] < 0) {
+                return false;
+            }
+        }
+        return VALUES[value.charAt(0)] <= 7;
+    }
+
+    /**
+     * Decodes the most significant 64 bits of a ULID.
+     * <p>
+     * The input is expected to have been checked with {@link #isValid(String)} or
+     * {@link #isCanonical(String)}, or to come from a trusted source such as our own database.
+     *
+     * @param value a valid ULID string.
+     * @return the most significant 64 bits of the ULID.
+     */
+    public static long mostSignificantBits(final String value) {
+        // Characters 0..12 hold 3 + 12 * 5 = 63 bits, plus the top bit of character 13.
+        long bits = 0;
+        for (int i = 0; i < 13; i++) {
+            bits = (bits << 5) | VALUES[value.charAt(i)];
+        }
+        return (bits << 1) | (VALUES[value.charAt(13)] >>> 4);
+    }
+
+    /**
+     * Decodes the least significant 64 bits of a ULID.
+     * <p>
+     * The input is expected to have been checked with {@link #isValid(String)} or
+     * {@link #isCanonical(String)}, or to come from a trusted source such as our own database.
+     *
+     * @param value a valid ULID string.
+     * @return the least significant 64 bits of the ULID.
+     */
+    public static long leastSignificantBits(final String value) {
+        // The low 4 bits of character 13 followed by characters 14..25 (12 * 5 = 60 bits).
+        long bits = VALUES[value.charAt(13)] & 0x0F;
+        for (int i = 14; i < ULID_LENGTH; i++) {
+            bits = (bits << 5) | VALUES[value.charAt(i)];
+        }
+        return bits;
+    }
+
+    /**
+     * Encodes the two halves of a ULID into its canonical lowercase textual form.
+     *
+     * @param mostSignificantBits  the most significant 64 bits of the ULID.
+     * @param leastSignificantBits the least significant 64 bits of the ULID.
+     * @return the 26-character lowercase ULID string.
+     */
+    public static String toString(final long mostSignificantBits, final long leastSignificantBits) {
+        final char[] chars = new char[ULID_LENGTH];
+        long hi = mostSignificantBits;
+        long lo = leastSignificantBits;
+        for (int i = ULID_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (lo & 0x1F)];
+            lo = (lo >>> 5) | (hi << 59);
+            hi >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Converts the two halves of a ULID into its 16-byte, big-endian binary form.
+     *
+     * @param mostSignificantBits  the most significant 64 bits of the ULID.
+     * @param leastSignificantBits the least significant 64 bits of the ULID.
+     * @return a new array with the 16 bytes of the ULID.
+     */
+    public static byte[] toBytes(final long mostSignificantBits, final long leastSignificantBits) {
+        final byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (mostSignificantBits >>> (56 - 8 * i));
+            bytes[8 + i] = (byte) (leastSignificantBits >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads 8 big-endian bytes of the given array as a {@code long}.
+     *
+     * @param bytes  the array to be read.
+     * @param offset the index of the first byte.
+     * @return the {@code long} formed by the 8 bytes starting at {@code offset}.
+     */
+    public static long readLong(final byte[] bytes, final int offset) {
+        long bits = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            bits = (bits << 8) | (bytes[i] & 0xFF);
+        }
+        return bits;
+    }
+}
@@ -6,12 +6,23 @@ package br.com.josenaldo.codeflix.catalog.domain.validation;
  * This class provides a common foundation for all validator implementations by encapsulating a
  * {@link ValidationHandler} to collect and manage validation errors. Subclasses must implement the
  * {@link #validate()} method to perform specific validation logic.
+ * <p>
+ * Validators evaluate their rules into an {@code int} bitmask, where each bit is a rule id and
+ * {@link #VALID} means that every rule passed. Each rule id maps to a shared, precomputed
+ * {@link Error} constant, so the happy path allocates nothing and errors are only handed to the
+ * {@link ValidationHandler} when at least one rule fails (see {@link #report(int, Error[],
+ * ValidationHandler)}).
  *
  * @author Josenaldo de Oliveira Matos Filho
  * @version 1.0
  */
 public abstract class Validator {
 
+    /**
+     * The bitmask of violations of a state that passes every rule.
+     */
+    public static final int VALID = 0;
+
     /**
      * The handler used to collect validation errors.
      */
@@ -41,4 +52,47 @@ public abstract class Validator {
      * Subclasses must override this method to implement domain-specific validation rules.
      */
     public abstract void validate();
+
+    /**
+     * Appends to the given handler the error of each rule whose bit is set in {@code violations}.
+     * <p>
+     * Rules are reported in ascending bit order, and nothing is done when {@code violations} is
+     * {@link #VALID}.
+     *
+     * @param violations        the bitmask of the failed rules.
+     * @param errors            the shared error of each rule, indexed by the position of its bit.
+     * @param validationHandler the handler to which the errors are appended.
+     */
+    protected static void report(
+        final int violations,
+        final Error[] errors,
+        final ValidationHandler validationHandler
+    ) {
+        int remaining = violations;
+        while (remaining != VALID) {
+            final int rule = Integer.numberOfTrailingZeros(remaining);
+            validationHandler.append(errors[rule]);
+            remaining &= remaining - 1;
+        }
+    }
+
+    /**
+     * Returns the length the given string would have after {@link String#trim()}, without creating
+     * the trimmed copy.
+     *
+     * @param value the string to be measured; must not be {@code null}.
+     * @return the length of {@code value} without leading and trailing characters up to
+     * {@code U+0020}.
+     */
+    protected static int trimmedLength(final String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end - start;
+    }
 }
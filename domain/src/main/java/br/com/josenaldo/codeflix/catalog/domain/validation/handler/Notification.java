@@ -4,6 +4,7 @@ import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
 import br.com.josenaldo.codeflix.catalog.domain.validation.Error;
 import br.com.josenaldo.codeflix.catalog.domain.validation.ValidationHandler;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -14,6 +15,9 @@ import java.util.List;
  * validation handler, executing validation logic, and checking whether any errors have been
  * collected. It is useful in scenarios where validation errors need to be aggregated and processed
  * after validation is complete.
+ * <p>
+ * The list of errors is only allocated when the first error is appended, so a notification that
+ * ends up empty - the common case - costs a single small object.
  *
  * @author Josenaldo de Oliveira Matos Filho
  * @version 1.0
@@ -21,17 +25,15 @@ import java.util.List;
 public class Notification implements ValidationHandler {
 
     /**
-     * The list that holds the collected validation errors.
+     * The list that holds the collected validation errors, or {@code null} while no error has been
+     * appended.
      */
-    private final List<Error> errors;
+    private List<Error> errors;
 
     /**
-     * Private constructor to initialize the {@code Notification} with a given list of errors.
-     *
-     * @param errors the list of errors used to initialize the notification.
+     * Private constructor to initialize an empty {@code Notification}.
      */
-    private Notification(final List<Error> errors) {
-        this.errors = errors;
+    private Notification() {
     }
 
     /**
@@ -40,7 +42,7 @@ public class Notification implements ValidationHandler {
      * @return a new {@code Notification} instance with no errors.
      */
     public static Notification create() {
-        return new Notification(new ArrayList<>());
+        return new Notification();
     }
 
     /**
@@ -50,7 +52,7 @@ public class Notification implements ValidationHandler {
      * @return a new {@code Notification} instance containing the specified error.
      */
     public static Notification create(final Error error) {
-        return new Notification(new ArrayList<>()).append(error);
+        return new Notification().append(error);
     }
 
     /**
@@ -72,7 +74,7 @@ public class Notification implements ValidationHandler {
      */
     @Override
     public Notification append(final Error error) {
-        this.errors.add(error);
+        this.errors().add(error);
         return this;
     }
 
@@ -87,7 +89,10 @@ public class Notification implements ValidationHandler {
      */
     @Override
     public Notification append(final ValidationHandler validationHandler) {
-        this.errors.addAll(validationHandler.getErrors());
+        final List<Error> others = validationHandler.getErrors();
+        if (!others.isEmpty()) {
+            this.errors().addAll(others);
+        }
         return this;
     }
 
@@ -104,9 +109,9 @@ public class Notification implements ValidationHandler {
         try {
             return validation.validate();
         } catch (final DomainException e) {
-            this.errors.addAll(e.getErrors());
+            this.errors().addAll(e.getErrors());
         } catch (final Exception e) {
-            this.errors.add(new Error(e.getMessage()));
+            this.errors().add(new Error(e.getMessage()));
         }
         return null;
     }
@@ -118,16 +123,29 @@ public class Notification implements ValidationHandler {
      */
     @Override
     public boolean hasErrors() {
-        return !this.errors.isEmpty();
+        return this.errors != null && !this.errors.isEmpty();
     }
 
     /**
      * Retrieves the list of errors collected in the notification.
      *
-     * @return a list of {@link Error} objects representing the validation errors.
+     * @return a list of {@link Error} objects representing the validation errors; an immutable
+     * empty list while no error has been appended.
      */
     @Override
     public List<Error> getErrors() {
+        return this.errors != null ? this.errors : Collections.emptyList();
+    }
+
+    /**
+     * Returns the list of errors, allocating it on first use.
+     *
+     * @return the mutable list of collected errors.
+     */
+    private List<Error> errors() {
+        if (this.errors == null) {
+            this.errors = new ArrayList<>();
+        }
         return this.errors;
     }
 }
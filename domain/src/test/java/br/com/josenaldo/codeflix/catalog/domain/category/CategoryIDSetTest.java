@@ -0,0 +1,172 @@
+package br.com.josenaldo.codeflix.catalog.domain.category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CategoryIDSetTest {
+
+    /**
+     * Tests that a set created from unsorted identifiers with duplicates holds each identifier
+     * once, in ULID order.
+     */
+    @Test
+    void givenUnsortedIdsWithDuplicates_whenFrom_thenReturnsSortedDistinctSet() {
+        // Arrange - Given
+        final var first = CategoryID.fromString("01arz3ndektsv4rrffq69g5fav");
+        final var second = CategoryID.fromString("01bx5zzkbkactav9wevgemmvrz");
+        final var third = CategoryID.fromString("7zzzzzzzzzzzzzzzzzzzzzzzzz");
+        final var input = Arrays.asList(third, first, null, second, first, third);
+
+        // Act - When
+        final var actualSet = CategoryIDSet.from(input);
+
+        // Assert - Then
+        assertThat(actualSet.size()).isEqualTo(3);
+        assertThat(actualSet.asList()).containsExactly(first, second, third);
+        assertThat(actualSet.contains(second)).isTrue();
+        assertThat(actualSet.contains(CategoryID.unique())).isFalse();
+        assertThat(actualSet.contains(null)).isFalse();
+    }
+
+    /**
+     * Tests that adding an identifier already in the set returns the same instance, and adding a
+     * new one returns a new set, leaving the original untouched.
+     */
+    @Test
+    void givenASet_whenWith_thenReturnsNewSetOnlyWhenChanged() {
+        // Arrange - Given
+        final var existing = CategoryID.unique();
+        final var added = CategoryID.unique();
+        final var aSet = CategoryIDSet.of(existing);
+
+        // Act - When
+        final var unchanged = aSet.with(existing);
+        final var changed = aSet.with(added);
+
+        // Assert - Then
+        assertThat(unchanged).isSameAs(aSet);
+        assertThat(changed).isNotSameAs(aSet);
+        assertThat(changed.asList()).containsExactly(existing, added);
+        assertThat(aSet.asList()).containsExactly(existing);
+    }
+
+    /**
+     * Tests that removing an identifier returns a set without it, and removing an absent one
+     * returns the same instance.
+     */
+    @Test
+    void givenASet_whenWithout_thenRemovesOnlyPresentIds() {
+        // Arrange - Given
+        final var first = CategoryID.unique();
+        final var second = CategoryID.unique();
+        final var aSet = CategoryIDSet.of(first, second);
+
+        // Act - When
+        final var actualSet = aSet.without(first);
+        final var unchanged = aSet.without(CategoryID.unique());
+
+        // Assert - Then
+        assertThat(actualSet.asList()).containsExactly(second);
+        assertThat(unchanged).isSameAs(aSet);
+        assertThat(actualSet.without(second)).isSameAs(CategoryIDSet.empty());
+    }
+
+    /**
+     * Tests the union and difference of two overlapping sets, as used to diff stored and requested
+     * genre associations.
+     */
+    @Test
+    void givenTwoOverlappingSets_whenUnionAndDifference_thenReturnsExpectedIds() {
+        // Arrange - Given
+        final var kept = CategoryID.unique();
+        final var removed = CategoryID.unique();
+        final var added = CategoryID.unique();
+        final var stored = CategoryIDSet.of(kept, removed);
+        final var requested = CategoryIDSet.of(kept, added);
+
+        // Act - When
+        final var toInsert = requested.difference(stored);
+        final var toDelete = stored.difference(requested);
+        final var all = stored.union(requested);
+
+        // Assert - Then
+        assertThat(toInsert.asList()).containsExactly(added);
+        assertThat(toDelete.asList()).containsExactly(removed);
+        assertThat(all.asList()).containsExactly(kept, removed, added);
+        assertThat(stored.difference(stored)).isSameAs(CategoryIDSet.empty());
+        assertThat(stored.union(CategoryIDSet.of(kept))).isSameAs(stored);
+    }
+
+    /**
+     * Tests that the list view honors the {@link List} equality contract and cannot be modified.
+     */
+    @Test
+    void givenASet_whenAsList_thenReturnsEqualUnmodifiableView() {
+        // Arrange - Given
+        final var first = CategoryID.unique();
+        final var second = CategoryID.unique();
+        final var aSet = CategoryIDSet.of(first, second);
+
+        // Act - When
+        final var actualList = aSet.asList();
+
+        // Assert - Then
+        assertThat(actualList).isEqualTo(List.of(first, second));
+        assertThat(actualList.hashCode()).isEqualTo(List.of(first, second).hashCode());
+        assertThat(actualList).isEqualTo(new ArrayList<>(actualList));
+        assertThat(aSet.asList()).isSameAs(actualList);
+        assertThat(CategoryIDSet.from(actualList)).isSameAs(aSet);
+        assertThat(catchException(() -> actualList.add(CategoryID.unique())))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    /**
+     * Tests that replacing the contents with the same identifiers keeps the instance, while
+     * different identifiers produce a new set.
+     */
+    @Test
+    void givenASet_whenReplace_thenReusesInstanceOnlyForSameIds() {
+        // Arrange - Given
+        final var first = CategoryID.unique();
+        final var second = CategoryID.unique();
+        final var aSet = CategoryIDSet.of(first, second);
+
+        // Act - When
+        final var sameInOrder = aSet.replace(List.of(first, second));
+        final var sameOutOfOrder = aSet.replace(List.of(second, first, second));
+        final var different = aSet.replace(List.of(first));
+
+        // Assert - Then
+        assertThat(sameInOrder).isSameAs(aSet);
+        assertThat(sameOutOfOrder).isSameAs(aSet);
+        assertThat(different.asList()).containsExactly(first);
+        assertThat(aSet.replace(null)).isSameAs(CategoryIDSet.empty());
+        assertThat(aSet.withAll(List.of(second))).isSameAs(aSet);
+    }
+
+    /**
+     * Tests that every read of a position returns the identifier materialized by the first one,
+     * whether through the set or through its view.
+     */
+    @Test
+    void givenASet_whenReadsTwice_thenReturnsTheSameInstances() {
+        // Arrange - Given
+        final var first = CategoryID.unique();
+        final var second = CategoryID.unique();
+        final var aSet = CategoryIDSet.of(second, first);
+
+        // Act - When
+        final var firstRead = new ArrayList<>(aSet.asList());
+        final var secondRead = List.of(aSet.get(0), aSet.get(1));
+
+        // Assert - Then
+        assertThat(firstRead).containsExactly(first, second);
+        assertThat(secondRead.get(0)).isSameAs(firstRead.get(0));
+        assertThat(secondRead.get(1)).isSameAs(firstRead.get(1));
+    }
+}
@@ -118,4 +118,95 @@ class CategoryIDTest {
             .isInstanceOf(NullPointerException.class)
             .hasMessageContaining("must not be null");
     }
+
+    /**
+     * Tests that a CategoryID converted to its 16-byte representation and back keeps the same
+     * value, bits and equality.
+     */
+    @Test
+    void givenCategoryID_whenConvertedToBytesAndBack_thenReturnsEqualCategoryID() {
+        // Arrange - Given
+        final var expectedId = CategoryID.fromString("01ARYZ6S41TSV4RRFFQ69G5FAV");
+
+        // Act - When
+        final var bytes = expectedId.toBytes();
+        final var actualId = CategoryID.fromBytes(bytes);
+
+        // Assert - Then
+        assertThat(bytes).hasSize(16).isEqualTo(Ulid.from("01ARYZ6S41TSV4RRFFQ69G5FAV").toBytes());
+        assertThat(actualId).isEqualTo(expectedId).hasSameHashCodeAs(expectedId);
+        assertThat(actualId.getValue()).isEqualTo("01aryz6s41tsv4rrffq69g5fav");
+        assertThat(actualId.getMostSignificantBits()).isEqualTo(expectedId.getMostSignificantBits());
+        assertThat(actualId.getLeastSignificantBits())
+            .isEqualTo(expectedId.getLeastSignificantBits());
+    }
+
+    /**
+     * Tests that a CategoryID created from its two halves exposes the canonical lowercase value.
+     */
+    @Test
+    void givenMostAndLeastSignificantBits_whenFromBits_thenReturnsCategoryIDWithTextualValue() {
+        // Arrange - Given
+        final var ulid = Ulid.from("01ARYZ6S41TSV4RRFFQ69G5FAV");
+
+        // Act - When
+        final var actualId = CategoryID.fromBits(
+            ulid.getMostSignificantBits(),
+            ulid.getLeastSignificantBits()
+        );
+
+        // Assert - Then
+        assertThat(actualId.getValue()).isEqualTo("01aryz6s41tsv4rrffq69g5fav");
+        assertThat(actualId).isEqualTo(CategoryID.fromString("01aryz6s41tsv4rrffq69g5fav"));
+    }
+
+    /**
+     * Tests that fromBytes() rejects arrays that do not have exactly 16 bytes.
+     */
+    @Test
+    void givenInvalidByteArray_whenFromBytes_thenThrowsDomainException() {
+        // Arrange - Given
+        final var invalidBytes = new byte[10];
+
+        // Act - When
+        final var exception = catchException(() -> CategoryID.fromBytes(invalidBytes));
+
+        // Assert - Then
+        assertThat(exception)
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("16 bytes");
+    }
+
+    /**
+     * Tests that fromString() keeps the given canonical string as the identifier value instead of
+     * re-encoding it.
+     */
+    @Test
+    void givenCanonicalULIDString_whenFromString_thenKeepsTheSameStringInstance() {
+        // Arrange - Given
+        final var canonicalValue = CategoryID.unique().getValue();
+
+        // Act - When
+        final var actualId = CategoryID.fromString(canonicalValue);
+
+        // Assert - Then
+        assertThat(actualId.getValue()).isSameAs(canonicalValue);
+    }
+
+    /**
+     * Tests that fromTrustedString() builds the same identifier as the validated path.
+     */
+    @Test
+    void givenCanonicalULIDString_whenFromTrustedString_thenEqualsValidatedCategoryID() {
+        // Arrange - Given
+        final var canonicalValue = "01aryz6s41tsv4rrffq69g5fav";
+
+        // Act - When
+        final var actualId = CategoryID.fromTrustedString(canonicalValue);
+
+        // Assert - Then
+        assertThat(actualId)
+            .isEqualTo(CategoryID.fromString(canonicalValue.toUpperCase()))
+            .hasToString(canonicalValue);
+    }
 }
@@ -6,6 +6,8 @@ import static org.assertj.core.api.Assertions.catchException;
 
 import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
 import br.com.josenaldo.codeflix.catalog.domain.validation.Error;
+import br.com.josenaldo.codeflix.catalog.domain.validation.Validator;
+import br.com.josenaldo.codeflix.catalog.domain.validation.handler.Notification;
 import br.com.josenaldo.codeflix.catalog.domain.validation.handler.ThrowsValidationHandler;
 import java.time.Instant;
 import java.util.List;
@@ -317,4 +319,32 @@ class CategoryTest {
         assertThat(errors).hasSize(1);
         assertThat(errors.getFirst().message()).isEqualTo(expectedMessage);
     }
+
+    @Test
+    void givenNames_whenCallsCheck_thenReturnsRuleIdOfTheFailedRule() {
+        // Arrange - Given
+        final var longName = "a".repeat(CategoryValidator.NAME_MAX_LENGTH + 1);
+
+        // Act - When - Assert - Then
+        assertThat(CategoryValidator.check("Filmes")).isEqualTo(Validator.VALID);
+        assertThat(CategoryValidator.check("  Filmes  ")).isEqualTo(Validator.VALID);
+        assertThat(CategoryValidator.check(null)).isEqualTo(CategoryValidator.NULL_NAME_RULE);
+        assertThat(CategoryValidator.check("   ")).isEqualTo(CategoryValidator.EMPTY_NAME_RULE);
+        assertThat(CategoryValidator.check(" Fi ")).isEqualTo(CategoryValidator.NAME_LENGTH_RULE);
+        assertThat(CategoryValidator.check(longName)).isEqualTo(CategoryValidator.NAME_LENGTH_RULE);
+    }
+
+    @Test
+    void givenAnInvalidNullName_whenCallsValidate_thenReportsSharedErrorConstant() {
+        // Arrange - Given
+        final var aCategory = Category.newCategory(null, "A categoria mais assistida", true);
+        final var notification = Notification.create();
+
+        // Act - When
+        aCategory.validate(notification);
+
+        // Assert - Then
+        assertThat(notification.getErrors()).hasSize(1);
+        assertThat(notification.getErrors().getFirst()).isSameAs(CategoryValidator.NULL_NAME);
+    }
 }
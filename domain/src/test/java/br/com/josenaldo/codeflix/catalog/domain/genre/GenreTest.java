@@ -639,6 +639,80 @@ public class GenreTest {
             .hasSize(expectedCategoriesCount)
             .containsAll(expectedCategories);
     }
-}
 
+    @Test
+    void givenDuplicatedCategories_whenCallsNewGenreAndAddCategory_thenKeepsEachCategoryOnce() {
+        // Arrange - Given
+        final CategoryID seriesID = CategoryID.unique();
+        final CategoryID moviesID = CategoryID.unique();
+        final var expectedCategories = List.of(seriesID, moviesID);
+
+        // Act - When
+        final var actualGenre = Genre.newGenre(
+            "Ação",
+            true,
+            List.of(seriesID, moviesID, seriesID)
+        );
+        actualGenre.addCategory(moviesID);
+        actualGenre.addCategories(List.of(seriesID, moviesID));
+
+        // Assert - Then
+        assertThat(actualGenre.getCategories()).isEqualTo(expectedCategories);
+        assertThat(actualGenre.hasCategory(seriesID)).isTrue();
+        assertThat(actualGenre.hasCategory(CategoryID.unique())).isFalse();
+    }
+
+    @Test
+    void givenAGenre_whenCategoriesChange_thenPreviousSnapshotIsUnchanged() {
+        // Arrange - Given
+        final CategoryID seriesID = CategoryID.unique();
+        final CategoryID moviesID = CategoryID.unique();
+        final var actualGenre = Genre.newGenre("Ação", true, List.of(seriesID));
+        final var snapshot = actualGenre.getCategories();
+
+        // Act - When
+        actualGenre.addCategory(moviesID);
+        actualGenre.removeCategory(seriesID);
+
+        // Assert - Then
+        assertThat(snapshot).containsExactly(seriesID);
+        assertThat(actualGenre.getCategories()).containsExactly(moviesID);
+    }
+
+    @Test
+    void givenAGenre_whenCallsWithAndClone_thenCopiesShareCategories() {
+        // Arrange - Given
+        final var aGenre = Genre.newGenre(
+            "Ação",
+            true,
+            List.of(CategoryID.unique(), CategoryID.unique())
+        );
+
+        // Act - When
+        final var aCopy = Genre.with(aGenre);
+        final var aClone = aGenre.clone();
+        aClone.addCategory(CategoryID.unique());
+
+        // Assert - Then
+        assertThat(aCopy.getCategoryIDSet()).isSameAs(aGenre.getCategoryIDSet());
+        assertThat(aCopy.getCategories()).isSameAs(aGenre.getCategories());
+        assertThat(aClone.getCategories()).hasSize(3);
+        assertThat(aGenre.getCategories()).hasSize(2);
+    }
+
+    @Test
+    void givenAGenre_whenCallsUpdateWithSameCategories_thenKeepsCategorySet() {
+        // Arrange - Given
+        final CategoryID seriesID = CategoryID.unique();
+        final CategoryID moviesID = CategoryID.unique();
+        final var aGenre = Genre.newGenre("acao", true, List.of(seriesID, moviesID));
+        final var expectedCategorySet = aGenre.getCategoryIDSet();
 
+        // Act - When
+        aGenre.update("Ação", true, List.of(seriesID, moviesID));
+
+        // Assert - Then
+        assertThat(aGenre.getName()).isEqualTo("Ação");
+        assertThat(aGenre.getCategoryIDSet()).isSameAs(expectedCategorySet);
+    }
+}
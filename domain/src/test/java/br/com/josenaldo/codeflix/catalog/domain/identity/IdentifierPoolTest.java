@@ -0,0 +1,91 @@
+package br.com.josenaldo.codeflix.catalog.domain.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.josenaldo.codeflix.catalog.domain.UlidIdentifier;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class IdentifierPoolTest {
+
+    @Test
+    void givenSameBits_whenInterned_thenCreatesOnlyOneInstance() {
+        // Arrange - Given
+        final var created = new AtomicInteger();
+        final var pool = new IdentifierPool<TestID>((msb, lsb, value) -> {
+            created.incrementAndGet();
+            return new TestID(msb, lsb, value);
+        });
+
+        // Act - When
+        final var first = pool.intern(1L, 2L, null);
+        final var second = pool.intern(1L, 2L, null);
+        final var other = pool.intern(1L, 3L, null);
+
+        // Assert - Then
+        assertThat(first).isSameAs(second).isNotEqualTo(other);
+        assertThat(created).hasValue(2);
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    void givenTheSameCanonicalString_whenFromStringIsCalledTwice_thenSharesInstanceAndValue() {
+        // Arrange - Given
+        final var value = CategoryID.unique().getValue();
+
+        // Act - When
+        final var first = CategoryID.fromString(new String(value.toCharArray()));
+        final var second = CategoryID.fromString(new String(value.toCharArray()));
+
+        // Assert - Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.getValue()).isSameAs(second.getValue());
+    }
+
+    @Test
+    void givenManyThreadsInterningTheSameIds_whenInterned_thenEveryThreadSeesOneInstancePerId()
+        throws Exception {
+        // Arrange - Given
+        final var ids = new ArrayList<CategoryID>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(CategoryID.unique());
+        }
+        final Callable<List<CategoryID>> task = () -> ids.stream()
+            .map(id -> CategoryID.fromBits(
+                id.getMostSignificantBits(),
+                id.getLeastSignificantBits()
+            ))
+            .toList();
+
+        // Act - When
+        final List<List<CategoryID>> results = new ArrayList<>();
+        try (final var executor = Executors.newFixedThreadPool(8)) {
+            final var futures = executor.invokeAll(Collections.nCopies(8, task));
+            for (final var future : futures) {
+                results.add(future.get());
+            }
+        }
+
+        // Assert - Then
+        for (int i = 0; i < ids.size(); i++) {
+            final var expected = results.getFirst().get(i);
+            assertThat(expected).isEqualTo(ids.get(i));
+            for (final var result : results) {
+                assertThat(result.get(i)).isSameAs(expected);
+            }
+        }
+    }
+
+    private static final class TestID extends UlidIdentifier {
+
+        private TestID(final long msb, final long lsb, final String value) {
+            super(msb, lsb, value);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.josenaldo.codeflix.catalog.domain.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.f4b6a3.ulid.Ulid;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class ThreadLocalMonotonicUlidGeneratorTest {
+
+    private final UlidGenerator generator = new ThreadLocalMonotonicUlidGenerator();
+
+    @Test
+    void givenASingleThread_whenGeneratesManyUlids_thenTheyAreStrictlyIncreasing() {
+        // Arrange - Given
+        final var count = 10_000;
+
+        // Act - When
+        final List<Ulid> ulids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ulids.add(generator.generate());
+        }
+
+        // Assert - Then
+        for (int i = 1; i < count; i++) {
+            assertThat(ulids.get(i)).isGreaterThan(ulids.get(i - 1));
+            assertThat(ulids.get(i).toLowerCase()).isGreaterThan(ulids.get(i - 1).toLowerCase());
+        }
+    }
+
+    @Test
+    void givenManyThreads_whenGenerateConcurrently_thenEveryUlidIsUniqueAndOrderedPerThread()
+        throws Exception {
+        // Arrange - Given
+        final var threads = 8;
+        final var perThread = 5_000;
+        final Callable<List<Ulid>> task = () -> {
+            final List<Ulid> ulids = new ArrayList<>(perThread);
+            for (int i = 0; i < perThread; i++) {
+                ulids.add(generator.generate());
+            }
+            return ulids;
+        };
+
+        // Act - When
+        final List<List<Ulid>> results = new ArrayList<>();
+        try (final var executor = Executors.newFixedThreadPool(threads)) {
+            for (final var future : executor.invokeAll(Collections.nCopies(threads, task))) {
+                results.add(future.get());
+            }
+        }
+
+        // Assert - Then
+        final var unique = new HashSet<Ulid>();
+        for (final var ulids : results) {
+            assertThat(ulids).isSorted();
+            unique.addAll(ulids);
+        }
+        assertThat(unique).hasSize(threads * perThread);
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.josenaldo.codeflix.catalog.domain.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+
+import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Test;
+
+class CursorTest {
+
+    /**
+     * Tests that a cursor survives an encode/decode round trip, including a {@code null} key and
+     * keys with characters that are not URL-safe.
+     */
+    @Test
+    void givenACursor_whenEncodeAndDecode_thenReturnsAnEqualCursor() {
+        // Arrange - Given
+        final var withKey = Cursor.of("name", "ASC", "Ação & Aventura/?", "01arz3ndektsv4rrffq69g5fav");
+        final var withoutKey = Cursor.of("description", "desc", null, "01arz3ndektsv4rrffq69g5fav");
+
+        // Act - When
+        final var withKeyToken = withKey.encode();
+        final var withoutKeyToken = withoutKey.encode();
+
+        // Assert - Then
+        assertThat(withKeyToken).matches("[A-Za-z0-9_-]+");
+        assertThat(Cursor.decode(withKeyToken)).isEqualTo(withKey);
+        assertThat(Cursor.decode(withoutKeyToken)).isEqualTo(withoutKey);
+        assertThat(withKey.direction()).isEqualTo("asc");
+        assertThat(withKey.isAscending()).isTrue();
+        assertThat(withoutKey.isAscending()).isFalse();
+    }
+
+    /**
+     * Tests that tokens that were not produced by {@link Cursor#encode()}, or whose identifier is not
+     * a ULID, are rejected with a domain error.
+     */
+    @Test
+    void givenAnInvalidToken_whenDecode_thenThrowsDomainException() {
+        // Arrange - Given
+        final var valid = Cursor.of("name", "asc", "Ação", "01arz3ndektsv4rrffq69g5fav").encode();
+
+        // Act - When
+        final var notBase64 = catchException(() -> Cursor.decode("not a cursor!"));
+        final var truncated = catchException(() -> Cursor.decode(valid.substring(0, 6)));
+        final var trailing = catchException(() -> Cursor.decode(valid + "AAAA"));
+        final var forgedId = catchException(
+            () -> Cursor.decode(Cursor.of("name", "asc", "Ação", "' OR 1=1 --").encode())
+        );
+
+        // Assert - Then
+        assertThat(notBase64)
+            .isInstanceOf(DomainException.class)
+            .hasMessage(Cursor.INVALID_CURSOR.message());
+        assertThat(truncated).isInstanceOf(DomainException.class);
+        assertThat(trailing).isInstanceOf(DomainException.class);
+        assertThat(forgedId).isInstanceOf(DomainException.class);
+    }
+
+    /**
+     * Tests that a search query only accepts cursors issued for its own sort attribute and
+     * direction.
+     */
+    @Test
+    void givenASearchQueryWithCursor_whenAfter_thenChecksTheSortOrder() {
+        // Arrange - Given
+        final var token = Cursor.of("name", "asc", "Ação", "01arz3ndektsv4rrffq69g5fav").encode();
+        final var sameOrder = SearchQuery.of(0, 10, null, "name", "ASC").withCursor(token);
+        final var otherOrder = SearchQuery.of(0, 10, null, "name", "desc").withCursor(token);
+
+        // Act - When
+        final var actualCursor = sameOrder.after();
+        final var actualException = catchException(otherOrder::after);
+
+        // Assert - Then
+        assertThat(actualCursor).contains(Cursor.decode(token));
+        assertThat(SearchQuery.empty().after()).isEmpty();
+        assertThat(SearchQuery.of(0, 10, null, "name", "asc").withCursor(" ").cursor()).isNull();
+        assertThat(actualException)
+            .isInstanceOf(DomainException.class)
+            .hasMessage(Cursor.INVALID_CURSOR.message());
+    }
+}
@@ -544,4 +544,26 @@ class PaginationTest {
         assertThat(pagination.hasNextPage()).isTrue();
         assertThat(pagination.isFirstPage()).isTrue();
     }
+
+    /**
+     * Tests that a pagination is exact by default, and that flagging its total as approximate is
+     * kept when the data is mapped or a cursor is set.
+     */
+    @Test
+    void givenApproximateTotal_whenMapAndWithNextCursor_thenShouldKeepFlag() {
+        // Arrange - Given
+        final var pagination = Pagination.fromPage(0, 2, 10, List.of("a", "b"));
+
+        // Act - When
+        final var approximate = pagination.withExactTotal(false);
+        final var actualPagination = approximate.map(String::toUpperCase).withNextCursor("next");
+
+        // Assert - Then
+        assertThat(pagination.exactTotal()).isTrue();
+        assertThat(approximate.exactTotal()).isFalse();
+        assertThat(actualPagination.exactTotal()).isFalse();
+        assertThat(actualPagination.total()).isEqualTo(10);
+        assertThat(actualPagination.data()).containsExactly("A", "B");
+        assertThat(actualPagination.nextCursor()).isEqualTo("next");
+    }
 }
@@ -0,0 +1,77 @@
+package br.com.josenaldo.codeflix.catalog.domain.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SliceTest {
+
+    /**
+     * Tests that a slice built from a lookahead result with one extra row drops that row and
+     * reports a next page.
+     */
+    @Test
+    void givenOneRowMoreThanPerPage_whenCallsFromLookahead_thenTrimsDataAndHasNext() {
+        // Arrange - Given
+        final int page = 1;
+        final int perPage = 3;
+        final List<String> fetched = List.of("3", "4", "5", "6");
+
+        // Act - When
+        final var slice = Slice.fromLookahead(page, perPage, fetched);
+
+        // Assert - Then
+        assertThat(fetched).hasSize(Slice.lookaheadLimit(perPage));
+        assertThat(slice.page()).isEqualTo(page);
+        assertThat(slice.perPage()).isEqualTo(perPage);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.data()).containsExactly("3", "4", "5");
+        assertThat(slice.itemsCount()).isEqualTo(3);
+        assertThat(slice.offset()).isEqualTo(3L);
+    }
+
+    /**
+     * Tests that a slice built from a lookahead result with at most {@code perPage} rows keeps all
+     * of them and reports no next page.
+     */
+    @Test
+    void givenAtMostPerPageRows_whenCallsFromLookahead_thenKeepsDataAndHasNoNext() {
+        // Arrange - Given
+        final List<String> fetched = List.of("6", "7");
+
+        // Act - When
+        final var slice = Slice.fromLookahead(2, 3, fetched);
+        final var mapped = slice.map(Integer::valueOf);
+
+        // Assert - Then
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.data()).containsExactly("6", "7");
+        assertThat(mapped.data()).containsExactly(6, 7);
+        assertThat(mapped.hasNext()).isFalse();
+        assertThat(mapped.page()).isEqualTo(2);
+    }
+
+    /**
+     * Tests that invalid page, perPage or data values are rejected.
+     */
+    @Test
+    void givenInvalidAttributes_whenCallsFromPage_thenThrowsException() {
+        // Act - When
+        final var negativePage = catchException(() -> Slice.fromPage(-1, 10, false, List.of()));
+        final var zeroPerPage = catchException(() -> Slice.fromPage(0, 0, false, List.of()));
+        final var nullData = catchException(() -> Slice.fromPage(0, 10, false, null));
+
+        // Assert - Then
+        assertThat(negativePage)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Page number must be equal or greater than 0.");
+        assertThat(zeroPerPage)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Items per page must be greater than 0.");
+        assertThat(nullData)
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("Data cannot be null.");
+    }
+}
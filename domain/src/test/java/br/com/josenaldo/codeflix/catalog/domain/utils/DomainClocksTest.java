@@ -0,0 +1,87 @@
+package br.com.josenaldo.codeflix.catalog.domain.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DomainClocksTest {
+
+    @AfterEach
+    void tearDown() {
+        DomainClocks.reset();
+    }
+
+    @Test
+    void givenATickingClock_whenCreatesAndDeactivatesACategory_thenEachOperationUsesOneInstant() {
+        // Arrange - Given
+        final var start = Instant.parse("2025-01-01T00:00:00Z");
+        DomainClocks.use(DomainClock.ticking(start, Duration.ofSeconds(1)));
+
+        // Act - When
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        category.update("Filmes", "A categoria mais assistida", false);
+
+        // Assert - Then
+        assertThat(category.getCreatedAt()).isEqualTo(start);
+        assertThat(category.getUpdatedAt()).isEqualTo(start.plusSeconds(1));
+        assertThat(category.getDeletedAt()).isEqualTo(category.getUpdatedAt());
+    }
+
+    @Test
+    void givenABatchScope_whenReadsTheClockSeveralTimes_thenReturnsThePinnedInstant() {
+        // Arrange - Given
+        final var start = Instant.parse("2025-01-01T00:00:00Z");
+        DomainClocks.use(DomainClock.ticking(start, Duration.ofMillis(1)));
+
+        // Act - When
+        final Instant first;
+        final Instant second;
+        final Instant nested;
+        final Instant pinned;
+        try (final var scope = DomainClocks.batch()) {
+            pinned = scope.instant();
+            first = InstantUtils.now();
+            try (final var ignored = DomainClocks.batch()) {
+                nested = InstantUtils.now();
+            }
+            second = InstantUtils.now();
+        }
+        final var afterScope = InstantUtils.now();
+
+        // Assert - Then
+        assertThat(first).isEqualTo(pinned).isEqualTo(second).isEqualTo(nested);
+        assertThat(afterScope).isAfter(pinned);
+    }
+
+    @Test
+    void givenACoarseClock_whenReadsTheClock_thenReturnsACachedInstantTruncatedToMicros() {
+        // Arrange - Given
+        try (final var clock = DomainClock.coarse(Duration.ofHours(1))) {
+
+            // Act - When
+            final var first = clock.now();
+            final var second = clock.now();
+
+            // Assert - Then
+            assertThat(first).isSameAs(second);
+            assertThat(first.getNano() % 1_000).isZero();
+        }
+    }
+
+    @Test
+    void givenTheSystemClock_whenReadsTheClock_thenReturnsInstantsTruncatedToMicros() {
+        // Arrange - Given
+        final var clock = DomainClock.system();
+
+        // Act - When
+        final var actual = clock.now();
+
+        // Assert - Then
+        assertThat(actual.getNano() % 1_000).isZero();
+        assertThat(DomainClocks.current()).isSameAs(clock);
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.josenaldo.codeflix.catalog.domain.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.f4b6a3.ulid.Ulid;
+import com.github.f4b6a3.ulid.UlidCreator;
+import org.junit.jupiter.api.Test;
+
+class UlidUtilsTest {
+
+    @Test
+    void givenGeneratedUlids_whenDecodedAndEncoded_thenMatchTheLibrary() {
+        // Arrange - Given
+        for (int i = 0; i < 1_000; i++) {
+            final Ulid expectedUlid = UlidCreator.getUlid();
+            final var value = expectedUlid.toLowerCase();
+
+            // Act - When
+            final var actualMostSignificantBits = UlidUtils.mostSignificantBits(value);
+            final var actualLeastSignificantBits = UlidUtils.leastSignificantBits(value);
+            final var actualValue = UlidUtils.toString(
+                actualMostSignificantBits,
+                actualLeastSignificantBits
+            );
+
+            // Assert - Then
+            assertThat(actualMostSignificantBits).isEqualTo(expectedUlid.getMostSignificantBits());
+            assertThat(actualLeastSignificantBits)
+                .isEqualTo(expectedUlid.getLeastSignificantBits());
+            assertThat(actualValue).isEqualTo(value);
+            assertThat(UlidUtils.toBytes(actualMostSignificantBits, actualLeastSignificantBits))
+                .isEqualTo(expectedUlid.toBytes());
+        }
+    }
+
+    @Test
+    void givenCanonicalAndNonCanonicalUlids_whenIsCanonical_thenOnlyLowercaseIsAccepted() {
+        // Arrange - Given
+        final var canonical = "01aryz6s41tsv4rrffq69g5fav";
+
+        // Act - When
+
+        // Assert - Then
+        assertThat(UlidUtils.isCanonical(canonical)).isTrue();
+        assertThat(UlidUtils.isCanonical(canonical.toUpperCase())).isFalse();
+        assertThat(UlidUtils.isCanonical("01aryz6s41tsv4rrffq69g5fa")).isFalse();
+        assertThat(UlidUtils.isCanonical("81aryz6s41tsv4rrffq69g5fav")).isFalse();
+        assertThat(UlidUtils.isCanonical(null)).isFalse();
+    }
+
+    @Test
+    void givenUppercaseAndAliasedUlids_whenIsValid_thenTheyAreAccepted() {
+        // Arrange - Given
+        final var uppercase = "01ARYZ6S41TSV4RRFFQ69G5FAV";
+        final var aliased = "OIARYZ6S4LTSV4RRFFQ69G5FAV";
+
+        // Act - When
+
+        // Assert - Then
+        assertThat(UlidUtils.isValid(uppercase)).isTrue();
+        assertThat(UlidUtils.isValid(aliased)).isTrue();
+        assertThat(UlidUtils.mostSignificantBits(aliased))
+            .isEqualTo(UlidUtils.mostSignificantBits("01aryz6s41tsv4rrffq69g5fav"));
+        assertThat(UlidUtils.isValid("invalid-id")).isFalse();
+        assertThat(UlidUtils.isValid("01aryz6s41tsv4rrffq69g5fa!")).isFalse();
+        assertThat(UlidUtils.isValid("8zzzzzzzzzzzzzzzzzzzzzzzzz")).isFalse();
+    }
+
+    @Test
+    void givenBinaryUlid_whenReadLong_thenReturnsBothHalves() {
+        // Arrange - Given
+        final var expectedUlid = Ulid.from("01aryz6s41tsv4rrffq69g5fav");
+        final var bytes = expectedUlid.toBytes();
+
+        // Act - When
+        final var actualMostSignificantBits = UlidUtils.readLong(bytes, 0);
+        final var actualLeastSignificantBits = UlidUtils.readLong(bytes, 8);
+
+        // Assert - Then
+        assertThat(actualMostSignificantBits).isEqualTo(expectedUlid.getMostSignificantBits());
+        assertThat(actualLeastSignificantBits).isEqualTo(expectedUlid.getLeastSignificantBits());
+    }
+}
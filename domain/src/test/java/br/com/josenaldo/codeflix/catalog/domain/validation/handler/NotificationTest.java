@@ -172,4 +172,20 @@ class NotificationTest {
         assertThat(initiallyHasErrors).isFalse();
         assertThat(notification.hasErrors()).isTrue();
     }
+
+    /**
+     * Tests that appending an empty handler keeps the Notification without errors.
+     */
+    @Test
+    void givenEmptyHandler_whenAppendValidationHandler_thenNotificationStaysEmpty() {
+        // Arrange - Given
+        Notification notification = Notification.create();
+
+        // Act - When
+        notification.append(Notification.create());
+
+        // Assert - Then
+        assertThat(notification.hasErrors()).isFalse();
+        assertThat(notification.getErrors()).isEmpty();
+    }
 }
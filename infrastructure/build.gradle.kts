@@ -16,6 +16,7 @@ plugins {
     alias(libs.plugins.spring.boot.plugin)
     alias(libs.plugins.spring.dependency.management.plugin)
     alias(libs.plugins.liquibase.plugin)
+    alias(libs.plugins.jmh.plugin)
 }
 
 group = "br.com.josenaldo.codeflix.infrastructure"
@@ -39,6 +40,9 @@ dependencies {
     }
     implementation(libs.spring.boot.starter.undertow)
     implementation(libs.spring.boot.starter.data.jpa)
+    implementation(libs.hibernate.jcache)
+    implementation(libs.caffeine)
+    implementation(libs.caffeine.jcache)
     implementation(libs.spring.boot.starter.validation)
     implementation(libs.h2)
     implementation(libs.liquibase.core)
@@ -57,6 +61,8 @@ dependencies {
     liquibaseRuntime(libs.picocli)
     liquibaseRuntime(libs.spring.boot.starter.data.jpa)
     liquibaseRuntime(libs.liquibase.core)
+    liquibaseRuntime(libs.ulid)
+    liquibaseRuntime(sourceSets.main.get().output)
 }
 
 val changelogFile = "src/main/resources/config/liquibase/master.yaml"
@@ -81,6 +87,13 @@ liquibase {
     }
 }
 
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+}
+
 tasks {
     bootJar {
         archiveFileName.set("application.jar")
@@ -0,0 +1,137 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.genre.Genre;
+import br.com.josenaldo.codeflix.catalog.domain.genre.GenreGateway;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.CategoryJdbcGateway;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.CategoryMySQLGateway;
+import br.com.josenaldo.codeflix.catalog.infrastructure.configuration.WebServerConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares the JPA adapters ({@link CategoryMySQLGateway} and its genre counterpart) with the
+ * plain-JDBC ones ({@link CategoryJdbcGateway} and its genre counterpart) on the same operations:
+ * reading a category by identifier, reading a page of {@value #PAGE_SIZE} categories, reading a
+ * counted page of genres with {@value #CATEGORIES_PER_GENRE} categories each, and writing
+ * {@value #PAGE_SIZE} categories in one batch.
+ * <p>
+ * The {@code adapter} parameter starts the application with the {@code test-integration} profile
+ * alone, or together with the {@code jdbc} profile, on the in-memory H2 database seeded with
+ * {@value #CATEGORY_COUNT} categories and {@value #GENRE_COUNT} genres. Both throughput and the
+ * latency percentiles are reported. Run with {@code ./gradlew :infrastructure:jmh}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GatewayAdapterBenchmark {
+
+    private static final int CATEGORY_COUNT = 1_000;
+
+    private static final int GENRE_COUNT = 200;
+
+    private static final int CATEGORIES_PER_GENRE = 10;
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final SearchQuery CATEGORY_QUERY =
+        SearchQuery.of(0, PAGE_SIZE, null, "name", "asc");
+
+    private static final SearchQuery GENRE_QUERY =
+        SearchQuery.of(1, 20, "genre", "createdAt", "asc");
+
+    @Param({"jpa", "jdbc"})
+    public String adapter;
+
+    private ConfigurableApplicationContext context;
+
+    private CategoryGateway categoryGateway;
+
+    private GenreGateway genreGateway;
+
+    private List<CategoryID> categoryIds;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        final String[] profiles = "jdbc".equals(adapter)
+            ? new String[] {"test-integration", "jdbc"}
+            : new String[] {"test-integration"};
+
+        context = new SpringApplicationBuilder(WebServerConfig.class)
+            .profiles(profiles)
+            .web(WebApplicationType.NONE)
+            .run();
+        categoryGateway = context.getBean(CategoryGateway.class);
+        genreGateway = context.getBean(GenreGateway.class);
+
+        final List<Category> categories = new ArrayList<>(CATEGORY_COUNT);
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            categories.add(Category.newCategory("Category " + i, "Description " + i, true));
+        }
+        categoryGateway.createAll(categories);
+        categoryIds = categories.stream().map(Category::getId).toList();
+
+        for (int i = 0; i < GENRE_COUNT; i++) {
+            final int from = (i * CATEGORIES_PER_GENRE) % CATEGORY_COUNT;
+            genreGateway.create(
+                Genre.newGenre("Genre " + i, true)
+                     .addCategories(categoryIds.subList(from, from + CATEGORIES_PER_GENRE))
+            );
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Category> findCategoryById() {
+        next = (next + 1) % CATEGORY_COUNT;
+        return categoryGateway.findById(categoryIds.get(next));
+    }
+
+    @Benchmark
+    public Slice<Category> findCategorySlice() {
+        return categoryGateway.findSlice(CATEGORY_QUERY);
+    }
+
+    @Benchmark
+    public Pagination<Genre> findAllGenres() {
+        return genreGateway.findAll(GENRE_QUERY);
+    }
+
+    @Benchmark
+    public List<Category> createCategories() {
+        final List<Category> categories = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            categories.add(Category.newCategory("New category " + i, null, true));
+        }
+        return categoryGateway.createAll(categories);
+    }
+}
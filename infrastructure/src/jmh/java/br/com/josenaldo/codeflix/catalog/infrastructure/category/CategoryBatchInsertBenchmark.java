@@ -0,0 +1,94 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryRepository;
+import br.com.josenaldo.codeflix.catalog.infrastructure.configuration.WebServerConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures the throughput, in categories per second, of writing {@value #CATEGORY_COUNT}
+ * categories through {@link CategoryMySQLGateway#createAll(List)} with several JDBC batch sizes,
+ * against the baseline of one {@link CategoryMySQLGateway#create(Category)} call (and one
+ * transaction) per category.
+ * <p>
+ * The application runs on the in-memory H2 database of the {@code test-integration} profile, so
+ * the numbers show the cost saved by batching and by the single transaction, not the network round
+ * trips a MySQL server would also save. Run with {@code ./gradlew :infrastructure:jmh}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CategoryBatchInsertBenchmark {
+
+    private static final int CATEGORY_COUNT = 1_000;
+
+    @Param({"1", "50", "500"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+
+    private CategoryMySQLGateway gateway;
+
+    private CategoryRepository repository;
+
+    private List<Category> categories;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(WebServerConfig.class)
+            .profiles("test-integration")
+            .web(WebApplicationType.NONE)
+            .properties("database.batch-size=" + batchSize)
+            .run();
+        gateway = context.getBean(CategoryMySQLGateway.class);
+        repository = context.getBean(CategoryRepository.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareCategories() {
+        repository.deleteAllInBatch();
+        categories = new ArrayList<>(CATEGORY_COUNT);
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            categories.add(Category.newCategory("Category " + i, "Description " + i, true));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CATEGORY_COUNT)
+    public List<Category> createAll() {
+        return gateway.createAll(categories);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CATEGORY_COUNT)
+    public int createOneByOne() {
+        for (final Category category : categories) {
+            gateway.create(category);
+        }
+        return categories.size();
+    }
+}
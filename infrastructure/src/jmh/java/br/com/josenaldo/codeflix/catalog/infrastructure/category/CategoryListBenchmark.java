@@ -0,0 +1,100 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.josenaldo.codeflix.catalog.infrastructure.configuration.WebServerConfig;
+import br.com.josenaldo.codeflix.catalog.infrastructure.utils.SliceQueryUtils;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Measures the cost of reading a page of {@value #PAGE_SIZE} categories through
+ * {@link CategoryMySQLGateway#findSlice(SearchQuery)}, which selects read-only projections in a
+ * read-only transaction, against the baseline of loading the same page as managed
+ * {@link CategoryJpaEntity} instances in a read-write transaction.
+ * <p>
+ * The application runs on the in-memory H2 database of the {@code test-integration} profile, with
+ * {@value #CATEGORY_COUNT} categories carrying long descriptions. Run with
+ * {@code ./gradlew :infrastructure:jmh}; the {@code gc.alloc.rate.norm} column of the gc profiler
+ * shows the bytes allocated per page, and the sample mode the latency percentiles.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryListBenchmark {
+
+    private static final int CATEGORY_COUNT = 1_000;
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final SearchQuery QUERY = SearchQuery.of(0, PAGE_SIZE, null, "name", "asc");
+
+    private ConfigurableApplicationContext context;
+
+    private CategoryMySQLGateway gateway;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(WebServerConfig.class)
+            .profiles("test-integration")
+            .web(WebApplicationType.NONE)
+            .run();
+        gateway = context.getBean(CategoryMySQLGateway.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(
+            context.getBean(PlatformTransactionManager.class)
+        );
+
+        final List<Category> categories = new ArrayList<>(CATEGORY_COUNT);
+        final String description = "Description ".repeat(300);
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            categories.add(Category.newCategory("Category " + i, description, true));
+        }
+        gateway.createAll(categories);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<Category> managedEntities() {
+        return transactionTemplate.execute(status -> SliceQueryUtils.findSlice(
+            entityManager,
+            CategoryJpaEntity.class,
+            null,
+            QUERY
+        ).map(CategoryJpaEntity::to));
+    }
+
+    @Benchmark
+    public Slice<Category> readOnlyProjections() {
+        return gateway.findSlice(QUERY);
+    }
+}
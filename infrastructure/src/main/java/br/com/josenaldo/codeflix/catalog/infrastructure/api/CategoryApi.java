@@ -1,10 +1,12 @@
 package br.com.josenaldo.codeflix.catalog.infrastructure.api;
 
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.models.CategoryListResponse;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.models.CategoryResponse;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.models.CreateCategoryRequest;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.models.UpdateCategoryRequest;
+import java.util.List;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -36,6 +38,19 @@ public interface CategoryApi {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+        value = "batch",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories at once")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Categories processed; see the result of each item"),
+        @ApiResponse(responseCode = "422", description = "A invalid request was sent"),
+        @ApiResponse(responseCode = "500", description = "An unexpected server error occurred")
+    })
+    ResponseEntity<?> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "List all categories with pagination")
     @ApiResponses(value = {
@@ -48,7 +63,24 @@ public interface CategoryApi {
         @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
         @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
         @RequestParam(name = "sortField", required = false, defaultValue = "name") final String sortField,
-        @RequestParam(name = "sortOrder", required = false, defaultValue = "ASC") final String sortOrder
+        @RequestParam(name = "sortOrder", required = false, defaultValue = "ASC") final String sortOrder,
+        @RequestParam(name = "cursor", required = false) final String cursor
+    );
+
+    @GetMapping(value = "slice", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List categories page by page, without counting them")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Categories listed successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid parameter was sent"),
+        @ApiResponse(responseCode = "500", description = "An unexpected server error occurred")
+    })
+    Slice<CategoryListResponse> listCategorySlice(
+        @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+        @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+        @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+        @RequestParam(name = "sortField", required = false, defaultValue = "name") final String sortField,
+        @RequestParam(name = "sortOrder", required = false, defaultValue = "ASC") final String sortOrder,
+        @RequestParam(name = "cursor", required = false) final String cursor
     );
 
     @GetMapping(
@@ -0,0 +1,32 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.api;
+
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.existence.CategoryIdFilterStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@RequestMapping(value = "admin/category-id-filter")
+@Tag(name = "Category ID filter")
+public interface CategoryIdFilterApi {
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the size and false positive rates of the category ID filter")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+        @ApiResponse(responseCode = "500", description = "An unexpected server error occurred")
+    })
+    CategoryIdFilterStats getStats();
+
+    @PostMapping(value = "rebuild", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Rebuild the category ID filter from the database")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Filter rebuilt successfully"),
+        @ApiResponse(responseCode = "500", description = "An unexpected server error occurred")
+    })
+    CategoryIdFilterStats rebuild();
+}
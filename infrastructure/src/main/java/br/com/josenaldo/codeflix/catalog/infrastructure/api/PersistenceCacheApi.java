@@ -0,0 +1,24 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.api;
+
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CacheRegionStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@RequestMapping(value = "admin/persistence-cache")
+@Tag(name = "Persistence cache")
+public interface PersistenceCacheApi {
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the hits, misses and puts of every second-level cache region")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+        @ApiResponse(responseCode = "500", description = "An unexpected server error occurred")
+    })
+    List<CacheRegionStats> getStats();
+}
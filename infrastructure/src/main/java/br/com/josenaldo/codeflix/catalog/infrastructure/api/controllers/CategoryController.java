@@ -1,5 +1,7 @@
 package br.com.josenaldo.codeflix.catalog.infrastructure.api.controllers;
 
+import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoriesCommand;
+import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoriesUseCase;
 import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoryCommand;
 import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoryOutput;
 import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoryUseCase;
@@ -11,9 +13,11 @@ import br.com.josenaldo.codeflix.catalog.application.category.retrieve.list.List
 import br.com.josenaldo.codeflix.catalog.application.category.update.UpdateCategoryCommand;
 import br.com.josenaldo.codeflix.catalog.application.category.update.UpdateCategoryOutput;
 import br.com.josenaldo.codeflix.catalog.application.category.update.UpdateCategoryUseCase;
+import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
 import br.com.josenaldo.codeflix.catalog.domain.exceptions.NotFoundException;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
 import br.com.josenaldo.codeflix.catalog.domain.validation.handler.Notification;
 import br.com.josenaldo.codeflix.catalog.infrastructure.api.CategoryApi;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.models.CategoryListResponse;
@@ -23,8 +27,10 @@ import br.com.josenaldo.codeflix.catalog.infrastructure.category.models.UpdateCa
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.presenters.CategoryApiPresenter;
 import jakarta.validation.Valid;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -37,8 +43,10 @@ import org.springframework.web.bind.annotation.RestController;
  * allowing clients to:
  * <ul>
  *   <li>Create a category</li>
+ *   <li>Create many categories at once</li>
  *   <li>Retrieve details of a specific category by ID</li>
  *   <li>List categories with support for pagination, searching, and sorting</li>
+ *   <li>List categories page by page, without counting them</li>
  *   <li>Update an existing category</li>
  *   <li>Delete a category</li>
  * </ul>
@@ -57,6 +65,8 @@ public class CategoryController implements CategoryApi {
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoryUseCase listCategoryUseCase;
+    private final CreateCategoriesUseCase createCategoriesUseCase;
+    private final int maxBatchSize;
 
     /**
      * Initializes a new instance of the {@code CategoryController} class.
@@ -74,6 +84,10 @@ public class CategoryController implements CategoryApi {
      *                                {@code null}.
      * @param aListCategoryUseCase    The use case for listing categories with search and pagination
      *                                functionality. Must not be {@code null}.
+     * @param aCreateCategoriesUseCase The use case for creating many categories at once. Must not
+     *                                 be {@code null}.
+     * @param aMaxBatchSize            The maximum number of categories of a single bulk creation
+     *                                 request, from {@code api.categories.max-batch-size}.
      * @throws NullPointerException If any of the provided use cases is {@code null}.
      */
     public CategoryController(
@@ -81,13 +95,17 @@ public class CategoryController implements CategoryApi {
         final GetCategoryByIdUseCase aGetCategoryByIdUseCase,
         final UpdateCategoryUseCase anUpdateCategoryUseCase,
         final DeleteCategoryUseCase aDeleteCategoryUseCase,
-        final ListCategoryUseCase aListCategoryUseCase
+        final ListCategoryUseCase aListCategoryUseCase,
+        final CreateCategoriesUseCase aCreateCategoriesUseCase,
+        @Value("${api.categories.max-batch-size:1000}") final int aMaxBatchSize
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(aCreateCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(aGetCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(anUpdateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(aDeleteCategoryUseCase);
         this.listCategoryUseCase = Objects.requireNonNull(aListCategoryUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(aCreateCategoriesUseCase);
+        this.maxBatchSize = aMaxBatchSize;
     }
 
     /**
@@ -128,6 +146,48 @@ public class CategoryController implements CategoryApi {
         );
     }
 
+    /**
+     * Creates many categories at once, based on the provided list of input data.
+     * <p>
+     * Every item is validated on its own, and the valid ones are created together, in a single
+     * transaction written with JDBC batches. The response always has one result per item, in
+     * request order, with either the identifier of the created category or the errors of the
+     * item, so a client can retry just the items that failed. A {@code null} item is reported as a
+     * failed item.
+     * <p>
+     * A request holds at most {@code api.categories.max-batch-size} items, so a single request
+     * cannot build, validate and insert an unbounded transaction.
+     *
+     * @param input The data of each category to be created. Must not be {@code null} or empty.
+     * @return A {@link ResponseEntity} with the number of created and failed categories and the
+     * result of each item.
+     * @throws DomainException If {@code input} is {@code null}, empty or larger than the maximum
+     *                         batch size.
+     */
+    @Override
+    public ResponseEntity<?> createCategories(final List<CreateCategoryRequest> input) {
+        if (input == null || input.isEmpty()) {
+            throw DomainException.with(CreateCategoriesCommand.EMPTY_CATEGORIES);
+        }
+        if (input.size() > this.maxBatchSize) {
+            throw DomainException.with(CreateCategoriesCommand.tooManyCategories(this.maxBatchSize));
+        }
+
+        final var aCommand = CreateCategoriesCommand.with(
+            input.stream()
+                 .map(item -> item == null ? null : CreateCategoryCommand.with(
+                     item.name(),
+                     item.description(),
+                     item.isActive()
+                 ))
+                 .toList()
+        );
+
+        return ResponseEntity.ok(
+            CategoryApiPresenter.present(this.createCategoriesUseCase.execute(aCommand))
+        );
+    }
+
     /**
      * Retrieves the details of a specific category using its unique identifier.
      * <p>
@@ -153,6 +213,11 @@ public class CategoryController implements CategoryApi {
      * filtered using a search term, sorted by specific fields, and ordered in ascending or
      * descending order. Pagination is controlled through the {@code page} and {@code perPage}
      * parameters, while sorting is determined by {@code sortField} and {@code sortOrder}.
+     * <p>
+     * Every response carries a {@code next_cursor} token when there is a next page. Sending it
+     * back as {@code cursor}, with the same sorting parameters, fetches the items after the last
+     * one of the previous response at the same cost for any page, instead of skipping
+     * {@code page * perPage} rows.
      *
      * @param search    A search term used to filter categories by name, description, or other
      *                  searchable attributes. Can be {@code null} or empty to list all categories.
@@ -163,6 +228,8 @@ public class CategoryController implements CategoryApi {
      *                  be {@code null}.
      * @param sortOrder The sort order, either {@code ASC} for ascending or {@code DESC} for
      *                  descending. Must not be {@code null}.
+     * @param cursor    The {@code next_cursor} token of a previous response, or {@code null} to
+     *                  start from {@code page}.
      * @return A {@link Pagination} object containing a list of categories and pagination details,
      * such as total count, current page, and total pages.
      */
@@ -172,13 +239,48 @@ public class CategoryController implements CategoryApi {
         final int page,
         final int perPage,
         final String sortField,
-        final String sortOrder
+        final String sortOrder,
+        final String cursor
     ) {
-        Pagination<CategoryListOutput> pagination = listCategoryUseCase
-            .execute(new SearchQuery(page, perPage, search, sortField, sortOrder));
+        final Pagination<CategoryListOutput> pagination = listCategoryUseCase.execute(
+            new SearchQuery(page, perPage, search, sortField, sortOrder).withCursor(cursor)
+        );
         return pagination.map(CategoryApiPresenter::present);
     }
 
+    /**
+     * Lists categories like {@link #listCategories}, without the total number of categories.
+     * <p>
+     * The response is a {@link Slice}, which replaces the total with a {@code has_next} flag and
+     * is computed without a {@code COUNT(*)} query. It also carries a {@code next_cursor} token
+     * when there is a next page.
+     *
+     * @param search    A search term used to filter categories by name, description, or other
+     *                  searchable attributes. Can be {@code null} or empty to list all categories.
+     * @param page      The page number to retrieve. Must be greater than or equal to 0.
+     * @param perPage   The number of categories to include per page. Must be greater than 0.
+     * @param sortField The field by which to sort the categories. Must not be {@code null}.
+     * @param sortOrder The sort order, either {@code ASC} or {@code DESC}. Must not be
+     *                  {@code null}.
+     * @param cursor    The {@code next_cursor} token of a previous response, or {@code null} to
+     *                  start from {@code page}.
+     * @return A {@link Slice} with the categories of the page and whether there is a next one.
+     */
+    @Override
+    public Slice<CategoryListResponse> listCategorySlice(
+        final String search,
+        final int page,
+        final int perPage,
+        final String sortField,
+        final String sortOrder,
+        final String cursor
+    ) {
+        final Slice<CategoryListOutput> slice = listCategoryUseCase.executeSlice(
+            new SearchQuery(page, perPage, search, sortField, sortOrder, false, cursor)
+        );
+        return slice.map(CategoryApiPresenter::present);
+    }
+
     /**
      * Updates a category identified by the given ID using the data provided in the input. This
      * method processes the update operation and returns an appropriate HTTP response.
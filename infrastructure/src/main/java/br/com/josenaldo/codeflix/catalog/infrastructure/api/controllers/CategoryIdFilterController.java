@@ -0,0 +1,56 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.api.controllers;
+
+import br.com.josenaldo.codeflix.catalog.infrastructure.api.CategoryIdFilterApi;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.existence.CategoryIdFilter;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.existence.CategoryIdFilterStats;
+import java.util.Objects;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * This controller lets administrators inspect and rebuild the in-memory
+ * {@link CategoryIdFilter}.
+ * <p>
+ * It is only available when the filter is enabled with {@code database.id-filter.enabled}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@RestController
+@ConditionalOnProperty(name = "database.id-filter.enabled", havingValue = "true")
+public class CategoryIdFilterController implements CategoryIdFilterApi {
+
+    private final CategoryIdFilter categoryIdFilter;
+
+    /**
+     * Initializes a new instance of the {@code CategoryIdFilterController} class.
+     *
+     * @param aCategoryIdFilter The category ID filter. Must not be {@code null}.
+     * @throws NullPointerException If {@code aCategoryIdFilter} is {@code null}.
+     */
+    public CategoryIdFilterController(final CategoryIdFilter aCategoryIdFilter) {
+        this.categoryIdFilter = Objects.requireNonNull(aCategoryIdFilter);
+    }
+
+    /**
+     * Returns the number of identifiers and stages of the filter, its memory footprint, and its
+     * expected and observed false positive rates.
+     *
+     * @return the statistics of the filter.
+     */
+    @Override
+    public CategoryIdFilterStats getStats() {
+        return categoryIdFilter.stats();
+    }
+
+    /**
+     * Rebuilds the filter from the database, dropping the identifiers of deleted categories and
+     * trusting the misses of the categories created so far by other application instances.
+     *
+     * @return the statistics of the rebuilt filter.
+     */
+    @Override
+    public CategoryIdFilterStats rebuild() {
+        return categoryIdFilter.rebuild();
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.api.controllers;
+
+import br.com.josenaldo.codeflix.catalog.infrastructure.api.CategorySearchIndexApi;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.search.CategorySearchIndex;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.search.CategorySearchIndexStats;
+import java.util.Objects;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * This controller lets administrators inspect and rebuild the in-memory
+ * {@link CategorySearchIndex}.
+ * <p>
+ * It is only available when the index is enabled with {@code database.search-index.enabled}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@RestController
+@ConditionalOnProperty(name = "database.search-index.enabled", havingValue = "true")
+public class CategorySearchIndexController implements CategorySearchIndexApi {
+
+    private final CategorySearchIndex categorySearchIndex;
+
+    /**
+     * Initializes a new instance of the {@code CategorySearchIndexController} class.
+     *
+     * @param aCategorySearchIndex The category search index. Must not be {@code null}.
+     * @throws NullPointerException If {@code aCategorySearchIndex} is {@code null}.
+     */
+    public CategorySearchIndexController(final CategorySearchIndex aCategorySearchIndex) {
+        this.categorySearchIndex = Objects.requireNonNull(aCategorySearchIndex);
+    }
+
+    /**
+     * Returns the number of documents, trigrams and postings of the index, and its approximate
+     * memory footprint.
+     *
+     * @return the statistics of the index.
+     */
+    @Override
+    public CategorySearchIndexStats getStats() {
+        return categorySearchIndex.stats();
+    }
+
+    /**
+     * Rebuilds the index from the database, dropping its dead documents and picking up the
+     * categories written by other application instances.
+     *
+     * @return the statistics of the rebuilt index.
+     */
+    @Override
+    public CategorySearchIndexStats rebuild() {
+        return categorySearchIndex.rebuild();
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.api.controllers;
+
+import br.com.josenaldo.codeflix.catalog.infrastructure.api.PersistenceCacheApi;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CacheRegionStats;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CacheRegions;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Objects;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * This controller lets administrators inspect how well the Hibernate second-level and query
+ * caches answer the reads of the application.
+ * <p>
+ * It is only available when the caches are enabled, that is, when
+ * {@code database.cache.enabled} is {@code true}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@RestController
+@ConditionalOnProperty(name = "database.cache.enabled", havingValue = "true")
+public class PersistenceCacheController implements PersistenceCacheApi {
+
+    private static final List<String> REGIONS = List.of(
+        CacheRegions.CATEGORIES,
+        CacheRegions.CATEGORY_QUERIES,
+        CacheRegions.GENRES,
+        CacheRegions.GENRE_LINK_SETS,
+        CacheRegions.GENRE_LINKS,
+        CacheRegions.GENRE_QUERIES,
+        CacheRegions.DEFAULT_QUERY_RESULTS,
+        CacheRegions.UPDATE_TIMESTAMPS
+    );
+
+    private final Statistics statistics;
+
+    /**
+     * Initializes a new instance of the {@code PersistenceCacheController} class.
+     *
+     * @param anEntityManagerFactory The entity manager factory of the persistence unit. Must not
+     *                               be {@code null}.
+     * @throws NullPointerException If {@code anEntityManagerFactory} is {@code null}.
+     */
+    public PersistenceCacheController(final EntityManagerFactory anEntityManagerFactory) {
+        this.statistics = Objects.requireNonNull(anEntityManagerFactory)
+                                 .unwrap(SessionFactory.class)
+                                 .getStatistics();
+    }
+
+    /**
+     * Returns the hits, misses and puts of every region since the application started.
+     *
+     * @return the statistics of the regions.
+     */
+    @Override
+    public List<CacheRegionStats> getStats() {
+        return REGIONS.stream()
+                      .map(region -> CacheRegionStats.of(statistics, region))
+                      .toList();
+    }
+}
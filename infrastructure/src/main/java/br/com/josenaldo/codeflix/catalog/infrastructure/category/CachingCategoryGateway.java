@@ -0,0 +1,175 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
+import br.com.josenaldo.codeflix.catalog.infrastructure.utils.GatewayCacheUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Decorates any {@link CategoryGateway} with a read-through cache of the categories read by
+ * identifier.
+ * <p>
+ * The cache sits at the port, so it serves the use cases whatever the adapter behind it, and a hit
+ * returns a copy of the cached aggregate without querying nor mapping any row. It is bounded in
+ * size, evicting with Caffeine's W-TinyLFU policy, and each entry expires a fixed time after it
+ * is loaded, which bounds how long writes made by other instances go unseen.
+ * <p>
+ * {@link #existsByIds(Iterable)} takes the cached categories as existing and only asks the
+ * delegate about the others. Listings are not cached and always reach the delegate.
+ * <p>
+ * Every write evicts the categories it touches right away and again once its transaction
+ * completes, so a read racing with the write cannot keep the old state cached. Absent categories
+ * are never cached. Deleting a category also runs the given deletion listener, which lets caches
+ * of aggregates that reference categories, such as the genres, drop them.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public class CachingCategoryGateway implements CategoryGateway {
+
+    /**
+     * The gateway whose reads are cached.
+     */
+    private final CategoryGateway delegate;
+
+    /**
+     * The cached categories, by identifier. The cached instances are never handed out.
+     */
+    private final Cache<CategoryID, Category> cache;
+
+    /**
+     * The action run after a category is deleted.
+     */
+    private final Runnable onDelete;
+
+    /**
+     * Creates a caching decorator of the given gateway.
+     *
+     * @param delegate    the gateway whose reads are cached.
+     * @param maximumSize the maximum number of cached categories.
+     * @param ttl         how long a category stays cached after being loaded.
+     */
+    public CachingCategoryGateway(
+        final CategoryGateway delegate,
+        final long maximumSize,
+        final Duration ttl
+    ) {
+        this(delegate, maximumSize, ttl, () -> {
+        });
+    }
+
+    /**
+     * Creates a caching decorator of the given gateway that runs the given action after each
+     * category deletion.
+     *
+     * @param delegate    the gateway whose reads are cached.
+     * @param maximumSize the maximum number of cached categories.
+     * @param ttl         how long a category stays cached after being loaded.
+     * @param onDelete    the action run after a category is deleted.
+     */
+    public CachingCategoryGateway(
+        final CategoryGateway delegate,
+        final long maximumSize,
+        final Duration ttl,
+        final Runnable onDelete
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = GatewayCacheUtils.newCache(maximumSize, ttl);
+        this.onDelete = Objects.requireNonNull(onDelete);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final Category created = this.delegate.create(aCategory);
+        GatewayCacheUtils.evict(this.cache, List.of(aCategory.getId()));
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final List<Category> created = this.delegate.createAll(categories);
+        GatewayCacheUtils.evict(this.cache, categories.stream().map(Category::getId).toList());
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.delegate.deleteById(id);
+        GatewayCacheUtils.evict(this.cache, List.of(id));
+        this.onDelete.run();
+    }
+
+    /**
+     * Retrieves the category with the given identifier from the cache, loading it from the
+     * delegate on a miss. Concurrent misses of the same identifier load it once.
+     *
+     * @param id the identifier of the category.
+     * @return a copy of the category, or an empty {@link Optional} if there is none with this
+     * identifier.
+     */
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        final Category cached = this.cache.get(
+            id,
+            key -> this.delegate.findById(key).orElse(null)
+        );
+        return Optional.ofNullable(cached).map(Category::with);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final Category updated = this.delegate.update(aCategory);
+        GatewayCacheUtils.evict(this.cache, List.of(aCategory.getId()));
+        return updated;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aSearchQuery) {
+        return this.delegate.findAll(aSearchQuery);
+    }
+
+    @Override
+    public Slice<Category> findSlice(final SearchQuery aSearchQuery) {
+        return this.delegate.findSlice(aSearchQuery);
+    }
+
+    /**
+     * Retrieves the identifiers, among the given ones, of the stored categories. The cached
+     * categories are taken as stored, and only the other identifiers are sent to the delegate.
+     * {@code null} identifiers are skipped, as the adapters do.
+     *
+     * @param ids the identifiers to check for existence; must not be {@code null}.
+     * @return the identifiers that exist, without duplicates and in no particular order.
+     */
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        final Set<CategoryID> existing = new LinkedHashSet<>();
+        final Set<CategoryID> unknown = new LinkedHashSet<>();
+        for (final CategoryID id : ids) {
+            if (id == null) {
+                continue;
+            }
+            if (this.cache.getIfPresent(id) != null) {
+                existing.add(id);
+            } else {
+                unknown.add(id);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            existing.addAll(this.delegate.existsByIds(unknown));
+        }
+        return new ArrayList<>(existing);
+    }
+}
@@ -0,0 +1,550 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category;
+
+import static br.com.josenaldo.codeflix.catalog.infrastructure.utils.JdbcSliceUtils.getInstant;
+import static br.com.josenaldo.codeflix.catalog.infrastructure.utils.JdbcSliceUtils.toTimestamp;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Cursor;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.existence.CategoryIdFilter;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategorySearchStrategy;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.search.CategorySearchIndex;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CachedRowCount;
+import br.com.josenaldo.codeflix.catalog.infrastructure.utils.JdbcSliceUtils;
+import br.com.josenaldo.codeflix.catalog.infrastructure.utils.JdbcSliceUtils.SortColumn;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implements the {@link CategoryGateway} interface with plain JDBC and hand-written SQL.
+ * <p>
+ * This adapter replaces the {@link CategoryMySQLGateway} when the {@code jdbc} profile is active.
+ * It has no persistence context: rows are mapped straight into {@link Category} objects, writes
+ * are single statements or JDBC batches, and nothing is dirty checked or flushed. Both adapters
+ * read and write the same tables, issue the same cursors and keep the same cached row count,
+ * in-memory search index and identifier filter current, through {@link CategoryWriteHooks}.
+ * <p>
+ * The search terms are matched by the in-memory search index when it is enabled and can answer
+ * them, or else by the SQL fragments of the {@code database.search} strategy, so both adapters
+ * find and rank the same categories.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@Service
+@Profile("jdbc")
+public class CategoryJdbcGateway implements CategoryGateway {
+
+    /**
+     * Maximum number of identifiers sent in a single {@code IN (...)} clause by
+     * {@link #existsByIds(Iterable)}.
+     */
+    public static final int EXISTS_BY_IDS_CHUNK_SIZE =
+        CategoryMySQLGateway.EXISTS_BY_IDS_CHUNK_SIZE;
+
+    /**
+     * The columns of a category, in the order of {@link #INSERT}.
+     */
+    private static final String SELECT = """
+        SELECT id, created_at, updated_at, deleted_at, name, description, active
+        FROM categories""";
+
+    /**
+     * Inserts a category.
+     */
+    private static final String INSERT = """
+        INSERT INTO categories (id, created_at, updated_at, deleted_at, name, description, active)
+        VALUES (?, ?, ?, ?, ?, ?, ?)""";
+
+    /**
+     * Updates the mutable columns of a category.
+     */
+    private static final String UPDATE = """
+        UPDATE categories
+        SET updated_at = ?, deleted_at = ?, name = ?, description = ?, active = ?
+        WHERE id = ?""";
+
+    /**
+     * The columns a listing can be sorted by, by the attribute names clients sort by.
+     */
+    private static final Map<String, SortColumn<Category>> SORT_COLUMNS = Map.of(
+        "id", SortColumn.text("id", category -> category.getId().getValue()),
+        "name", SortColumn.text("name", Category::getName),
+        "description", SortColumn.text("description", Category::getDescription),
+        "active", SortColumn.bool("active", Category::isActive),
+        "createdAt", SortColumn.instant("created_at", Category::getCreatedAt),
+        "updatedAt", SortColumn.instant("updated_at", Category::getUpdatedAt),
+        "deletedAt", SortColumn.instant("deleted_at", Category::getDeletedAt)
+    );
+
+    /**
+     * Maps a row of {@link #SELECT} into a {@link Category}.
+     */
+    private static final RowMapper<Category> ROW_MAPPER = CategoryJdbcGateway::mapRow;
+
+    /**
+     * The template used for the statements with positional parameters and the batches.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The template used for the queries with named and list parameters.
+     */
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * The number of categories written per JDBC batch by {@link #createAll(List)}.
+     */
+    private final int batchSize;
+
+    /**
+     * The strategy used to filter and rank the categories by the search terms.
+     */
+    private final CategorySearchStrategy searchStrategy;
+
+    /**
+     * Keeps the cached row count, the in-memory search index and the identifier filter current
+     * with the writes of this gateway.
+     */
+    private final CategoryWriteHooks hooks;
+
+    /**
+     * Constructs a new {@code CategoryJdbcGateway}.
+     *
+     * @param jdbcTemplate      the template used for positional statements and batches.
+     * @param namedJdbcTemplate the template used for queries with named parameters.
+     * @param batchSize         the number of categories written per JDBC batch; must be greater
+     *                          than 0.
+     * @param searchStrategy    the strategy used to filter and rank the categories by the search
+     *                          terms.
+     * @param searchIndex       the in-memory search index, if it is enabled.
+     * @param idFilter          the filter of the stored category identifiers, if it is enabled.
+     * @param countMaxStaleness how old the cached number of categories may be before unfiltered
+     *                          listings count them again; zero to always count them.
+     */
+    public CategoryJdbcGateway(
+        final JdbcTemplate jdbcTemplate,
+        final NamedParameterJdbcTemplate namedJdbcTemplate,
+        @Value("${database.batch-size:500}") final int batchSize,
+        final CategorySearchStrategy searchStrategy,
+        final Optional<CategorySearchIndex> searchIndex,
+        final Optional<CategoryIdFilter> idFilter,
+        @Value("${database.count-cache.max-staleness:PT30S}") final Duration countMaxStaleness
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than 0.");
+        }
+
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.namedJdbcTemplate = Objects.requireNonNull(namedJdbcTemplate);
+        this.batchSize = batchSize;
+        this.searchStrategy = Objects.requireNonNull(searchStrategy);
+        this.hooks = new CategoryWriteHooks(
+            searchIndex,
+            idFilter,
+            new CachedRowCount(this::countAll, countMaxStaleness)
+        );
+    }
+
+    /**
+     * Inserts a new {@link Category} with a single {@code INSERT} statement.
+     *
+     * @param aCategory the category to be created.
+     * @return the persisted category.
+     */
+    @Override
+    @Transactional
+    public Category create(final Category aCategory) {
+        this.jdbcTemplate.update(INSERT, ps -> bindInsert(ps, aCategory));
+        this.hooks.created(List.of(aCategory));
+        return Category.with(aCategory);
+    }
+
+    /**
+     * Inserts all the given {@link Category} objects in a single transaction, sending one JDBC
+     * batch per {@link #batchSize} categories.
+     *
+     * @param categories the categories to be created.
+     * @return the created categories, in the same order as the given ones.
+     */
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> categories) {
+        Objects.requireNonNull(categories, "categories must not be null");
+
+        this.jdbcTemplate.batchUpdate(
+            INSERT,
+            categories,
+            this.batchSize,
+            CategoryJdbcGateway::bindInsert
+        );
+
+        this.hooks.created(categories);
+        return List.copyOf(categories);
+    }
+
+    /**
+     * Updates an existing {@link Category} with a single {@code UPDATE} statement, creating it if
+     * it is not stored yet.
+     *
+     * @param aCategory the category with updated information.
+     * @return the updated category.
+     */
+    @Override
+    @Transactional
+    public Category update(final Category aCategory) {
+        final int updated = this.jdbcTemplate.update(
+            UPDATE,
+            toTimestamp(aCategory.getUpdatedAt()),
+            toTimestamp(aCategory.getDeletedAt()),
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.isActive(),
+            aCategory.getId().toBytes()
+        );
+
+        if (updated == 0) {
+            return create(aCategory);
+        }
+
+        this.hooks.updated(aCategory);
+        return Category.with(aCategory);
+    }
+
+    /**
+     * Deletes a {@link Category} with a single {@code DELETE} statement. Deleting an identifier
+     * that is not stored has no effect.
+     *
+     * @param id the unique identifier of the category to be deleted.
+     */
+    @Override
+    public void deleteById(final CategoryID id) {
+        final int deleted = this.jdbcTemplate.update(
+            "DELETE FROM categories WHERE id = ?",
+            id.toBytes()
+        );
+        this.hooks.deleted(id, deleted);
+    }
+
+    /**
+     * Finds a {@link Category} by its unique identifier, without querying when the
+     * {@link CategoryIdFilter} knows it is not stored.
+     *
+     * @param id the unique identifier of the category to be retrieved.
+     * @return an {@link Optional} containing the found category, or empty if not found.
+     */
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        if (!this.hooks.mightExist(id)) {
+            return Optional.empty();
+        }
+
+        final Optional<Category> found = this.jdbcTemplate
+            .query(SELECT + " WHERE id = ?", ROW_MAPPER, id.toBytes())
+            .stream()
+            .findFirst();
+        if (found.isEmpty()) {
+            this.hooks.reportAbsent(id);
+        }
+        return found;
+    }
+
+    /**
+     * Retrieves a page of {@link Category} objects based on the search query, with the total of
+     * matching categories.
+     * <p>
+     * As in the {@link CategoryMySQLGateway}, unfiltered listings take their total from the cached
+     * row count and flag whether it was counted or estimated, and filtered listings count the
+     * matching categories.
+     *
+     * @param aSearchQuery the search query containing filtering and pagination parameters.
+     * @return a {@link Pagination} containing the categories of the requested page.
+     * @throws DomainException if the sort attribute is invalid, or the query is sorted by
+     *                         relevance and has a cursor.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Category> findAll(final SearchQuery aSearchQuery) {
+        final boolean rankedByRelevance = CategorySearchStrategy.isRankedByRelevance(aSearchQuery);
+
+        if (!rankedByRelevance && !CategorySearchStrategy.hasTerms(aSearchQuery.terms())) {
+            return findAllUnfiltered(aSearchQuery);
+        }
+
+        final MapSqlParameterSource parameters = new MapSqlParameterSource();
+        final String filter = filterOf(aSearchQuery, parameters);
+        final Slice<Category> slice = findRows(aSearchQuery, filter, parameters);
+
+        final Long total = this.namedJdbcTemplate.queryForObject(
+            filter == null
+                ? "SELECT COUNT(*) FROM categories"
+                : "SELECT COUNT(*) FROM categories WHERE " + filter,
+            parameters,
+            Long.class
+        );
+
+        return Pagination.fromPage(
+            slice.page(),
+            slice.perPage(),
+            total == null ? 0 : total,
+            slice.data()
+        ).withNextCursor(slice.nextCursor());
+    }
+
+    /**
+     * Retrieves a page of every category, with the total taken from the cached row count, never
+     * lower than the number of categories up to this page.
+     *
+     * @param aSearchQuery the search query containing the sorting and pagination parameters.
+     * @return a {@link Pagination} of categories, with the cursor of the next page, if any.
+     */
+    private Pagination<Category> findAllUnfiltered(final SearchQuery aSearchQuery) {
+        final Slice<Category> slice = findRows(aSearchQuery, null, new MapSqlParameterSource());
+
+        final CachedRowCount.Total total = this.hooks.totalRows();
+        final long seen = slice.offset() + slice.itemsCount() + (slice.hasNext() ? 1 : 0);
+
+        return Pagination.fromPage(
+            slice.page(),
+            slice.perPage(),
+            Math.max(total.value(), seen),
+            slice.data()
+        ).withNextCursor(slice.nextCursor()).withExactTotal(total.exact() && seen <= total.value());
+    }
+
+    /**
+     * Retrieves a page of {@link Category} objects based on the search query, without counting
+     * the matching categories.
+     *
+     * @param aSearchQuery the search query containing filtering and pagination parameters.
+     * @return a {@link Slice} containing the categories of the requested page.
+     * @throws DomainException if the sort attribute is invalid, or the query is sorted by
+     *                         relevance and has a cursor.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Category> findSlice(final SearchQuery aSearchQuery) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource();
+        return findRows(aSearchQuery, filterOf(aSearchQuery, parameters), parameters);
+    }
+
+    /**
+     * Retrieves the identifiers, among the given ones, of the stored categories, with one ID-only
+     * {@code IN (...)} query per {@link #EXISTS_BY_IDS_CHUNK_SIZE} distinct identifiers. The
+     * identifiers the {@link CategoryIdFilter} knows are not stored are dropped before querying.
+     *
+     * @param ids the identifiers to check for existence; must not be {@code null}.
+     * @return the identifiers that exist in the database, without duplicates and in no particular
+     * order; never {@code null}.
+     */
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        Objects.requireNonNull(ids, "ids must not be null");
+
+        final Set<CategoryID> distinctIds = new LinkedHashSet<>();
+        for (final CategoryID id : ids) {
+            if (id != null) {
+                distinctIds.add(id);
+            }
+        }
+        distinctIds.removeIf(id -> !this.hooks.mightExist(id));
+
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<byte[]> pending = new ArrayList<>(distinctIds.size());
+        distinctIds.forEach(id -> pending.add(id.toBytes()));
+        final List<CategoryID> existingIds = new ArrayList<>(pending.size());
+
+        for (int from = 0; from < pending.size(); from += EXISTS_BY_IDS_CHUNK_SIZE) {
+            final int to = Math.min(from + EXISTS_BY_IDS_CHUNK_SIZE, pending.size());
+            this.namedJdbcTemplate.query(
+                "SELECT id FROM categories WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", pending.subList(from, to)),
+                (RowCallbackHandler) rs -> existingIds.add(CategoryID.fromBytes(rs.getBytes(1)))
+            );
+        }
+
+        this.hooks.reportAbsent(distinctIds, existingIds);
+        return existingIds;
+    }
+
+    /**
+     * Fetches the categories of the requested page, without counting them.
+     * <p>
+     * Sorted queries go through {@link JdbcSliceUtils} and carry the cursor of the next page.
+     * Queries sorted by {@value CategorySearchStrategy#RELEVANCE} are ordered by the
+     * {@link CategorySearchStrategy}, and neither issue nor accept a cursor.
+     *
+     * @param aSearchQuery the search query containing the sorting and pagination parameters.
+     * @param filter       the predicate of the search terms, or {@code null} to match every
+     *                     category.
+     * @param parameters   the parameters of the predicate.
+     * @return the slice of categories.
+     * @throws DomainException if the sort attribute is invalid, or the query is sorted by
+     *                         relevance and has a cursor.
+     */
+    private Slice<Category> findRows(
+        final SearchQuery aSearchQuery,
+        final String filter,
+        final MapSqlParameterSource parameters
+    ) {
+        if (!CategorySearchStrategy.isRankedByRelevance(aSearchQuery)) {
+            return JdbcSliceUtils.findSlice(
+                this.namedJdbcTemplate,
+                SELECT,
+                filter,
+                parameters,
+                SORT_COLUMNS,
+                aSearchQuery,
+                ROW_MAPPER,
+                category -> category.getId().getValue()
+            );
+        }
+
+        if (aSearchQuery.cursor() != null) {
+            throw DomainException.with(Cursor.INVALID_CURSOR);
+        }
+
+        final String order = this.searchStrategy.sqlRelevanceOrder(
+            aSearchQuery.terms(),
+            parameters
+        );
+        final String sql = filter == null
+            ? SELECT + " ORDER BY " + order
+            : SELECT + " WHERE " + filter + " ORDER BY " + order;
+
+        return JdbcSliceUtils.findSlice(
+            this.namedJdbcTemplate,
+            sql,
+            parameters,
+            aSearchQuery.page(),
+            aSearchQuery.perPage(),
+            ROW_MAPPER
+        );
+    }
+
+    /**
+     * Builds the predicate of the search terms of the query, binding its values to the
+     * parameters.
+     * <p>
+     * Queries ranked by relevance always match with the {@link CategorySearchStrategy}, which also
+     * ranks them. The others use the in-memory search index when it can answer the terms.
+     *
+     * @param aSearchQuery the search query.
+     * @param parameters   the parameters the values are bound to.
+     * @return the SQL predicate, or {@code null} to match every category.
+     */
+    private String filterOf(
+        final SearchQuery aSearchQuery,
+        final MapSqlParameterSource parameters
+    ) {
+        final String terms = aSearchQuery.terms();
+        if (!CategorySearchStrategy.hasTerms(terms)) {
+            return null;
+        }
+
+        if (CategorySearchStrategy.isRankedByRelevance(aSearchQuery)) {
+            return this.searchStrategy.sqlMatching(terms, parameters);
+        }
+
+        return this.hooks.search(terms)
+                         .map(ids -> idIn(ids, parameters))
+                         .orElseGet(() -> this.searchStrategy.sqlMatching(terms, parameters));
+    }
+
+    /**
+     * Builds a predicate matching the categories with the given identifiers, as found by the
+     * in-memory search index.
+     *
+     * @param ids        the identifiers; may be empty, in which case no category matches.
+     * @param parameters the parameters the identifiers are bound to.
+     * @return the SQL predicate.
+     */
+    private static String idIn(final List<String> ids, final MapSqlParameterSource parameters) {
+        if (ids.isEmpty()) {
+            return "1 = 0";
+        }
+
+        final List<byte[]> bytes = new ArrayList<>(ids.size());
+        ids.forEach(id -> bytes.add(JdbcSliceUtils.idBytes(id)));
+        parameters.addValue("ids", bytes);
+        return "id IN (:ids)";
+    }
+
+    /**
+     * Counts every stored category.
+     *
+     * @return the number of categories.
+     */
+    private long countAll() {
+        final Long count = this.jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM categories",
+            Long.class
+        );
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Binds the columns of a category to the parameters of {@link #INSERT}.
+     *
+     * @param ps        the prepared statement.
+     * @param aCategory the category.
+     * @throws SQLException if a parameter cannot be bound.
+     */
+    private static void bindInsert(final PreparedStatement ps, final Category aCategory)
+        throws SQLException {
+        ps.setBytes(1, aCategory.getId().toBytes());
+        ps.setObject(2, toTimestamp(aCategory.getCreatedAt()));
+        ps.setObject(3, toTimestamp(aCategory.getUpdatedAt()));
+        ps.setObject(4, toTimestamp(aCategory.getDeletedAt()));
+        ps.setString(5, aCategory.getName());
+        ps.setString(6, aCategory.getDescription());
+        ps.setBoolean(7, aCategory.isActive());
+    }
+
+    /**
+     * Maps a row of {@link #SELECT} into a {@link Category}.
+     *
+     * @param rs     the result set, positioned on the row.
+     * @param rowNum the number of the row.
+     * @return the category.
+     * @throws SQLException if a column cannot be read.
+     */
+    private static Category mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+        return Category.with(
+            CategoryID.fromBytes(rs.getBytes("id")),
+            getInstant(rs, "created_at"),
+            getInstant(rs, "updated_at"),
+            getInstant(rs, "deleted_at"),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getBoolean("active")
+        );
+    }
+}
@@ -3,19 +3,39 @@ package br.com.josenaldo.codeflix.catalog.infrastructure.category;
 import br.com.josenaldo.codeflix.catalog.domain.category.Category;
 import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
 import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Cursor;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.existence.CategoryIdFilter;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryListProjection;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryRepository;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategorySearchStrategy;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.search.CategorySearchIndex;
+import br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence.GenreCategoryJpaEntity;
+import br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence.GenreJpaEntity;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CacheRegions;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CachedRowCount;
+import br.com.josenaldo.codeflix.catalog.infrastructure.utils.SliceQueryUtils;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import java.util.Set;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implements the {@link CategoryGateway} interface using MySQL as the persistence layer.
@@ -23,79 +43,198 @@ import org.springframework.stereotype.Service;
  * This class serves as a gateway for performing CRUD operations on {@link Category} objects,
  * delegating the database interactions to a {@link CategoryRepository}.
  * <p>
+ * It is the default adapter; the {@link CategoryJdbcGateway} replaces it when the {@code jdbc}
+ * profile is active.
  *
  * @author Josenaldo de Oliveira Matos Filho
  * @version 1.0
  */
 @Service
+@Profile("!jdbc")
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    /**
+     * Maximum number of identifiers sent in a single {@code IN (...)} clause by
+     * {@link #existsByIds(Iterable)}.
+     * <p>
+     * It keeps the statement and its bind parameters bounded while letting the usual genre
+     * validation run in one or two round trips.
+     */
+    public static final int EXISTS_BY_IDS_CHUNK_SIZE = 2_500;
+
     /**
      * The repository used to access category data from the MySQL database.
      */
     private final CategoryRepository categoryRepository;
 
+    /**
+     * The entity manager used to run the operations that Spring Data cannot express, such as the
+     * count-free page queries of {@link #findSlice(SearchQuery)} and the select-free inserts of
+     * {@link #create(Category)}.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * The number of categories written per JDBC batch by {@link #createAll(List)}.
+     * <p>
+     * It is read from the {@code database.batch-size} property, which also sets Hibernate's
+     * {@code hibernate.jdbc.batch_size}, so every flush of {@code createAll} sends exactly one
+     * batch.
+     */
+    private final int batchSize;
+
+    /**
+     * The strategy used to filter and rank the categories by the search terms.
+     */
+    private final CategorySearchStrategy searchStrategy;
+
+    /**
+     * Keeps the cached row count, the in-memory search index and the identifier filter current
+     * with the writes of this gateway.
+     */
+    private final CategoryWriteHooks hooks;
+
     /**
      * Constructs a new {@code CategoryMySQLGateway} with the specified {@link CategoryRepository}.
      * <p>
-     * The provided repository is used to perform all persistence operations for categories.
+     * The provided repository is used to perform the persistence operations for categories, and
+     * the entity manager to run the page queries that skip counting.
      *
      * @param categoryRepository the repository responsible for category persistence.
+     * @param entityManager      the entity manager of the persistence unit.
+     * @param batchSize          the number of categories written per JDBC batch; must be greater
+     *                           than 0.
+     * @param searchStrategy     the strategy used to filter and rank the categories by the search
+     *                           terms.
+     * @param searchIndex        the in-memory search index, if it is enabled.
+     * @param idFilter           the filter of the stored category identifiers, if it is enabled.
+     * @param countMaxStaleness  how old the cached number of categories may be before unfiltered
+     *                           listings count them again; zero to always count them.
      */
-    public CategoryMySQLGateway(CategoryRepository categoryRepository) {
+    public CategoryMySQLGateway(
+        final CategoryRepository categoryRepository,
+        final EntityManager entityManager,
+        @Value("${database.batch-size:500}") final int batchSize,
+        final CategorySearchStrategy searchStrategy,
+        final Optional<CategorySearchIndex> searchIndex,
+        final Optional<CategoryIdFilter> idFilter,
+        @Value("${database.count-cache.max-staleness:PT30S}") final Duration countMaxStaleness
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than 0.");
+        }
+
         this.categoryRepository = categoryRepository;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+        this.searchStrategy = Objects.requireNonNull(searchStrategy);
+        this.hooks = new CategoryWriteHooks(
+            searchIndex,
+            idFilter,
+            new CachedRowCount(categoryRepository::count, countMaxStaleness)
+        );
     }
 
     /**
      * Persists a new {@link Category} in the database.
      * <p>
-     * This method should save the provided category and return the persisted instance.
+     * The category already carries its ULID, so {@code repository.save} would take it for a
+     * detached entity and {@code merge} it, selecting the row before inserting it. The entity is
+     * persisted directly instead, which costs a single {@code INSERT} at flush time.
      *
      * @param aCategory the category to be created.
-     * @return the persisted category, or null if not implemented.
+     * @return the persisted category.
      */
     @Override
+    @Transactional
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        final var entity = CategoryJpaEntity.from(aCategory);
+        this.entityManager.persist(entity);
+        this.hooks.created(List.of(aCategory));
+        return entity.to();
     }
 
     /**
-     * Updates an existing {@link Category} in the database.
+     * Persists all the given {@link Category} objects in a single transaction, using JDBC
+     * batching.
      * <p>
-     * This method should update the category details and return the updated instance.
+     * The entities are persisted directly, without any pre-select, and the persistence context is
+     * flushed and cleared every {@link #batchSize} categories. Hibernate then sends each chunk of
+     * {@code INSERT} statements as one JDBC batch, which the MySQL driver rewrites into a single
+     * multi-row {@code INSERT} when {@code rewriteBatchedStatements} is enabled. Clearing the
+     * context keeps its memory and dirty-checking cost bounded by the chunk size.
      *
-     * @param aCategory the category with updated information.
-     * @return the updated category, or null if not implemented.
+     * @param categories the categories to be created.
+     * @return the created categories, in the same order as the given ones.
      */
     @Override
-    public Category update(Category aCategory) {
-        return save(aCategory);
+    @Transactional
+    public List<Category> createAll(final List<Category> categories) {
+        Objects.requireNonNull(categories, "categories must not be null");
+
+        for (int i = 0; i < categories.size(); i++) {
+            this.entityManager.persist(CategoryJpaEntity.from(categories.get(i)));
+
+            if ((i + 1) % this.batchSize == 0) {
+                this.entityManager.flush();
+                this.entityManager.clear();
+            }
+        }
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        this.hooks.created(categories);
+        return List.copyOf(categories);
     }
 
     /**
-     * Persists a {@link Category} in the database.
+     * Updates an existing {@link Category} in the database.
      * <p>
-     * This method should save the provided category and return the persisted instance.
+     * The stored entity is loaded, or taken from the persistence context when it is already
+     * managed, and receives the new state of the category. Dirty checking then issues an
+     * {@code UPDATE} with only the changed columns, or no statement at all if nothing changed. A
+     * category that is not stored yet is created.
      *
-     * @param category the category to be saved.
-     * @return the persisted category.
+     * @param aCategory the category with updated information.
+     * @return the updated category.
      */
-    private Category save(Category category) {
-        return this.categoryRepository.save(CategoryJpaEntity.from(category)).to();
+    @Override
+    @Transactional
+    public Category update(final Category aCategory) {
+        final var entity = this.entityManager.find(
+            CategoryJpaEntity.class,
+            aCategory.getId().getValue()
+        );
+
+        if (entity == null) {
+            return create(aCategory);
+        }
+
+        this.hooks.updated(aCategory);
+        return entity.updateFrom(aCategory).to();
     }
 
     /**
      * Deletes a {@link Category} from the database by its unique identifier.
      * <p>
-     * This method should remove the category corresponding to the given ID from the database.
+     * The category is removed with a single bulk {@code DELETE} statement, without checking its
+     * existence or loading it first. Deleting an identifier that is not stored has no effect.
+     * <p>
+     * The database removes the genre links of the category through the {@code ON DELETE CASCADE}
+     * of their foreign key, which Hibernate never sees. The cached genre links are therefore
+     * evicted, both right away and once the deletion commits, so no genre keeps a link to the
+     * deleted category.
      *
      * @param id the unique identifier of the category to be deleted.
      */
     @Override
-    public void deleteById(CategoryID id) {
-        final String idValue = id.getValue();
-        if (categoryRepository.existsById(idValue)) {
-            this.categoryRepository.deleteById(idValue);
+    public void deleteById(final CategoryID id) {
+        final int deleted = this.categoryRepository.deleteByIdReturningCount(id.getValue());
+        this.hooks.deleted(id, deleted);
+        if (deleted > 0) {
+            evictGenreLinks();
+            CategoryWriteHooks.afterCommit(this::evictGenreLinks);
         }
     }
 
@@ -104,56 +243,257 @@ public class CategoryMySQLGateway implements CategoryGateway {
      * <p>
      * This method should return an {@link Optional} containing the category if found, or an empty
      * {@link Optional} if no category exists with the given ID.
+     * <p>
+     * When the {@link CategoryIdFilter} is enabled and knows the category is not stored, the
+     * empty {@link Optional} is returned without querying the database.
      *
      * @param id the unique identifier of the category to be retrieved.
      * @return an {@link Optional} containing the found category, or empty if not found.
      */
     @Override
     public Optional<Category> findById(CategoryID id) {
-        return this.categoryRepository.findById(id.getValue()).map(CategoryJpaEntity::to);
+        if (!this.hooks.mightExist(id)) {
+            return Optional.empty();
+        }
+
+        final Optional<Category> found = this.categoryRepository.findById(id.getValue())
+                                                                .map(CategoryJpaEntity::to);
+        if (found.isEmpty()) {
+            this.hooks.reportAbsent(id);
+        }
+        return found;
     }
 
     /**
      * Retrieves a paginated list of {@link Category} objects based on the search searchQuery.
      * <p>
-     * This method should execute the search using the criteria provided in
-     * {@link SearchQuery} and return a {@link Pagination} object containing the list of
-     * categories.
+     * The search is executed with the criteria provided in {@link SearchQuery}, and the result is a
+     * {@link Pagination} object containing the categories of the requested page and their total.
+     * <p>
+     * When the query has a cursor, the page is fetched with a keyset predicate instead of an
+     * offset, so its cost does not depend on how deep it is. The returned pagination always
+     * carries the cursor of the next page, if there is one.
+     * <p>
+     * The search terms are matched by the {@link CategorySearchStrategy}. When the query is sorted
+     * by {@value CategorySearchStrategy#RELEVANCE}, the strategy also orders the page, and no
+     * cursor is issued nor accepted.
+     * <p>
+     * Unfiltered listings do not count the categories on every request: their total comes from a
+     * cached row count, recounted once it is older than {@code database.count-cache.max-staleness}.
+     * Its {@link Pagination#exactTotal() exactTotal} flag is {@code true} when the total was
+     * counted by this request, and {@code false} when it is the cached estimate, which is never
+     * lower than the number of categories up to the returned page. Filtered listings are always
+     * counted, so their flag is always {@code true}.
+     * <p>
+     * The rows are read as {@link CategoryListProjection read-only projections} in a read-only
+     * transaction, so listing a page never loads managed entities.
      *
      * @param aSearchQuery the search searchQuery containing filtering and pagination parameters.
-     * @return a {@link Pagination} containing the list of categories, or null if not implemented.
+     * @return a {@link Pagination} containing the categories of the page, their total, whether
+     * the total is exact and the cursor of the next page, if any.
+     * @throws DomainException if the query is sorted by relevance and has a cursor.
      */
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Category> findAll(SearchQuery aSearchQuery) {
+        final boolean rankedByRelevance = CategorySearchStrategy.isRankedByRelevance(aSearchQuery);
 
-        Pageable pageable = PageRequest.of(
-            aSearchQuery.page(),
-            aSearchQuery.perPage(),
-            Sort.by(
-                Direction.fromString(aSearchQuery.direction()),
-                aSearchQuery.sort()
-            )
-        );
+        if (!rankedByRelevance && !CategorySearchStrategy.hasTerms(aSearchQuery.terms())) {
+            return findAllUnfiltered(aSearchQuery);
+        }
 
-        Specification<CategoryJpaEntity> termLikeSpecification = CategoryRepository.getTermLikeSpecification(
-            aSearchQuery);
+        final Specification<CategoryJpaEntity> termSpecification = specificationOf(aSearchQuery);
+        final Slice<CategoryListProjection> slice = findRows(aSearchQuery, termSpecification);
 
-        final var pageResult = this.categoryRepository.findAll(
-            Specification.where(termLikeSpecification), pageable);
+        return Pagination.fromPage(
+            slice.page(),
+            slice.perPage(),
+            this.categoryRepository.count(termSpecification),
+            slice.map(CategoryListProjection::to).data()
+        ).withNextCursor(slice.nextCursor());
+    }
+
+    /**
+     * Retrieves a page of every category, with the total taken from the cached row count.
+     * <p>
+     * The page itself is fetched without counting, with a keyset predicate when the query has a
+     * cursor. The total is never reported lower than the number of categories up to this page,
+     * which an estimate could otherwise be after deletions by other instances.
+     *
+     * @param aSearchQuery the search query containing the sorting and pagination parameters.
+     * @return a {@link Pagination} of categories, with the cursor of the next page, if any.
+     */
+    private Pagination<Category> findAllUnfiltered(final SearchQuery aSearchQuery) {
+        final Slice<CategoryListProjection> slice = findRows(aSearchQuery, null);
+
+        final CachedRowCount.Total total = this.hooks.totalRows();
+        final long seen = slice.offset() + slice.itemsCount() + (slice.hasNext() ? 1 : 0);
 
         return Pagination.fromPage(
-            pageResult.getNumber(),
-            pageResult.getSize(),
-            pageResult.getTotalElements(),
-            pageResult.map(CategoryJpaEntity::to).toList()
+            slice.page(),
+            slice.perPage(),
+            Math.max(total.value(), seen),
+            slice.map(CategoryListProjection::to).data()
+        ).withNextCursor(slice.nextCursor()).withExactTotal(total.exact() && seen <= total.value());
+    }
+
+    /**
+     * Retrieves a page of {@link Category} objects based on the search query, without counting
+     * the matching categories.
+     * <p>
+     * A single query fetches {@code perPage + 1} rows with the same filter and order used by
+     * {@link #findAll(SearchQuery)}; the extra row only tells whether there is a next page.
+     *
+     * @param aSearchQuery the search query containing filtering and pagination parameters.
+     * @return a {@link Slice} containing the categories of the requested page.
+     * @throws DomainException if the query is sorted by relevance and has a cursor.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Category> findSlice(final SearchQuery aSearchQuery) {
+        return findRows(aSearchQuery, specificationOf(aSearchQuery))
+            .map(CategoryListProjection::to);
+    }
+
+    /**
+     * Fetches the rows of the requested page as {@link CategoryListProjection read-only
+     * projections}, without counting the matching categories.
+     * <p>
+     * Sorted queries fetch the page with an offset, or with a keyset predicate when the query has
+     * a cursor, and carry the cursor of the next page. Queries sorted by
+     * {@value CategorySearchStrategy#RELEVANCE} are ordered by the specification and neither
+     * issue nor accept a cursor.
+     *
+     * @param aSearchQuery  the search query containing the sorting and pagination parameters.
+     * @param specification the filter of the search terms; may be {@code null} to match every
+     *                      category.
+     * @return the slice of projections.
+     * @throws DomainException if the query is sorted by relevance and has a cursor.
+     */
+    private Slice<CategoryListProjection> findRows(
+        final SearchQuery aSearchQuery,
+        final Specification<CategoryJpaEntity> specification
+    ) {
+        if (!CategorySearchStrategy.isRankedByRelevance(aSearchQuery)) {
+            return SliceQueryUtils.findSlice(
+                this.entityManager,
+                CategoryJpaEntity.class,
+                CategoryListProjection.class,
+                CategoryListProjection::selection,
+                specification,
+                aSearchQuery
+            );
+        }
+
+        if (aSearchQuery.cursor() != null) {
+            throw DomainException.with(Cursor.INVALID_CURSOR);
+        }
+
+        final List<CategoryListProjection> rows = SliceQueryUtils.findSlice(
+            this.entityManager,
+            CategoryJpaEntity.class,
+            CategoryListProjection.class,
+            CategoryListProjection::selection,
+            specification,
+            Sort.unsorted(),
+            (long) aSearchQuery.page() * aSearchQuery.perPage(),
+            Slice.lookaheadLimit(aSearchQuery.perPage())
         );
+
+        return Slice.fromLookahead(aSearchQuery.page(), aSearchQuery.perPage(), rows);
     }
 
     /**
-     * TODO: Implementar quando chegarmos na camada de Infraestrutura de Genre
+     * Retrieves the identifiers, among the given ones, of the categories stored in the database.
+     * <p>
+     * Duplicated identifiers are dropped before querying, and the remaining ones are looked up in
+     * chunks of at most {@link #EXISTS_BY_IDS_CHUNK_SIZE} identifiers, each answered by a single
+     * ID-only {@code IN (...)} query. Validating a genre with 5,000 categories therefore takes two
+     * round trips and never loads a category entity.
+     * <p>
+     * When the {@link CategoryIdFilter} is enabled, the identifiers it knows are not stored are
+     * dropped before querying, so a request full of missing categories may not query at all.
+     *
+     * @param ids the identifiers to check for existence; must not be {@code null}.
+     * @return the identifiers that exist in the database, without duplicates and in no particular
+     * order; never {@code null}.
      */
     @Override
-    public List<CategoryID> existsByIds(Iterable<CategoryID> ids) {
-        return Collections.emptyList();
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        Objects.requireNonNull(ids, "ids must not be null");
+
+        final Set<CategoryID> distinctIds = new LinkedHashSet<>();
+        for (final CategoryID id : ids) {
+            if (id != null) {
+                distinctIds.add(id);
+            }
+        }
+        distinctIds.removeIf(id -> !this.hooks.mightExist(id));
+
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<String> pending = new ArrayList<>(distinctIds.size());
+        distinctIds.forEach(id -> pending.add(id.getValue()));
+        final List<CategoryID> existingIds = new ArrayList<>(pending.size());
+
+        for (int from = 0; from < pending.size(); from += EXISTS_BY_IDS_CHUNK_SIZE) {
+            final int to = Math.min(from + EXISTS_BY_IDS_CHUNK_SIZE, pending.size());
+            for (final String id : this.categoryRepository.findExistingIds(pending.subList(from, to))) {
+                existingIds.add(CategoryID.fromTrustedString(id));
+            }
+        }
+
+        this.hooks.reportAbsent(distinctIds, existingIds);
+        return existingIds;
+    }
+
+    /**
+     * Builds the Specification for the search terms of the query, ranked by relevance when the
+     * query is sorted by {@value CategorySearchStrategy#RELEVANCE}.
+     *
+     * @param aSearchQuery the search query.
+     * @return the Specification, or {@code null} to match every category.
+     */
+    private Specification<CategoryJpaEntity> specificationOf(final SearchQuery aSearchQuery) {
+        if (CategorySearchStrategy.isRankedByRelevance(aSearchQuery)) {
+            return this.searchStrategy.rankedByRelevance(aSearchQuery.terms());
+        }
+
+        return this.hooks.search(aSearchQuery.terms())
+                         .map(CategoryMySQLGateway::idIn)
+                         .orElseGet(() -> this.searchStrategy.matching(aSearchQuery.terms()));
+    }
+
+    /**
+     * Builds a Specification matching the categories with the given identifiers, as found by the
+     * in-memory search index.
+     * <p>
+     * The identifiers are bound into both the page and the count queries. The index never returns
+     * more than {@code database.search-index.max-matches} of them and leaves broader searches to
+     * the {@link CategorySearchStrategy}, which keeps the statements small.
+     *
+     * @param ids the identifiers; may be empty, in which case no category matches.
+     * @return the Specification.
+     */
+    private static Specification<CategoryJpaEntity> idIn(final List<String> ids) {
+        return (root, query, cb) -> ids.isEmpty()
+            ? cb.disjunction()
+            : root.get(SliceQueryUtils.ID).in(ids);
+    }
+
+    /**
+     * Evicts the genre links from the second-level cache: the link entities, the category
+     * collections of the genres and the query results over genres, which hold the link lookups.
+     * Does nothing when the cache is disabled.
+     */
+    private void evictGenreLinks() {
+        final Cache cache = this.entityManager.getEntityManagerFactory()
+                                              .unwrap(SessionFactory.class)
+                                              .getCache();
+        cache.evictEntityData(GenreCategoryJpaEntity.class);
+        cache.evictCollectionData(GenreJpaEntity.class.getName() + ".categories");
+        cache.evictQueryRegion(CacheRegions.GENRE_QUERIES);
     }
 }
@@ -0,0 +1,182 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.existence.CategoryIdFilter;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.search.CategorySearchIndex;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CachedRowCount;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the in-memory views of the stored categories current with the writes of a category
+ * gateway: the cached row count, the in-memory search index and the identifier filter.
+ * <p>
+ * Both the {@link CategoryMySQLGateway} and the {@link CategoryJdbcGateway} report their writes
+ * and lookups here, so the two adapters keep those views in the same way.
+ * <p>
+ * Writes reach the row count and the search index once the current transaction commits, so rolled
+ * back writes never reach them, and so do deletions of the identifier filter. Without a
+ * transaction, they are reported right away. Created categories are added to the identifier
+ * filter right away instead, so they are found within their own transaction; a rollback only
+ * leaves a false positive behind.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+final class CategoryWriteHooks {
+
+    /**
+     * The in-memory search index, if it is enabled.
+     */
+    private final Optional<CategorySearchIndex> searchIndex;
+
+    /**
+     * The in-memory filter of the stored category identifiers, if it is enabled.
+     */
+    private final Optional<CategoryIdFilter> idFilter;
+
+    /**
+     * The number of stored categories, reported as the total of unfiltered listings.
+     */
+    private final CachedRowCount rowCount;
+
+    /**
+     * Creates the hooks of a gateway.
+     *
+     * @param searchIndex the in-memory search index, if it is enabled.
+     * @param idFilter    the filter of the stored category identifiers, if it is enabled.
+     * @param rowCount    the cached number of stored categories.
+     */
+    CategoryWriteHooks(
+        final Optional<CategorySearchIndex> searchIndex,
+        final Optional<CategoryIdFilter> idFilter,
+        final CachedRowCount rowCount
+    ) {
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.idFilter = Objects.requireNonNull(idFilter);
+        this.rowCount = Objects.requireNonNull(rowCount);
+    }
+
+    /**
+     * Reports created categories.
+     *
+     * @param categories the created categories.
+     */
+    void created(final List<Category> categories) {
+        this.idFilter.ifPresent(filter -> categories.forEach(c -> filter.add(c.getId())));
+        afterCommit(() -> {
+            this.rowCount.add(categories.size());
+            this.searchIndex.ifPresent(index -> categories.forEach(index::index));
+        });
+    }
+
+    /**
+     * Reports an updated category.
+     *
+     * @param aCategory the updated category.
+     */
+    void updated(final Category aCategory) {
+        afterCommit(() -> this.searchIndex.ifPresent(index -> index.index(aCategory)));
+    }
+
+    /**
+     * Reports a deleted category.
+     *
+     * @param id      the identifier of the category.
+     * @param deleted the number of deleted rows: {@code 1} if the category existed, {@code 0}
+     *                otherwise.
+     */
+    void deleted(final CategoryID id, final int deleted) {
+        afterCommit(() -> {
+            this.rowCount.add(-deleted);
+            this.searchIndex.ifPresent(index -> index.remove(id));
+            if (deleted > 0) {
+                this.idFilter.ifPresent(filter -> filter.remove(id));
+            }
+        });
+    }
+
+    /**
+     * Returns the number of stored categories, counted at most once per staleness window.
+     *
+     * @return the row count, flagged as exact if it was just counted.
+     */
+    CachedRowCount.Total totalRows() {
+        return this.rowCount.get();
+    }
+
+    /**
+     * Finds the identifiers of the categories matching the given terms with the in-memory search
+     * index.
+     *
+     * @param terms the search terms.
+     * @return the identifiers of the matching categories, or an empty {@link Optional} if the
+     * index is disabled or cannot answer the terms.
+     */
+    Optional<List<String>> search(final String terms) {
+        return this.searchIndex.flatMap(index -> index.search(terms));
+    }
+
+    /**
+     * Determines if the category with the given identifier might be stored, according to the
+     * identifier filter.
+     *
+     * @param id the category identifier.
+     * @return {@code false} if the filter is enabled and the category is definitely not stored.
+     */
+    boolean mightExist(final CategoryID id) {
+        return this.idFilter.map(filter -> filter.mightContain(id)).orElse(true);
+    }
+
+    /**
+     * Reports to the identifier filter a queried category the database did not find.
+     *
+     * @param id the identifier looked up in the database.
+     */
+    void reportAbsent(final CategoryID id) {
+        this.idFilter.ifPresent(filter -> filter.reportAbsent(id));
+    }
+
+    /**
+     * Reports to the identifier filter the queried categories the database did not find.
+     *
+     * @param queried  the identifiers looked up in the database.
+     * @param existing the identifiers found.
+     */
+    void reportAbsent(final Set<CategoryID> queried, final List<CategoryID> existing) {
+        this.idFilter.ifPresent(filter -> {
+            if (existing.size() < queried.size()) {
+                final Set<CategoryID> found = new HashSet<>(existing);
+                queried.stream().filter(id -> !found.contains(id)).forEach(filter::reportAbsent);
+            }
+        });
+    }
+
+    /**
+     * Runs the given action once the current transaction commits, or right away without a
+     * transaction.
+     *
+     * @param action the action.
+     */
+    static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            }
+        );
+    }
+}
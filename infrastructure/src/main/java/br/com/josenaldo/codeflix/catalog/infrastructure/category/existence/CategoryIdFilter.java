@@ -0,0 +1,409 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.existence;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory {@link ScalableCountingBloomFilter Bloom filter} of the stored category identifiers,
+ * used to answer that a category does not exist without querying the database.
+ * <p>
+ * The filter is built from the {@link CategoryRepository} when the application is ready and kept
+ * current by the category gateways, which add every category they create right away and remove
+ * every category they delete once the transaction commits. A check either answers that the
+ * category definitely does not exist, or that it might, in which case the gateway queries the
+ * database as usual.
+ * <p>
+ * Categories created by other application instances never reach the filter, so a miss is only
+ * trusted for the identifiers the last rebuild has read: the ones whose ULID was generated before
+ * the rebuild started, minus a trust margin that covers the transactions still running then.
+ * Newer identifiers always go to the database. When {@code database.id-filter.single-instance}
+ * is {@code true}, this instance sees every write and every miss is trusted.
+ * <p>
+ * Removals never cause a false negative: they are only applied when the category is known to
+ * have been added to the first stage of the filter, and are skipped otherwise, leaving a false
+ * positive behind until the next {@link #rebuild()}.
+ * <p>
+ * The filter is only created when {@code database.id-filter.enabled} is {@code true}. Its size
+ * and false positive rates are exposed through {@link #stats()}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "database.id-filter.enabled", havingValue = "true")
+public class CategoryIdFilter {
+
+    /**
+     * Number of identifiers read from the database per query during a rebuild.
+     */
+    static final int REBUILD_CHUNK_SIZE = 10_000;
+
+    /**
+     * The repository the filter is built from.
+     */
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * The target false positive rate of the filter.
+     */
+    private final double falsePositiveRate;
+
+    /**
+     * The smallest capacity of the first stage of the filter.
+     */
+    private final long minimumCapacity;
+
+    /**
+     * How long before a rebuild starts an identifier must have been generated for a miss to be
+     * trusted.
+     */
+    private final Duration trustMargin;
+
+    /**
+     * Whether this is the only instance writing categories, so every miss can be trusted.
+     */
+    private final boolean singleInstance;
+
+    /**
+     * Guards the filter, {@link #pending} and the build information: checks share it, writes and
+     * swaps take it exclusively.
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Serializes the rebuilds.
+     */
+    private final Object rebuildLock = new Object();
+
+    /**
+     * The number of identifiers checked.
+     */
+    private final LongAdder checks = new LongAdder();
+
+    /**
+     * The number of identifiers answered as definitely absent.
+     */
+    private final LongAdder definiteMisses = new LongAdder();
+
+    /**
+     * The number of identifiers the filter could have answered, reported as maybe present but
+     * not found by the database.
+     */
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * The filter currently checked, or {@code null} before the first rebuild.
+     */
+    private ScalableCountingBloomFilter filter;
+
+    /**
+     * The identifiers generated before this instant, in epoch milliseconds, were read by the
+     * last rebuild.
+     */
+    private long snapshotHorizon;
+
+    /**
+     * Whether every identifier read by the last rebuild is in the first stage of the filter, so
+     * it can be removed.
+     */
+    private boolean snapshotRemovable;
+
+    /**
+     * The identifiers created while a rebuild is loading, added to the new filter before it
+     * replaces the current one; {@code null} when no rebuild is running.
+     */
+    private List<CategoryID> pending;
+
+    /**
+     * When the filter was last rebuilt, or {@code null} if it never was.
+     */
+    private Instant builtAt;
+
+    /**
+     * How long the last rebuild took, in milliseconds.
+     */
+    private long buildMillis;
+
+    /**
+     * Creates a filter that answers nothing until it is first rebuilt.
+     *
+     * @param categoryRepository the repository the filter is built from.
+     * @param falsePositiveRate  the target false positive rate; must be between 0 and 1, both
+     *                           excluded.
+     * @param minimumCapacity    the smallest capacity of the first stage; must be greater than 0.
+     * @param trustMargin        how long before a rebuild starts an identifier must have been
+     *                           generated for a miss to be trusted; must not be negative.
+     * @param singleInstance     whether this is the only instance writing categories.
+     */
+    public CategoryIdFilter(
+        final CategoryRepository categoryRepository,
+        @Value("${database.id-filter.false-positive-rate:0.01}") final double falsePositiveRate,
+        @Value("${database.id-filter.minimum-capacity:10000}") final long minimumCapacity,
+        @Value("${database.id-filter.trust-margin:PT1M}") final Duration trustMargin,
+        @Value("${database.id-filter.single-instance:false}") final boolean singleInstance
+    ) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1.");
+        }
+        if (minimumCapacity < 1) {
+            throw new IllegalArgumentException("Minimum capacity must be greater than 0.");
+        }
+        if (trustMargin.isNegative()) {
+            throw new IllegalArgumentException("Trust margin must not be negative.");
+        }
+
+        this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.falsePositiveRate = falsePositiveRate;
+        this.minimumCapacity = minimumCapacity;
+        this.trustMargin = trustMargin;
+        this.singleInstance = singleInstance;
+    }
+
+    /**
+     * Builds the filter once the application is ready to serve requests.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the filter from every category identifier stored in the database.
+     * <p>
+     * The first stage of the new filter holds twice the number of stored categories, so the
+     * filter does not grow before the table doubles. The identifiers are read in chunks of
+     * {@value #REBUILD_CHUNK_SIZE}, selecting only the primary key. Checks keep using the current
+     * filter meanwhile, and the categories created during the load are added to the new one
+     * before it takes over; the ones deleted during the load remain as false positives.
+     *
+     * @return the statistics of the rebuilt filter.
+     */
+    public CategoryIdFilterStats rebuild() {
+        synchronized (rebuildLock) {
+            final long start = System.nanoTime();
+            final long horizon = Instant.now().minus(trustMargin).toEpochMilli();
+
+            write(() -> pending = new ArrayList<>());
+            final ScalableCountingBloomFilter fresh;
+            try {
+                final long capacity = Math.max(minimumCapacity, 2 * categoryRepository.count());
+                fresh = new ScalableCountingBloomFilter(capacity, falsePositiveRate);
+                load(fresh);
+            } catch (RuntimeException e) {
+                write(() -> pending = null);
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                snapshotRemovable = fresh.stageCount() == 1;
+                pending.forEach(id -> add(fresh, id));
+                pending = null;
+                filter = fresh;
+                snapshotHorizon = horizon;
+                builtAt = Instant.now();
+                buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                return statsOf(filter);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Adds the identifier of a created category to the filter.
+     *
+     * @param id the identifier of the created category.
+     */
+    public void add(final CategoryID id) {
+        write(() -> {
+            if (filter != null) {
+                add(filter, id);
+            }
+            if (pending != null) {
+                pending.add(id);
+            }
+        });
+    }
+
+    /**
+     * Removes the identifier of a deleted category from the filter, if it is known to be in the
+     * first stage. The caller must only report categories that were actually deleted.
+     *
+     * @param id the identifier of the deleted category.
+     */
+    public void remove(final CategoryID id) {
+        write(() -> {
+            if (filter == null) {
+                return;
+            }
+
+            final boolean inSnapshot = snapshotRemovable && timestampOf(id) < snapshotHorizon;
+            if (inSnapshot || (singleInstance && filter.stageCount() == 1)) {
+                filter.remove(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            }
+        });
+    }
+
+    /**
+     * Tells whether the category with the given identifier might exist.
+     *
+     * @param id the category identifier.
+     * @return {@code false} if the category definitely does not exist; {@code true} if it might,
+     * and the database must be queried.
+     */
+    public boolean mightContain(final CategoryID id) {
+        checks.increment();
+
+        lock.readLock().lock();
+        try {
+            if (filter == null
+                || !isTrusted(id)
+                || filter.mightContain(id.getMostSignificantBits(), id.getLeastSignificantBits())) {
+                return true;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        definiteMisses.increment();
+        return false;
+    }
+
+    /**
+     * Reports that the database did not find a category the filter said might exist, counting a
+     * false positive when the filter could have answered for its identifier.
+     *
+     * @param id the identifier of the category not found.
+     */
+    public void reportAbsent(final CategoryID id) {
+        lock.readLock().lock();
+        try {
+            if (filter != null && isTrusted(id)) {
+                falsePositives.increment();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the size, memory footprint and false positive rates of the filter.
+     *
+     * @return the statistics of the filter.
+     */
+    public CategoryIdFilterStats stats() {
+        lock.readLock().lock();
+        try {
+            return statsOf(filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the time the given ULID was generated at.
+     *
+     * @param id the category identifier.
+     * @return the timestamp of the identifier, in epoch milliseconds.
+     */
+    static long timestampOf(final CategoryID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * Reads every category identifier from the database into the given filter.
+     *
+     * @param fresh the empty filter to fill.
+     */
+    private void load(final ScalableCountingBloomFilter fresh) {
+        final var chunk = PageRequest.ofSize(REBUILD_CHUNK_SIZE);
+        String after = null;
+        List<String> ids;
+
+        do {
+            ids = categoryRepository.findIdsAfter(after, chunk);
+            for (final String id : ids) {
+                add(fresh, CategoryID.fromTrustedString(id));
+            }
+            if (!ids.isEmpty()) {
+                after = ids.getLast();
+            }
+        } while (ids.size() == REBUILD_CHUNK_SIZE);
+    }
+
+    /**
+     * Determines if a miss of the given identifier can be trusted; the caller must hold the
+     * lock.
+     *
+     * @param id the category identifier.
+     * @return {@code true} if every write of the category reached the filter.
+     */
+    private boolean isTrusted(final CategoryID id) {
+        return singleInstance || timestampOf(id) < snapshotHorizon;
+    }
+
+    /**
+     * Runs the given action holding the write lock.
+     *
+     * @param action the action.
+     */
+    private void write(final Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Builds the statistics of the given filter; the caller must hold the lock.
+     *
+     * @param aFilter the filter, or {@code null} before the first rebuild.
+     * @return the statistics.
+     */
+    private CategoryIdFilterStats statsOf(final ScalableCountingBloomFilter aFilter) {
+        final long misses = definiteMisses.sum();
+        final long positives = falsePositives.sum();
+        final long negatives = misses + positives;
+
+        return new CategoryIdFilterStats(
+            aFilter == null ? 0 : aFilter.size(),
+            aFilter == null ? 0 : aFilter.stageCount(),
+            aFilter == null ? 0 : aFilter.estimatedBytes(),
+            falsePositiveRate,
+            aFilter == null ? 0 : aFilter.expectedFalsePositiveRate(),
+            checks.sum(),
+            misses,
+            positives,
+            negatives == 0 ? 0 : (double) positives / negatives,
+            builtAt,
+            buildMillis
+        );
+    }
+
+    /**
+     * Adds a category identifier to the given filter.
+     *
+     * @param aFilter the filter.
+     * @param id      the category identifier.
+     */
+    private static void add(final ScalableCountingBloomFilter aFilter, final CategoryID id) {
+        aFilter.add(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+}
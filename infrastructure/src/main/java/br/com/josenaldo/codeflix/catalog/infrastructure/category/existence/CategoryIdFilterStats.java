@@ -0,0 +1,44 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.existence;
+
+import java.time.Instant;
+
+/**
+ * Size, memory footprint and accuracy of the {@link CategoryIdFilter}.
+ *
+ * @param ids                       the number of category identifiers in the filter.
+ * @param stages                    the number of stages of the filter; it grows by one each
+ *                                  time the last stage fills up.
+ * @param estimatedBytes            the heap used by the counters of the filter, in bytes.
+ * @param targetFalsePositiveRate   the configured false positive rate.
+ * @param expectedFalsePositiveRate the false positive rate estimated from the counters set.
+ * @param checks                    the number of identifiers checked since the application
+ *                                  started.
+ * @param definiteMisses            the number of checked identifiers answered as absent
+ *                                  without querying the database.
+ * @param falsePositives            the number of checked identifiers the filter could have
+ *                                  answered, reported as maybe present and not found by the
+ *                                  database.
+ * @param observedFalsePositiveRate the share of the absent identifiers the filter could have
+ *                                  answered that it reported as maybe present, or {@code 0}
+ *                                  before any of them.
+ * @param builtAt                   when the filter was last rebuilt, or {@code null} if it
+ *                                  never was.
+ * @param buildMillis               how long the last rebuild took, in milliseconds.
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public record CategoryIdFilterStats(
+    long ids,
+    int stages,
+    long estimatedBytes,
+    double targetFalsePositiveRate,
+    double expectedFalsePositiveRate,
+    long checks,
+    long definiteMisses,
+    long falsePositives,
+    double observedFalsePositiveRate,
+    Instant builtAt,
+    long buildMillis
+) {
+
+}
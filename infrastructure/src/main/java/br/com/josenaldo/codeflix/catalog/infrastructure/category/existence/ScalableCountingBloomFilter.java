@@ -0,0 +1,312 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.existence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scalable counting Bloom filter of 128-bit keys, such as ULIDs.
+ * <p>
+ * The filter is a chain of stages. Each stage is a counting Bloom filter: every key increments
+ * {@code k} 4-bit counters chosen by double hashing, and a key might be present only if all its
+ * counters are non-zero. Counters can be decremented, so keys can be removed, and a counter that
+ * reaches its maximum of {@value #MAX_COUNT} sticks there, trading a false positive for never
+ * producing a false negative.
+ * <p>
+ * A stage holds up to its capacity of keys at its share of the target false positive rate. When
+ * the last stage is full, a new one is appended with {@value #GROWTH} times its capacity and half
+ * its false positive rate, so the rates of all the stages add up to at most the target however
+ * many keys are added.
+ * <p>
+ * A removal can only undo an insertion if it decrements the stage the key was added to, and the
+ * filter does not know which one that was. {@link #remove(long, long)} therefore only removes
+ * keys from the first stage, and callers must only remove keys they know were added while the
+ * first stage had room.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+final class ScalableCountingBloomFilter {
+
+    /**
+     * Largest value of a counter; a counter at this value is never incremented nor decremented.
+     */
+    static final int MAX_COUNT = 15;
+
+    /**
+     * Factor by which the capacity of each new stage grows.
+     */
+    static final int GROWTH = 2;
+
+    /**
+     * Factor by which the false positive rate of each new stage shrinks.
+     */
+    private static final double TIGHTENING = 0.5;
+
+    /**
+     * Number of bits of a counter.
+     */
+    private static final int COUNTER_BITS = 4;
+
+    /**
+     * Number of counters packed in a {@code long}.
+     */
+    private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+
+    /**
+     * The target false positive rate of the whole filter.
+     */
+    private final double falsePositiveRate;
+
+    /**
+     * The stages, from the first, and smallest, to the last.
+     */
+    private final List<Stage> stages = new ArrayList<>();
+
+    /**
+     * Creates an empty filter.
+     *
+     * @param initialCapacity   the number of keys the first stage holds; must be greater than 0.
+     * @param falsePositiveRate the target false positive rate; must be between 0 and 1, both
+     *                          excluded.
+     */
+    ScalableCountingBloomFilter(final long initialCapacity, final double falsePositiveRate) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be greater than 0.");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1.");
+        }
+
+        this.falsePositiveRate = falsePositiveRate;
+        this.stages.add(new Stage(initialCapacity, falsePositiveRate * (1 - TIGHTENING)));
+    }
+
+    /**
+     * Adds a key to the last stage, appending a new stage first if the last one is full.
+     *
+     * @param mostSignificantBits  the most significant 64 bits of the key.
+     * @param leastSignificantBits the least significant 64 bits of the key.
+     */
+    void add(final long mostSignificantBits, final long leastSignificantBits) {
+        Stage last = stages.getLast();
+        if (last.count >= last.capacity) {
+            last = new Stage(
+                last.capacity * GROWTH,
+                falsePositiveRate * (1 - TIGHTENING) * Math.pow(TIGHTENING, stages.size())
+            );
+            stages.add(last);
+        }
+        last.add(hash1(mostSignificantBits, leastSignificantBits),
+            hash2(mostSignificantBits, leastSignificantBits));
+    }
+
+    /**
+     * Removes a key from the first stage. The key must have been added to the first stage;
+     * otherwise other keys may be reported as absent.
+     *
+     * @param mostSignificantBits  the most significant 64 bits of the key.
+     * @param leastSignificantBits the least significant 64 bits of the key.
+     */
+    void remove(final long mostSignificantBits, final long leastSignificantBits) {
+        stages.getFirst().remove(
+            hash1(mostSignificantBits, leastSignificantBits),
+            hash2(mostSignificantBits, leastSignificantBits)
+        );
+    }
+
+    /**
+     * Tells whether the key might have been added.
+     *
+     * @param mostSignificantBits  the most significant 64 bits of the key.
+     * @param leastSignificantBits the least significant 64 bits of the key.
+     * @return {@code false} if the key was definitely not added, or was removed; {@code true} if
+     * it might have been added.
+     */
+    boolean mightContain(final long mostSignificantBits, final long leastSignificantBits) {
+        final long h1 = hash1(mostSignificantBits, leastSignificantBits);
+        final long h2 = hash2(mostSignificantBits, leastSignificantBits);
+        for (final Stage stage : stages) {
+            if (stage.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of keys added, minus the ones removed.
+     *
+     * @return the number of keys.
+     */
+    long size() {
+        long size = 0;
+        for (final Stage stage : stages) {
+            size += stage.count;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of stages.
+     *
+     * @return the number of stages.
+     */
+    int stageCount() {
+        return stages.size();
+    }
+
+    /**
+     * Returns the heap used by the counters of all the stages, in bytes.
+     *
+     * @return the size of the counters, in bytes.
+     */
+    long estimatedBytes() {
+        long bytes = 0;
+        for (final Stage stage : stages) {
+            bytes += (long) stage.words.length * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimates the probability that a key never added is reported as present, from how many
+     * counters of each stage are set.
+     *
+     * @return the estimated false positive rate, between 0 and 1.
+     */
+    double expectedFalsePositiveRate() {
+        double allNegative = 1;
+        for (final Stage stage : stages) {
+            allNegative *= 1 - Math.pow((double) stage.nonZero / stage.counters, stage.hashes);
+        }
+        return 1 - allNegative;
+    }
+
+    /**
+     * First hash of a key: a 64-bit mix of both halves.
+     */
+    private static long hash1(final long mostSignificantBits, final long leastSignificantBits) {
+        return mix(mostSignificantBits ^ mix(leastSignificantBits));
+    }
+
+    /**
+     * Second hash of a key, odd so that the probes of double hashing never repeat early.
+     */
+    private static long hash2(final long mostSignificantBits, final long leastSignificantBits) {
+        return mix(leastSignificantBits ^ 0x9E3779B97F4A7C15L * mostSignificantBits) | 1;
+    }
+
+    /**
+     * The finalizer of SplitMix64, which spreads every input bit over the whole output.
+     */
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * A counting Bloom filter sized for a capacity and a false positive rate.
+     */
+    private static final class Stage {
+
+        /**
+         * Number of keys the stage holds at its false positive rate.
+         */
+        private final long capacity;
+
+        /**
+         * Number of counters each key sets.
+         */
+        private final int hashes;
+
+        /**
+         * Total number of counters, a multiple of the counters packed in a word.
+         */
+        private final long counters;
+
+        /**
+         * The counters, packed {@code COUNTERS_PER_WORD} to a word.
+         */
+        private final long[] words;
+
+        /**
+         * Number of keys added to the stage, less the ones removed.
+         */
+        private long count;
+
+        /**
+         * Number of counters above zero, used to estimate the current false positive rate.
+         */
+        private long nonZero;
+
+        private Stage(final long capacity, final double falsePositiveRate) {
+            final double ln2 = Math.log(2);
+            final long optimalCounters = (long) Math.ceil(
+                -capacity * Math.log(falsePositiveRate) / (ln2 * ln2)
+            );
+            final long wordCount = Math.max(1, Math.ceilDiv(optimalCounters, COUNTERS_PER_WORD));
+
+            this.capacity = capacity;
+            this.words = new long[Math.toIntExact(wordCount)];
+            this.counters = wordCount * COUNTERS_PER_WORD;
+            this.hashes = Math.max(1, (int) Math.round((double) this.counters / capacity * ln2));
+        }
+
+        private void add(final long h1, final long h2) {
+            for (int i = 0; i < hashes; i++) {
+                final long index = indexOf(h1, h2, i);
+                final int value = get(index);
+                if (value == 0) {
+                    nonZero++;
+                }
+                if (value < MAX_COUNT) {
+                    set(index, value + 1);
+                }
+            }
+            count++;
+        }
+
+        private void remove(final long h1, final long h2) {
+            for (int i = 0; i < hashes; i++) {
+                final long index = indexOf(h1, h2, i);
+                final int value = get(index);
+                if (value > 0 && value < MAX_COUNT) {
+                    set(index, value - 1);
+                    if (value == 1) {
+                        nonZero--;
+                    }
+                }
+            }
+            count--;
+        }
+
+        private boolean mightContain(final long h1, final long h2) {
+            for (int i = 0; i < hashes; i++) {
+                if (get(indexOf(h1, h2, i)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long indexOf(final long h1, final long h2, final int i) {
+            return Long.remainderUnsigned(h1 + i * h2, counters);
+        }
+
+        private int get(final long index) {
+            final int shift = (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+            return (int) (words[(int) (index / COUNTERS_PER_WORD)] >>> shift) & MAX_COUNT;
+        }
+
+        private void set(final long index, final int value) {
+            final int word = (int) (index / COUNTERS_PER_WORD);
+            final int shift = (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+            words[word] = (words[word] & ~((long) MAX_COUNT << shift))
+                | ((long) value << shift);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * The response of a bulk category creation, with one result per requested category, in request
+ * order.
+ *
+ * @param created the number of categories created.
+ * @param failed  the number of categories that could not be created.
+ * @param items   the result of each requested category.
+ */
+public record CreateCategoriesResponse(
+    @JsonProperty("created") int created,
+    @JsonProperty("failed") int failed,
+    @JsonProperty("items") List<CreateCategoryResultResponse> items
+) {
+
+}
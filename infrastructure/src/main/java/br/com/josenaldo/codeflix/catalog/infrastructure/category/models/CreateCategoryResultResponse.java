@@ -0,0 +1,21 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.models;
+
+import br.com.josenaldo.codeflix.catalog.domain.validation.Error;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * The result of one item of a bulk category creation: the identifier of the created category, or
+ * the errors that prevented it from being created.
+ *
+ * @param index  the position of the item in the request.
+ * @param id     the identifier of the created category, or {@code null} if it was not created.
+ * @param errors the errors of the item; empty if the category was created.
+ */
+public record CreateCategoryResultResponse(
+    @JsonProperty("index") int index,
+    @JsonProperty("id") String id,
+    @JsonProperty("errors") List<Error> errors
+) {
+
+}
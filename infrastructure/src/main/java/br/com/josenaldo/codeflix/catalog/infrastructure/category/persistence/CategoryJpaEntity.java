@@ -2,11 +2,18 @@ package br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence;
 
 import br.com.josenaldo.codeflix.catalog.domain.category.Category;
 import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CacheRegions;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.UlidBinaryConverter;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.Instant;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Represents the JPA entity for the "category" table.
@@ -16,22 +23,35 @@ import java.time.Instant;
  * convert between the JPA entity and the domain object.
  * <p>
  * The entity is used by the persistence layer to perform CRUD operations on category data.
+ * <p>
+ * Updates are generated at flush time with {@link DynamicUpdate}, so an {@code UPDATE} statement
+ * only writes the columns whose values have changed.
+ * <p>
+ * Categories are read far more often than they change, so loaded entities are kept in the
+ * {@value CacheRegions#CATEGORIES} region of the second-level cache, and loading one by its
+ * identifier skips the database while it is there. Writes through Hibernate update or evict the
+ * cached entity in the same transaction.
  *
  * @author Josenaldo de Oliveira Matos Filho
  * @version 1.0
  */
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORIES)
 @Table(name = "categories")
 public class CategoryJpaEntity {
 
     /**
      * Unique identifier of the category.
      * <p>
-     * Mapped to the "id" column in the database. The length is fixed at 26 characters because the
-     * ID is generated using the ULID algorithm.
+     * Mapped to the "id" column in the database. The ID is generated using the ULID algorithm and
+     * kept here in its textual form, but it is stored as a {@code BINARY(16)} value through the
+     * {@link UlidBinaryConverter}.
      */
     @Id
-    @Column(name = "id", nullable = false, length = 26)
+    @Convert(converter = UlidBinaryConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     /**
@@ -141,16 +161,37 @@ public class CategoryJpaEntity {
         );
     }
 
+    /**
+     * Copies the mutable state of a {@link Category} domain object into this entity.
+     * <p>
+     * When this entity is managed, Hibernate's dirty checking compares the copied values with the
+     * ones loaded from the database and writes only the columns that differ. The identifier and the
+     * creation timestamp never change and are not copied.
+     *
+     * @param category the domain object holding the new state.
+     * @return this entity.
+     */
+    public CategoryJpaEntity updateFrom(final Category category) {
+        this.updatedAt = category.getUpdatedAt();
+        this.deletedAt = category.getDeletedAt();
+        this.name = category.getName();
+        this.description = category.getDescription();
+        this.active = category.isActive();
+        return this;
+    }
+
     /**
      * Converts this {@code CategoryJpaEntity} to a {@link Category} domain object.
      * <p>
-     * The conversion maps all entity fields to the corresponding domain object fields.
+     * The conversion maps all entity fields to the corresponding domain object fields. The
+     * identifier is read back from our own database in canonical form, so it goes through the
+     * trusted, validation-free factory.
      *
      * @return a {@code Category} domain object representing this entity.
      */
     public Category to() {
         return Category.with(
-            CategoryID.fromString(getId()),
+            CategoryID.fromTrustedString(getId()),
             getCreatedAt(),
             getUpdatedAt(),
             getDeletedAt(),
@@ -0,0 +1,85 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.time.Instant;
+
+/**
+ * Read-only view of a category row, selected straight from the {@code categories} table by the
+ * list queries.
+ * <p>
+ * Unlike a {@link CategoryJpaEntity}, a projection is not managed by the persistence context:
+ * reading a page of them allocates neither the entity instances nor the snapshot of their state
+ * Hibernate keeps for dirty checking, and the flush at the end of the transaction has nothing to
+ * inspect.
+ * <p>
+ * The components are named after the attributes of {@link CategoryJpaEntity}, so the cursor of
+ * the next page can be read from the last projection of a page.
+ *
+ * @param id          the identifier of the category.
+ * @param createdAt   the timestamp when the category was created.
+ * @param updatedAt   the timestamp when the category was last updated.
+ * @param deletedAt   the timestamp when the category was deleted, or {@code null}.
+ * @param name        the name of the category.
+ * @param description the description of the category.
+ * @param active      the active status of the category.
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public record CategoryListProjection(
+    String id,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant deletedAt,
+    String name,
+    String description,
+    boolean active
+) {
+
+    /**
+     * Builds the selection that reads each row of a criteria query into a
+     * {@code CategoryListProjection}.
+     *
+     * @param cb   the criteria builder.
+     * @param root the root of the query.
+     * @return the constructor selection of the projection.
+     */
+    public static Selection<CategoryListProjection> selection(
+        final CriteriaBuilder cb,
+        final Root<CategoryJpaEntity> root
+    ) {
+        return cb.construct(
+            CategoryListProjection.class,
+            root.get("id"),
+            root.get("createdAt"),
+            root.get("updatedAt"),
+            root.get("deletedAt"),
+            root.get("name"),
+            root.get("description"),
+            root.get("active")
+        );
+    }
+
+    /**
+     * Converts this projection into a {@link Category} domain object.
+     * <p>
+     * The identifier is read back from our own database in canonical form, so it goes through the
+     * trusted, validation-free factory.
+     *
+     * @return a {@code Category} domain object with the values of this projection.
+     */
+    public Category to() {
+        return Category.with(
+            CategoryID.fromTrustedString(id),
+            createdAt,
+            updatedAt,
+            deletedAt,
+            name,
+            description,
+            active
+        );
+    }
+}
@@ -1,13 +1,19 @@
 package br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence;
 
-import static br.com.josenaldo.codeflix.catalog.infrastructure.utils.SpecificationUtils.like;
-
-import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
-import java.util.Optional;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CacheRegions;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for managing {@link CategoryJpaEntity} persistence operations.
@@ -22,27 +28,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
 
-    /**
-     * Builds a JPA Specification to filter {@link CategoryJpaEntity} objects based on a search term.
-     * <p>
-     * This method checks if the {@link SearchQuery} contains a non-blank term. If a valid term is provided,
-     * it creates a Specification that performs a "like" match on both the "name" and "description" fields.
-     * If no valid term is present, the method returns null.
-     *
-     * @param aSearchQuery the search query containing the term used for filtering.
-     * @return a Specification for filtering by the search term, or null if no valid term is provided.
-     */
-    static Specification<CategoryJpaEntity> getTermLikeSpecification(SearchQuery aSearchQuery) {
-        return Optional.ofNullable(aSearchQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> {
-                    Specification<CategoryJpaEntity> nameLike = like("name", str);
-                    Specification<CategoryJpaEntity> descriptionLike = like("description", str);
-                    return nameLike.or(descriptionLike);
-                })
-                .orElse(null);
-    }
-
     /**
      * Retrieves a paginated list of {@link CategoryJpaEntity} objects that match the given Specification.
      * <p>
@@ -54,4 +39,79 @@ public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, Str
      * @return a Page of CategoryJpaEntity objects matching the given criteria.
      */
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable pageable);
+
+    /**
+     * Counts the {@link CategoryJpaEntity} objects that match the given Specification.
+     * <p>
+     * The count is cached in the {@value CacheRegions#CATEGORY_QUERIES} region, so repeating a
+     * search does not count the matching rows again until a category is written.
+     *
+     * @param whereClause the Specification containing the filtering criteria.
+     * @return the number of CategoryJpaEntity objects matching the given criteria.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATEGORY_QUERIES)
+    })
+    long count(Specification<CategoryJpaEntity> whereClause);
+
+    /**
+     * Retrieves the identifiers, among the given ones, of the categories stored in the database.
+     * <p>
+     * Only the {@code id} column is selected, so the query is answered from the primary key index
+     * without loading any entity. Callers are expected to bound the number of identifiers sent in
+     * a single call.
+     *
+     * @param ids the identifiers to look for.
+     * @return the identifiers that exist, in no particular order.
+     */
+    @Query("select c.id from CategoryJpaEntity c where c.id in :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Retrieves the identifier, name and description of the categories whose identifier comes
+     * after the given one, in identifier order.
+     * <p>
+     * It reads the whole table in keyset chunks, selecting only the columns needed to build a
+     * search index, without loading entities into the persistence context.
+     *
+     * @param after the identifier of the last category already read, or {@code null} to start
+     *              from the first one.
+     * @param limit the page request whose size bounds the number of rows returned.
+     * @return the rows, each one as {@code [id, name, description]}.
+     */
+    @Query("select c.id, c.name, c.description from CategoryJpaEntity c "
+        + "where :after is null or c.id > :after order by c.id")
+    List<Object[]> findSearchableAfter(@Param("after") String after, Pageable limit);
+
+    /**
+     * Retrieves the identifiers of the categories whose identifier comes after the given one, in
+     * identifier order.
+     * <p>
+     * It reads the whole table in keyset chunks, selecting only the primary key, to build the
+     * in-memory filter of the stored identifiers.
+     *
+     * @param after the identifier of the last category already read, or {@code null} to start
+     *              from the first one.
+     * @param limit the page request whose size bounds the number of identifiers returned.
+     * @return the identifiers, in order.
+     */
+    @Query("select c.id from CategoryJpaEntity c "
+        + "where :after is null or c.id > :after order by c.id")
+    List<String> findIdsAfter(@Param("after") String after, Pageable limit);
+
+    /**
+     * Deletes the category with the given identifier with a single bulk {@code DELETE} statement.
+     * <p>
+     * Unlike {@link #deleteById(Object)}, the entity is neither checked for existence nor loaded
+     * before being removed. Pending changes are flushed before the statement runs, and the
+     * persistence context is cleared afterwards so it does not keep the deleted entity.
+     *
+     * @param id the identifier of the category to delete.
+     * @return the number of deleted rows: {@code 1} if the category existed, {@code 0} otherwise.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CategoryJpaEntity c where c.id = :id")
+    int deleteByIdReturningCount(@Param("id") String id);
 }
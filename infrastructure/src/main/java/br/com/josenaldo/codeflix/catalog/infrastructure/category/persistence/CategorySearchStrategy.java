@@ -0,0 +1,106 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence;
+
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Strategy used to filter and rank {@link CategoryJpaEntity} objects by the search terms of a
+ * {@link SearchQuery}.
+ * <p>
+ * Each database has its own way to search text efficiently, so the implementation is chosen by
+ * the {@code database.search} property:
+ * <ul>
+ *   <li>{@code fulltext}: {@link FullTextCategorySearchStrategy}, which uses the MySQL
+ *       {@code FULLTEXT} index on {@code name} and {@code description}, and only matches terms
+ *       found at the start of a word.</li>
+ *   <li>{@code like} (default): {@link LikeCategorySearchStrategy}, a portable
+ *       {@code UPPER(...) LIKE '%term%'} scan used with H2.</li>
+ * </ul>
+ * <p>
+ * Besides filtering, every strategy can order the matches by relevance, which clients request
+ * with the {@value #RELEVANCE} sort. Relevance is not a column, so those pages are never
+ * addressed by cursors.
+ * <p>
+ * Every strategy renders the same filter and order both as JPA Specifications, for the
+ * {@code CategoryMySQLGateway}, and as SQL fragments, for the {@code CategoryJdbcGateway}, so both
+ * adapters find and rank the same categories.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public interface CategorySearchStrategy {
+
+    /**
+     * Sort value that orders the categories by how well they match the search terms, the best
+     * matches first.
+     */
+    String RELEVANCE = "relevance";
+
+    /**
+     * Determines if the search query asks for the categories ordered by relevance.
+     *
+     * @param aSearchQuery the search query.
+     * @return {@code true} if the sort of the query is {@value #RELEVANCE}; {@code false}
+     * otherwise.
+     */
+    static boolean isRankedByRelevance(final SearchQuery aSearchQuery) {
+        return RELEVANCE.equalsIgnoreCase(aSearchQuery.sort());
+    }
+
+    /**
+     * Determines if there are search terms to filter by.
+     *
+     * @param terms the search terms; may be {@code null}.
+     * @return {@code false} if the terms are missing or blank.
+     */
+    static boolean hasTerms(final String terms) {
+        return terms != null && !terms.isBlank();
+    }
+
+    /**
+     * Builds a Specification matching the categories whose name or description match the given
+     * terms.
+     *
+     * @param terms the search terms; may be {@code null} or blank.
+     * @return the Specification, or {@code null} to match every category when there are no terms.
+     */
+    Specification<CategoryJpaEntity> matching(String terms);
+
+    /**
+     * Builds a Specification matching the same categories as {@link #matching(String)}, ordering
+     * them by relevance and then by identifier.
+     * <p>
+     * The order is applied to the query by the Specification itself, so it must be used with an
+     * unsorted page request.
+     *
+     * @param terms the search terms; may be {@code null} or blank, in which case every category
+     *              matches, ordered by identifier.
+     * @return the Specification; never {@code null}.
+     */
+    Specification<CategoryJpaEntity> rankedByRelevance(String terms);
+
+    /**
+     * Builds the SQL predicate matching the same categories as {@link #matching(String)}, over
+     * the columns of the {@code categories} table, binding its values to the given parameters.
+     *
+     * @param terms      the search terms; may be {@code null} or blank.
+     * @param parameters the named parameters the values are bound to.
+     * @return the predicate, or {@code null} to match every category when there are no terms.
+     */
+    String sqlMatching(String terms, MapSqlParameterSource parameters);
+
+    /**
+     * Builds the SQL {@code ORDER BY} expressions that rank the categories matched by
+     * {@link #sqlMatching(String, MapSqlParameterSource)} as {@link #rankedByRelevance(String)}
+     * does, ending with the identifier.
+     * <p>
+     * It must be called after {@code sqlMatching} with the same terms and parameters, whose
+     * values it may reuse.
+     *
+     * @param terms      the search terms; may be {@code null} or blank.
+     * @param parameters the named parameters the values are bound to.
+     * @return the order expressions, without the {@code ORDER BY} keywords.
+     */
+    String sqlRelevanceOrder(String terms, MapSqlParameterSource parameters);
+}
@@ -0,0 +1,192 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence;
+
+import static br.com.josenaldo.codeflix.catalog.infrastructure.persistence.MySQLFullTextFunctionContributor.MATCH_AGAINST;
+
+import br.com.josenaldo.codeflix.catalog.infrastructure.utils.SliceQueryUtils;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL {@link CategorySearchStrategy} that answers searches from the {@code FULLTEXT} index on
+ * {@code name} and {@code description}, with {@code MATCH ... AGAINST}.
+ * <p>
+ * The terms are split into words and every word becomes a required prefix ({@code +word*}) of a
+ * boolean mode query, so the candidate rows come from the index instead of a table scan. The
+ * candidates are then checked with the {@code LIKE} predicate of the
+ * {@link LikeCategorySearchStrategy}, so the terms must still appear as typed: short words, word
+ * order and adjacency are kept, and {@code "de filmes"} does not find {@code "Filmes de ação"}.
+ * The score computed by MySQL for each row is used to rank the results by relevance.
+ * <p>
+ * This is a deliberate change of the search API compared to the {@code LIKE} search: the terms
+ * must start at the beginning of a word. {@code "fil"} finds {@code "Filmes"}, but {@code "mes"}
+ * no longer does. Every match of this strategy is a match of the {@code LIKE} search, but not the
+ * other way around. When the in-memory {@code CategorySearchIndex} is enabled, it answers the
+ * plain searches it can with the {@code LIKE} semantics, and this strategy only gets the searches
+ * ranked by relevance and the ones the index leaves to the database.
+ * <p>
+ * InnoDB does not index words shorter than {@value #MIN_TOKEN_SIZE} characters
+ * ({@code innodb_ft_min_token_size}). Those words are left out of the boolean mode query and only
+ * checked by the {@code LIKE} predicate, and terms made only of such words are searched with the
+ * {@link LikeCategorySearchStrategy} alone.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "database.search", havingValue = "fulltext")
+public class FullTextCategorySearchStrategy implements CategorySearchStrategy {
+
+    /**
+     * The shortest word InnoDB indexes with the default {@code innodb_ft_min_token_size}.
+     */
+    public static final int MIN_TOKEN_SIZE = 3;
+
+    /**
+     * Separators between words, which also drops the boolean mode operators from the terms.
+     */
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * The full-text score of a row in the SQL fragments, with the boolean mode query bound to the
+     * {@code booleanQuery} parameter.
+     */
+    private static final String SQL_SCORE =
+        "MATCH(name, description) AGAINST (:booleanQuery IN BOOLEAN MODE)";
+
+    /**
+     * Strategy for the terms the index cannot answer.
+     */
+    private final LikeCategorySearchStrategy fallback = new LikeCategorySearchStrategy();
+
+    /**
+     * Builds a Specification matching the categories with a positive full-text score that also
+     * contain the terms as typed.
+     *
+     * @param terms the search terms; may be {@code null} or blank.
+     * @return the Specification, or {@code null} if there are no terms.
+     */
+    @Override
+    public Specification<CategoryJpaEntity> matching(final String terms) {
+        final String booleanQuery = booleanQueryOf(terms);
+        final Specification<CategoryJpaEntity> like = fallback.matching(terms);
+        if (booleanQuery == null) {
+            return like;
+        }
+
+        return (root, query, cb) -> cb.and(
+            cb.greaterThan(score(root, cb, booleanQuery), 0.0),
+            like.toPredicate(root, query, cb)
+        );
+    }
+
+    /**
+     * Builds a Specification matching the same categories as {@link #matching(String)}, ordered by
+     * their full-text score, from the highest.
+     *
+     * @param terms the search terms; may be {@code null} or blank.
+     * @return the Specification; never {@code null}.
+     */
+    @Override
+    public Specification<CategoryJpaEntity> rankedByRelevance(final String terms) {
+        final String booleanQuery = booleanQueryOf(terms);
+        if (booleanQuery == null) {
+            return fallback.rankedByRelevance(terms);
+        }
+
+        final Specification<CategoryJpaEntity> like = fallback.matching(terms);
+        return (root, query, cb) -> {
+            final Expression<Double> score = score(root, cb, booleanQuery);
+            query.orderBy(cb.desc(score), cb.asc(root.get(SliceQueryUtils.ID)));
+            return cb.and(cb.greaterThan(score, 0.0), like.toPredicate(root, query, cb));
+        };
+    }
+
+    /**
+     * Builds the SQL predicate matching the rows with a positive full-text score that also
+     * contain the terms as typed.
+     *
+     * @param terms      the search terms; may be {@code null} or blank.
+     * @param parameters the named parameters the values are bound to.
+     * @return the predicate, or {@code null} if there are no terms.
+     */
+    @Override
+    public String sqlMatching(final String terms, final MapSqlParameterSource parameters) {
+        final String booleanQuery = booleanQueryOf(terms);
+        final String like = fallback.sqlMatching(terms, parameters);
+        if (booleanQuery == null) {
+            return like;
+        }
+
+        parameters.addValue("booleanQuery", booleanQuery);
+        return SQL_SCORE + " > 0 AND " + like;
+    }
+
+    /**
+     * Builds the order by full-text score, from the highest.
+     *
+     * @param terms      the search terms; may be {@code null} or blank.
+     * @param parameters the named parameters of the predicate.
+     * @return the order expressions.
+     */
+    @Override
+    public String sqlRelevanceOrder(final String terms, final MapSqlParameterSource parameters) {
+        final String booleanQuery = booleanQueryOf(terms);
+        if (booleanQuery == null) {
+            return fallback.sqlRelevanceOrder(terms, parameters);
+        }
+
+        parameters.addValue("booleanQuery", booleanQuery);
+        return SQL_SCORE + " DESC, id";
+    }
+
+    /**
+     * Builds the boolean mode query for the given terms: each indexable word as a required
+     * prefix.
+     *
+     * @param terms the search terms; may be {@code null}.
+     * @return the boolean mode query, or {@code null} if the terms have no word of at least
+     * {@value #MIN_TOKEN_SIZE} characters.
+     */
+    static String booleanQueryOf(final String terms) {
+        if (terms == null) {
+            return null;
+        }
+
+        final String booleanQuery = Arrays.stream(NON_WORD.split(terms))
+                                          .filter(word -> word.length() >= MIN_TOKEN_SIZE)
+                                          .map(word -> "+" + word + "*")
+                                          .collect(Collectors.joining(" "));
+
+        return booleanQuery.isEmpty() ? null : booleanQuery;
+    }
+
+    /**
+     * Builds the expression of the full-text score of a category for the given query.
+     *
+     * @param root         the root of the query.
+     * @param cb           the criteria builder.
+     * @param booleanQuery the boolean mode query.
+     * @return the score expression.
+     */
+    private static Expression<Double> score(
+        final Root<CategoryJpaEntity> root,
+        final CriteriaBuilder cb,
+        final String booleanQuery
+    ) {
+        return cb.function(
+            MATCH_AGAINST,
+            Double.class,
+            root.get("name"),
+            root.get("description"),
+            cb.literal(booleanQuery)
+        );
+    }
+}
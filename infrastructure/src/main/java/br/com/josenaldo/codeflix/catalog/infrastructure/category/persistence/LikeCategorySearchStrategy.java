@@ -0,0 +1,128 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence;
+
+import static br.com.josenaldo.codeflix.catalog.infrastructure.utils.SpecificationUtils.like;
+
+import br.com.josenaldo.codeflix.catalog.infrastructure.utils.SliceQueryUtils;
+import jakarta.persistence.criteria.Expression;
+import java.util.Locale;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Portable {@link CategorySearchStrategy} that matches the terms anywhere in the name or the
+ * description with {@code UPPER(...) LIKE '%TERM%'}.
+ * <p>
+ * No index can answer such a predicate, so every search scans the table. It is the strategy of
+ * databases without a suitable full-text index, such as the H2 database of the test profiles.
+ * Relevance is approximated by ranking the categories whose name matches before the ones that
+ * only match by description.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "database.search", havingValue = "like", matchIfMissing = true)
+public class LikeCategorySearchStrategy implements CategorySearchStrategy {
+
+    /**
+     * Name of the parameter the {@code LIKE} pattern is bound to in the SQL fragments.
+     */
+    private static final String TERMS_PARAMETER = "terms";
+
+    /**
+     * Matches the categories whose name or description contains the search terms.
+     */
+    private static final String TERMS_LIKE =
+        "(UPPER(name) LIKE :terms OR UPPER(description) LIKE :terms)";
+
+    /**
+     * Builds a Specification that performs a "like" match on both the "name" and "description"
+     * fields.
+     *
+     * @param terms the search terms; may be {@code null} or blank.
+     * @return the Specification, or {@code null} if there are no terms.
+     */
+    @Override
+    public Specification<CategoryJpaEntity> matching(final String terms) {
+        if (!CategorySearchStrategy.hasTerms(terms)) {
+            return null;
+        }
+
+        final Specification<CategoryJpaEntity> nameLike = like("name", terms);
+        final Specification<CategoryJpaEntity> descriptionLike = like("description", terms);
+        return nameLike.or(descriptionLike);
+    }
+
+    /**
+     * Builds a Specification that performs the "like" match and orders the name matches first.
+     *
+     * @param terms the search terms; may be {@code null} or blank.
+     * @return the Specification; never {@code null}.
+     */
+    @Override
+    public Specification<CategoryJpaEntity> rankedByRelevance(final String terms) {
+        final Specification<CategoryJpaEntity> matching = matching(terms);
+
+        return (root, query, cb) -> {
+            if (matching == null) {
+                query.orderBy(cb.asc(root.get(SliceQueryUtils.ID)));
+                return null;
+            }
+
+            final Expression<Integer> nameRank = cb.<Integer>selectCase()
+                .when(cb.like(cb.upper(root.get("name")), patternOf(terms)), 0)
+                .otherwise(1);
+            query.orderBy(cb.asc(nameRank), cb.asc(root.get(SliceQueryUtils.ID)));
+
+            return matching.toPredicate(root, query, cb);
+        };
+    }
+
+    /**
+     * Builds the {@code LIKE} predicate on the name and the description, binding the pattern of
+     * the terms to the {@code terms} parameter.
+     *
+     * @param terms      the search terms; may be {@code null} or blank.
+     * @param parameters the named parameters the pattern is bound to.
+     * @return the predicate, or {@code null} if there are no terms.
+     */
+    @Override
+    public String sqlMatching(final String terms, final MapSqlParameterSource parameters) {
+        if (!CategorySearchStrategy.hasTerms(terms)) {
+            return null;
+        }
+
+        parameters.addValue(TERMS_PARAMETER, patternOf(terms));
+        return TERMS_LIKE;
+    }
+
+    /**
+     * Builds the order that lists the name matches first, reusing the {@code terms} parameter
+     * bound by {@link #sqlMatching(String, MapSqlParameterSource)}.
+     *
+     * @param terms      the search terms; may be {@code null} or blank.
+     * @param parameters the named parameters of the predicate.
+     * @return the order expressions.
+     */
+    @Override
+    public String sqlRelevanceOrder(final String terms, final MapSqlParameterSource parameters) {
+        if (!CategorySearchStrategy.hasTerms(terms)) {
+            return "id";
+        }
+
+        parameters.addValue(TERMS_PARAMETER, patternOf(terms));
+        return "CASE WHEN UPPER(name) LIKE :terms THEN 0 ELSE 1 END, id";
+    }
+
+    /**
+     * Builds the upper case {@code LIKE} pattern matching the terms anywhere in a text.
+     *
+     * @param terms the search terms.
+     * @return the pattern.
+     */
+    private static String patternOf(final String terms) {
+        return "%" + terms.toUpperCase(Locale.ROOT) + "%";
+    }
+}
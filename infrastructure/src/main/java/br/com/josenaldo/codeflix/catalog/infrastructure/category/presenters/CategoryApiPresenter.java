@@ -1,9 +1,14 @@
 package br.com.josenaldo.codeflix.catalog.infrastructure.category.presenters;
 
+import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoriesOutput;
 import br.com.josenaldo.codeflix.catalog.application.category.retrieve.get.CategoryOutput;
 import br.com.josenaldo.codeflix.catalog.application.category.retrieve.list.CategoryListOutput;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.models.CategoryListResponse;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.models.CategoryResponse;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.models.CreateCategoriesResponse;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.models.CreateCategoryResultResponse;
+import java.util.ArrayList;
+import java.util.List;
 
 public interface CategoryApiPresenter {
 
@@ -32,4 +37,27 @@ public interface CategoryApiPresenter {
             categoryListOutput.isActive()
         );
     }
+
+    static CreateCategoriesResponse present(CreateCategoriesOutput createCategoriesOutput) {
+        final var results = createCategoriesOutput.results();
+        final var items = new ArrayList<CreateCategoryResultResponse>(results.size());
+
+        for (int index = 0; index < results.size(); index++) {
+            final int position = index;
+            items.add(results.get(index).fold(
+                notification -> new CreateCategoryResultResponse(
+                    position,
+                    null,
+                    notification.getErrors()
+                ),
+                output -> new CreateCategoryResultResponse(position, output.id(), List.of())
+            ));
+        }
+
+        return new CreateCategoriesResponse(
+            createCategoriesOutput.createdCount(),
+            createCategoriesOutput.failedCount(),
+            items
+        );
+    }
 }
@@ -0,0 +1,665 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.search;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryRepository;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory trigram inverted index over the name and description of the categories, used to
+ * answer search terms without querying the database.
+ * <p>
+ * Each category gets an internal {@code int} document id. Every three-character sequence of its
+ * normalized name and description is a key of a {@link IntPostingList} holding the ids of the
+ * documents that contain it. A search takes the trigrams of the terms, intersects their posting
+ * lists, starting from the shortest, and checks each remaining document really contains the
+ * terms, which gives the same matches as {@code LIKE '%terms%'}. Text is normalized to lower case
+ * without accents, so {@code "documentarios"} also finds {@code "Documentários"}.
+ * <p>
+ * The index is built from the {@link CategoryRepository} when the application is ready and kept
+ * current by the {@code CategoryMySQLGateway}, which reports every category it writes or deletes
+ * once the transaction commits. Writes made by other application instances are only seen after
+ * a {@link #rebuild()}, which a daemon thread runs every {@code database.search-index.max-staleness}
+ * and administrators can also trigger through the API. Such writes are therefore missed by the
+ * searches for at most the maximum staleness plus the duration of a rebuild. A maximum staleness
+ * of zero disables the periodic rebuilds, which only suits a single instance.
+ * <p>
+ * Updated or deleted categories leave a dead document behind, skipped by searches. When dead
+ * documents outnumber the live ones, the index compacts itself from the texts it holds, without
+ * reading the database.
+ * <p>
+ * The index is only created when {@code database.search-index.enabled} is {@code true}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "database.search-index.enabled", havingValue = "true")
+public class CategorySearchIndex implements AutoCloseable {
+
+    /**
+     * The length of the indexed character sequences. Shorter terms cannot be answered by the
+     * index.
+     */
+    public static final int GRAM_SIZE = 3;
+
+    /**
+     * Number of categories read from the database per query during a rebuild.
+     */
+    static final int REBUILD_CHUNK_SIZE = 5_000;
+
+    /**
+     * Minimum number of dead documents before the index compacts itself.
+     */
+    static final int COMPACTION_MIN_DEAD = 1_024;
+
+    /**
+     * Combining marks left by the canonical decomposition of accented characters.
+     */
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    /**
+     * The repository the index is built from.
+     */
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * The largest number of categories a search returns; broader searches are left to the
+     * database.
+     */
+    private final int maxMatches;
+
+    /**
+     * How long the index may go without a rebuild, or zero to only rebuild it at startup and on
+     * demand.
+     */
+    private final Duration maxStaleness;
+
+    /**
+     * Guards {@link #segment}, {@link #pending} and the build information: searches share it,
+     * writes and swaps take it exclusively.
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Serializes the rebuilds.
+     */
+    private final Object rebuildLock = new Object();
+
+    /**
+     * The documents and posting lists currently searched.
+     */
+    private Segment segment = new Segment();
+
+    /**
+     * The writes received while a rebuild is loading, replayed on the new segment before it
+     * replaces the current one; {@code null} when no rebuild is running.
+     */
+    private List<Consumer<Segment>> pending;
+
+    /**
+     * When the index was last rebuilt, or {@code null} if it never was.
+     */
+    private Instant builtAt;
+
+    /**
+     * How long the last rebuild took, in milliseconds.
+     */
+    private long buildMillis;
+
+    /**
+     * Runs the periodic rebuilds; {@code null} until they are started, or if they are disabled.
+     * Guarded by {@code this}.
+     */
+    private ScheduledExecutorService rebuilder;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param categoryRepository the repository the index is built from.
+     * @param maxMatches         the largest number of categories a search returns; must be
+     *                           greater than 0.
+     * @param maxStaleness       how long the index may go without a rebuild; zero to only rebuild
+     *                           it at startup and on demand. Must not be negative.
+     */
+    public CategorySearchIndex(
+        final CategoryRepository categoryRepository,
+        @Value("${database.search-index.max-matches:1000}") final int maxMatches,
+        @Value("${database.search-index.max-staleness:PT5M}") final Duration maxStaleness
+    ) {
+        if (maxMatches < 1) {
+            throw new IllegalArgumentException("Max matches must be greater than 0.");
+        }
+        if (maxStaleness.isNegative()) {
+            throw new IllegalArgumentException("Max staleness must not be negative.");
+        }
+
+        this.categoryRepository = categoryRepository;
+        this.maxMatches = maxMatches;
+        this.maxStaleness = maxStaleness;
+    }
+
+    /**
+     * Builds the index once the application is ready to serve requests, and starts the periodic
+     * rebuilds unless they are disabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+
+        if (maxStaleness.isZero()) {
+            return;
+        }
+
+        synchronized (this) {
+            if (rebuilder != null) {
+                return;
+            }
+
+            rebuilder = Executors.newSingleThreadScheduledExecutor(
+                runnable -> Thread.ofPlatform()
+                    .daemon()
+                    .name("category-search-index-rebuilder")
+                    .unstarted(runnable)
+            );
+
+            final long nanos = maxStaleness.toNanos();
+            rebuilder.scheduleWithFixedDelay(
+                this::rebuildQuietly,
+                nanos,
+                nanos,
+                TimeUnit.NANOSECONDS
+            );
+        }
+    }
+
+    /**
+     * Stops the periodic rebuilds. The index keeps answering from its current content.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (rebuilder != null) {
+                rebuilder.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the index from every category stored in the database.
+     * <p>
+     * The categories are read in chunks of {@value #REBUILD_CHUNK_SIZE}, selecting only the
+     * indexed columns, into a new segment. Searches keep using the current segment meanwhile, and
+     * the writes received during the load are replayed on the new one before it takes over.
+     *
+     * @return the statistics of the rebuilt index.
+     */
+    public CategorySearchIndexStats rebuild() {
+        synchronized (rebuildLock) {
+            final long start = System.nanoTime();
+            final var fresh = new Segment();
+
+            write(() -> pending = new ArrayList<>());
+            try {
+                load(fresh);
+            } catch (RuntimeException e) {
+                write(() -> pending = null);
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                pending.forEach(op -> op.accept(fresh));
+                pending = null;
+                segment = fresh;
+                builtAt = Instant.now();
+                buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                return statsOf(segment);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Adds the given category to the index, replacing its previous content if it is indexed.
+     *
+     * @param category the created or updated category.
+     */
+    public void index(final Category category) {
+        final String id = category.getId().getValue();
+        final String name = category.getName();
+        final String description = category.getDescription();
+        apply(aSegment -> aSegment.put(id, name, description));
+    }
+
+    /**
+     * Removes the category with the given identifier from the index.
+     *
+     * @param id the identifier of the deleted category.
+     */
+    public void remove(final CategoryID id) {
+        final String value = id.getValue();
+        apply(aSegment -> aSegment.remove(value));
+    }
+
+    /**
+     * Finds the identifiers of the categories whose name or description contains the given terms,
+     * ignoring case and accents.
+     *
+     * @param terms the search terms; may be {@code null}.
+     * @return the identifiers of the matching categories, in no particular order; or an empty
+     * {@link Optional} if the index cannot answer, because the terms are shorter than
+     * {@value #GRAM_SIZE} characters or match more than the configured maximum of categories.
+     */
+    public Optional<List<String>> search(final String terms) {
+        if (terms == null) {
+            return Optional.empty();
+        }
+
+        final String needle = normalize(terms.strip());
+        if (needle.length() < GRAM_SIZE) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            return segment.search(needle, maxMatches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the size and approximate memory footprint of the index.
+     *
+     * @return the statistics of the index.
+     */
+    public CategorySearchIndexStats stats() {
+        lock.readLock().lock();
+        try {
+            return statsOf(segment);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Normalizes a text for indexing and searching: accents removed and lower case.
+     *
+     * @param text the text.
+     * @return the normalized text.
+     */
+    static String normalize(final String text) {
+        final String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Runs a periodic rebuild. A failed rebuild keeps the current segment, and is retried by the
+     * next run instead of cancelling the following ones.
+     */
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // The index stays as it was; the next periodic rebuild tries again.
+        }
+    }
+
+    /**
+     * Reads every category from the database into the given segment.
+     *
+     * @param fresh the empty segment to fill.
+     */
+    private void load(final Segment fresh) {
+        final var chunk = PageRequest.ofSize(REBUILD_CHUNK_SIZE);
+        String after = null;
+        List<Object[]> rows;
+
+        do {
+            rows = categoryRepository.findSearchableAfter(after, chunk);
+            for (final Object[] row : rows) {
+                fresh.put((String) row[0], (String) row[1], (String) row[2]);
+            }
+            if (!rows.isEmpty()) {
+                after = (String) rows.getLast()[0];
+            }
+        } while (rows.size() == REBUILD_CHUNK_SIZE);
+    }
+
+    /**
+     * Applies a write to the current segment, records it for a running rebuild, and compacts the
+     * segment when it holds too many dead documents.
+     *
+     * @param op the write.
+     */
+    private void apply(final Consumer<Segment> op) {
+        write(() -> {
+            op.accept(segment);
+            if (pending != null) {
+                pending.add(op);
+            }
+            if (segment.needsCompaction()) {
+                segment = segment.compact();
+            }
+        });
+    }
+
+    /**
+     * Runs the given action holding the write lock.
+     *
+     * @param action the action.
+     */
+    private void write(final Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Builds the statistics of the given segment; the caller must hold the lock.
+     *
+     * @param aSegment the segment.
+     * @return the statistics.
+     */
+    private CategorySearchIndexStats statsOf(final Segment aSegment) {
+        return new CategorySearchIndexStats(
+            aSegment.size,
+            aSegment.liveCount,
+            aSegment.postings.size(),
+            aSegment.postingCount,
+            aSegment.estimatedBytes(),
+            builtAt,
+            buildMillis
+        );
+    }
+
+    /**
+     * The documents and posting lists of the index. Not thread-safe.
+     */
+    private static final class Segment {
+
+        /**
+         * Approximate size, in bytes, of a {@code HashMap} entry with a boxed key: the table
+         * slot, the node and the key object.
+         */
+        private static final long MAP_ENTRY_BYTES = 4L + 32L + 16L;
+
+        /**
+         * Approximate size, in bytes, of a {@code String} object and its array header.
+         */
+        private static final long STRING_BYTES = 24L + 16L;
+
+        /**
+         * The posting list of each trigram, keyed by its three characters packed in a
+         * {@code long}.
+         */
+        private final Map<Long, IntPostingList> postings = new HashMap<>();
+
+        /**
+         * The live document id of each indexed category.
+         */
+        private final Map<String, Integer> docIds = new HashMap<>();
+
+        /**
+         * The live document ids.
+         */
+        private final BitSet live = new BitSet();
+
+        /**
+         * The category identifier of each document id.
+         */
+        private String[] categoryIds = new String[16];
+
+        /**
+         * The normalized name of each live document.
+         */
+        private String[] names = new String[16];
+
+        /**
+         * The normalized description of each live document, or {@code null}.
+         */
+        private String[] descriptions = new String[16];
+
+        /**
+         * The number of document ids handed out.
+         */
+        private int size;
+
+        /**
+         * The number of live documents.
+         */
+        private int liveCount;
+
+        /**
+         * The total number of document ids in the posting lists.
+         */
+        private long postingCount;
+
+        /**
+         * The number of characters of the texts held by the live documents.
+         */
+        private long textChars;
+
+        /**
+         * Indexes a category as a new document, killing its previous document, if any.
+         *
+         * @param id          the category identifier.
+         * @param name        the name.
+         * @param description the description, or {@code null}.
+         */
+        void put(final String id, final String name, final String description) {
+            remove(id);
+
+            if (size == categoryIds.length) {
+                final int capacity = size + (size >> 1);
+                categoryIds = Arrays.copyOf(categoryIds, capacity);
+                names = Arrays.copyOf(names, capacity);
+                descriptions = Arrays.copyOf(descriptions, capacity);
+            }
+
+            final int doc = size++;
+            final String aName = name == null ? "" : normalize(name);
+            final String aDescription = description == null ? null : normalize(description);
+
+            categoryIds[doc] = id;
+            names[doc] = aName;
+            descriptions[doc] = aDescription;
+            live.set(doc);
+            liveCount++;
+            docIds.put(id, doc);
+            textChars += aName.length() + (aDescription == null ? 0 : aDescription.length());
+
+            addTrigrams(doc, aName);
+            if (aDescription != null) {
+                addTrigrams(doc, aDescription);
+            }
+        }
+
+        /**
+         * Kills the document of a category, dropping its texts.
+         *
+         * @param id the category identifier.
+         */
+        void remove(final String id) {
+            final Integer doc = docIds.remove(id);
+            if (doc == null) {
+                return;
+            }
+
+            live.clear(doc);
+            liveCount--;
+            textChars -= names[doc].length()
+                + (descriptions[doc] == null ? 0 : descriptions[doc].length());
+            names[doc] = null;
+            descriptions[doc] = null;
+        }
+
+        /**
+         * Finds the live documents containing the given normalized text.
+         *
+         * @param needle     the normalized terms, at least {@value #GRAM_SIZE} characters long.
+         * @param maxMatches the largest number of matches to return.
+         * @return the identifiers of the matching categories, or an empty {@link Optional} if
+         * there are more than {@code maxMatches}.
+         */
+        Optional<List<String>> search(final String needle, final int maxMatches) {
+            final long[] grams = trigramsOf(needle);
+            final var lists = new IntPostingList[grams.length];
+
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if (lists[i] == null) {
+                    return Optional.of(List.of());
+                }
+            }
+
+            Arrays.sort(lists, Comparator.comparingInt(IntPostingList::size));
+            final int[] candidates = lists[0].toArray();
+            int count = candidates.length;
+            for (int i = 1; i < lists.length && count > 0; i++) {
+                count = lists[i].retainIn(candidates, count);
+            }
+
+            final var ids = new ArrayList<String>();
+            for (int i = 0; i < count; i++) {
+                final int doc = candidates[i];
+                if (live.get(doc) && contains(doc, needle)) {
+                    if (ids.size() == maxMatches) {
+                        return Optional.empty();
+                    }
+                    ids.add(categoryIds[doc]);
+                }
+            }
+            return Optional.of(ids);
+        }
+
+        /**
+         * Determines if the segment holds enough dead documents to be worth compacting.
+         *
+         * @return {@code true} if there are at least {@value #COMPACTION_MIN_DEAD} dead documents
+         * and more dead than live ones.
+         */
+        boolean needsCompaction() {
+            final int dead = size - liveCount;
+            return dead >= COMPACTION_MIN_DEAD && dead > liveCount;
+        }
+
+        /**
+         * Builds a new segment with the live documents only.
+         *
+         * @return the compacted segment.
+         */
+        Segment compact() {
+            final var compacted = new Segment();
+            for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                compacted.put(categoryIds[doc], names[doc], descriptions[doc]);
+            }
+            return compacted;
+        }
+
+        /**
+         * Estimates the heap used by the segment, assuming compressed object pointers and
+         * one byte per character of text.
+         *
+         * @return the approximate size, in bytes.
+         */
+        long estimatedBytes() {
+            long bytes = postings.size() * MAP_ENTRY_BYTES;
+            for (final IntPostingList list : postings.values()) {
+                bytes += list.footprintBytes();
+            }
+            bytes += 3L * (16L + 4L * categoryIds.length);
+            bytes += docIds.size() * MAP_ENTRY_BYTES;
+            bytes += (long) size * (STRING_BYTES + 26L);
+            bytes += liveCount * 2L * STRING_BYTES + textChars;
+            bytes += live.size() / 8;
+            return bytes;
+        }
+
+        /**
+         * Determines if the name or the description of a document contains the given text.
+         *
+         * @param doc    the document id.
+         * @param needle the normalized text.
+         * @return {@code true} if any of them contains it.
+         */
+        private boolean contains(final int doc, final String needle) {
+            return names[doc].contains(needle)
+                || (descriptions[doc] != null && descriptions[doc].contains(needle));
+        }
+
+        /**
+         * Adds a document to the posting lists of every trigram of a text.
+         *
+         * @param doc  the document id.
+         * @param text the normalized text.
+         */
+        private void addTrigrams(final int doc, final String text) {
+            for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+                final IntPostingList list = postings.computeIfAbsent(
+                    trigram(text, i),
+                    key -> new IntPostingList()
+                );
+                if (list.add(doc)) {
+                    postingCount++;
+                }
+            }
+        }
+
+        /**
+         * Returns the distinct trigrams of a text.
+         *
+         * @param text the normalized text, at least {@value #GRAM_SIZE} characters long.
+         * @return the packed trigrams.
+         */
+        private static long[] trigramsOf(final String text) {
+            final long[] grams = new long[text.length() - GRAM_SIZE + 1];
+            for (int i = 0; i < grams.length; i++) {
+                grams[i] = trigram(text, i);
+            }
+            return Arrays.stream(grams).distinct().toArray();
+        }
+
+        /**
+         * Packs the three characters of a text starting at the given position into a
+         * {@code long}.
+         *
+         * @param text  the text.
+         * @param start the position of the first character.
+         * @return the packed trigram.
+         */
+        private static long trigram(final String text, final int start) {
+            return ((long) text.charAt(start) << 32)
+                | ((long) text.charAt(start + 1) << 16)
+                | text.charAt(start + 2);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.search;
+
+import java.time.Instant;
+
+/**
+ * Size and approximate memory footprint of the {@link CategorySearchIndex}.
+ *
+ * @param documents      the number of documents, including the ones of deleted or replaced
+ *                       categories not yet compacted.
+ * @param liveDocuments  the number of categories currently searchable.
+ * @param trigrams       the number of distinct trigrams, that is, of posting lists.
+ * @param postings       the total number of document ids in all posting lists.
+ * @param estimatedBytes the approximate heap used by the index, in bytes.
+ * @param builtAt        when the index was last rebuilt, or {@code null} if it never was.
+ * @param buildMillis    how long the last rebuild took, in milliseconds.
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public record CategorySearchIndexStats(
+    int documents,
+    int liveDocuments,
+    int trigrams,
+    long postings,
+    long estimatedBytes,
+    Instant builtAt,
+    long buildMillis
+) {
+
+}
@@ -0,0 +1,108 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.search;
+
+import java.util.Arrays;
+
+/**
+ * Growable, ascending list of primitive {@code int} document ids: the posting list of one trigram
+ * in the {@link CategorySearchIndex}.
+ * <p>
+ * Document ids are handed out in increasing order and a document is indexed once, so appending
+ * keeps the list sorted without any search. Storing plain {@code int}s costs four bytes per
+ * posting, against the twenty or so of a boxed {@code Integer} in a collection.
+ * <p>
+ * Instances are not thread-safe; the index guards them with its own lock.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+final class IntPostingList {
+
+    /**
+     * Approximate size, in bytes, of the list object and the header of its array, assuming
+     * compressed object pointers.
+     */
+    static final long OVERHEAD_BYTES = 24L + 16L;
+
+    /**
+     * The document ids, ascending; only the first {@link #size} are valid.
+     */
+    private int[] docs = new int[2];
+
+    /**
+     * The number of document ids in the list.
+     */
+    private int size;
+
+    /**
+     * Appends a document id, ignoring it if it is the last one already.
+     *
+     * @param doc the document id, not lower than any id already in the list.
+     * @return {@code true} if the id was appended; {@code false} if it was already there.
+     */
+    boolean add(final int doc) {
+        if (size > 0 && docs[size - 1] == doc) {
+            return false;
+        }
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size + (size >> 1) + 1);
+        }
+        docs[size++] = doc;
+        return true;
+    }
+
+    /**
+     * Returns the number of document ids in the list.
+     *
+     * @return the number of postings.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Copies the document ids into a new array.
+     *
+     * @return the document ids, ascending.
+     */
+    int[] toArray() {
+        return Arrays.copyOf(docs, size);
+    }
+
+    /**
+     * Keeps, among the first {@code count} candidates, only the ones present in this list.
+     * <p>
+     * Both sequences are ascending, so this is a single merge pass over them.
+     *
+     * @param candidates the ascending candidate ids; overwritten in place.
+     * @param count      the number of valid candidates.
+     * @return the number of candidates kept, at the start of the array.
+     */
+    int retainIn(final int[] candidates, final int count) {
+        int kept = 0;
+        int i = 0;
+        int j = 0;
+        while (i < count && j < size) {
+            final int candidate = candidates[i];
+            final int doc = docs[j];
+            if (candidate == doc) {
+                candidates[kept++] = candidate;
+                i++;
+                j++;
+            } else if (candidate < doc) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Returns the approximate heap size of this list.
+     *
+     * @return the size, in bytes, of the list object and its array.
+     */
+    long footprintBytes() {
+        return OVERHEAD_BYTES + 4L * docs.length;
+    }
+}
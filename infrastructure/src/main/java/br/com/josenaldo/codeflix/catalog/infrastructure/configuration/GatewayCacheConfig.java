@@ -0,0 +1,84 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.configuration;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
+import br.com.josenaldo.codeflix.catalog.domain.genre.GenreGateway;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.CachingCategoryGateway;
+import br.com.josenaldo.codeflix.catalog.infrastructure.genre.CachingGenreGateway;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration of the read-through caches of the gateways, active when
+ * {@code database.gateway-cache.enabled} is {@code true}.
+ * <p>
+ * The {@link CategoryGateway} and {@link GenreGateway} beans, whatever their adapter, are replaced
+ * by a {@link CachingCategoryGateway} and a {@link CachingGenreGateway} decorating them, so every
+ * use case shares the same caches. Each cache holds at most
+ * {@code database.gateway-cache.maximum-size} aggregates, for at most
+ * {@code database.gateway-cache.ttl} each.
+ * <p>
+ * Cached genres hold their categories, so every category deletion evicts all the cached genres.
+ * <p>
+ * The caches only see the writes made through this instance, so the time to live bounds how long
+ * the writes of other instances go unseen.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "database.gateway-cache.enabled", havingValue = "true")
+public class GatewayCacheConfig {
+
+    /**
+     * Prefix of the settings of the caches.
+     */
+    private static final String PREFIX = "database.gateway-cache.";
+
+    /**
+     * Creates the post-processor that decorates the gateway beans with their caches.
+     * <p>
+     * The method is static so the post-processor is registered before the gateways are created.
+     *
+     * @param environment the environment holding the settings of the caches.
+     * @return the post-processor.
+     */
+    @Bean
+    public static BeanPostProcessor cachingGatewayPostProcessor(final Environment environment) {
+        final Binder binder = Binder.get(environment);
+        final long maximumSize = binder.bind(PREFIX + "maximum-size", Long.class).orElse(10_000L);
+        final Duration ttl = binder.bind(PREFIX + "ttl", Duration.class)
+                                   .orElse(Duration.ofMinutes(1));
+
+        final AtomicReference<CachingGenreGateway> genres = new AtomicReference<>();
+        final Runnable evictGenres = () -> {
+            final CachingGenreGateway genreGateway = genres.get();
+            if (genreGateway != null) {
+                genreGateway.evictAll();
+            }
+        };
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String name) {
+                if (bean instanceof CategoryGateway gateway
+                    && !(bean instanceof CachingCategoryGateway)) {
+                    return new CachingCategoryGateway(gateway, maximumSize, ttl, evictGenres);
+                }
+                if (bean instanceof GenreGateway gateway
+                    && !(bean instanceof CachingGenreGateway)) {
+                    final CachingGenreGateway genreGateway =
+                        new CachingGenreGateway(gateway, maximumSize, ttl);
+                    genres.set(genreGateway);
+                    return genreGateway;
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.configuration;
+
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CacheRegions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration of the Hibernate second-level and query caches, active when
+ * {@code database.cache.enabled} is {@code true}.
+ * <p>
+ * The caches are Caffeine caches created through JCache, one per region of {@link CacheRegions},
+ * each bounded in size, evicting with Caffeine's W-TinyLFU policy, and expiring its entries a
+ * fixed time after they are written. Both limits can be changed per region with
+ * {@code database.cache.regions.<region>.maximum-size} and
+ * {@code database.cache.regions.<region>.ttl}.
+ * <p>
+ * Writes made through Hibernate keep the caches of this instance up to date, but writes made by
+ * other instances, by the JDBC adapters or directly on the database are only seen once the stale
+ * entries expire. The query regions therefore expire much sooner than the entity regions. The
+ * genre links removed by the database when a category is deleted are evicted by the category
+ * gateway, as Hibernate cannot tell they are gone.
+ * <p>
+ * The hits, misses and puts of every region are counted by the Hibernate statistics, already
+ * enabled with {@code hibernate.generate_statistics}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "database.cache.enabled", havingValue = "true")
+public class HibernateCacheConfig {
+
+    /**
+     * Prefix of the settings of each region.
+     */
+    private static final String REGIONS_PREFIX = "database.cache.regions.";
+
+    /**
+     * Default settings of the regions, used for the limits that are not configured.
+     */
+    private static final Map<String, RegionSettings> DEFAULTS = Map.of(
+        CacheRegions.CATEGORIES, new RegionSettings(10_000, Duration.ofMinutes(10)),
+        CacheRegions.GENRES, new RegionSettings(10_000, Duration.ofMinutes(10)),
+        CacheRegions.GENRE_LINKS, new RegionSettings(100_000, Duration.ofMinutes(10)),
+        CacheRegions.GENRE_LINK_SETS, new RegionSettings(10_000, Duration.ofMinutes(10)),
+        CacheRegions.CATEGORY_QUERIES, new RegionSettings(1_000, Duration.ofSeconds(30)),
+        CacheRegions.GENRE_QUERIES, new RegionSettings(1_000, Duration.ofSeconds(30)),
+        CacheRegions.DEFAULT_QUERY_RESULTS, new RegionSettings(1_000, Duration.ofSeconds(30)),
+        CacheRegions.UPDATE_TIMESTAMPS, new RegionSettings(10_000, Duration.ZERO)
+    );
+
+    /**
+     * Creates the JCache manager holding the caches of every region.
+     * <p>
+     * Each application context gets its own manager, so contexts sharing a JVM, such as those of
+     * the tests, never read the rows cached from one another's database.
+     *
+     * @param environment the environment holding the settings of the regions.
+     * @return the cache manager.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(final Environment environment) {
+        final Binder binder = Binder.get(environment);
+        final CacheManager cacheManager = Caching
+            .getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(
+                URI.create("urn:codeflix:hibernate-cache:" + UUID.randomUUID()),
+                HibernateCacheConfig.class.getClassLoader()
+            );
+
+        DEFAULTS.forEach((region, defaults) -> {
+            final long maximumSize = binder
+                .bind(REGIONS_PREFIX + region + ".maximum-size", Long.class)
+                .orElse(defaults.maximumSize());
+            final Duration ttl = binder
+                .bind(REGIONS_PREFIX + region + ".ttl", Duration.class)
+                .orElse(defaults.ttl());
+
+            cacheManager.createCache(region, configurationOf(maximumSize, ttl));
+        });
+
+        return cacheManager;
+    }
+
+    /**
+     * Enables the second-level and query caches of Hibernate, backed by the given cache manager.
+     *
+     * @param hibernateCacheManager the cache manager holding the caches of every region.
+     * @return the customizer of the Hibernate properties.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(
+        final CacheManager hibernateCacheManager
+    ) {
+        return properties -> {
+            properties.put(CacheSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(CacheSettings.USE_QUERY_CACHE, true);
+            properties.put(CacheSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+        };
+    }
+
+    /**
+     * Builds the configuration of the cache of a region. Entries are kept by reference, as
+     * Hibernate already stores disassembled copies of its entities and query results.
+     *
+     * @param maximumSize the maximum number of entries of the cache.
+     * @param ttl         how long an entry is kept after being written, or zero to keep it until
+     *                    it is evicted by size.
+     * @return the configuration of the cache.
+     */
+    private static CaffeineConfiguration<Object, Object> configurationOf(
+        final long maximumSize,
+        final Duration ttl
+    ) {
+        final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (ttl.isPositive()) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+
+    /**
+     * Limits of the cache of a region.
+     *
+     * @param maximumSize the maximum number of entries.
+     * @param ttl         how long an entry is kept after being written, or zero to keep it until
+     *                    it is evicted by size.
+     */
+    private record RegionSettings(long maximumSize, Duration ttl) {
+
+    }
+}
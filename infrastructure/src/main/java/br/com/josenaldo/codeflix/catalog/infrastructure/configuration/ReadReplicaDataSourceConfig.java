@@ -0,0 +1,112 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.configuration;
+
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.routing.ReadWriteRoutingDataSource;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.routing.ReadYourWritesFilter;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.routing.ReplicaReadInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration of the read replica, active when {@code database.replica.url} is set.
+ * <p>
+ * The application then talks to two Hikari pools: the primary one, configured by
+ * {@code spring.datasource} as usual, and a replica one, which takes the same pool settings
+ * overridden by {@code database.replica.hikari} and is read-only. Both sit behind a
+ * {@link ReadWriteRoutingDataSource}, which hands out primary connections except inside the
+ * use cases wrapped with {@link ReplicaReadInterceptor#readingFromReplica}.
+ * <p>
+ * The {@link ReadYourWritesFilter} keeps each client on the primary for
+ * {@code database.replica.stickiness} after it writes, so it never reads data older than its own
+ * writes.
+ * <p>
+ * Without a replica URL this configuration is skipped and Spring Boot creates its single pool.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "database.replica", name = "url")
+public class ReadReplicaDataSourceConfig {
+
+    /**
+     * Prefix of the pool settings shared by both pools.
+     */
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    /**
+     * Prefix of the pool settings that apply only to the replica pool.
+     */
+    private static final String REPLICA_HIKARI_PREFIX = "database.replica.hikari";
+
+    /**
+     * Creates the data source of the application, routing each connection to the primary or to
+     * the replica pool.
+     *
+     * @param properties  the {@code spring.datasource} properties of the primary.
+     * @param environment the environment holding the pool settings.
+     * @param replicaUrl  the JDBC URL of the replica.
+     * @param user        the user of the replica, or blank to use the one of the primary.
+     * @param password    the password of the replica, or blank to use the one of the primary.
+     * @return the routing data source.
+     */
+    @Bean
+    public DataSource dataSource(
+        final DataSourceProperties properties,
+        final Environment environment,
+        @Value("${database.replica.url}") final String replicaUrl,
+        @Value("${database.replica.user:}") final String user,
+        @Value("${database.replica.password:}") final String password
+    ) {
+        final Binder binder = Binder.get(environment);
+
+        final HikariDataSource primary = properties.initializeDataSourceBuilder()
+                                                   .type(HikariDataSource.class)
+                                                   .build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+
+        final String driverClassName = properties.determineDriverClassName();
+        final String replicaUser = user.isBlank() ? properties.determineUsername() : user;
+        final String replicaPassword = password.isBlank()
+            ? properties.determinePassword()
+            : password;
+
+        final HikariDataSource replica = DataSourceBuilder.create()
+                                                          .type(HikariDataSource.class)
+                                                          .driverClassName(driverClassName)
+                                                          .url(replicaUrl)
+                                                          .username(replicaUser)
+                                                          .password(replicaPassword)
+                                                          .build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+        replica.setPoolName(
+            (primary.getPoolName() == null ? "primary" : primary.getPoolName()) + "-replica"
+        );
+        replica.setReadOnly(true);
+        binder.bind(REPLICA_HIKARI_PREFIX, Bindable.ofInstance(replica));
+
+        return new ReadWriteRoutingDataSource(primary, replica);
+    }
+
+    /**
+     * Creates the filter that keeps a client reading from the primary right after it writes.
+     *
+     * @param stickiness how long a client reads from the primary after a write.
+     * @return the filter.
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+        @Value("${database.replica.stickiness:PT5S}") final Duration stickiness
+    ) {
+        return new ReadYourWritesFilter(stickiness);
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.josenaldo.codeflix.catalog.infrastructure.configuration.usecases;
 
+import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoriesUseCase;
 import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoryUseCase;
+import br.com.josenaldo.codeflix.catalog.application.category.create.DefaultCreateCategoriesUseCase;
 import br.com.josenaldo.codeflix.catalog.application.category.create.DefaultCreateCategoryUseCase;
 import br.com.josenaldo.codeflix.catalog.application.category.delete.DefaultDeleteCategoryUseCase;
 import br.com.josenaldo.codeflix.catalog.application.category.delete.DeleteCategoryUseCase;
@@ -11,6 +13,7 @@ import br.com.josenaldo.codeflix.catalog.application.category.retrieve.list.List
 import br.com.josenaldo.codeflix.catalog.application.category.update.DefaultUpdateCategoryUseCase;
 import br.com.josenaldo.codeflix.catalog.application.category.update.UpdateCategoryUseCase;
 import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.routing.ReplicaReadInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,7 +25,9 @@ import org.springframework.context.annotation.Configuration;
  * {@link CategoryGateway} implementation, ensuring that all business logic related to categories is
  * properly configured and available for injection.
  * <p>
- * Each use case is exposed as a Spring bean and can be used in the application service layer.
+ * Each use case is exposed as a Spring bean and can be used in the application service layer. The
+ * read-only use cases are wrapped with {@link ReplicaReadInterceptor#readingFromReplica}, so they
+ * read from the replica when one is configured.
  *
  * @author Josenaldo de Oliveira Matos Filho
  * @version 1.0
@@ -59,6 +64,19 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    /**
+     * Creates the use case for creating many categories at once.
+     * <p>
+     * This bean instantiates the {@link DefaultCreateCategoriesUseCase} using the configured
+     * {@link CategoryGateway}.
+     *
+     * @return an instance of {@link CreateCategoriesUseCase} for bulk category creation.
+     */
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        return new DefaultCreateCategoriesUseCase(categoryGateway);
+    }
+
     /**
      * Creates the use case for updating an existing category.
      * <p>
@@ -89,25 +107,29 @@ public class CategoryUseCaseConfig {
      * Creates the use case for retrieving a category by its identifier.
      * <p>
      * This bean instantiates the {@link DefaultGetCategoryByIdUseCase} using the configured
-     * {@link CategoryGateway}.
+     * {@link CategoryGateway}, reading from the replica.
      *
      * @return an instance of {@link GetCategoryByIdUseCase} for retrieving a category by ID.
      */
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
-        return new DefaultGetCategoryByIdUseCase(categoryGateway);
+        return ReplicaReadInterceptor.readingFromReplica(
+            new DefaultGetCategoryByIdUseCase(categoryGateway)
+        );
     }
 
     /**
      * Creates the use case for listing categories based on search criteria.
      * <p>
      * This bean instantiates the {@link DefaultListCategoryUseCase} using the configured
-     * {@link CategoryGateway}.
+     * {@link CategoryGateway}, reading from the replica.
      *
      * @return an instance of {@link ListCategoryUseCase} for listing categories.
      */
     @Bean
     public ListCategoryUseCase listCategoryUseCase() {
-        return new DefaultListCategoryUseCase(categoryGateway);
+        return ReplicaReadInterceptor.readingFromReplica(
+            new DefaultListCategoryUseCase(categoryGateway)
+        );
     }
 }
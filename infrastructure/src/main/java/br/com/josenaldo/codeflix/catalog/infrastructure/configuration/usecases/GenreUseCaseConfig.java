@@ -0,0 +1,111 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.configuration.usecases;
+
+import br.com.josenaldo.codeflix.catalog.application.genre.create.CreateGenreUseCase;
+import br.com.josenaldo.codeflix.catalog.application.genre.create.DefaultCreateGenreUseCase;
+import br.com.josenaldo.codeflix.catalog.application.genre.delete.DefaultDeleteGenreUseCase;
+import br.com.josenaldo.codeflix.catalog.application.genre.delete.DeleteGenreUseCase;
+import br.com.josenaldo.codeflix.catalog.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
+import br.com.josenaldo.codeflix.catalog.application.genre.retrieve.get.GetGenreByIdUseCase;
+import br.com.josenaldo.codeflix.catalog.application.genre.retrieve.list.DefaultListGenreUseCase;
+import br.com.josenaldo.codeflix.catalog.application.genre.retrieve.list.ListGenreUseCase;
+import br.com.josenaldo.codeflix.catalog.application.genre.update.DefaultUpdateGenreUseCase;
+import br.com.josenaldo.codeflix.catalog.application.genre.update.UpdateGenreUseCase;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
+import br.com.josenaldo.codeflix.catalog.domain.genre.GenreGateway;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.routing.ReplicaReadInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for Genre Use Cases.
+ * <p>
+ * This class defines the Spring beans for all use cases related to genre operations, wiring them
+ * with the {@link GenreGateway} and, for the use cases that check the categories of a genre, the
+ * {@link CategoryGateway}. The read-only use cases are wrapped with
+ * {@link ReplicaReadInterceptor#readingFromReplica}, so they read from the replica when one is
+ * configured.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@Configuration
+public class GenreUseCaseConfig {
+
+    /**
+     * The gateway used to check the categories of a genre.
+     */
+    private final CategoryGateway categoryGateway;
+
+    /**
+     * The gateway used to perform genre operations.
+     */
+    private final GenreGateway genreGateway;
+
+    /**
+     * Constructs a new {@code GenreUseCaseConfig} with the specified gateways.
+     *
+     * @param categoryGateway the gateway responsible for category operations.
+     * @param genreGateway    the gateway responsible for genre operations.
+     */
+    public GenreUseCaseConfig(
+        final CategoryGateway categoryGateway,
+        final GenreGateway genreGateway
+    ) {
+        this.categoryGateway = categoryGateway;
+        this.genreGateway = genreGateway;
+    }
+
+    /**
+     * Creates the use case for creating a new genre.
+     *
+     * @return an instance of {@link CreateGenreUseCase} for genre creation.
+     */
+    @Bean
+    public CreateGenreUseCase createGenreUseCase() {
+        return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
+    }
+
+    /**
+     * Creates the use case for updating an existing genre.
+     *
+     * @return an instance of {@link UpdateGenreUseCase} for genre updates.
+     */
+    @Bean
+    public UpdateGenreUseCase updateGenreUseCase() {
+        return new DefaultUpdateGenreUseCase(categoryGateway, genreGateway);
+    }
+
+    /**
+     * Creates the use case for deleting a genre.
+     *
+     * @return an instance of {@link DeleteGenreUseCase} for genre deletion.
+     */
+    @Bean
+    public DeleteGenreUseCase deleteGenreUseCase() {
+        return new DefaultDeleteGenreUseCase(genreGateway);
+    }
+
+    /**
+     * Creates the use case for retrieving a genre by its identifier, reading from the replica.
+     *
+     * @return an instance of {@link GetGenreByIdUseCase} for retrieving a genre by ID.
+     */
+    @Bean
+    public GetGenreByIdUseCase getGenreByIdUseCase() {
+        return ReplicaReadInterceptor.readingFromReplica(
+            new DefaultGetGenreByIdUseCase(genreGateway)
+        );
+    }
+
+    /**
+     * Creates the use case for listing genres based on search criteria, reading from the replica.
+     *
+     * @return an instance of {@link ListGenreUseCase} for listing genres.
+     */
+    @Bean
+    public ListGenreUseCase listGenreUseCase() {
+        return ReplicaReadInterceptor.readingFromReplica(
+            new DefaultListGenreUseCase(genreGateway)
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.genre;
+
+import br.com.josenaldo.codeflix.catalog.domain.genre.Genre;
+import br.com.josenaldo.codeflix.catalog.domain.genre.GenreGateway;
+import br.com.josenaldo.codeflix.catalog.domain.genre.GenreID;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
+import br.com.josenaldo.codeflix.catalog.infrastructure.utils.GatewayCacheUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Decorates any {@link GenreGateway} with a read-through cache of the genres read by identifier,
+ * with their categories.
+ * <p>
+ * It works as the {@code CachingCategoryGateway}: the cache is bounded in size with W-TinyLFU
+ * eviction, entries expire a fixed time after being loaded, hits return copies, and every write
+ * evicts the genre right away and again once its transaction completes.
+ * <p>
+ * A cached genre holds its categories, so deleting a category must drop the genres too: the
+ * {@code GatewayCacheConfig} makes the category cache call {@link #evictAll()} on every category
+ * deletion. Deletions made by other instances still go unseen until the genres expire.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public class CachingGenreGateway implements GenreGateway {
+
+    /**
+     * The gateway whose reads are cached.
+     */
+    private final GenreGateway delegate;
+
+    /**
+     * The cached genres, by identifier. The cached instances are never handed out.
+     */
+    private final Cache<GenreID, Genre> cache;
+
+    /**
+     * Creates a caching decorator of the given gateway.
+     *
+     * @param delegate    the gateway whose reads are cached.
+     * @param maximumSize the maximum number of cached genres.
+     * @param ttl         how long a genre stays cached after being loaded.
+     */
+    public CachingGenreGateway(
+        final GenreGateway delegate,
+        final long maximumSize,
+        final Duration ttl
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = GatewayCacheUtils.newCache(maximumSize, ttl);
+    }
+
+    @Override
+    public Genre create(final Genre aGenre) {
+        final Genre created = this.delegate.create(aGenre);
+        GatewayCacheUtils.evict(this.cache, List.of(aGenre.getId()));
+        return created;
+    }
+
+    @Override
+    public Genre update(final Genre aGenre) {
+        final Genre updated = this.delegate.update(aGenre);
+        GatewayCacheUtils.evict(this.cache, List.of(aGenre.getId()));
+        return updated;
+    }
+
+    @Override
+    public void deleteById(final GenreID id) {
+        this.delegate.deleteById(id);
+        GatewayCacheUtils.evict(this.cache, List.of(id));
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID id) {
+        final Genre cached = this.cache.get(id, key -> this.delegate.findById(key).orElse(null));
+        return Optional.ofNullable(cached).map(Genre::with);
+    }
+
+    /**
+     * Evicts every cached genre right away and again once the current transaction completes.
+     * <p>
+     * Called when a category is deleted, since any cached genre may still list it.
+     */
+    public void evictAll() {
+        GatewayCacheUtils.evictAll(this.cache);
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aSearchQuery) {
+        return this.delegate.findAll(aSearchQuery);
+    }
+
+    @Override
+    public Slice<Genre> findSlice(final SearchQuery aSearchQuery) {
+        return this.delegate.findSlice(aSearchQuery);
+    }
+}
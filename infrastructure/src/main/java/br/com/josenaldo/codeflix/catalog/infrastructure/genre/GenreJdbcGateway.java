@@ -0,0 +1,325 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.genre;
+
+import static br.com.josenaldo.codeflix.catalog.infrastructure.utils.JdbcSliceUtils.getInstant;
+import static br.com.josenaldo.codeflix.catalog.infrastructure.utils.JdbcSliceUtils.toTimestamp;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.genre.Genre;
+import br.com.josenaldo.codeflix.catalog.domain.genre.GenreGateway;
+import br.com.josenaldo.codeflix.catalog.domain.genre.GenreID;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
+import br.com.josenaldo.codeflix.catalog.infrastructure.utils.JdbcSliceUtils;
+import br.com.josenaldo.codeflix.catalog.infrastructure.utils.JdbcSliceUtils.SortColumn;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implements the {@link GenreGateway} with plain JDBC and hand-written SQL, replacing the
+ * {@link GenreMySQLGateway} when the {@code jdbc} profile is active.
+ * <p>
+ * Genres are read with one query for their rows and one for the category links of all of them,
+ * and their links are written as JDBC batches holding only the links that changed.
+ */
+@Component
+@Profile("jdbc")
+public class GenreJdbcGateway implements GenreGateway {
+
+    private static final String SELECT = """
+        SELECT id, created_at, updated_at, deleted_at, name, active
+        FROM genres""";
+
+    private static final String INSERT = """
+        INSERT INTO genres (id, created_at, updated_at, deleted_at, name, active)
+        VALUES (?, ?, ?, ?, ?, ?)""";
+
+    private static final String UPDATE = """
+        UPDATE genres
+        SET updated_at = ?, deleted_at = ?, name = ?, active = ?
+        WHERE id = ?""";
+
+    private static final String INSERT_LINK =
+        "INSERT INTO genres_categories (genre_id, category_id) VALUES (?, ?)";
+
+    private static final String DELETE_LINK =
+        "DELETE FROM genres_categories WHERE genre_id = ? AND category_id = ?";
+
+    private static final Map<String, SortColumn<GenreRow>> SORT_COLUMNS = Map.of(
+        "id", SortColumn.text("id", row -> row.id().getValue()),
+        "name", SortColumn.text("name", GenreRow::name),
+        "active", SortColumn.bool("active", GenreRow::active),
+        "createdAt", SortColumn.instant("created_at", GenreRow::createdAt),
+        "updatedAt", SortColumn.instant("updated_at", GenreRow::updatedAt),
+        "deletedAt", SortColumn.instant("deleted_at", GenreRow::deletedAt)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public GenreJdbcGateway(
+        final JdbcTemplate jdbcTemplate,
+        final NamedParameterJdbcTemplate namedJdbcTemplate
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.namedJdbcTemplate = Objects.requireNonNull(namedJdbcTemplate);
+    }
+
+    @Override
+    @Transactional
+    public Genre create(final Genre aGenre) {
+        this.jdbcTemplate.update(
+            INSERT,
+            aGenre.getId().toBytes(),
+            toTimestamp(aGenre.getCreatedAt()),
+            toTimestamp(aGenre.getUpdatedAt()),
+            toTimestamp(aGenre.getDeletedAt()),
+            aGenre.getName(),
+            aGenre.isActive()
+        );
+        writeLinks(INSERT_LINK, aGenre.getId(), aGenre.getCategories());
+        return Genre.with(aGenre);
+    }
+
+    /**
+     * Updates the given genre, writing only the category links that changed, or creates it if it
+     * is not stored yet.
+     *
+     * @param aGenre the genre with its new state.
+     * @return the updated genre.
+     */
+    @Override
+    @Transactional
+    public Genre update(final Genre aGenre) {
+        final int updated = this.jdbcTemplate.update(
+            UPDATE,
+            toTimestamp(aGenre.getUpdatedAt()),
+            toTimestamp(aGenre.getDeletedAt()),
+            aGenre.getName(),
+            aGenre.isActive(),
+            aGenre.getId().toBytes()
+        );
+
+        if (updated == 0) {
+            return create(aGenre);
+        }
+
+        final Set<CategoryID> stored = new HashSet<>(
+            findCategoryLinks(List.of(aGenre.getId().toBytes()))
+                .getOrDefault(aGenre.getId(), List.of())
+        );
+
+        final List<CategoryID> added = new ArrayList<>();
+        for (final CategoryID categoryID : aGenre.getCategories()) {
+            if (!stored.remove(categoryID)) {
+                added.add(categoryID);
+            }
+        }
+
+        writeLinks(DELETE_LINK, aGenre.getId(), stored);
+        writeLinks(INSERT_LINK, aGenre.getId(), added);
+        return Genre.with(aGenre);
+    }
+
+    /**
+     * Deletes the genre with the given identifier and its category links. Deleting an identifier
+     * that is not stored has no effect.
+     *
+     * @param id the identifier of the genre.
+     */
+    @Override
+    @Transactional
+    public void deleteById(final GenreID id) {
+        final byte[] genreBytes = id.toBytes();
+        this.jdbcTemplate.update("DELETE FROM genres_categories WHERE genre_id = ?", genreBytes);
+        this.jdbcTemplate.update("DELETE FROM genres WHERE id = ?", genreBytes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Genre> findById(final GenreID id) {
+        final List<GenreRow> rows = this.jdbcTemplate.query(
+            SELECT + " WHERE id = ?",
+            GenreJdbcGateway::mapRow,
+            id.toBytes()
+        );
+        return withCategories(rows).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Genre> findAll(final SearchQuery aSearchQuery) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource();
+        final String filter = filterOf(aSearchQuery, parameters);
+        final Slice<GenreRow> slice = findRows(aSearchQuery, filter, parameters);
+
+        final Long total = this.namedJdbcTemplate.queryForObject(
+            filter == null
+                ? "SELECT COUNT(*) FROM genres"
+                : "SELECT COUNT(*) FROM genres WHERE " + filter,
+            parameters,
+            Long.class
+        );
+
+        return Pagination.fromPage(
+            slice.page(),
+            slice.perPage(),
+            total == null ? 0 : total,
+            withCategories(slice.data())
+        ).withNextCursor(slice.nextCursor());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Genre> findSlice(final SearchQuery aSearchQuery) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource();
+        final Slice<GenreRow> slice = findRows(
+            aSearchQuery,
+            filterOf(aSearchQuery, parameters),
+            parameters
+        );
+
+        return new Slice<>(
+            slice.page(),
+            slice.perPage(),
+            slice.hasNext(),
+            withCategories(slice.data()),
+            slice.nextCursor()
+        );
+    }
+
+    private Slice<GenreRow> findRows(
+        final SearchQuery aSearchQuery,
+        final String filter,
+        final MapSqlParameterSource parameters
+    ) {
+        return JdbcSliceUtils.findSlice(
+            this.namedJdbcTemplate,
+            SELECT,
+            filter,
+            parameters,
+            SORT_COLUMNS,
+            aSearchQuery,
+            GenreJdbcGateway::mapRow,
+            row -> row.id().getValue()
+        );
+    }
+
+    private static String filterOf(
+        final SearchQuery aSearchQuery,
+        final MapSqlParameterSource parameters
+    ) {
+        final String terms = aSearchQuery.terms();
+        if (terms == null || terms.isBlank()) {
+            return null;
+        }
+
+        parameters.addValue("terms", "%" + terms.toUpperCase() + "%");
+        return "UPPER(name) LIKE :terms";
+    }
+
+    /**
+     * Attaches to each genre row its category links, read with a single query for all the rows.
+     *
+     * @param rows the genre rows.
+     * @return the genres, in the order of the rows.
+     */
+    private List<Genre> withCategories(final List<GenreRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        final List<byte[]> genreIds = new ArrayList<>(rows.size());
+        for (final GenreRow row : rows) {
+            genreIds.add(row.id().toBytes());
+        }
+
+        final Map<GenreID, List<CategoryID>> categoriesByGenre = findCategoryLinks(genreIds);
+
+        final List<Genre> genres = new ArrayList<>(rows.size());
+        for (final GenreRow row : rows) {
+            genres.add(row.toAggregate(categoriesByGenre.getOrDefault(row.id(), List.of())));
+        }
+        return genres;
+    }
+
+    private Map<GenreID, List<CategoryID>> findCategoryLinks(final List<byte[]> genreIds) {
+        final Map<GenreID, List<CategoryID>> categoriesByGenre = new HashMap<>();
+        this.namedJdbcTemplate.query(
+            "SELECT genre_id, category_id FROM genres_categories WHERE genre_id IN (:genreIds)",
+            new MapSqlParameterSource("genreIds", genreIds),
+            (RowCallbackHandler) rs -> categoriesByGenre
+                .computeIfAbsent(GenreID.fromBytes(rs.getBytes(1)), key -> new ArrayList<>())
+                .add(CategoryID.fromBytes(rs.getBytes(2)))
+        );
+        return categoriesByGenre;
+    }
+
+    /**
+     * Sends one link statement per category as a single JDBC batch.
+     *
+     * @param sql        the {@link #INSERT_LINK} or {@link #DELETE_LINK} statement.
+     * @param genreID    the identifier of the genre.
+     * @param categories the categories of the links; nothing is sent if it is empty.
+     */
+    private void writeLinks(
+        final String sql,
+        final GenreID genreID,
+        final Iterable<CategoryID> categories
+    ) {
+        final byte[] genreBytes = genreID.toBytes();
+        final List<Object[]> batch = new ArrayList<>();
+        for (final CategoryID categoryID : categories) {
+            batch.add(new Object[] {genreBytes, categoryID.toBytes()});
+        }
+
+        if (!batch.isEmpty()) {
+            this.jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private static GenreRow mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+        return new GenreRow(
+            GenreID.fromBytes(rs.getBytes("id")),
+            getInstant(rs, "created_at"),
+            getInstant(rs, "updated_at"),
+            getInstant(rs, "deleted_at"),
+            rs.getString("name"),
+            rs.getBoolean("active")
+        );
+    }
+
+    /**
+     * A row of the {@code genres} table, waiting for its category links.
+     */
+    private record GenreRow(
+        GenreID id,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt,
+        String name,
+        boolean active
+    ) {
+
+        private Genre toAggregate(final List<CategoryID> categories) {
+            return Genre.with(id, createdAt, updatedAt, deletedAt, name, active, categories);
+        }
+    }
+}
@@ -1,23 +1,44 @@
 package br.com.josenaldo.codeflix.catalog.infrastructure.genre;
 
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
 import br.com.josenaldo.codeflix.catalog.domain.genre.Genre;
 import br.com.josenaldo.codeflix.catalog.domain.genre.GenreGateway;
 import br.com.josenaldo.codeflix.catalog.domain.genre.GenreID;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
+import br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence.GenreCategoryID;
 import br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence.GenreJpaEntity;
+import br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence.GenreProjection;
 import br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence.GenreRepository;
+import br.com.josenaldo.codeflix.catalog.infrastructure.utils.SliceQueryUtils;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
+@Profile("!jdbc")
 public class GenreMySQLGateway implements GenreGateway {
 
     private final GenreRepository genreRepository;
 
-    public GenreMySQLGateway(GenreRepository genreRepository) {
+    private final EntityManager entityManager;
+
+    public GenreMySQLGateway(
+        final GenreRepository genreRepository,
+        final EntityManager entityManager
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
     }
 
     @Override
@@ -25,9 +46,27 @@ public class GenreMySQLGateway implements GenreGateway {
         return save(aGenre);
     }
 
+    /**
+     * Updates the given genre, writing only the category links that changed.
+     * <p>
+     * The stored genre is loaded with its links in a single query, and the new state is applied
+     * with {@link GenreJpaEntity#updateFrom(Genre)}, which diffs the links so the flush only
+     * deletes the removed associations and inserts the new ones. If the genre is not stored, it is
+     * created.
+     *
+     * @param aGenre the genre with the new state.
+     * @return the updated genre.
+     */
     @Override
-    public Genre update(Genre aGenre) {
-        return save(aGenre);
+    @Transactional
+    public Genre update(final Genre aGenre) {
+        final var entity = this.entityManager.find(GenreJpaEntity.class, aGenre.getId().getValue());
+
+        if (entity == null) {
+            return create(aGenre);
+        }
+
+        return entity.updateFrom(aGenre).toAggregate();
     }
 
 
@@ -36,15 +75,139 @@ public class GenreMySQLGateway implements GenreGateway {
 
     }
 
+    /**
+     * Retrieves the genre with the given identifier, with its categories.
+     * <p>
+     * The genre row is read as a {@link GenreProjection} and its links with a second query, so the
+     * lookup takes two statements instead of loading the entity and its eager collection.
+     *
+     * @param id the identifier of the genre.
+     * @return the genre, or an empty {@link Optional} if there is none with this identifier.
+     */
     @Override
-    public Optional<Genre> findById(GenreID id) {
-        return Optional.empty();
+    @Transactional(readOnly = true)
+    public Optional<Genre> findById(final GenreID id) {
+        final Specification<GenreJpaEntity> byId =
+            (root, query, cb) -> cb.equal(root.get(SliceQueryUtils.ID), id.getValue());
+
+        final List<GenreProjection> rows = SliceQueryUtils.findSlice(
+            this.entityManager,
+            GenreJpaEntity.class,
+            GenreProjection.class,
+            GenreProjection::selection,
+            byId,
+            Sort.unsorted(),
+            0,
+            1
+        );
+
+        return withCategories(rows).stream().findFirst();
     }
 
+    /**
+     * Retrieves a paginated list of {@link Genre} objects whose name matches the search terms.
+     * <p>
+     * When the query has a cursor, the page is fetched with a keyset predicate instead of an
+     * offset. The returned pagination always carries the cursor of the next page, if there is one.
+     * <p>
+     * The page takes a constant number of statements whatever its size: the page query, the
+     * count and a single query for the category links of all the genres of the page.
+     *
+     * @param aSearchQuery the search query containing filtering and pagination parameters.
+     * @return a {@link Pagination} containing the genres of the requested page.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Genre> findAll(final SearchQuery aSearchQuery) {
+        final var termLike = GenreRepository.getTermLikeSpecification(aSearchQuery);
+        final Slice<GenreProjection> slice = findRows(aSearchQuery, termLike);
+
+        return Pagination.fromPage(
+            slice.page(),
+            slice.perPage(),
+            this.genreRepository.count(termLike),
+            withCategories(slice.data())
+        ).withNextCursor(slice.nextCursor());
+    }
 
+    /**
+     * Retrieves a page of {@link Genre} objects whose name matches the search terms, without
+     * counting the matching genres.
+     * <p>
+     * A single query fetches {@code perPage + 1} rows; the extra row only tells whether there is a
+     * next page. The category links of the page are then fetched with one more query.
+     *
+     * @param aSearchQuery the search query containing filtering and pagination parameters.
+     * @return a {@link Slice} containing the genres of the requested page.
+     */
     @Override
-    public Pagination<Genre> findAll(SearchQuery aSearchQuery) {
-        return null;
+    @Transactional(readOnly = true)
+    public Slice<Genre> findSlice(final SearchQuery aSearchQuery) {
+        final Slice<GenreProjection> slice = findRows(
+            aSearchQuery,
+            GenreRepository.getTermLikeSpecification(aSearchQuery)
+        );
+
+        return new Slice<>(
+            slice.page(),
+            slice.perPage(),
+            slice.hasNext(),
+            withCategories(slice.data()),
+            slice.nextCursor()
+        );
+    }
+
+    /**
+     * Fetches the genre rows of the requested page as {@link GenreProjection read-only
+     * projections}, without their category links.
+     *
+     * @param aSearchQuery  the search query containing the sorting and pagination parameters.
+     * @param specification the filter of the search terms; may be {@code null} to match every
+     *                      genre.
+     * @return the slice of projections, with the cursor of the next page, if any.
+     */
+    private Slice<GenreProjection> findRows(
+        final SearchQuery aSearchQuery,
+        final Specification<GenreJpaEntity> specification
+    ) {
+        return SliceQueryUtils.findSlice(
+            this.entityManager,
+            GenreJpaEntity.class,
+            GenreProjection.class,
+            GenreProjection::selection,
+            specification,
+            aSearchQuery
+        );
+    }
+
+    /**
+     * Builds the aggregates of the given genre rows, fetching the category links of all of them
+     * with a single query.
+     *
+     * @param rows the genre rows, in page order.
+     * @return the genres, in the same order; never {@code null}.
+     */
+    private List<Genre> withCategories(final List<GenreProjection> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        final List<String> genreIds = new ArrayList<>(rows.size());
+        for (final GenreProjection row : rows) {
+            genreIds.add(row.id());
+        }
+
+        final Map<String, List<CategoryID>> categoriesByGenre = new HashMap<>();
+        for (final GenreCategoryID link : this.genreRepository.findCategoryLinks(genreIds)) {
+            categoriesByGenre.computeIfAbsent(link.getGenreId(), key -> new ArrayList<>())
+                             .add(CategoryID.fromTrustedString(link.getCategoryId()));
+        }
+
+        final List<Genre> genres = new ArrayList<>(rows.size());
+        for (final GenreProjection row : rows) {
+            genres.add(row.toAggregate(categoriesByGenre.getOrDefault(row.id(), List.of())));
+        }
+        return genres;
     }
 
     private Genre save(final Genre aGenre) {
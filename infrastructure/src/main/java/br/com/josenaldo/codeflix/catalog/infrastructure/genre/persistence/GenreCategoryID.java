@@ -1,6 +1,8 @@
 package br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence;
 
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.UlidBinaryConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 import java.io.Serial;
 import java.io.Serializable;
@@ -31,10 +33,12 @@ public class GenreCategoryID implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
-    @Column(name = "genre_id", nullable = false)
+    @Convert(converter = UlidBinaryConverter.class)
+    @Column(name = "genre_id", nullable = false, columnDefinition = "BINARY(16)")
     private String genreId;
 
-    @Column(name = "category_id", nullable = false)
+    @Convert(converter = UlidBinaryConverter.class)
+    @Column(name = "category_id", nullable = false, columnDefinition = "BINARY(16)")
     private String categoryId;
 
     /**
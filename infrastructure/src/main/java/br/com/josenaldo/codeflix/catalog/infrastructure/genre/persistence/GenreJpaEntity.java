@@ -4,9 +4,14 @@ import static jakarta.persistence.CascadeType.ALL;
 import static jakarta.persistence.FetchType.EAGER;
 
 import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryIDSet;
 import br.com.josenaldo.codeflix.catalog.domain.genre.Genre;
 import br.com.josenaldo.codeflix.catalog.domain.genre.GenreID;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CacheRegions;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.UlidBinaryConverter;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
@@ -15,6 +20,8 @@ import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -31,15 +38,22 @@ import org.jspecify.annotations.NonNull;
  * can be added to or removed from this entity using the appropriate methods to maintain
  * bidirectional integrity.
  *
+ * <p>Loaded genres are kept in the {@value CacheRegions#GENRES} region of the second-level
+ * cache, and their category collections in the {@value CacheRegions#GENRE_LINK_SETS} region, so
+ * loading a genre with its categories skips the database while both are cached.
+ *
  * @author Josenaldo de Oliveira Matos Filho
  * @version 1.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GENRES)
 @Table(name = "genres")
 public class GenreJpaEntity {
 
     @Id
-    @Column(name = "id", nullable = false)
+    @Convert(converter = UlidBinaryConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -58,6 +72,7 @@ public class GenreJpaEntity {
     private boolean active;
 
     @OneToMany(mappedBy = "genre", cascade = ALL, fetch = EAGER, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GENRE_LINK_SETS)
     private Set<GenreCategoryJpaEntity> categories;
 
     /**
@@ -134,6 +149,37 @@ public class GenreJpaEntity {
         return anEntity;
     }
 
+    /**
+     * Copies the attributes of the given {@link Genre} into this managed entity, changing only the
+     * category links that differ.
+     * <p>
+     * The links are diffed against the ones already stored: links to categories no longer
+     * associated with the genre are removed from the collection, so orphan removal deletes just
+     * those rows, and only the new associations are added. A genre with thousands of categories
+     * whose update changes one of them therefore flushes one {@code DELETE} or {@code INSERT},
+     * instead of deleting and inserting every link again. The statements of a larger difference
+     * are sent in JDBC batches.
+     *
+     * @param aGenre The {@link Genre} with the new state. Must have the identifier of this entity.
+     * @return This entity, for chaining.
+     */
+    public GenreJpaEntity updateFrom(final Genre aGenre) {
+        this.updatedAt = aGenre.getUpdatedAt();
+        this.deletedAt = aGenre.getDeletedAt();
+        this.name = aGenre.getName();
+        this.active = aGenre.isActive();
+
+        final CategoryIDSet requested = aGenre.getCategoryIDSet();
+        this.categories.removeIf(link -> !requested.contains(
+            CategoryID.fromTrustedString(link.getId().getCategoryId())
+        ));
+
+        final CategoryIDSet stored = CategoryIDSet.from(getCategoryIDS());
+        requested.difference(stored).asList().forEach(this::addCategory);
+
+        return this;
+    }
+
 
     /**
      * Converts the current object into a Genre aggregate, encapsulating its properties and
@@ -150,7 +196,7 @@ public class GenreJpaEntity {
     public Genre toAggregate() {
 
         return Genre.with(
-            new GenreID(this.getId()),
+            GenreID.fromTrustedString(this.getId()),
             this.getCreatedAt(),
             this.getUpdatedAt(),
             this.getDeletedAt(),
@@ -383,7 +429,7 @@ public class GenreJpaEntity {
      */
     public @NonNull List<CategoryID> getCategoryIDS() {
         return this.getCategories().stream()
-                   .map(it -> CategoryID.fromString(it.getId().getCategoryId()))
+                   .map(it -> CategoryID.fromTrustedString(it.getId().getCategoryId()))
                    .toList();
     }
 
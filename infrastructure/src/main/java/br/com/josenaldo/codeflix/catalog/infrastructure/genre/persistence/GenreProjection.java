@@ -0,0 +1,81 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.genre.Genre;
+import br.com.josenaldo.codeflix.catalog.domain.genre.GenreID;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Read-only view of a genre row, selected from the {@code genres} table without its category
+ * links.
+ * <p>
+ * Loading a {@link GenreJpaEntity} also loads its eagerly fetched links, with one extra query per
+ * genre. The read queries select this projection instead and fetch the links of all the genres of
+ * a page at once (see {@link GenreRepository#findCategoryLinks(java.util.Collection)}).
+ * <p>
+ * The components are named after the attributes of {@link GenreJpaEntity}, so the cursor of the
+ * next page can be read from the last projection of a page.
+ *
+ * @param id        the identifier of the genre.
+ * @param createdAt the timestamp when the genre was created.
+ * @param updatedAt the timestamp when the genre was last updated.
+ * @param deletedAt the timestamp when the genre was deleted, or {@code null}.
+ * @param name      the name of the genre.
+ * @param active    the active status of the genre.
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public record GenreProjection(
+    String id,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant deletedAt,
+    String name,
+    boolean active
+) {
+
+    /**
+     * Builds the selection that reads each row of a criteria query into a
+     * {@code GenreProjection}.
+     *
+     * @param cb   the criteria builder.
+     * @param root the root of the query.
+     * @return the constructor selection of the projection.
+     */
+    public static Selection<GenreProjection> selection(
+        final CriteriaBuilder cb,
+        final Root<GenreJpaEntity> root
+    ) {
+        return cb.construct(
+            GenreProjection.class,
+            root.get("id"),
+            root.get("createdAt"),
+            root.get("updatedAt"),
+            root.get("deletedAt"),
+            root.get("name"),
+            root.get("active")
+        );
+    }
+
+    /**
+     * Converts this projection into a {@link Genre} aggregate with the given categories.
+     *
+     * @param categories the identifiers of the categories linked to the genre.
+     * @return a {@code Genre} aggregate with the values of this projection.
+     */
+    public Genre toAggregate(final List<CategoryID> categories) {
+        return Genre.with(
+            GenreID.fromTrustedString(id),
+            createdAt,
+            updatedAt,
+            deletedAt,
+            name,
+            active,
+            categories
+        );
+    }
+}
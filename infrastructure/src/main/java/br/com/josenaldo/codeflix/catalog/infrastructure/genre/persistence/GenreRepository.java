@@ -1,7 +1,80 @@
 package br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence;
 
+import static br.com.josenaldo.codeflix.catalog.infrastructure.utils.SpecificationUtils.like;
+
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CacheRegions;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
 
+    /**
+     * Builds a JPA Specification to filter {@link GenreJpaEntity} objects based on a search term.
+     * <p>
+     * If the {@link SearchQuery} contains a non-blank term, the Specification performs a "like"
+     * match on the "name" field. If no valid term is present, the method returns null.
+     *
+     * @param aSearchQuery the search query containing the term used for filtering.
+     * @return a Specification for filtering by the search term, or null if no valid term is
+     * provided.
+     */
+    static Specification<GenreJpaEntity> getTermLikeSpecification(SearchQuery aSearchQuery) {
+        return Optional.ofNullable(aSearchQuery.terms())
+                       .filter(str -> !str.isBlank())
+                       .<Specification<GenreJpaEntity>>map(str -> like("name", str))
+                       .orElse(null);
+    }
+
+    /**
+     * Retrieves a paginated list of {@link GenreJpaEntity} objects that match the given
+     * Specification.
+     *
+     * @param whereClause the Specification containing the filtering criteria.
+     * @param pageable    the pagination information.
+     * @return a Page of GenreJpaEntity objects matching the given criteria.
+     */
+    Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable pageable);
+
+    /**
+     * Counts the {@link GenreJpaEntity} objects that match the given Specification.
+     *
+     * @param whereClause the Specification containing the filtering criteria.
+     * @return the number of GenreJpaEntity objects matching the given criteria.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.GENRE_QUERIES)
+    })
+    long count(Specification<GenreJpaEntity> whereClause);
+
+    /**
+     * Retrieves the category links of the given genres with a single query.
+     * <p>
+     * Only the identifiers of the link table are selected, so no genre nor link entity is loaded
+     * into the persistence context. Callers are expected to bound the number of genres sent in a
+     * single call, such as the genres of one page.
+     * <p>
+     * The links are cached in the {@value CacheRegions#GENRE_QUERIES} region, so reading the same
+     * page again does not reach the database until a genre or link is written.
+     *
+     * @param genreIds the identifiers of the genres.
+     * @return the links of the genres, in no particular order.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.GENRE_QUERIES)
+    })
+    @Query("select gc.id from GenreCategoryJpaEntity gc where gc.id.genreId in :genreIds")
+    List<GenreCategoryID> findCategoryLinks(@Param("genreIds") Collection<String> genreIds);
 }
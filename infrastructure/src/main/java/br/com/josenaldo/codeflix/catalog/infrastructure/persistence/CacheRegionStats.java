@@ -0,0 +1,40 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence;
+
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Hits, misses and puts of a region of the Hibernate second-level cache, counted by the Hibernate
+ * statistics since the application started.
+ *
+ * @param region the name of the region, one of {@link CacheRegions}.
+ * @param hits   the number of lookups answered by the region.
+ * @param misses the number of lookups the region could not answer.
+ * @param puts   the number of entries written to the region.
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public record CacheRegionStats(String region, long hits, long misses, long puts) {
+
+    /**
+     * Reads the counters of the given region. A region that was never used has no counters yet
+     * and is reported with zeros.
+     *
+     * @param statistics the Hibernate statistics.
+     * @param region     the name of the region.
+     * @return the counters of the region.
+     */
+    public static CacheRegionStats of(final Statistics statistics, final String region) {
+        final CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return new CacheRegionStats(region, 0, 0, 0);
+        }
+
+        return new CacheRegionStats(
+            region,
+            regionStatistics.getHitCount(),
+            regionStatistics.getMissCount(),
+            regionStatistics.getPutCount()
+        );
+    }
+}
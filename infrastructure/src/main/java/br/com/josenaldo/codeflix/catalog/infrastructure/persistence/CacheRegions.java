@@ -0,0 +1,75 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+/**
+ * Names of the regions of the Hibernate second-level cache.
+ * <p>
+ * Each cached entity or collection has its own region, and the query results of each cached
+ * entity are kept in a companion region named after it with the {@value #QUERY_REGION_SUFFIX}
+ * suffix, so every region can be sized and aged on its own. Hibernate also needs its default
+ * query results region and the update timestamps region, which tells it when a cached query
+ * result became stale.
+ * <p>
+ * The class is final and has a private constructor to prevent instantiation.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class CacheRegions {
+
+    /**
+     * Suffix appended to the region of an entity to name the region of its query results.
+     */
+    public static final String QUERY_REGION_SUFFIX = "-queries";
+
+    /**
+     * Region of the category entities.
+     */
+    public static final String CATEGORIES = "categories";
+
+    /**
+     * Region of the query results over categories: listing pages and counts.
+     */
+    public static final String CATEGORY_QUERIES = CATEGORIES + QUERY_REGION_SUFFIX;
+
+    /**
+     * Region of the genre entities.
+     */
+    public static final String GENRES = "genres";
+
+    /**
+     * Region of the query results over genres: listing pages, counts and category links.
+     */
+    public static final String GENRE_QUERIES = GENRES + QUERY_REGION_SUFFIX;
+
+    /**
+     * Region of the genre category link entities.
+     */
+    public static final String GENRE_LINKS = "genre-links";
+
+    /**
+     * Region of the category link collections of the genres.
+     */
+    public static final String GENRE_LINK_SETS = "genre-link-sets";
+
+    /**
+     * Hibernate's region for the results of cacheable queries that name no region.
+     */
+    public static final String DEFAULT_QUERY_RESULTS =
+        RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    /**
+     * Hibernate's region holding when each table was last written. Query results cached before
+     * the last write of one of their tables are ignored, so entries of this region must outlive
+     * those of every query region.
+     */
+    public static final String UPDATE_TIMESTAMPS =
+        RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private CacheRegions() {
+    }
+}
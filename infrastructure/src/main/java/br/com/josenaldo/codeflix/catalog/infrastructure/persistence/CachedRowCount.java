@@ -0,0 +1,171 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Row count of a table, counted at most once per staleness window and kept close to the truth
+ * in between by the writes the application reports.
+ * <p>
+ * On InnoDB a {@code SELECT COUNT(*)} scans a whole index, so running it on every listing of a
+ * large table is costly. {@link #get()} counts the rows only when the last count is older than the
+ * maximum staleness; otherwise it returns the cached count, adjusted by {@link #add(long)} for
+ * every row this instance inserted or deleted since, and flagged as an estimate. Writes from other
+ * instances or outside the application are picked up by the next count, so the estimate is never
+ * older than the staleness bound.
+ * <p>
+ * A maximum staleness of zero disables the cache: every call counts the rows.
+ * <p>
+ * Instances are thread-safe and never block. When the count is stale, a single caller recounts
+ * the rows while the others, and the writes reported meanwhile, carry on with the current
+ * estimate. Writes reported during a recount are kept on top of its result, so the estimate may
+ * be off by them until the next count.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class CachedRowCount {
+
+    /**
+     * Runs the {@code COUNT(*)} query.
+     */
+    private final LongSupplier counter;
+
+    /**
+     * How old a count may be before it must be recounted.
+     */
+    private final Duration maxStaleness;
+
+    /**
+     * The clock used to age the count.
+     */
+    private final Clock clock;
+
+    /**
+     * The current count, including the reported writes.
+     */
+    private final AtomicLong value = new AtomicLong();
+
+    /**
+     * Whether a caller is counting the rows right now.
+     */
+    private final AtomicBoolean counting = new AtomicBoolean();
+
+    /**
+     * When the rows were last counted, or {@code null} if they never were.
+     */
+    private volatile Instant countedAt;
+
+    /**
+     * Creates a row count aged by the system clock.
+     *
+     * @param counter      the function that counts the rows.
+     * @param maxStaleness how old a count may be before it must be recounted; must not be
+     *                     negative.
+     */
+    public CachedRowCount(final LongSupplier counter, final Duration maxStaleness) {
+        this(counter, maxStaleness, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a row count aged by the given clock.
+     *
+     * @param counter      the function that counts the rows.
+     * @param maxStaleness how old a count may be before it must be recounted; must not be
+     *                     negative.
+     * @param clock        the clock used to age the count.
+     */
+    public CachedRowCount(
+        final LongSupplier counter,
+        final Duration maxStaleness,
+        final Clock clock
+    ) {
+        this.counter = Objects.requireNonNull(counter);
+        this.maxStaleness = Objects.requireNonNull(maxStaleness);
+        this.clock = Objects.requireNonNull(clock);
+
+        if (maxStaleness.isNegative()) {
+            throw new IllegalArgumentException("Max staleness must not be negative.");
+        }
+    }
+
+    /**
+     * Returns the row count, counting the rows if the cached count is missing or too old.
+     * <p>
+     * Only one caller counts at a time: while it does, the others get the current estimate
+     * instead of waiting. Before the first count completes, that estimate only holds the writes
+     * reported so far.
+     *
+     * @return the row count, flagged as exact if it was just counted.
+     */
+    public Total get() {
+        final Instant now = clock.instant();
+        final Instant last = countedAt;
+
+        if (maxStaleness.isZero()) {
+            final long counted = counter.getAsLong();
+            value.set(counted);
+            countedAt = now;
+            return new Total(counted, true);
+        }
+
+        if (last != null && now.isBefore(last.plus(maxStaleness))) {
+            return estimate();
+        }
+
+        if (!counting.compareAndSet(false, true)) {
+            return estimate();
+        }
+
+        try {
+            final long before = value.get();
+            final long counted = counter.getAsLong();
+            value.addAndGet(counted - before);
+            countedAt = now;
+            return new Total(counted, true);
+        } finally {
+            counting.set(false);
+        }
+    }
+
+    /**
+     * Reports rows inserted (positive delta) or deleted (negative delta) by this application
+     * instance.
+     *
+     * @param delta the change in the number of rows.
+     */
+    public void add(final long delta) {
+        value.addAndGet(delta);
+    }
+
+    /**
+     * Drops the cached count, so the next call to {@link #get()} counts the rows.
+     */
+    public void invalidate() {
+        countedAt = null;
+    }
+
+    /**
+     * Returns the cached count, adjusted by the reported writes, as an estimate.
+     *
+     * @return the estimated row count, never negative.
+     */
+    private Total estimate() {
+        return new Total(Math.max(value.get(), 0L), false);
+    }
+
+    /**
+     * A row count and whether it was just counted or estimated.
+     *
+     * @param value the number of rows.
+     * @param exact {@code true} if the rows were counted; {@code false} if it is an estimate.
+     */
+    public record Total(long value, boolean exact) {
+
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the MySQL full-text search function in Hibernate, so JPQL and Criteria queries can
+ * call it.
+ * <p>
+ * {@value #MATCH_AGAINST}{@code (a, b, query)} renders
+ * {@code MATCH(a, b) AGAINST (query IN BOOLEAN MODE)} and returns the relevance score of the row,
+ * which is {@code 0} for rows that do not match. The columns must be exactly the ones of a
+ * {@code FULLTEXT} index.
+ * <p>
+ * The function is only registered for MySQL dialects; other databases have no such syntax, and
+ * the queries meant for them must not use it.
+ * <p>
+ * The contributor is discovered by Hibernate through
+ * {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public class MySQLFullTextFunctionContributor implements FunctionContributor {
+
+    /**
+     * Name of the two-column boolean mode full-text search function.
+     */
+    public static final String MATCH_AGAINST = "match_against";
+
+    /**
+     * Registers {@value #MATCH_AGAINST} when the dialect is a MySQL one.
+     *
+     * @param functionContributions the function registry and type configuration of the session
+     *                              factory being built.
+     */
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        if (!(functionContributions.getDialect() instanceof MySQLDialect)) {
+            return;
+        }
+
+        functionContributions.getFunctionRegistry().registerPattern(
+            MATCH_AGAINST,
+            "match(?1, ?2) against (?3 in boolean mode)",
+            functionContributions.getTypeConfiguration()
+                                 .getBasicTypeRegistry()
+                                 .resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
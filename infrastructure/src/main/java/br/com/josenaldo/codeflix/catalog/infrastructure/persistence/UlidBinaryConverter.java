@@ -0,0 +1,67 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence;
+
+import br.com.josenaldo.codeflix.catalog.domain.utils.UlidUtils;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * JPA attribute converter that stores ULID identifiers as {@code BINARY(16)} columns.
+ * <p>
+ * The JPA entities keep their identifiers as the canonical lowercase ULID string, so repositories,
+ * queries and the REST layer keep working with the textual form. On the way to the database the
+ * string is decoded into its 16 big-endian bytes, which preserve the lexicographic order of the
+ * ULID and take less than two thirds of the space of a {@code VARCHAR(26)} key in primary keys,
+ * secondary indexes and foreign keys.
+ * <p>
+ * Both directions work on the raw characters and bits through {@link UlidUtils}, without building
+ * intermediate {@code Ulid} objects, since they run once per identifier of every row read or
+ * written.
+ * <p>
+ * The converter is not auto-applied: it must be declared with {@code @Convert} on each identifier
+ * column.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+@Converter
+public class UlidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    /**
+     * Converts the textual ULID held by the entity into its binary representation.
+     *
+     * @param value the ULID string, in any case, or {@code null}.
+     * @return the 16 bytes of the ULID, or {@code null} if {@code value} is {@code null}.
+     * @throws IllegalArgumentException if {@code value} is not a valid ULID.
+     */
+    @Override
+    public byte[] convertToDatabaseColumn(final String value) {
+        if (value == null) {
+            return null;
+        }
+        if (!UlidUtils.isValid(value)) {
+            throw new IllegalArgumentException("the Id %s is invalid".formatted(value));
+        }
+        return UlidUtils.toBytes(
+            UlidUtils.mostSignificantBits(value),
+            UlidUtils.leastSignificantBits(value)
+        );
+    }
+
+    /**
+     * Converts the binary column value back into the canonical lowercase ULID string.
+     *
+     * @param bytes the 16 bytes read from the database, or {@code null}.
+     * @return the lowercase ULID string, or {@code null} if {@code bytes} is {@code null}.
+     * @throws IllegalArgumentException if {@code bytes} does not have exactly 16 bytes.
+     */
+    @Override
+    public String convertToEntityAttribute(final byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("a ULID must have exactly 16 bytes");
+        }
+        return UlidUtils.toString(UlidUtils.readLong(bytes, 0), UlidUtils.readLong(bytes, 8));
+    }
+}
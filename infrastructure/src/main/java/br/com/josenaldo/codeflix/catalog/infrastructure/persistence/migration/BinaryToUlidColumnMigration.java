@@ -0,0 +1,163 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence.migration;
+
+import com.github.f4b6a3.ulid.Ulid;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * Liquibase custom change that copies the ULIDs of a {@code BINARY(16)} column into a
+ * {@code VARCHAR(26)} column of the same table, in their lowercase textual form.
+ * <p>
+ * It is the reverse of {@link UlidToBinaryColumnMigration}, used by the rollback of the changeset
+ * that moved the keys to {@code BINARY(16)}. The distinct values of the source column are read,
+ * encoded with {@link Ulid#from(byte[])} and written back through batched {@code UPDATE}
+ * statements keyed by the source value. Rows whose target column is already filled are skipped,
+ * so running the task again only converts the rows it has not converted yet.
+ * <p>
+ * The change is configured in the changelog through the {@code tableName}, {@code sourceColumn}
+ * and {@code targetColumn} parameters.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public class BinaryToUlidColumnMigration implements CustomTaskChange {
+
+    /**
+     * Number of {@code UPDATE} statements sent to the database in each JDBC batch.
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    private String tableName;
+
+    private String sourceColumn;
+
+    private String targetColumn;
+
+    private int migratedValues;
+
+    /**
+     * Copies every distinct binary ULID of the source column into the target column as text.
+     *
+     * @param database the database the changelog is being applied to.
+     * @throws CustomChangeException if a value does not have 16 bytes or a statement fails.
+     */
+    @Override
+    public void execute(final Database database) throws CustomChangeException {
+        final var connection = (JdbcConnection) database.getConnection();
+
+        final var select = "SELECT DISTINCT %s FROM %s WHERE %s IS NULL".formatted(
+            sourceColumn,
+            tableName,
+            targetColumn
+        );
+        final var update = "UPDATE %s SET %s = ? WHERE %s = ?".formatted(
+            tableName,
+            targetColumn,
+            sourceColumn
+        );
+
+        try {
+            final List<byte[]> values = new ArrayList<>();
+            try (
+                final var statement = connection.createStatement();
+                final ResultSet resultSet = statement.executeQuery(select)
+            ) {
+                while (resultSet.next()) {
+                    values.add(resultSet.getBytes(1));
+                }
+            }
+
+            try (final PreparedStatement statement = connection.prepareStatement(update)) {
+                int pending = 0;
+                for (final byte[] value : values) {
+                    statement.setString(1, Ulid.from(value).toLowerCase());
+                    statement.setBytes(2, value);
+                    statement.addBatch();
+
+                    if (++pending == BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+
+            migratedValues = values.size();
+        } catch (DatabaseException | SQLException | IllegalArgumentException e) {
+            throw new CustomChangeException(
+                "Could not convert %s.%s to VARCHAR(26)".formatted(tableName, sourceColumn),
+                e
+            );
+        }
+    }
+
+    /**
+     * Returns the message shown by Liquibase once the change has been applied.
+     *
+     * @return a summary of the migrated column.
+     */
+    @Override
+    public String getConfirmationMessage() {
+        return "Converted %d binary ULID(s) from %s.%s into %s".formatted(
+            migratedValues,
+            tableName,
+            sourceColumn,
+            targetColumn
+        );
+    }
+
+    /**
+     * No set-up is required by this change.
+     */
+    @Override
+    public void setUp() {
+    }
+
+    /**
+     * This change does not read any resource from the changelog.
+     *
+     * @param resourceAccessor the Liquibase resource accessor.
+     */
+    @Override
+    public void setFileOpener(final ResourceAccessor resourceAccessor) {
+    }
+
+    /**
+     * Validates that all parameters were given in the changelog.
+     *
+     * @param database the database the changelog is being applied to.
+     * @return the validation errors found, if any.
+     */
+    @Override
+    public ValidationErrors validate(final Database database) {
+        final var errors = new ValidationErrors();
+        errors.checkRequiredField("tableName", tableName);
+        errors.checkRequiredField("sourceColumn", sourceColumn);
+        errors.checkRequiredField("targetColumn", targetColumn);
+        return errors;
+    }
+
+    public void setTableName(final String tableName) {
+        this.tableName = tableName;
+    }
+
+    public void setSourceColumn(final String sourceColumn) {
+        this.sourceColumn = sourceColumn;
+    }
+
+    public void setTargetColumn(final String targetColumn) {
+        this.targetColumn = targetColumn;
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence.routing;
+
+/**
+ * The database a connection is taken from by the {@link ReadWriteRoutingDataSource}.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public enum DataSourceRole {
+
+    /**
+     * The primary database, which takes every write and the reads that must see them.
+     */
+    PRIMARY,
+
+    /**
+     * A read replica, which answers the read-only use cases.
+     */
+    REPLICA
+}
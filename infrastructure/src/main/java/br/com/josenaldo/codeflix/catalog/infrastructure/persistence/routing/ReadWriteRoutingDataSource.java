@@ -0,0 +1,78 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence.routing;
+
+import java.util.Map;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * {@link DataSource} that hands out connections from a primary pool or from a read replica pool,
+ * as decided by the {@link ReplicaRoutingContext} of the calling thread.
+ * <p>
+ * Each pool is sized on its own, so the read traffic, which outnumbers the writes by far, no
+ * longer competes with them for the same connections. The routing happens when a connection is
+ * taken, which Spring does when a transaction begins or, outside transactions, when a statement
+ * runs, so the context must be set before the data access starts.
+ * <p>
+ * Closing this data source closes both pools.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource
+    implements AutoCloseable {
+
+    /**
+     * The pool of connections to the primary database.
+     */
+    private final DataSource primary;
+
+    /**
+     * The pool of connections to the read replica.
+     */
+    private final DataSource replica;
+
+    /**
+     * Creates a data source routing between the given pools.
+     *
+     * @param primary the pool of connections to the primary database.
+     * @param replica the pool of connections to the read replica.
+     */
+    public ReadWriteRoutingDataSource(final DataSource primary, final DataSource replica) {
+        this.primary = Objects.requireNonNull(primary);
+        this.replica = Objects.requireNonNull(replica);
+
+        setTargetDataSources(Map.of(
+            DataSourceRole.PRIMARY, primary,
+            DataSourceRole.REPLICA, replica
+        ));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Returns the role of the database the current thread should read from.
+     *
+     * @return the {@link DataSourceRole} given by the {@link ReplicaRoutingContext}.
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReplicaRoutingContext.currentRole();
+    }
+
+    /**
+     * Closes both pools, if they can be closed.
+     *
+     * @throws Exception if a pool fails to close.
+     */
+    @Override
+    public void close() throws Exception {
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet filter that gives each client read-your-writes consistency on top of the read replicas.
+ * <p>
+ * A request that may write (any method other than {@code GET}, {@code HEAD} and
+ * {@code OPTIONS}) is served entirely by the primary, and its response carries the
+ * {@value #COOKIE_NAME} cookie with the instant until which the client keeps reading from the
+ * primary. Requests that send the cookie before that instant are pinned to the primary too, so a
+ * client listing right after an update sees it even if the replicas have not applied it yet.
+ * Other clients keep reading from the replicas.
+ * <p>
+ * The stickiness should be longer than the usual replication lag.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    /**
+     * Name of the cookie holding the epoch millisecond until which the client reads from the
+     * primary.
+     */
+    public static final String COOKIE_NAME = "codeflix-read-primary-until";
+
+    /**
+     * Methods that never write.
+     */
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    /**
+     * How long a client reads from the primary after a write.
+     */
+    private final Duration stickiness;
+
+    /**
+     * The clock used to stamp and check the cookie.
+     */
+    private final Clock clock;
+
+    /**
+     * Creates a filter with the given stickiness, stamped by the system clock.
+     *
+     * @param stickiness how long a client reads from the primary after a write.
+     */
+    public ReadYourWritesFilter(final Duration stickiness) {
+        this(stickiness, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a filter with the given stickiness, stamped by the given clock.
+     *
+     * @param stickiness how long a client reads from the primary after a write.
+     * @param clock      the clock used to stamp and check the cookie.
+     */
+    public ReadYourWritesFilter(final Duration stickiness, final Clock clock) {
+        this.stickiness = Objects.requireNonNull(stickiness);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Pins the request to the primary if it may write or if its client wrote recently, and stamps
+     * the cookie of the writing requests.
+     *
+     * @param request     the request.
+     * @param response    the response.
+     * @param filterChain the rest of the chain.
+     * @throws ServletException if the chain fails.
+     * @throws IOException      if the chain fails.
+     */
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final long now = clock.millis();
+        final boolean writing = !READ_METHODS.contains(request.getMethod());
+
+        if (writing) {
+            response.addCookie(cookieUntil(now + stickiness.toMillis(), request));
+        }
+
+        final boolean pinned = writing || primaryUntil(request) > now;
+        final boolean previous = ReplicaRoutingContext.setPinnedToPrimary(pinned);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.setPinnedToPrimary(previous);
+        }
+    }
+
+    /**
+     * Reads the instant until which the client reads from the primary.
+     *
+     * @param request the request.
+     * @return the epoch millisecond in the cookie, or {@code 0} if there is no valid cookie.
+     */
+    private static long primaryUntil(final HttpServletRequest request) {
+        final Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+
+        for (final Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * Builds the cookie that pins the client to the primary until the given instant.
+     *
+     * @param until   the epoch millisecond until which the client reads from the primary.
+     * @param request the request, whose context path scopes the cookie.
+     * @return the cookie.
+     */
+    private Cookie cookieUntil(final long until, final HttpServletRequest request) {
+        final String contextPath = request.getContextPath();
+        final Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+        cookie.setPath(contextPath == null || contextPath.isEmpty() ? "/" : contextPath);
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1L, stickiness.toSeconds()));
+        return cookie;
+    }
+}
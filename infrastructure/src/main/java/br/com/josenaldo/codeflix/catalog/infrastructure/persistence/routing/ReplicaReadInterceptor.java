@@ -0,0 +1,52 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence.routing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+
+/**
+ * Interceptor that runs every method of a read-only use case with replica reads enabled, so its
+ * data access is answered by a read replica.
+ * <p>
+ * The use cases of the application module know nothing about databases, so they are marked as
+ * read-only where their beans are declared, by wrapping them with {@link #readingFromReplica}.
+ * A client pinned to the primary still reads from it (see {@link ReplicaRoutingContext}).
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class ReplicaReadInterceptor implements MethodInterceptor {
+
+    /**
+     * Wraps the given use case in a class-based proxy that reads from the replica.
+     *
+     * @param <T>     the type of the use case.
+     * @param useCase the read-only use case.
+     * @return the proxy, assignable to the class of the use case.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T readingFromReplica(final T useCase) {
+        final ProxyFactory factory = new ProxyFactory(useCase);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new ReplicaReadInterceptor());
+        return (T) factory.getProxy();
+    }
+
+    /**
+     * Runs the intercepted method with replica reads enabled, restoring the previous state
+     * afterwards.
+     *
+     * @param invocation the intercepted method call.
+     * @return the result of the method.
+     * @throws Throwable whatever the method throws.
+     */
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final boolean previous = ReplicaRoutingContext.setReplicaReads(true);
+        try {
+            return invocation.proceed();
+        } finally {
+            ReplicaRoutingContext.setReplicaReads(previous);
+        }
+    }
+}
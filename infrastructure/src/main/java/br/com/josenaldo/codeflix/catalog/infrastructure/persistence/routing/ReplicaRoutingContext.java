@@ -0,0 +1,109 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence.routing;
+
+/**
+ * Holds, for the current thread, the state that decides which database the
+ * {@link ReadWriteRoutingDataSource} hands out connections from.
+ * <p>
+ * Two independent flags are kept:
+ * <ul>
+ *   <li>Replica reads, set while a read-only use case runs (see
+ *       {@link ReplicaReadInterceptor}).</li>
+ *   <li>The pin to the primary, set while serving a client that has just written (see
+ *       {@link ReadYourWritesFilter}), so it reads its own writes even if the replicas lag
+ *       behind.</li>
+ * </ul>
+ * Connections come from a replica only when the first flag is set and the second is not; every
+ * other connection, including those of code that never touches this class, comes from the
+ * primary.
+ * <p>
+ * Both flags are restored by the code that set them, so nested calls keep the outer state.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class ReplicaRoutingContext {
+
+    /**
+     * Whether the current thread runs a read-only use case.
+     */
+    private static final ThreadLocal<Boolean> REPLICA_READS = new ThreadLocal<>();
+
+    /**
+     * Whether the current thread serves a client that must read from the primary.
+     */
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ReplicaRoutingContext() {
+    }
+
+    /**
+     * Returns the database the current thread should take its connections from.
+     *
+     * @return {@link DataSourceRole#REPLICA} inside a read-only use case of a client not pinned to
+     * the primary; {@link DataSourceRole#PRIMARY} otherwise.
+     */
+    public static DataSourceRole currentRole() {
+        return isReplicaReads() && !isPinnedToPrimary()
+            ? DataSourceRole.REPLICA
+            : DataSourceRole.PRIMARY;
+    }
+
+    /**
+     * Determines if the current thread runs a read-only use case.
+     *
+     * @return {@code true} if replica reads are enabled for the current thread.
+     */
+    public static boolean isReplicaReads() {
+        return Boolean.TRUE.equals(REPLICA_READS.get());
+    }
+
+    /**
+     * Determines if the current thread is pinned to the primary.
+     *
+     * @return {@code true} if the current thread must read from the primary.
+     */
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    /**
+     * Enables or disables replica reads for the current thread.
+     *
+     * @param enabled whether the current thread runs a read-only use case.
+     * @return the previous value, to be restored when the use case ends.
+     */
+    public static boolean setReplicaReads(final boolean enabled) {
+        final boolean previous = isReplicaReads();
+        set(REPLICA_READS, enabled);
+        return previous;
+    }
+
+    /**
+     * Pins or unpins the current thread to the primary.
+     *
+     * @param pinned whether the current thread must read from the primary.
+     * @return the previous value, to be restored when the request ends.
+     */
+    public static boolean setPinnedToPrimary(final boolean pinned) {
+        final boolean previous = isPinnedToPrimary();
+        set(PINNED_TO_PRIMARY, pinned);
+        return previous;
+    }
+
+    /**
+     * Sets a flag, removing it instead of storing {@code false} so pooled threads keep no value.
+     *
+     * @param flag  the flag.
+     * @param value the new value.
+     */
+    private static void set(final ThreadLocal<Boolean> flag, final boolean value) {
+        if (value) {
+            flag.set(Boolean.TRUE);
+        } else {
+            flag.remove();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility class for the read-through caches that decorate the gateways.
+ * <p>
+ * The class is final and has a private constructor to prevent instantiation.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class GatewayCacheUtils {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private GatewayCacheUtils() {
+    }
+
+    /**
+     * Creates a cache bounded in size, which evicts with Caffeine's W-TinyLFU policy: recently
+     * and frequently read entries are kept, and entries read only once are the first to go.
+     * Every entry expires the given time after it is written.
+     *
+     * @param <K>         the type of the keys.
+     * @param <V>         the type of the values.
+     * @param maximumSize the maximum number of entries; must not be negative.
+     * @param ttl         how long an entry is kept after being written; must be positive.
+     * @return the cache.
+     */
+    public static <K, V> Cache<K, V> newCache(final long maximumSize, final Duration ttl) {
+        return Caffeine.newBuilder()
+                       .maximumSize(maximumSize)
+                       .expireAfterWrite(ttl)
+                       .build();
+    }
+
+    /**
+     * Evicts the given keys right away and, when a transaction is active, again once it
+     * completes.
+     * <p>
+     * A concurrent read between the two evictions may load the state the transaction has not
+     * committed yet, or the state it is replacing; the second eviction drops either of them.
+     *
+     * @param <K>   the type of the keys.
+     * @param cache the cache.
+     * @param keys  the keys of the written entries.
+     */
+    public static <K> void evict(final Cache<K, ?> cache, final Collection<K> keys) {
+        cache.invalidateAll(keys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int status) {
+                        cache.invalidateAll(keys);
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * Evicts every entry right away and, when a transaction is active, again once it completes.
+     *
+     * @param cache the cache.
+     * @see #evict(Cache, Collection)
+     */
+    public static void evictAll(final Cache<?, ?> cache) {
+        cache.invalidateAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int status) {
+                        cache.invalidateAll();
+                    }
+                }
+            );
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.utils;
+
+import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Cursor;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
+import br.com.josenaldo.codeflix.catalog.domain.utils.UlidUtils;
+import br.com.josenaldo.codeflix.catalog.domain.validation.Error;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Utility class for fetching {@link Slice slices} with hand-written SQL, the JDBC counterpart of
+ * {@link SliceQueryUtils}.
+ * <p>
+ * Pages are fetched the same way: {@code perPage + 1} rows ordered by the sort column and then by
+ * the identifier, starting at an offset, or right after the item a {@link Cursor} points to with a
+ * keyset predicate. The cursors carry the same keys as the ones issued by {@link SliceQueryUtils},
+ * so a client can page through a listing whichever adapter serves it.
+ * <p>
+ * Identifiers are bound as the 16 bytes of their ULID, and instants as UTC {@link LocalDateTime}s,
+ * matching how Hibernate stores an {@link Instant} in a {@code DATETIME(6)} column.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class JdbcSliceUtils {
+
+    /**
+     * Error reported for a sort attribute that is not a sortable column of the listing.
+     */
+    public static final Error INVALID_SORT = new Error("'sort' is invalid");
+
+    /**
+     * Name of the identifier column, which breaks the ties of every sort.
+     */
+    public static final String ID_COLUMN = "id";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private JdbcSliceUtils() {
+    }
+
+    /**
+     * A column a listing can be sorted by.
+     *
+     * @param column the name of the column.
+     * @param key    reads the value of the column from a row, as used in cursors.
+     * @param parser parses the value of a cursor into the value bound to the column.
+     * @param <T>    the type of the rows.
+     */
+    public record SortColumn<T>(
+        String column,
+        Function<T, Object> key,
+        Function<String, Object> parser
+    ) {
+
+        /**
+         * Creates a sortable text column.
+         *
+         * @param column the name of the column.
+         * @param key    reads the value of the column from a row.
+         * @param <T>    the type of the rows.
+         * @return the sortable column.
+         */
+        public static <T> SortColumn<T> text(final String column, final Function<T, Object> key) {
+            return new SortColumn<>(column, key, value -> value);
+        }
+
+        /**
+         * Creates a sortable boolean column.
+         *
+         * @param column the name of the column.
+         * @param key    reads the value of the column from a row.
+         * @param <T>    the type of the rows.
+         * @return the sortable column.
+         */
+        public static <T> SortColumn<T> bool(final String column, final Function<T, Object> key) {
+            return new SortColumn<>(column, key, JdbcSliceUtils::parseBoolean);
+        }
+
+        /**
+         * Creates a sortable {@code DATETIME(6)} column holding an {@link Instant}.
+         *
+         * @param column the name of the column.
+         * @param key    reads the instant of the column from a row.
+         * @param <T>    the type of the rows.
+         * @return the sortable column.
+         */
+        public static <T> SortColumn<T> instant(
+            final String column,
+            final Function<T, Object> key
+        ) {
+            return new SortColumn<>(column, key, value -> toTimestamp(Instant.parse(value)));
+        }
+    }
+
+    /**
+     * Fetches the requested page of a listing without counting its rows.
+     * <p>
+     * The page is read with an offset, or with a keyset predicate when the query has a cursor, in
+     * the order of the sort attribute of the query and then of the identifier. The slice carries
+     * the cursor of the next page, if there is one.
+     *
+     * @param jdbc         the template used to run the query.
+     * @param select       the {@code SELECT ... FROM} part of the query.
+     * @param filter       the predicate of the listing, or {@code null} to match every row.
+     * @param parameters   the parameters of the predicate; the keyset and paging parameters are
+     *                     added to it.
+     * @param sortColumns  the sortable columns, by the attribute names clients sort by.
+     * @param aSearchQuery the query with the sorting and pagination parameters.
+     * @param rowMapper    maps each row into an item.
+     * @param idOf         reads the identifier of an item, as used in cursors.
+     * @param <T>          the type of the items.
+     * @return the slice of items.
+     * @throws DomainException if the sort attribute is not sortable or the cursor is invalid.
+     */
+    public static <T> Slice<T> findSlice(
+        final NamedParameterJdbcTemplate jdbc,
+        final String select,
+        final String filter,
+        final MapSqlParameterSource parameters,
+        final Map<String, SortColumn<T>> sortColumns,
+        final SearchQuery aSearchQuery,
+        final RowMapper<T> rowMapper,
+        final Function<T, String> idOf
+    ) {
+        final SortColumn<T> sortColumn = sortColumns.get(aSearchQuery.sort());
+        if (sortColumn == null) {
+            throw DomainException.with(INVALID_SORT);
+        }
+
+        final String direction = Direction.fromString(aSearchQuery.direction()).name();
+        final String orderBy = ID_COLUMN.equals(sortColumn.column())
+            ? " ORDER BY %s %s".formatted(ID_COLUMN, direction)
+            : " ORDER BY %s %s, %s %s".formatted(
+                sortColumn.column(),
+                direction,
+                ID_COLUMN,
+                direction
+            );
+
+        final int page = aSearchQuery.page();
+        final int perPage = aSearchQuery.perPage();
+
+        final List<T> rows = aSearchQuery.after()
+            .map(after -> {
+                final String keyset = keysetPredicate(sortColumn, after, parameters);
+                final String where = filter == null ? keyset : "(" + filter + ") AND " + keyset;
+                final String sql = select + " WHERE " + where + orderBy;
+                return fetch(jdbc, sql, parameters, 0, perPage, rowMapper);
+            })
+            .orElseGet(() -> fetch(
+                jdbc,
+                filter == null ? select + orderBy : select + " WHERE " + filter + orderBy,
+                parameters,
+                (long) page * perPage,
+                perPage,
+                rowMapper
+            ));
+
+        final Slice<T> slice = Slice.fromLookahead(page, perPage, rows);
+        if (!slice.hasNext() || slice.data().isEmpty()) {
+            return slice;
+        }
+
+        final T last = slice.data().getLast();
+        final Object key = sortColumn.key().apply(last);
+        return slice.withNextCursor(Cursor.of(
+            aSearchQuery.sort(),
+            aSearchQuery.direction(),
+            key != null ? key.toString() : null,
+            idOf.apply(last)
+        ).encode());
+    }
+
+    /**
+     * Fetches a page of an ordered query without counting its rows, nor issuing a cursor.
+     *
+     * @param jdbc       the template used to run the query.
+     * @param sql        the whole query, ordered, without {@code LIMIT}.
+     * @param parameters the parameters of the query; the paging parameters are added to it.
+     * @param page       the zero-based page number.
+     * @param perPage    the number of items per page.
+     * @param rowMapper  maps each row into an item.
+     * @param <T>        the type of the items.
+     * @return the slice of items.
+     */
+    public static <T> Slice<T> findSlice(
+        final NamedParameterJdbcTemplate jdbc,
+        final String sql,
+        final MapSqlParameterSource parameters,
+        final int page,
+        final int perPage,
+        final RowMapper<T> rowMapper
+    ) {
+        final long offset = (long) page * perPage;
+        final List<T> rows = fetch(jdbc, sql, parameters, offset, perPage, rowMapper);
+        return Slice.fromLookahead(page, perPage, rows);
+    }
+
+    /**
+     * Converts an identifier into the 16 bytes stored in its {@code BINARY(16)} column.
+     *
+     * @param id the canonical ULID string.
+     * @return the bytes of the ULID.
+     */
+    public static byte[] idBytes(final String id) {
+        return UlidUtils.toBytes(
+            UlidUtils.mostSignificantBits(id),
+            UlidUtils.leastSignificantBits(id)
+        );
+    }
+
+    /**
+     * Converts an instant into the value bound to a {@code DATETIME(6)} column.
+     *
+     * @param instant the instant; may be {@code null}.
+     * @return the UTC date and time of the instant, or {@code null}.
+     */
+    public static LocalDateTime toTimestamp(final Instant instant) {
+        return instant == null ? null : LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    /**
+     * Reads an instant from a {@code DATETIME(6)} column.
+     *
+     * @param rs     the result set, positioned on a row.
+     * @param column the name of the column.
+     * @return the instant, or {@code null} if the column is {@code NULL}.
+     * @throws SQLException if the column cannot be read.
+     */
+    public static Instant getInstant(final ResultSet rs, final String column) throws SQLException {
+        final LocalDateTime value = rs.getObject(column, LocalDateTime.class);
+        return value == null ? null : value.toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * Runs a query with a {@code LIMIT} of one row more than the page size, so the extra row tells
+     * whether there is a next page.
+     *
+     * @param jdbc       the template used to run the query.
+     * @param sql        the ordered query, without {@code LIMIT}.
+     * @param parameters the parameters of the query.
+     * @param offset     the number of rows to skip.
+     * @param perPage    the number of items per page.
+     * @param rowMapper  maps each row into an item.
+     * @param <T>        the type of the items.
+     * @return up to {@code perPage + 1} items.
+     */
+    private static <T> List<T> fetch(
+        final NamedParameterJdbcTemplate jdbc,
+        final String sql,
+        final MapSqlParameterSource parameters,
+        final long offset,
+        final int perPage,
+        final RowMapper<T> rowMapper
+    ) {
+        parameters.addValue("limit", Slice.lookaheadLimit(perPage))
+                  .addValue("offset", offset);
+        return jdbc.query(sql + " LIMIT :limit OFFSET :offset", parameters, rowMapper);
+    }
+
+    /**
+     * Builds the keyset predicate selecting the rows that come after the cursor in the order of
+     * the sort column and then of the identifier, binding its values to the parameters.
+     * <p>
+     * Rows with a {@code NULL} sort value come first in ascending order and last in descending
+     * order, as in MySQL, matching the predicate of {@link SliceQueryUtils}.
+     *
+     * @param sortColumn the column the rows are sorted by.
+     * @param after      the cursor of the last item of the previous page.
+     * @param parameters the parameters the values are bound to.
+     * @param <T>        the type of the rows.
+     * @return the SQL predicate.
+     * @throws DomainException if the cursor does not hold a valid sort value.
+     */
+    private static <T> String keysetPredicate(
+        final SortColumn<T> sortColumn,
+        final Cursor after,
+        final MapSqlParameterSource parameters
+    ) {
+        final boolean ascending = after.isAscending();
+        final String column = sortColumn.column();
+        final String idAfter = ascending ? "id > :after_id" : "id < :after_id";
+        parameters.addValue("after_id", idBytes(after.id()));
+
+        if (ID_COLUMN.equals(column)) {
+            return idAfter;
+        }
+
+        if (after.key() == null) {
+            final String sameKey = "%s IS NULL AND %s".formatted(column, idAfter);
+            return ascending
+                ? "((%s) OR %s IS NOT NULL)".formatted(sameKey, column)
+                : "(%s)".formatted(sameKey);
+        }
+
+        try {
+            parameters.addValue("after_key", sortColumn.parser().apply(after.key()));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw DomainException.with(Cursor.INVALID_CURSOR);
+        }
+
+        final String sameKey = "%s = :after_key AND %s".formatted(column, idAfter);
+        return ascending
+            ? "(%s > :after_key OR (%s))".formatted(column, sameKey)
+            : "(%s < :after_key OR (%s) OR %s IS NULL)".formatted(column, sameKey, column);
+    }
+
+    /**
+     * Parses the value of a boolean sort column, accepting only {@code true} and {@code false}.
+     *
+     * @param value the value taken from a cursor.
+     * @return the boolean value.
+     * @throws IllegalArgumentException if the value is neither {@code true} nor {@code false}.
+     */
+    private static Boolean parseBoolean(final String value) {
+        if ("true".equals(value) || "false".equals(value)) {
+            return Boolean.valueOf(value);
+        }
+        throw new IllegalArgumentException("Invalid boolean: " + value);
+    }
+}
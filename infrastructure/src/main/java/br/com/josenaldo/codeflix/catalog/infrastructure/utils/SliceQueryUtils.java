@@ -0,0 +1,479 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.utils;
+
+import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Cursor;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
+import br.com.josenaldo.codeflix.catalog.infrastructure.persistence.CacheRegions;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.hibernate.annotations.Cache;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/**
+ * Utility class for running a single, count-free page query built from a JPA
+ * {@link Specification}.
+ * <p>
+ * Spring Data's {@code findAll(Specification, Pageable)} always issues a second
+ * {@code COUNT(*)} query with the same predicate to fill in the total of the returned
+ * {@code Page}. The methods of this class run only the page query, with an arbitrary offset and
+ * limit, so gateways can fetch {@code perPage + 1} rows and tell whether a next page exists
+ * without counting the matching rows.
+ * <p>
+ * It also runs keyset (cursor) page queries: instead of skipping rows with an offset,
+ * {@link #findAfter(EntityManager, Class, Specification, Cursor, int)} filters the rows that come
+ * after a {@link Cursor} in {@code (sort, id)} order, which an index on those columns answers at
+ * the same cost for any page. The identifier breaks ties between equal sort values, so every
+ * order built here ends with it (see {@link #sortOf(String, String)}).
+ * <p>
+ * Every query can select either the entities themselves or a projection built from their
+ * attributes, such as a record created with {@link CriteriaBuilder#construct}. Projections are not
+ * managed by the persistence context, so reading them costs neither an entity instance nor the
+ * snapshot Hibernate keeps of every loaded entity for dirty checking.
+ * <p>
+ * Offset queries over entities kept in the second-level cache also go through the query cache,
+ * so the most requested pages are answered without reaching the database.
+ * <p>
+ * Following MySQL, {@code NULL} sort values are taken as lower than any other value.
+ * <p>
+ * The class is final and has a private constructor to prevent instantiation.
+ *
+ * @author Josenaldo de Oliveira Matos Filho
+ * @version 1.0
+ */
+public final class SliceQueryUtils {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private SliceQueryUtils() {
+    }
+
+    /**
+     * Name of the identifier attribute of the entities, used to break ties between equal sort
+     * values.
+     */
+    public static final String ID = "id";
+
+    /**
+     * Fetches the slice of entities requested by the search query, without counting the matching
+     * entities.
+     * <p>
+     * When the query has a cursor, the rows after it are fetched with a keyset predicate;
+     * otherwise the first {@code page * perPage} rows are skipped. Either way {@code perPage + 1}
+     * rows are fetched, and the cursor of the next page points to the last row kept.
+     *
+     * @param <T>           the type of the entity.
+     * @param entityManager the entity manager used to run the query.
+     * @param entityClass   the class of the entity.
+     * @param specification the filter to be applied; may be {@code null} to match every entity.
+     * @param aSearchQuery  the search query containing the sorting and pagination parameters.
+     * @return the slice of entities; never {@code null}.
+     */
+    public static <T> Slice<T> findSlice(
+        final EntityManager entityManager,
+        final Class<T> entityClass,
+        final Specification<T> specification,
+        final SearchQuery aSearchQuery
+    ) {
+        return findSlice(
+            entityManager,
+            entityClass,
+            entityClass,
+            SliceQueryUtils::selectRoot,
+            specification,
+            aSearchQuery
+        );
+    }
+
+    /**
+     * Fetches the slice of projections requested by the search query, without counting the
+     * matching entities.
+     * <p>
+     * It works as {@link #findSlice(EntityManager, Class, Specification, SearchQuery)}, but each
+     * row is read into the given selection instead of an entity. The cursor of the next page is
+     * read from the last projection, which must therefore expose the sort attribute and the
+     * identifier as fields named like the attributes of the entity.
+     *
+     * @param <T>           the type of the entity.
+     * @param <R>           the type of the projection.
+     * @param entityManager the entity manager used to run the query.
+     * @param entityClass   the class of the entity.
+     * @param resultClass   the class of the projection.
+     * @param selection     builds the selection of the query from the root of the entity.
+     * @param specification the filter to be applied; may be {@code null} to match every entity.
+     * @param aSearchQuery  the search query containing the sorting and pagination parameters.
+     * @return the slice of projections; never {@code null}.
+     */
+    public static <T, R> Slice<R> findSlice(
+        final EntityManager entityManager,
+        final Class<T> entityClass,
+        final Class<R> resultClass,
+        final BiFunction<CriteriaBuilder, Root<T>, Selection<R>> selection,
+        final Specification<T> specification,
+        final SearchQuery aSearchQuery
+    ) {
+        final int page = aSearchQuery.page();
+        final int perPage = aSearchQuery.perPage();
+        final int limit = Slice.lookaheadLimit(perPage);
+
+        final List<R> rows = aSearchQuery.after()
+            .map(after -> findAfter(
+                entityManager,
+                entityClass,
+                resultClass,
+                selection,
+                specification,
+                after,
+                limit
+            ))
+            .orElseGet(() -> findSlice(
+                entityManager,
+                entityClass,
+                resultClass,
+                selection,
+                specification,
+                sortOf(aSearchQuery.sort(), aSearchQuery.direction()),
+                (long) page * perPage,
+                limit
+            ));
+
+        final Slice<R> slice = Slice.fromLookahead(page, perPage, rows);
+        return slice.withNextCursor(nextCursorOf(slice.hasNext(), slice.data(), aSearchQuery));
+    }
+
+    /**
+     * Fetches up to {@code limit} entities matching the given specification, in the given order,
+     * skipping the first {@code offset} ones.
+     *
+     * @param <T>           the type of the entity.
+     * @param entityManager the entity manager used to run the query.
+     * @param entityClass   the class of the entity.
+     * @param specification the filter to be applied; may be {@code null} to match every entity.
+     * @param sort          the order of the results; when unsorted, the order applied by the
+     *                      specification, if any, is kept.
+     * @param offset        the number of matching entities to skip.
+     * @param limit         the maximum number of entities to fetch.
+     * @return the fetched entities; never {@code null}.
+     */
+    public static <T> List<T> findSlice(
+        final EntityManager entityManager,
+        final Class<T> entityClass,
+        final Specification<T> specification,
+        final Sort sort,
+        final long offset,
+        final int limit
+    ) {
+        return findSlice(
+            entityManager,
+            entityClass,
+            entityClass,
+            SliceQueryUtils::selectRoot,
+            specification,
+            sort,
+            offset,
+            limit
+        );
+    }
+
+    /**
+     * Fetches up to {@code limit} projections of the entities matching the given specification,
+     * in the given order, skipping the first {@code offset} ones.
+     * <p>
+     * When the entity is kept in the second-level cache, the results are cached in its query
+     * region (see {@link #cacheable(TypedQuery, Class)}).
+     *
+     * @param <T>           the type of the entity.
+     * @param <R>           the type of the projection.
+     * @param entityManager the entity manager used to run the query.
+     * @param entityClass   the class of the entity.
+     * @param resultClass   the class of the projection.
+     * @param selection     builds the selection of the query from the root of the entity.
+     * @param specification the filter to be applied; may be {@code null} to match every entity.
+     * @param sort          the order of the results; when unsorted, the order applied by the
+     *                      specification, if any, is kept.
+     * @param offset        the number of matching entities to skip.
+     * @param limit         the maximum number of projections to fetch.
+     * @return the fetched projections; never {@code null}.
+     */
+    public static <T, R> List<R> findSlice(
+        final EntityManager entityManager,
+        final Class<T> entityClass,
+        final Class<R> resultClass,
+        final BiFunction<CriteriaBuilder, Root<T>, Selection<R>> selection,
+        final Specification<T> specification,
+        final Sort sort,
+        final long offset,
+        final int limit
+    ) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<R> query = cb.createQuery(resultClass);
+        final Root<T> root = query.from(entityClass);
+
+        if (specification != null) {
+            final Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        query.select(selection.apply(cb, root));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        final TypedQuery<R> typedQuery = entityManager.createQuery(query)
+                                                      .setFirstResult(Math.toIntExact(offset))
+                                                      .setMaxResults(limit);
+        return cacheable(typedQuery, entityClass).getResultList();
+    }
+
+    /**
+     * Fetches up to {@code limit} entities matching the given specification that come after the
+     * given cursor, in the order the cursor was issued for.
+     *
+     * @param <T>           the type of the entity.
+     * @param entityManager the entity manager used to run the query.
+     * @param entityClass   the class of the entity.
+     * @param specification the filter to be applied; may be {@code null} to match every entity.
+     * @param after         the cursor pointing to the last entity of the previous page.
+     * @param limit         the maximum number of entities to fetch.
+     * @return the fetched entities; never {@code null}.
+     */
+    public static <T> List<T> findAfter(
+        final EntityManager entityManager,
+        final Class<T> entityClass,
+        final Specification<T> specification,
+        final Cursor after,
+        final int limit
+    ) {
+        return findAfter(
+            entityManager,
+            entityClass,
+            entityClass,
+            SliceQueryUtils::selectRoot,
+            specification,
+            after,
+            limit
+        );
+    }
+
+    /**
+     * Fetches up to {@code limit} projections of the entities matching the given specification
+     * that come after the given cursor, in the order the cursor was issued for.
+     *
+     * @param <T>           the type of the entity.
+     * @param <R>           the type of the projection.
+     * @param entityManager the entity manager used to run the query.
+     * @param entityClass   the class of the entity.
+     * @param resultClass   the class of the projection.
+     * @param selection     builds the selection of the query from the root of the entity.
+     * @param specification the filter to be applied; may be {@code null} to match every entity.
+     * @param after         the cursor pointing to the last entity of the previous page.
+     * @param limit         the maximum number of projections to fetch.
+     * @return the fetched projections; never {@code null}.
+     */
+    public static <T, R> List<R> findAfter(
+        final EntityManager entityManager,
+        final Class<T> entityClass,
+        final Class<R> resultClass,
+        final BiFunction<CriteriaBuilder, Root<T>, Selection<R>> selection,
+        final Specification<T> specification,
+        final Cursor after,
+        final int limit
+    ) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<R> query = cb.createQuery(resultClass);
+        final Root<T> root = query.from(entityClass);
+
+        Predicate predicate = keysetPredicate(cb, root, after);
+        if (specification != null) {
+            final Predicate filter = specification.toPredicate(root, query, cb);
+            if (filter != null) {
+                predicate = cb.and(filter, predicate);
+            }
+        }
+
+        query.select(selection.apply(cb, root))
+             .where(predicate)
+             .orderBy(QueryUtils.toOrders(sortOf(after.sort(), after.direction()), root, cb));
+
+        return entityManager.createQuery(query)
+                            .setMaxResults(limit)
+                            .getResultList();
+    }
+
+    /**
+     * Builds the order of a page query: the given attribute and direction, followed by the
+     * identifier in the same direction.
+     *
+     * @param sort      the attribute to sort by.
+     * @param direction the direction of the sort.
+     * @return the {@link Sort} to be applied to the query.
+     */
+    public static Sort sortOf(final String sort, final String direction) {
+        final Direction aDirection = Direction.fromString(direction);
+        final Sort bySort = Sort.by(aDirection, sort);
+        return ID.equals(sort) ? bySort : bySort.and(Sort.by(aDirection, ID));
+    }
+
+    /**
+     * Builds the opaque token of the page after the given entities.
+     *
+     * @param hasNext      whether there are entities after the given ones.
+     * @param data         the entities of the current page, in query order.
+     * @param aSearchQuery the search query containing the sorting parameters.
+     * @return the encoded cursor pointing to the last entity, or {@code null} if there is no next
+     * page.
+     */
+    public static String nextCursorOf(
+        final boolean hasNext,
+        final List<?> data,
+        final SearchQuery aSearchQuery
+    ) {
+        if (!hasNext || data.isEmpty()) {
+            return null;
+        }
+        return cursorOf(data.getLast(), aSearchQuery.sort(), aSearchQuery.direction()).encode();
+    }
+
+    /**
+     * Builds the cursor that points to the given entity, reading its sort attribute and
+     * identifier.
+     *
+     * @param entity    the last entity of a page.
+     * @param sort      the attribute the page is sorted by.
+     * @param direction the direction of the sort.
+     * @return the cursor of the page after the entity.
+     */
+    public static Cursor cursorOf(final Object entity, final String sort, final String direction) {
+        final var accessor = PropertyAccessorFactory.forDirectFieldAccess(entity);
+        final Object key = accessor.getPropertyValue(sort);
+        final Object id = accessor.getPropertyValue(ID);
+        return Cursor.of(sort, direction, key != null ? key.toString() : null, String.valueOf(id));
+    }
+
+    /**
+     * Selects the entity itself, for the queries that do not read a projection.
+     *
+     * @param <T>  the type of the entity.
+     * @param cb   the criteria builder.
+     * @param root the root of the query.
+     * @return the root, as the selection of the query.
+     */
+    private static <T> Selection<T> selectRoot(final CriteriaBuilder cb, final Root<T> root) {
+        return root;
+    }
+
+    /**
+     * Marks the query as cacheable when the entity is kept in the second-level cache, storing its
+     * results in the query region of the entity, named after its entity region with the
+     * {@value CacheRegions#QUERY_REGION_SUFFIX} suffix.
+     * <p>
+     * Only offset queries are cached: their shape repeats across clients, such as the first pages
+     * of a listing in each supported order, while keyset queries carry the position of a row and
+     * rarely repeat. Hibernate ignores the cached results once one of the queried tables is
+     * written through it.
+     *
+     * @param <R>         the type of the results.
+     * @param query       the query to be run.
+     * @param entityClass the class of the queried entity.
+     * @return the given query.
+     */
+    private static <R> TypedQuery<R> cacheable(
+        final TypedQuery<R> query,
+        final Class<?> entityClass
+    ) {
+        final Cache cache = entityClass.getAnnotation(Cache.class);
+        if (cache == null || cache.region().isEmpty()) {
+            return query;
+        }
+
+        return query.setHint(HibernateHints.HINT_CACHEABLE, true)
+                    .setHint(
+                        HibernateHints.HINT_CACHE_REGION,
+                        cache.region() + CacheRegions.QUERY_REGION_SUFFIX
+                    );
+    }
+
+    /**
+     * Builds the predicate matching the rows that come after the cursor.
+     * <p>
+     * For an ascending order and a non-null key this is
+     * {@code sort > key OR (sort = key AND id > lastId)}; the descending order flips the
+     * comparisons and also matches the {@code NULL} sort values, which come last.
+     *
+     * @param cb    the criteria builder.
+     * @param root  the root of the query.
+     * @param after the cursor.
+     * @return the keyset predicate.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Predicate keysetPredicate(
+        final CriteriaBuilder cb,
+        final Root<?> root,
+        final Cursor after
+    ) {
+        final boolean ascending = after.isAscending();
+        final Expression<String> id = root.get(ID);
+        final Predicate idAfter = ascending
+            ? cb.greaterThan(id, after.id())
+            : cb.lessThan(id, after.id());
+
+        if (ID.equals(after.sort())) {
+            return idAfter;
+        }
+
+        final Path<Comparable> sort = root.get(after.sort());
+
+        if (after.key() == null) {
+            final Predicate sameKey = cb.and(cb.isNull(sort), idAfter);
+            return ascending ? cb.or(sameKey, cb.isNotNull(sort)) : sameKey;
+        }
+
+        final Comparable key = keyOf(sort.getJavaType(), after.key());
+        final Predicate sameKey = cb.and(cb.equal(sort, key), idAfter);
+
+        return ascending
+            ? cb.or(cb.greaterThan(sort, key), sameKey)
+            : cb.or(cb.lessThan(sort, key), sameKey, cb.isNull(sort));
+    }
+
+    /**
+     * Converts the textual key of a cursor to the type of the sort attribute.
+     *
+     * @param type the Java type of the sort attribute.
+     * @param key  the textual key.
+     * @return the typed key.
+     * @throws DomainException if the key cannot be converted.
+     */
+    @SuppressWarnings("rawtypes")
+    private static Comparable keyOf(final Class<?> type, final String key) {
+        try {
+            if (type == Instant.class) {
+                return Instant.parse(key);
+            }
+            return (Comparable) DefaultConversionService.getSharedInstance().convert(key, type);
+        } catch (DateTimeParseException | ConversionException e) {
+            throw DomainException.with(Cursor.INVALID_CURSOR);
+        }
+    }
+}
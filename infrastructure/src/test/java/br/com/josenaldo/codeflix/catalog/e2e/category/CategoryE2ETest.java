@@ -168,6 +168,33 @@ public class CategoryE2ETest {
 
     }
 
+    @Test
+    void givenFullTextSearch_whenListCategories_thenMatchesWordPrefixesOfTheTermsAsTyped()
+        throws Exception {
+        // Arrange - Given
+        final var filmesDeAcao = this.givenACategory("Filmes de ação", null, true);
+        final var acaoNosFilmes = this.givenACategory("Ação nos filmes", null, true);
+
+        // Act - When / Assert - Then
+        this.listCategories(0, 10, "mes")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(0)));
+
+        this.listCategories(0, 10, "fil")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(2)));
+
+        this.listCategories(0, 10, "filmes de")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(1)))
+            .andExpect(jsonPath("$.data[0].id", equalTo(filmesDeAcao.getValue())));
+
+        this.listCategories(0, 10, "nos filmes")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(1)))
+            .andExpect(jsonPath("$.data[0].id", equalTo(acaoNosFilmes.getValue())));
+    }
+
     @Test
     void givenValidSortFieldAndSortOrder_whenListCategories_thenShouldReturnOrderedResults()
         throws Exception {
@@ -192,6 +219,37 @@ public class CategoryE2ETest {
             .andExpect(jsonPath("$.data[2].name", equalTo("Séries")));
     }
 
+    @Test
+    void givenSomeCategories_whenListCategorySlice_thenShouldReturnASliceWithoutTotal()
+        throws Exception {
+        // Arrange - Given
+        final var categoryId1 = this.givenACategory("Filmes", null, true);
+        final var categoryId2 = this.givenACategory("Documentários", null, true);
+        final var categoryId3 = this.givenACategory("Séries", null, true);
+
+        assertEquals(3, categoryRepository.count());
+
+        final MockHttpServletRequestBuilder aRequest = get("/categories/slice")
+            .queryParam("page", "0")
+            .queryParam("perPage", "2")
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_JSON);
+
+        // Act - When
+        final var response = this.mockMvc.perform(aRequest);
+
+        // Assert - Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.page", equalTo(0)))
+            .andExpect(jsonPath("$.per_page", equalTo(2)))
+            .andExpect(jsonPath("$.has_next", equalTo(true)))
+            .andExpect(jsonPath("$.total").doesNotExist())
+            .andExpect(jsonPath("$.data", hasSize(2)))
+            .andExpect(jsonPath("$.data[0].id", equalTo(categoryId2.getValue())))
+            .andExpect(jsonPath("$.data[1].id", equalTo(categoryId1.getValue())));
+    }
+
     @Test
     void givenValidCategoryId_whenGetCategoryByItsIdentifier_thenReturnTheCategory()
         throws Exception {
@@ -8,6 +8,7 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,6 +22,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import br.com.josenaldo.codeflix.catalog.annotations.ControllerTest;
+import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoriesCommand;
+import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoriesOutput;
+import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoriesUseCase;
 import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoryOutput;
 import br.com.josenaldo.codeflix.catalog.application.category.create.CreateCategoryUseCase;
 import br.com.josenaldo.codeflix.catalog.application.category.delete.DeleteCategoryUseCase;
@@ -41,6 +45,7 @@ import br.com.josenaldo.codeflix.catalog.domain.validation.handler.Notification;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.models.CreateCategoryRequest;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.models.UpdateCategoryRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import org.junit.jupiter.api.Test;
@@ -71,6 +76,9 @@ class CategoryApiTest {
     @MockitoBean
     private ListCategoryUseCase listCategoryUseCase;
 
+    @MockitoBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
     @Autowired
     private ObjectMapper mapper;
 
@@ -437,4 +445,123 @@ class CategoryApiTest {
                     && Objects.equals(expectedTerms, query.terms()
                 )));
     }
+
+    @Test
+    void givenValidAndInvalidItems_whenCallsCreateCategories_thenShouldReturnResultPerItem()
+        throws Exception {
+        // Arrange - Given
+        final var expectedId = CategoryID.unique();
+        final var expectedErrorMessage = CategoryValidator.NULL_NAME_ERROR;
+
+        final var aInput = List.of(
+            new CreateCategoryRequest("Filmes", "A categoria mais assistida", true),
+            new CreateCategoryRequest(null, "Sem nome", true)
+        );
+
+        when(createCategoriesUseCase.execute(any())).thenReturn(CreateCategoriesOutput.from(List.of(
+            Right(CreateCategoryOutput.from(expectedId)),
+            Left(Notification.create(new Error(expectedErrorMessage)))
+        )));
+
+        // Act - When
+        final var request = post("/categories/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(this.mapper.writeValueAsString(aInput));
+
+        ResultActions response = this.mvc.perform(request).andDo(print());
+
+        // Assert - Then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.created", equalTo(1)))
+                .andExpect(jsonPath("$.failed", equalTo(1)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].index", equalTo(0)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$.items[0].errors", hasSize(0)))
+                .andExpect(jsonPath("$.items[1].index", equalTo(1)))
+                .andExpect(jsonPath("$.items[1].id", nullValue()))
+                .andExpect(jsonPath("$.items[1].errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(createCategoriesUseCase, times(1)).execute(argThat(cmd ->
+            cmd.categories().size() == 2
+                && Objects.equals("Filmes", cmd.categories().get(0).name())
+                && Objects.isNull(cmd.categories().get(1).name())
+        ));
+    }
+
+    @Test
+    void givenAnEmptyList_whenCallsCreateCategories_thenShouldReturnUnprocessableEntity()
+        throws Exception {
+        // Arrange - Given
+        final var expectedErrorMessage = CreateCategoriesCommand.EMPTY_CATEGORIES.message();
+
+        // Act - When
+        final var request = post("/categories/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[]");
+
+        ResultActions response = this.mvc.perform(request).andDo(print());
+
+        // Assert - Then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(createCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenANullItem_whenCallsCreateCategories_thenShouldSendANullCommand() throws Exception {
+        // Arrange - Given
+        final var expectedId = CategoryID.unique();
+        final var expectedErrorMessage = CreateCategoriesCommand.NULL_CATEGORY.message();
+
+        when(createCategoriesUseCase.execute(any())).thenReturn(CreateCategoriesOutput.from(List.of(
+            Right(CreateCategoryOutput.from(expectedId)),
+            Left(Notification.create(CreateCategoriesCommand.NULL_CATEGORY))
+        )));
+
+        // Act - When
+        final var request = post("/categories/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[{\"name\": \"Filmes\", \"is_active\": true}, null]");
+
+        ResultActions response = this.mvc.perform(request).andDo(print());
+
+        // Assert - Then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.failed", equalTo(1)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[1].errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(createCategoriesUseCase, times(1)).execute(argThat(cmd ->
+            cmd.categories().size() == 2
+                && Objects.equals("Filmes", cmd.categories().get(0).name())
+                && Objects.isNull(cmd.categories().get(1))
+        ));
+    }
+
+    @Test
+    void givenMoreItemsThanTheMaximum_whenCallsCreateCategories_thenShouldReturnUnprocessableEntity()
+        throws Exception {
+        // Arrange - Given
+        final var expectedErrorMessage = CreateCategoriesCommand.tooManyCategories(1000).message();
+        final var aInput = Collections.nCopies(
+            1001,
+            new CreateCategoryRequest("Filmes", null, true)
+        );
+
+        // Act - When
+        final var request = post("/categories/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(this.mapper.writeValueAsString(aInput));
+
+        ResultActions response = this.mvc.perform(request);
+
+        // Assert - Then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(createCategoriesUseCase, never()).execute(any());
+    }
 }
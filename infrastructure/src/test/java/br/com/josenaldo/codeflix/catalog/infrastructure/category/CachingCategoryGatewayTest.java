@@ -0,0 +1,163 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+
+class CachingCategoryGatewayTest {
+
+    private final CategoryGateway delegate = mock(CategoryGateway.class);
+
+    private final CachingCategoryGateway gateway = new CachingCategoryGateway(
+        delegate,
+        100,
+        Duration.ofMinutes(1)
+    );
+
+    /**
+     * Tests that a category is loaded from the delegate once, and that every hit returns a copy
+     * that can be changed without changing the cached category.
+     */
+    @Test
+    void givenACachedCategory_whenFindByIdAgain_thenReturnsCopyWithoutLoading() {
+        // Arrange - Given
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+
+        // Act - When
+        final var firstCategory = gateway.findById(aCategory.getId()).orElseThrow();
+        firstCategory.update("Séries", null, false);
+        final var secondCategory = gateway.findById(aCategory.getId()).orElseThrow();
+
+        // Assert - Then
+        verify(delegate, times(1)).findById(aCategory.getId());
+        assertThat(secondCategory).isNotSameAs(firstCategory);
+        assertThat(secondCategory.getName()).isEqualTo("Filmes");
+        assertThat(secondCategory.isActive()).isTrue();
+    }
+
+    /**
+     * Tests that updating or deleting a category evicts it, so the next read loads it again.
+     */
+    @Test
+    void givenACachedCategory_whenUpdateAndDelete_thenLoadsItAgain() {
+        // Arrange - Given
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+        when(delegate.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        gateway.findById(aCategory.getId());
+
+        // Act - When
+        gateway.update(Category.with(aCategory));
+        gateway.findById(aCategory.getId());
+        gateway.deleteById(aCategory.getId());
+        gateway.findById(aCategory.getId());
+
+        // Assert - Then
+        verify(delegate, times(3)).findById(aCategory.getId());
+    }
+
+    /**
+     * Tests that a missing category is not cached, so it is found once it is created.
+     */
+    @Test
+    void givenAMissingCategory_whenFindByIdAgain_thenAsksTheDelegateAgain() {
+        // Arrange - Given
+        final var id = CategoryID.unique();
+        when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        // Act - When
+        final var firstResult = gateway.findById(id);
+        final var secondResult = gateway.findById(id);
+
+        // Assert - Then
+        assertThat(firstResult).isEmpty();
+        assertThat(secondResult).isEmpty();
+        verify(delegate, times(2)).findById(id);
+    }
+
+    /**
+     * Tests that the cached categories are taken as existing and only the other identifiers are
+     * sent to the delegate.
+     */
+    @Test
+    void givenCachedAndUnknownIds_whenExistsByIds_thenAsksOnlyForTheUnknownOnes() {
+        // Arrange - Given
+        final var cached = Category.newCategory("Filmes", null, true);
+        final var stored = CategoryID.unique();
+        final var missing = CategoryID.unique();
+        when(delegate.findById(cached.getId())).thenReturn(Optional.of(cached));
+        when(delegate.existsByIds(any())).thenReturn(List.of(stored));
+        gateway.findById(cached.getId());
+
+        // Act - When
+        final var actualIds = gateway.existsByIds(
+            List.of(cached.getId(), stored, missing, cached.getId())
+        );
+
+        // Assert - Then
+        assertThat(actualIds).containsExactlyInAnyOrder(cached.getId(), stored);
+        verify(delegate).existsByIds(argThat(
+            ids -> StreamSupport.stream(ids.spliterator(), false)
+                                .toList()
+                                .equals(List.of(stored, missing))
+        ));
+    }
+
+    /**
+     * Tests that {@code null} identifiers are skipped instead of reaching the cache.
+     */
+    @Test
+    void givenANullId_whenExistsByIds_thenSkipsIt() {
+        // Arrange - Given
+        final var stored = CategoryID.unique();
+        when(delegate.existsByIds(any())).thenReturn(List.of(stored));
+
+        // Act - When
+        final var actualIds = gateway.existsByIds(Arrays.asList(null, stored));
+
+        // Assert - Then
+        assertThat(actualIds).containsExactly(stored);
+        verify(delegate).existsByIds(argThat(
+            ids -> StreamSupport.stream(ids.spliterator(), false)
+                                .toList()
+                                .equals(List.of(stored))
+        ));
+    }
+
+    /**
+     * Tests that deleting a category runs the deletion listener, which drops the cached genres.
+     */
+    @Test
+    void givenADeletionListener_whenDeleteById_thenRunsIt() {
+        // Arrange - Given
+        final var deletions = new AtomicInteger();
+        final var listening = new CachingCategoryGateway(
+            delegate,
+            100,
+            Duration.ofMinutes(1),
+            deletions::incrementAndGet
+        );
+
+        // Act - When
+        listening.deleteById(CategoryID.unique());
+
+        // Assert - Then
+        assertThat(deletions).hasValue(1);
+    }
+}
@@ -0,0 +1,210 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+
+import br.com.josenaldo.codeflix.catalog.annotations.MySQLGatewayTest;
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryRepository;
+import br.com.josenaldo.codeflix.catalog.infrastructure.utils.JdbcSliceUtils;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+
+@MySQLGatewayTest
+@ActiveProfiles({"test-integration", "jdbc"})
+class CategoryJdbcGatewayTest {
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    /**
+     * Tests that the {@code jdbc} profile replaces the JPA adapter with the JDBC one.
+     */
+    @Test
+    void givenJdbcProfile_whenInjectsGateway_thenIsJdbcAdapter() {
+        assertThat(categoryGateway).isInstanceOf(CategoryJdbcGateway.class);
+    }
+
+    /**
+     * Tests that a created category is stored with all its columns and read back unchanged.
+     */
+    @Test
+    void givenAValidCategory_whenCreateAndFindById_thenReturnsSameCategory() {
+        // Arrange - Given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        // Act - When
+        categoryGateway.create(aCategory);
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).orElseThrow();
+
+        // Assert - Then
+        assertThat(categoryRepository.count()).isEqualTo(1);
+        assertThat(actualCategory.getId()).isEqualTo(aCategory.getId());
+        assertThat(actualCategory.getName()).isEqualTo("Filmes");
+        assertThat(actualCategory.getDescription()).isEqualTo("A categoria mais assistida");
+        assertThat(actualCategory.isActive()).isTrue();
+        assertThat(actualCategory.getCreatedAt()).isEqualTo(aCategory.getCreatedAt());
+        assertThat(actualCategory.getUpdatedAt()).isEqualTo(aCategory.getUpdatedAt());
+        assertThat(actualCategory.getDeletedAt()).isNull();
+    }
+
+    /**
+     * Tests that the JPA mapping reads what the JDBC adapter writes, so both adapters can share
+     * the same database.
+     */
+    @Test
+    void givenACategoryCreatedWithJdbc_whenReadsWithJpa_thenHasSameState() {
+        // Arrange - Given
+        final var aCategory = Category.newCategory("Filmes", null, false);
+
+        // Act - When
+        categoryGateway.create(aCategory);
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue())
+                                                   .orElseThrow();
+
+        // Assert - Then
+        assertThat(actualEntity.getName()).isEqualTo("Filmes");
+        assertThat(actualEntity.isActive()).isFalse();
+        assertThat(actualEntity.getCreatedAt()).isEqualTo(aCategory.getCreatedAt());
+        assertThat(actualEntity.getDeletedAt()).isEqualTo(aCategory.getDeletedAt());
+    }
+
+    /**
+     * Tests that updating a stored category rewrites its columns, and that updating a category
+     * that is not stored creates it.
+     */
+    @Test
+    void givenStoredAndMissingCategories_whenUpdate_thenUpdatesOrCreatesThem() {
+        // Arrange - Given
+        final var stored = categoryGateway.create(Category.newCategory("Film", null, true));
+        final var missing = Category.newCategory("Séries", null, true);
+
+        // Act - When
+        categoryGateway.update(stored.update("Filmes", "Longas", false));
+        categoryGateway.update(missing);
+
+        // Assert - Then
+        final var actualStored = categoryGateway.findById(stored.getId()).orElseThrow();
+        assertThat(actualStored.getName()).isEqualTo("Filmes");
+        assertThat(actualStored.getDescription()).isEqualTo("Longas");
+        assertThat(actualStored.isActive()).isFalse();
+        assertThat(actualStored.getDeletedAt()).isNotNull();
+        assertThat(categoryGateway.findById(missing.getId())).isPresent();
+        assertThat(categoryRepository.count()).isEqualTo(2);
+    }
+
+    /**
+     * Tests that deleting a category removes its row, and that deleting a missing one is a no-op.
+     */
+    @Test
+    void givenAStoredCategory_whenDeleteById_thenRemovesIt() {
+        // Arrange - Given
+        final var stored = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        // Act - When
+        categoryGateway.deleteById(stored.getId());
+        categoryGateway.deleteById(CategoryID.unique());
+
+        // Assert - Then
+        assertThat(categoryGateway.findById(stored.getId())).isEmpty();
+        assertThat(categoryRepository.count()).isZero();
+    }
+
+    /**
+     * Tests that the categories written in batches are listed in order, page after page, by
+     * following the cursors, with the total of every category.
+     */
+    @Test
+    void givenManyCategories_whenFollowsCursors_thenListsAllInOrder() {
+        // Arrange - Given
+        final List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            categories.add(Category.newCategory("Category %02d".formatted(i), null, true));
+        }
+        categoryGateway.createAll(categories);
+        var query = SearchQuery.of(0, 10, null, "name", "asc");
+
+        // Act - When
+        final List<String> actualNames = new ArrayList<>();
+        final var firstPage = categoryGateway.findAll(query);
+        var page = firstPage;
+        actualNames.addAll(page.data().stream().map(Category::getName).toList());
+        while (page.nextCursor() != null) {
+            query = query.withCursor(page.nextCursor());
+            page = categoryGateway.findAll(query);
+            actualNames.addAll(page.data().stream().map(Category::getName).toList());
+        }
+
+        // Assert - Then
+        assertThat(firstPage.total()).isEqualTo(25);
+        assertThat(actualNames).hasSize(25)
+                               .isSortedAccordingTo(String::compareTo)
+                               .startsWith("Category 00")
+                               .endsWith("Category 24");
+    }
+
+    /**
+     * Tests that the search terms filter by name and description, and that the relevance sort
+     * lists the name matches first.
+     */
+    @Test
+    void givenSearchTerms_whenFindAll_thenFiltersAndRanksByRelevance() {
+        // Arrange - Given
+        final var byDescription = Category.newCategory("Séries", "Melhores que filmes", true);
+        final var byName = Category.newCategory("Filmes", null, true);
+        final var other = Category.newCategory("Documentários", null, true);
+        categoryGateway.createAll(List.of(byDescription, byName, other));
+
+        // Act - When
+        final var actualPage = categoryGateway.findAll(
+            SearchQuery.of(0, 10, "film", "relevance", "asc")
+        );
+
+        // Assert - Then
+        assertThat(actualPage.total()).isEqualTo(2);
+        assertThat(actualPage.data()).extracting(Category::getId)
+                                      .containsExactly(byName.getId(), byDescription.getId());
+    }
+
+    /**
+     * Tests that only the stored identifiers are returned, once each.
+     */
+    @Test
+    void givenStoredAndMissingIds_whenExistsByIds_thenReturnsStoredOnce() {
+        // Arrange - Given
+        final var stored = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var ids = List.of(stored.getId(), CategoryID.unique(), stored.getId());
+
+        // Act - When
+        final var actualIds = categoryGateway.existsByIds(ids);
+
+        // Assert - Then
+        assertThat(actualIds).containsExactly(stored.getId());
+    }
+
+    /**
+     * Tests that sorting by an attribute that is not a column is rejected.
+     */
+    @Test
+    void givenAnUnknownSort_whenFindSlice_thenThrowsDomainException() {
+        // Arrange - Given
+        final var query = SearchQuery.of(0, 10, null, "password", "asc");
+
+        // Act - When
+        final var exception = catchException(() -> categoryGateway.findSlice(query));
+
+        // Assert - Then
+        assertThat(exception).isInstanceOf(DomainException.class)
+                             .hasMessage(JdbcSliceUtils.INVALID_SORT.message());
+    }
+}
@@ -1,17 +1,28 @@
 package br.com.josenaldo.codeflix.catalog.infrastructure.category;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
 
 import br.com.josenaldo.codeflix.catalog.annotations.MySQLGatewayTest;
 import br.com.josenaldo.codeflix.catalog.domain.category.Category;
 import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.exceptions.DomainException;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Cursor;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
 import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryRepository;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategorySearchStrategy;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.LikeCategorySearchStrategy;
+import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 /**
@@ -28,7 +39,7 @@ import org.springframework.context.annotation.Import;
  * @version 1.0
  */
 @MySQLGatewayTest
-@Import(CategoryMySQLGateway.class)
+@Import({CategoryMySQLGateway.class, LikeCategorySearchStrategy.class})
 class CategoryMySQLGatewayTest {
 
     /**
@@ -43,6 +54,13 @@ class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryMySQLGateway categoryGateway;
 
+    /**
+     * The test entity manager, used to flush and clear the persistence context so the statements
+     * issued by the gateway can be counted.
+     */
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     /**
      * Tests that the Spring dependency injection successfully injects both the
      * {@link CategoryMySQLGateway} and the {@link CategoryRepository}.
@@ -295,6 +313,7 @@ class CategoryMySQLGatewayTest {
         assertThat(actualResult.page()).isEqualTo(expectedPage);
         assertThat(actualResult.perPage()).isEqualTo(expectedPerPage);
         assertThat(actualResult.total()).isEqualTo(expectedTotal);
+        assertThat(actualResult.exactTotal()).isTrue();
         assertThat(actualResult.data()).hasSize(expectedPerPage);
         assertThat(actualResult.data()).isNotNull();
         assertThat(actualResult.data()).isNotEmpty();
@@ -436,6 +455,151 @@ class CategoryMySQLGatewayTest {
                               .containsExactly(series.getDeletedAt());
     }
 
+    /**
+     * Tests that count-free pagination walks through the categories page by page.
+     * <p>
+     * This test verifies that {@code findSlice} reports a next page for every page but the last
+     * one, and never counts the stored categories.
+     */
+    @Test
+    void givenFollowSlices_whenCallsFindSlice_thenShouldReturnSlicesWithHasNext() {
+        // Arrange - Given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var firstQuery = SearchQuery.of(0, 2, null, "name", "ASC").withoutTotal();
+        final var lastQuery = SearchQuery.of(1, 2, null, "name", "ASC").withoutTotal();
+
+        // Act - When
+        final var firstSlice = categoryGateway.findSlice(firstQuery);
+        final var lastSlice = categoryGateway.findSlice(lastQuery);
+
+        // Assert - Then
+        assertThat(firstSlice)
+            .extracting(Slice::page, Slice::perPage, Slice::hasNext)
+            .containsExactly(0, 2, true);
+        assertThat(firstSlice.data())
+            .extracting(Category::getId)
+            .containsExactly(documentarios.getId(), filmes.getId());
+
+        assertThat(lastSlice)
+            .extracting(Slice::page, Slice::perPage, Slice::hasNext)
+            .containsExactly(1, 2, false);
+        assertThat(lastSlice.data())
+            .extracting(Category::getId)
+            .containsExactly(series.getId());
+    }
+
+    /**
+     * Tests that keyset pagination walks through the categories by following the cursor of each
+     * page.
+     * <p>
+     * The categories share the same {@code null} description, so the identifier is what orders
+     * them and no category is skipped or repeated between pages.
+     */
+    @Test
+    void givenFollowCursors_whenCallsFindAll_thenShouldReturnEveryCategoryOnce() {
+        // Arrange - Given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentarios),
+            CategoryJpaEntity.from(filmes)
+        ));
+
+        final var query = SearchQuery.of(0, 2, null, "description", "asc");
+
+        // Act - When
+        final var firstPage = categoryGateway.findAll(query);
+        final var secondPage = categoryGateway.findAll(query.withCursor(firstPage.nextCursor()));
+        final var secondSlice = categoryGateway.findSlice(
+            query.withoutTotal().withCursor(firstPage.nextCursor())
+        );
+
+        // Assert - Then
+        assertThat(firstPage.total()).isEqualTo(3);
+        assertThat(firstPage.nextCursor()).isNotNull();
+        assertThat(firstPage.data())
+            .extracting(Category::getId)
+            .containsExactly(filmes.getId(), series.getId());
+
+        assertThat(secondPage.total()).isEqualTo(3);
+        assertThat(secondPage.nextCursor()).isNull();
+        assertThat(secondPage.data())
+            .extracting(Category::getId)
+            .containsExactly(documentarios.getId());
+
+        assertThat(secondSlice.hasNext()).isFalse();
+        assertThat(secondSlice.data())
+            .extracting(Category::getId)
+            .containsExactly(documentarios.getId());
+    }
+
+    /**
+     * Tests that keyset pagination in descending order of name returns the categories after the
+     * cursor.
+     */
+    @Test
+    void givenADescendingCursor_whenCallsFindSlice_thenShouldReturnTheNextCategories() {
+        // Arrange - Given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var query = SearchQuery.of(0, 1, null, "name", "desc").withoutTotal();
+
+        // Act - When
+        final var firstSlice = categoryGateway.findSlice(query);
+        final var secondSlice = categoryGateway.findSlice(query.withCursor(firstSlice.nextCursor()));
+        final var lastSlice = categoryGateway.findSlice(query.withCursor(secondSlice.nextCursor()));
+
+        // Assert - Then
+        assertThat(firstSlice.data()).extracting(Category::getId).containsExactly(series.getId());
+        assertThat(secondSlice.data()).extracting(Category::getId).containsExactly(filmes.getId());
+        assertThat(lastSlice.data())
+            .extracting(Category::getId)
+            .containsExactly(documentarios.getId());
+        assertThat(lastSlice.hasNext()).isFalse();
+        assertThat(lastSlice.nextCursor()).isNull();
+    }
+
+    /**
+     * Tests that a forged cursor whose identifier is not a ULID is rejected as an invalid cursor
+     * instead of reaching the identifier converter.
+     */
+    @Test
+    void givenAForgedCursor_whenCallsFindSlice_thenShouldThrowInvalidCursor() {
+        // Arrange - Given
+        final var token = Cursor.of("name", "asc", "Filmes", "not-a-ulid").encode();
+        final var query = SearchQuery.of(0, 1, null, "name", "asc")
+                                     .withoutTotal()
+                                     .withCursor(token);
+
+        // Act - When
+        final var actualException = catchException(() -> categoryGateway.findSlice(query));
+
+        // Assert - Then
+        assertThat(actualException)
+            .isInstanceOf(DomainException.class)
+            .hasMessage(Cursor.INVALID_CURSOR.message());
+    }
+
     /**
      * Tests that when the search term matches a category name, the gateway returns a paginated
      * result.
@@ -595,4 +759,247 @@ class CategoryMySQLGatewayTest {
                                            documentarios.getId()
                                        );
     }
+
+    /**
+     * Tests that {@code existsByIds} returns each stored identifier once, ignoring duplicates and
+     * identifiers that are not stored.
+     */
+    @Test
+    void givenDuplicatedAndUnknownIds_whenCallsExistsByIds_thenShouldReturnDistinctStoredIds() {
+        // Arrange - Given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series)
+        ));
+
+        final var ids = List.of(
+            filmes.getId(),
+            CategoryID.unique(),
+            series.getId(),
+            filmes.getId()
+        );
+
+        // Act - When
+        final var actualIds = categoryGateway.existsByIds(ids);
+
+        // Assert - Then
+        assertThat(actualIds).containsExactlyInAnyOrder(filmes.getId(), series.getId());
+        assertThat(categoryGateway.existsByIds(List.of())).isEmpty();
+    }
+
+    /**
+     * Tests that {@code existsByIds} finds stored identifiers spread over more than one chunk of
+     * the {@code IN (...)} lookup.
+     */
+    @Test
+    void givenMoreIdsThanOneChunk_whenCallsExistsByIds_thenShouldReturnStoredIdsOfEveryChunk() {
+        // Arrange - Given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series)
+        ));
+
+        final var ids = new ArrayList<CategoryID>();
+        ids.add(filmes.getId());
+        for (int i = 0; i < CategoryMySQLGateway.EXISTS_BY_IDS_CHUNK_SIZE; i++) {
+            ids.add(CategoryID.unique());
+        }
+        ids.add(series.getId());
+
+        // Act - When
+        final var actualIds = categoryGateway.existsByIds(ids);
+
+        // Assert - Then
+        assertThat(actualIds).containsExactlyInAnyOrder(filmes.getId(), series.getId());
+    }
+
+    /**
+     * Tests that creating a category issues a single {@code INSERT}, without selecting the row
+     * first.
+     */
+    @Test
+    void givenANewCategory_whenCallsCreate_thenShouldIssueOnlyOneInsert() {
+        // Arrange - Given
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var statistics = clearStatistics();
+
+        // Act - When
+        categoryGateway.create(category);
+        testEntityManager.flush();
+
+        // Assert - Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(categoryRepository.existsById(category.getId().getValue())).isTrue();
+    }
+
+    /**
+     * Tests that sorting by relevance keeps only the matching categories, ranks the name matches
+     * before the description-only ones and never issues a cursor.
+     */
+    @Test
+    void givenARelevanceSort_whenCallsFindAllAndFindSlice_thenShouldRankNameMatchesFirst() {
+        // Arrange - Given
+        final var documentarios = Category.newCategory("Documentários", "Filmes reais", true);
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, true);
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(documentarios),
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series)
+        ));
+
+        final var query = SearchQuery.of(0, 1, "filmes", CategorySearchStrategy.RELEVANCE, "asc");
+
+        // Act - When
+        final var actualPage = categoryGateway.findAll(query);
+        final var actualSlice = categoryGateway.findSlice(
+            SearchQuery.of(1, 1, "filmes", CategorySearchStrategy.RELEVANCE, "asc")
+        );
+
+        // Assert - Then
+        assertThat(actualPage.total()).isEqualTo(2);
+        assertThat(actualPage.data()).extracting(Category::getId).containsExactly(filmes.getId());
+        assertThat(actualPage.nextCursor()).isNull();
+        assertThat(actualSlice.hasNext()).isFalse();
+        assertThat(actualSlice.data()).extracting(Category::getId)
+                                      .containsExactly(documentarios.getId());
+        assertThat(actualSlice.nextCursor()).isNull();
+    }
+
+    /**
+     * Tests that creating many categories sends all the {@code INSERT}s in a single JDBC batch,
+     * without selecting any row, and keeps the given order.
+     */
+    @Test
+    void givenManyNewCategories_whenCallsCreateAll_thenShouldInsertThemInOneBatch() {
+        // Arrange - Given
+        final var categories = List.of(
+            Category.newCategory("Filmes", "A categoria mais assistida", true),
+            Category.newCategory("Séries", null, true),
+            Category.newCategory("Documentários", null, false)
+        );
+        final var statistics = clearStatistics();
+
+        // Act - When
+        final var actualCategories = categoryGateway.createAll(categories);
+
+        // Assert - Then
+        assertThat(actualCategories).containsExactlyElementsOf(categories);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(categoryRepository.count()).isEqualTo(3);
+    }
+
+    /**
+     * Tests that deleting a category issues a single bulk {@code DELETE}, whether it is stored or
+     * not.
+     */
+    @Test
+    void givenAPrePersistedCategory_whenCallsDeleteById_thenShouldIssueOnlyOneDelete() {
+        // Arrange - Given
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+        testEntityManager.clear();
+        final var statistics = clearStatistics();
+
+        // Act - When
+        categoryGateway.deleteById(category.getId());
+        final var storedStatements = statistics.getPrepareStatementCount();
+        categoryGateway.deleteById(CategoryID.unique());
+
+        // Assert - Then
+        assertThat(storedStatements).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(categoryRepository.count()).isZero();
+        assertThat(categoryRepository.deleteByIdReturningCount(category.getId().getValue()))
+            .isZero();
+    }
+
+    /**
+     * Tests that updating a category loads it once and writes it with a single {@code UPDATE}.
+     */
+    @Test
+    void givenAPrePersistedCategory_whenCallsUpdate_thenShouldIssueOneSelectAndOneUpdate() {
+        // Arrange - Given
+        final var category = Category.newCategory("Film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+        testEntityManager.clear();
+        final var statistics = clearStatistics();
+
+        // Act - When
+        categoryGateway.update(category.clone().update("Filmes", null, true));
+        testEntityManager.flush();
+
+        // Assert - Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+
+        testEntityManager.clear();
+        assertThat(categoryRepository.findById(category.getId().getValue()))
+            .get()
+            .extracting(CategoryJpaEntity::getName)
+            .isEqualTo("Filmes");
+    }
+
+    /**
+     * Tests that listing categories reads them as projections, without loading any entity into
+     * the persistence context, on the filtered, unfiltered and slice paths.
+     */
+    @Test
+    void givenAPrePersistedCategories_whenCallsFindAllAndFindSlice_thenShouldLoadNoEntity() {
+        // Arrange - Given
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series)
+        ));
+        testEntityManager.clear();
+        final var statistics = clearStatistics();
+
+        // Act - When
+        final var unfiltered = categoryGateway.findAll(SearchQuery.of(0, 10, null, "name", "asc"));
+        final var filtered = categoryGateway.findAll(SearchQuery.of(0, 10, "fil", "name", "asc"));
+        final var slice = categoryGateway.findSlice(SearchQuery.of(0, 1, null, "name", "asc"));
+
+        // Assert - Then
+        assertThat(unfiltered.data()).containsExactly(filmes, series);
+        assertThat(unfiltered.data()).extracting(Category::isActive).containsExactly(true, false);
+        assertThat(filtered.data()).containsExactly(filmes);
+        assertThat(filtered.total()).isEqualTo(1);
+        assertThat(slice.data()).containsExactly(filmes);
+        assertThat(slice.nextCursor()).isNotNull();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(testEntityManager.getEntityManager()
+                                    .unwrap(Session.class)
+                                    .getStatistics()
+                                    .getEntityCount()).isZero();
+    }
+
+    /**
+     * Enables and resets the Hibernate statistics of the persistence unit.
+     *
+     * @return the statistics, counting from zero.
+     */
+    private Statistics clearStatistics() {
+        final var statistics = testEntityManager.getEntityManager()
+                                                .getEntityManagerFactory()
+                                                .unwrap(SessionFactory.class)
+                                                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
 }
@@ -0,0 +1,129 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.existence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+
+class CategoryIdFilterTest {
+
+    private final CategoryRepository repository = mock(CategoryRepository.class);
+
+    /**
+     * Tests that, before the first rebuild, every category might exist.
+     */
+    @Test
+    void givenAFilterNotBuilt_whenMightContain_thenAlwaysAsksTheDatabase() {
+        // Arrange - Given
+        final var filter = newFilter(false);
+
+        // Act - When
+        final var actual = filter.mightContain(olderId());
+
+        // Assert - Then
+        assertThat(actual).isTrue();
+        assertThat(filter.stats().definiteMisses()).isZero();
+    }
+
+    /**
+     * Tests that, once built, a missing identifier older than the rebuild is a definite miss,
+     * while stored identifiers and identifiers newer than the rebuild might exist.
+     */
+    @Test
+    void givenStoredIds_whenRebuild_thenOnlyOlderMissingIdsAreDefiniteMisses() {
+        // Arrange - Given
+        final var stored = List.of(olderId(), olderId(), olderId());
+        stubStoredIds(stored);
+        final var filter = newFilter(false);
+
+        // Act - When
+        final var stats = filter.rebuild();
+        final var missing = olderId();
+        final var created = CategoryID.unique();
+
+        // Assert - Then
+        assertThat(stats.ids()).isEqualTo(3);
+        assertThat(stats.stages()).isEqualTo(1);
+        assertThat(stats.estimatedBytes()).isPositive();
+        assertThat(stats.builtAt()).isNotNull();
+        assertThat(stored).allMatch(filter::mightContain);
+        assertThat(filter.mightContain(missing)).isFalse();
+        assertThat(filter.mightContain(created)).isTrue();
+        assertThat(filter.stats().checks()).isEqualTo(5);
+        assertThat(filter.stats().definiteMisses()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that a deleted category older than the rebuild becomes a definite miss, and that a
+     * stored identifier reported absent by the database counts as a false positive.
+     */
+    @Test
+    void givenABuiltFilter_whenRemoveAndReportAbsent_thenTracksMissesAndFalsePositives() {
+        // Arrange - Given
+        final var deleted = olderId();
+        final var stale = olderId();
+        stubStoredIds(List.of(deleted, stale));
+        final var filter = newFilter(false);
+        filter.rebuild();
+
+        // Act - When
+        filter.remove(deleted);
+        filter.mightContain(deleted);
+        filter.reportAbsent(stale);
+
+        // Assert - Then
+        final var stats = filter.stats();
+        assertThat(stats.ids()).isEqualTo(1);
+        assertThat(stats.definiteMisses()).isEqualTo(1);
+        assertThat(stats.falsePositives()).isEqualTo(1);
+        assertThat(stats.observedFalsePositiveRate()).isEqualTo(0.5);
+    }
+
+    /**
+     * Tests that, when this is the only instance writing categories, created categories are found
+     * and new missing identifiers are definite misses too.
+     */
+    @Test
+    void givenASingleInstance_whenMightContainNewIds_thenTrustsEveryMiss() {
+        // Arrange - Given
+        stubStoredIds(List.of());
+        final var filter = newFilter(true);
+        filter.rebuild();
+        final var created = CategoryID.unique();
+
+        // Act - When
+        filter.add(created);
+
+        // Assert - Then
+        assertThat(filter.mightContain(created)).isTrue();
+        assertThat(filter.mightContain(CategoryID.unique())).isFalse();
+    }
+
+    private CategoryIdFilter newFilter(final boolean singleInstance) {
+        return new CategoryIdFilter(repository, 0.01, 1_000, Duration.ZERO, singleInstance);
+    }
+
+    private void stubStoredIds(final List<CategoryID> ids) {
+        when(repository.count()).thenReturn((long) ids.size());
+        when(repository.findIdsAfter(isNull(), any()))
+            .thenReturn(ids.stream().map(CategoryID::getValue).toList());
+    }
+
+    /**
+     * Creates a random identifier generated an hour ago, before any rebuild of the tests.
+     */
+    private static CategoryID olderId() {
+        final var random = ThreadLocalRandom.current();
+        final long millis = Instant.now().minus(Duration.ofHours(1)).toEpochMilli();
+        return CategoryID.fromBits((millis << 16) | random.nextInt(1 << 16), random.nextLong());
+    }
+}
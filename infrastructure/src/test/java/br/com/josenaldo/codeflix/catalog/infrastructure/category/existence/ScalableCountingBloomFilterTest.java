@@ -0,0 +1,77 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.existence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class ScalableCountingBloomFilterTest {
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    /**
+     * Tests that a filter filled well beyond its initial capacity grows new stages, never reports
+     * an added key as absent, and keeps its false positive rate near the target.
+     */
+    @Test
+    void givenMoreKeysThanInitialCapacity_whenMightContain_thenGrowsWithoutFalseNegatives() {
+        // Arrange - Given
+        final var filter = new ScalableCountingBloomFilter(1_000, 0.01);
+        final long[][] keys = new long[10_000][];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new long[]{random.nextLong(), random.nextLong()};
+            filter.add(keys[i][0], keys[i][1]);
+        }
+
+        // Act - When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong())) {
+                falsePositives++;
+            }
+        }
+
+        // Assert - Then
+        for (final long[] key : keys) {
+            assertThat(filter.mightContain(key[0], key[1])).isTrue();
+        }
+        assertThat(filter.size()).isEqualTo(10_000);
+        assertThat(filter.stageCount()).isEqualTo(4);
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.0, 0.02);
+        assertThat(filter.estimatedBytes()).isPositive();
+    }
+
+    /**
+     * Tests that removing a key of the first stage makes it absent again without affecting the
+     * other keys.
+     */
+    @Test
+    void givenKeysOfTheFirstStage_whenRemove_thenOnlyTheRemovedKeyIsAbsent() {
+        // Arrange - Given
+        final var filter = new ScalableCountingBloomFilter(1_000, 0.01);
+        filter.add(1L, 2L);
+        filter.add(3L, 4L);
+
+        // Act - When
+        filter.remove(1L, 2L);
+
+        // Assert - Then
+        assertThat(filter.mightContain(1L, 2L)).isFalse();
+        assertThat(filter.mightContain(3L, 4L)).isTrue();
+        assertThat(filter.size()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that an invalid capacity or false positive rate is rejected.
+     */
+    @Test
+    void givenInvalidSettings_whenCreate_thenThrows() {
+        // Act - When / Assert - Then
+        assertThatThrownBy(() -> new ScalableCountingBloomFilter(0, 0.01))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ScalableCountingBloomFilter(1_000, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+class FullTextCategorySearchStrategyTest {
+
+    @Test
+    void givenTermsWithOperatorsAndShortWords_whenBooleanQueryOf_thenReturnsRequiredPrefixes() {
+        // Arrange - Given
+        final var terms = "  Filmes +de \"ação\"* -2024 ";
+
+        // Act - When
+        final var actualQuery = FullTextCategorySearchStrategy.booleanQueryOf(terms);
+
+        // Assert - Then
+        assertThat(actualQuery).isEqualTo("+Filmes* +ação* +2024*");
+    }
+
+    @Test
+    void givenOnlyShortWordsOrNoTerms_whenBooleanQueryOf_thenReturnsNull() {
+        // Act - When / Assert - Then
+        assertThat(FullTextCategorySearchStrategy.booleanQueryOf("a de")).isNull();
+        assertThat(FullTextCategorySearchStrategy.booleanQueryOf("  ")).isNull();
+        assertThat(FullTextCategorySearchStrategy.booleanQueryOf(null)).isNull();
+    }
+
+    @Test
+    void givenOnlyShortWords_whenMatching_thenFallsBackToLike() {
+        // Arrange - Given
+        final var strategy = new FullTextCategorySearchStrategy();
+
+        // Act - When / Assert - Then
+        assertThat(strategy.matching("tv")).isNotNull();
+        assertThat(strategy.matching(" ")).isNull();
+    }
+
+    @Test
+    void givenTerms_whenSqlMatchingAndSqlRelevanceOrder_thenRechecksLikeAndRanksByScore() {
+        // Arrange - Given
+        final var strategy = new FullTextCategorySearchStrategy();
+        final var parameters = new MapSqlParameterSource();
+        final var defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+
+        // Act - When
+        final String predicate;
+        final String order;
+        try {
+            predicate = strategy.sqlMatching("filmes de", parameters);
+            order = strategy.sqlRelevanceOrder("filmes de", parameters);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        // Assert - Then
+        assertThat(predicate).contains("MATCH(name, description) AGAINST").contains("LIKE :terms");
+        assertThat(order).endsWith("DESC, id");
+        assertThat(parameters.getValue("booleanQuery")).isEqualTo("+filmes*");
+        assertThat(parameters.getValue("terms")).isEqualTo("%FILMES DE%");
+    }
+
+    @Test
+    void givenOnlyShortWords_whenSqlMatching_thenFallsBackToLike() {
+        // Arrange - Given
+        final var strategy = new FullTextCategorySearchStrategy();
+        final var parameters = new MapSqlParameterSource();
+
+        // Act - When
+        final var predicate = strategy.sqlMatching("tv", parameters);
+        final var order = strategy.sqlRelevanceOrder("tv", parameters);
+
+        // Assert - Then
+        assertThat(predicate).doesNotContain("MATCH").contains("LIKE :terms");
+        assertThat(order).startsWith("CASE WHEN");
+        assertThat(parameters.hasValue("booleanQuery")).isFalse();
+        assertThat(strategy.sqlMatching(" ", new MapSqlParameterSource())).isNull();
+    }
+}
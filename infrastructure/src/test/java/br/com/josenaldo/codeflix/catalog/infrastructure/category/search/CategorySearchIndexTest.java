@@ -0,0 +1,169 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.category.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class CategorySearchIndexTest {
+
+    private final CategoryRepository repository = mock(CategoryRepository.class);
+
+    private final CategorySearchIndex index = new CategorySearchIndex(
+        repository,
+        2,
+        Duration.ZERO
+    );
+
+    @Test
+    void givenIndexedCategories_whenSearch_thenMatchesSubstringsIgnoringCaseAndAccents() {
+        // Arrange - Given
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        final var series = Category.newCategory("Séries", "Temporadas", true);
+        index.index(filmes);
+        index.index(documentarios);
+        index.index(series);
+
+        // Act - When
+        final var byName = index.search("DOCUMENTARIO");
+        final var byDescription = index.search(" mais assist ");
+        final var byTrigramsOnly = index.search("filmes reais");
+
+        // Assert - Then
+        assertThat(byName).contains(List.of(documentarios.getId().getValue()));
+        assertThat(byDescription).contains(List.of(filmes.getId().getValue()));
+        assertThat(byTrigramsOnly).contains(List.of());
+    }
+
+    @Test
+    void givenShortOrBroadTerms_whenSearch_thenLeavesThemToTheDatabase() {
+        // Arrange - Given
+        index.index(Category.newCategory("Ação", null, true));
+        index.index(Category.newCategory("Ação e aventura", null, true));
+        index.index(Category.newCategory("Ação policial", null, true));
+
+        // Act - When / Assert - Then
+        assertThat(index.search("ac")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+        assertThat(index.search("acao")).isEmpty();
+        assertThat(index.search("policial")).hasValueSatisfying(ids -> assertThat(ids).hasSize(1));
+    }
+
+    @Test
+    void givenUpdatedAndRemovedCategories_whenSearch_thenOnlyMatchesCurrentContent() {
+        // Arrange - Given
+        final var category = Category.newCategory("Filme", null, true);
+        final var removed = Category.newCategory("Filmes antigos", null, true);
+        index.index(category);
+        index.index(removed);
+
+        // Act - When
+        index.index(category.clone().update("Séries", null, true));
+        index.remove(removed.getId());
+
+        // Assert - Then
+        assertThat(index.search("film")).contains(List.of());
+        assertThat(index.search("seri")).contains(List.of(category.getId().getValue()));
+        assertThat(index.stats().documents()).isEqualTo(3);
+        assertThat(index.stats().liveDocuments()).isEqualTo(1);
+    }
+
+    @Test
+    void givenStoredCategories_whenRebuild_thenLoadsEveryChunkAndReportsFootprint() {
+        // Arrange - Given
+        final var rows = new ArrayList<Object[]>();
+        for (int i = 0; i < CategorySearchIndex.REBUILD_CHUNK_SIZE; i++) {
+            final var category = Category.newCategory("Categoria " + i, null, true);
+            rows.add(new Object[]{category.getId().getValue(), category.getName(), null});
+        }
+        final var last = Category.newCategory("Documentários", "Filmes reais", true);
+        final Object[] lastRow = {last.getId().getValue(), last.getName(), last.getDescription()};
+        final var lastChunkId = (String) rows.getLast()[0];
+
+        when(repository.findSearchableAfter(isNull(), any())).thenReturn(rows);
+        when(repository.findSearchableAfter(eq(lastChunkId), any()))
+            .thenReturn(List.<Object[]>of(lastRow));
+
+        // Act - When
+        final var stats = index.rebuild();
+
+        // Assert - Then
+        assertThat(stats.liveDocuments()).isEqualTo(CategorySearchIndex.REBUILD_CHUNK_SIZE + 1);
+        assertThat(stats.trigrams()).isPositive();
+        assertThat(stats.postings()).isGreaterThanOrEqualTo(stats.trigrams());
+        assertThat(stats.estimatedBytes()).isPositive();
+        assertThat(stats.builtAt()).isNotNull();
+        assertThat(index.search("reais")).contains(List.of(last.getId().getValue()));
+    }
+
+    @Test
+    void givenMoreDeadThanLiveDocuments_whenWrite_thenCompacts() {
+        // Arrange - Given
+        final var category = Category.newCategory("Filmes", null, true);
+
+        // Act - When
+        for (int i = 0; i <= CategorySearchIndex.COMPACTION_MIN_DEAD; i++) {
+            index.index(category);
+        }
+
+        // Assert - Then
+        assertThat(index.stats().documents()).isLessThan(CategorySearchIndex.COMPACTION_MIN_DEAD);
+        assertThat(index.stats().liveDocuments()).isEqualTo(1);
+        assertThat(index.search("filmes")).contains(List.of(category.getId().getValue()));
+    }
+
+    @Test
+    void givenAMaxStaleness_whenCategoriesAreWrittenElsewhere_thenPeriodicRebuildFindsThem()
+        throws InterruptedException {
+        // Arrange - Given
+        final var category = Category.newCategory("Documentários", null, true);
+        final Object[] row = {category.getId().getValue(), category.getName(), null};
+        final var stored = new AtomicReference<List<Object[]>>(List.of());
+        when(repository.findSearchableAfter(isNull(), any()))
+            .thenAnswer(invocation -> stored.get());
+
+        try (var periodic = new CategorySearchIndex(repository, 2, Duration.ofMillis(20))) {
+            periodic.onApplicationReady();
+            final var beforeWrite = periodic.search("documentario");
+
+            // Act - When
+            stored.set(List.<Object[]>of(row));
+            var afterRebuild = periodic.search("documentario");
+            for (int i = 0; i < 250 && afterRebuild.orElseThrow().isEmpty(); i++) {
+                Thread.sleep(20);
+                afterRebuild = periodic.search("documentario");
+            }
+
+            // Assert - Then
+            assertThat(beforeWrite).contains(List.of());
+            assertThat(afterRebuild).contains(List.of(category.getId().getValue()));
+        }
+    }
+
+    @Test
+    void givenNegativeMaxStaleness_whenCreate_thenThrowsException() {
+        // Arrange - Given
+        final var negative = Duration.ofSeconds(-1);
+
+        // Act - When
+        final var exception = catchException(
+            () -> new CategorySearchIndex(repository, 2, negative)
+        );
+
+        // Assert - Then
+        assertThat(exception).isInstanceOf(IllegalArgumentException.class)
+                             .hasMessage("Max staleness must not be negative.");
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.genre;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.josenaldo.codeflix.catalog.annotations.MySQLGatewayTest;
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import br.com.josenaldo.codeflix.catalog.domain.genre.Genre;
+import br.com.josenaldo.codeflix.catalog.domain.genre.GenreGateway;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence.GenreRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@MySQLGatewayTest
+@ActiveProfiles({"test-integration", "jdbc"})
+class GenreJdbcGatewayTest {
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenJdbcProfile_whenInjectsGateway_thenIsJdbcAdapter() {
+        assertThat(genreGateway).isInstanceOf(GenreJdbcGateway.class);
+    }
+
+    @Test
+    void givenAGenreWithCategories_whenCreateAndFindById_thenReturnsGenreWithCategories() {
+        // Arrange - Given
+        final var categories = givenCategories(3);
+        final var aGenre = Genre.newGenre("Ação", true).addCategories(categories);
+
+        // Act - When
+        genreGateway.create(aGenre);
+        final var actualGenre = genreGateway.findById(aGenre.getId()).orElseThrow();
+
+        // Assert - Then
+        assertThat(actualGenre.getName()).isEqualTo("Ação");
+        assertThat(actualGenre.isActive()).isTrue();
+        assertThat(actualGenre.getCreatedAt()).isEqualTo(aGenre.getCreatedAt());
+        assertThat(actualGenre.getCategories()).containsExactlyInAnyOrderElementsOf(categories);
+
+        final var persistedGenre = genreRepository.findById(aGenre.getId().getValue())
+                                                  .orElseThrow();
+        assertThat(persistedGenre.getCategoryIDS()).containsExactlyInAnyOrderElementsOf(categories);
+    }
+
+    @Test
+    void givenAStoredGenre_whenUpdateSwapsOneCategory_thenKeepsTheOthers() {
+        // Arrange - Given
+        final var categories = givenCategories(3);
+        final var replacement = givenCategories(1).getFirst();
+        final var aGenre = genreGateway.create(
+            Genre.newGenre("Ação", true).addCategories(categories)
+        );
+
+        final var expectedCategories = List.of(categories.get(0), categories.get(1), replacement);
+
+        // Act - When
+        genreGateway.update(aGenre.update("Aventura", false, expectedCategories));
+        final var actualGenre = genreGateway.findById(aGenre.getId()).orElseThrow();
+
+        // Assert - Then
+        assertThat(actualGenre.getName()).isEqualTo("Aventura");
+        assertThat(actualGenre.isActive()).isFalse();
+        assertThat(actualGenre.getDeletedAt()).isNotNull();
+        assertThat(actualGenre.getCategories())
+            .containsExactlyInAnyOrderElementsOf(expectedCategories);
+        assertThat(countLinks()).isEqualTo(3);
+    }
+
+    @Test
+    void givenAStoredGenre_whenDeleteById_thenRemovesGenreAndLinks() {
+        // Arrange - Given
+        final var aGenre = genreGateway.create(
+            Genre.newGenre("Ação", true).addCategories(givenCategories(2))
+        );
+
+        // Act - When
+        genreGateway.deleteById(aGenre.getId());
+
+        // Assert - Then
+        assertThat(genreGateway.findById(aGenre.getId())).isEmpty();
+        assertThat(genreRepository.count()).isZero();
+        assertThat(countLinks()).isZero();
+    }
+
+    @Test
+    void givenManyGenres_whenFollowsCursors_thenListsAllWithTheirCategories() {
+        // Arrange - Given
+        final var category = givenCategories(1);
+        for (int i = 0; i < 7; i++) {
+            genreGateway.create(Genre.newGenre("Genre %02d".formatted(i), true)
+                                     .addCategories(category));
+        }
+        var query = SearchQuery.of(0, 3, "genre", "name", "desc");
+
+        // Act - When
+        final List<Genre> actualGenres = new ArrayList<>();
+        final var firstPage = genreGateway.findAll(query);
+        var page = firstPage;
+        actualGenres.addAll(page.data());
+        while (page.nextCursor() != null) {
+            query = query.withCursor(page.nextCursor());
+            page = genreGateway.findAll(query);
+            actualGenres.addAll(page.data());
+        }
+
+        // Assert - Then
+        assertThat(firstPage.total()).isEqualTo(7);
+        assertThat(actualGenres).extracting(Genre::getName)
+                                .hasSize(7)
+                                .startsWith("Genre 06")
+                                .endsWith("Genre 00");
+        assertThat(actualGenres).allSatisfy(
+            genre -> assertThat(genre.getCategories()).containsExactlyElementsOf(category)
+        );
+    }
+
+    private List<CategoryID> givenCategories(final int count) {
+        final List<CategoryID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(categoryGateway.create(Category.newCategory("Category " + i, null, true))
+                                   .getId());
+        }
+        return ids;
+    }
+
+    private long countLinks() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM genres_categories", Long.class);
+    }
+}
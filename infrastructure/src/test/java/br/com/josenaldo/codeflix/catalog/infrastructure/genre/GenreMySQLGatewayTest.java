@@ -6,12 +6,20 @@ import br.com.josenaldo.codeflix.catalog.annotations.MySQLGatewayTest;
 import br.com.josenaldo.codeflix.catalog.domain.category.Category;
 import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
 import br.com.josenaldo.codeflix.catalog.domain.genre.Genre;
+import br.com.josenaldo.codeflix.catalog.domain.genre.GenreID;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Pagination;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.Slice;
 import br.com.josenaldo.codeflix.catalog.infrastructure.category.CategoryMySQLGateway;
 import br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence.GenreJpaEntity;
 import br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence.GenreRepository;
+import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 @MySQLGatewayTest
@@ -27,6 +35,9 @@ class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     @Test
     void testDependenciesInjected() {
         assertThat(categoryGateway).isNotNull();
@@ -326,4 +337,190 @@ class GenreMySQLGatewayTest {
         var categoryIDS = persistedGenre.getCategoryIDS();
         assertThat(categoryIDS).isEmpty();
     }
+
+    @Test
+    void givenPrePersistedGenres_whenCallsFindAllAndFindSlice_shouldReturnMatchingGenres() {
+        // Arrange - Given
+        final var acao = Genre.newGenre("Ação", true, List.of());
+        final var drama = Genre.newGenre("Drama", true, List.of());
+        final var terror = Genre.newGenre("Terror", true, List.of());
+
+        genreRepository.saveAllAndFlush(List.of(
+            GenreJpaEntity.from(terror),
+            GenreJpaEntity.from(acao),
+            GenreJpaEntity.from(drama)
+        ));
+
+        final var query = SearchQuery.of(0, 2, "", "name", "ASC");
+
+        // Act - When
+        final var actualPage = genreGateway.findAll(query);
+        final var actualSlice = genreGateway.findSlice(query.withoutTotal());
+
+        // Assert - Then
+        assertThat(actualPage)
+            .extracting(Pagination::page, Pagination::perPage, Pagination::total)
+            .containsExactly(0, 2, 3L);
+        assertThat(actualPage.data())
+            .extracting(Genre::getId)
+            .containsExactly(acao.getId(), drama.getId());
+
+        assertThat(actualSlice)
+            .extracting(Slice::page, Slice::perPage, Slice::hasNext)
+            .containsExactly(0, 2, true);
+        assertThat(actualSlice.data())
+            .extracting(Genre::getId)
+            .containsExactly(acao.getId(), drama.getId());
+    }
+
+    /**
+     * Tests that a page of genres takes the same number of statements whatever its size: the page
+     * query, the count and one query for the category links of the whole page.
+     */
+    @Test
+    void givenGenresWithCategories_whenCallsFindAllWithDifferentPageSizes_thenShouldIssueConstantStatements() {
+        // Arrange - Given
+        final var genres = givenGenresWithTwoCategories(6);
+        final var statistics = clearStatistics();
+
+        // Act - When
+        final var smallPage = genreGateway.findAll(SearchQuery.of(0, 2, "", "name", "asc"));
+        final var smallPageStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        final var largePage = genreGateway.findAll(SearchQuery.of(0, 6, "", "name", "asc"));
+        final var largePageStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        final var slice = genreGateway.findSlice(SearchQuery.of(0, 6, "", "name", "asc"));
+
+        // Assert - Then
+        assertThat(smallPageStatements).isEqualTo(3);
+        assertThat(largePageStatements).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+
+        assertThat(smallPage.data()).extracting(Genre::getId)
+                                    .containsExactly(genres.get(0).getId(), genres.get(1).getId());
+        assertThat(largePage.data()).containsExactlyElementsOf(genres);
+        assertThat(largePage.data())
+            .allSatisfy(genre -> assertThat(genre.getCategories()).hasSize(2));
+        assertThat(largePage.data().get(5).getCategories())
+            .containsExactlyInAnyOrderElementsOf(genres.get(5).getCategories());
+        assertThat(slice.data()).containsExactlyElementsOf(genres);
+    }
+
+    /**
+     * Tests that finding a genre by its identifier returns it with its categories in two
+     * statements, and an empty result in one statement when it does not exist.
+     */
+    @Test
+    void givenAPrePersistedGenre_whenCallsFindById_thenShouldReturnGenreWithCategories() {
+        // Arrange - Given
+        final var expectedGenre = givenGenresWithTwoCategories(1).getFirst();
+        final var statistics = clearStatistics();
+
+        // Act - When
+        final var actualGenre = genreGateway.findById(expectedGenre.getId());
+        final var foundStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        final var missingGenre = genreGateway.findById(GenreID.unique());
+
+        // Assert - Then
+        assertThat(foundStatements).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(missingGenre).isEmpty();
+        assertThat(actualGenre).isPresent();
+        assertThat(actualGenre.get().getId()).isEqualTo(expectedGenre.getId());
+        assertThat(actualGenre.get().getName()).isEqualTo(expectedGenre.getName());
+        assertThat(actualGenre.get().isActive()).isEqualTo(expectedGenre.isActive());
+        assertThat(actualGenre.get().getCategories())
+            .containsExactlyInAnyOrderElementsOf(expectedGenre.getCategories());
+    }
+
+    /**
+     * Tests that updating a genre with many categories, swapping one of them, deletes and inserts
+     * only the changed link, and that an update keeping the categories writes no link at all.
+     */
+    @Test
+    void givenAGenreWithManyCategories_whenCallsUpdateChangingOne_thenShouldWriteOnlyTheDifference() {
+        // Arrange - Given
+        final List<CategoryID> storedCategories = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            storedCategories.add(
+                categoryGateway.create(Category.newCategory("Categoria " + i, null, true)).getId()
+            );
+        }
+        final var added = categoryGateway.create(Category.newCategory("Nova", null, true)).getId();
+        final var removed = storedCategories.getFirst();
+
+        final var aGenre = Genre.newGenre("Ação", true, storedCategories);
+        genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+        testEntityManager.clear();
+
+        final List<CategoryID> expectedCategories = new ArrayList<>(storedCategories);
+        expectedCategories.remove(removed);
+        expectedCategories.add(added);
+        final var statistics = clearStatistics();
+
+        // Act - When
+        final var actualGenre = genreGateway.update(
+            Genre.with(aGenre).update("Ação e Aventura", true, expectedCategories)
+        );
+        testEntityManager.flush();
+        final var insertCount = statistics.getEntityInsertCount();
+        final var deleteCount = statistics.getEntityDeleteCount();
+        testEntityManager.clear();
+        statistics.clear();
+
+        genreGateway.update(Genre.with(actualGenre).update("Aventura", true, expectedCategories));
+        testEntityManager.flush();
+
+        // Assert - Then
+        assertThat(insertCount).isEqualTo(1);
+        assertThat(deleteCount).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+
+        testEntityManager.clear();
+        final var persistedGenre = genreRepository.findById(aGenre.getId().getValue()).get();
+        assertThat(persistedGenre.getName()).isEqualTo("Aventura");
+        assertThat(persistedGenre.getCategoryIDS())
+            .containsExactlyInAnyOrderElementsOf(expectedCategories);
+    }
+
+    /**
+     * Persists the given number of genres, named in alphabetical order, each linked to two new
+     * categories, and clears the persistence context.
+     *
+     * @param count the number of genres.
+     * @return the persisted genres, in name order.
+     */
+    private List<Genre> givenGenresWithTwoCategories(final int count) {
+        final List<Genre> genres = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final var first = categoryGateway.create(Category.newCategory("Filmes " + i, null, true));
+            final var second = categoryGateway.create(Category.newCategory("Séries " + i, null, true));
+            genres.add(Genre.newGenre("Gênero " + i, true, List.of(first.getId(), second.getId())));
+        }
+
+        genreRepository.saveAllAndFlush(genres.stream().map(GenreJpaEntity::from).toList());
+        testEntityManager.clear();
+        return genres;
+    }
+
+    /**
+     * Enables and resets the Hibernate statistics of the persistence unit.
+     *
+     * @return the statistics, counting from zero.
+     */
+    private Statistics clearStatistics() {
+        final var statistics = testEntityManager.getEntityManager()
+                                                .getEntityManagerFactory()
+                                                .unwrap(SessionFactory.class)
+                                                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
 }
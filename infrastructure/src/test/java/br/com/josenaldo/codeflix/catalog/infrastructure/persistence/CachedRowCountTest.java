@@ -0,0 +1,222 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CachedRowCountTest {
+
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(30);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+
+    private final AtomicLong rows = new AtomicLong(100);
+
+    private final AtomicInteger counts = new AtomicInteger();
+
+    private final CachedRowCount rowCount = new CachedRowCount(
+        () -> {
+            counts.incrementAndGet();
+            return rows.get();
+        },
+        MAX_STALENESS,
+        clock
+    );
+
+    /**
+     * Tests that the rows are counted on the first call and the count is then served from the
+     * cache, adjusted by the reported writes and flagged as an estimate.
+     */
+    @Test
+    void givenAFreshCount_whenGetAfterWrites_thenReturnsAdjustedEstimate() {
+        // Arrange - Given
+        final var first = rowCount.get();
+        rows.set(500);
+
+        // Act - When
+        rowCount.add(3);
+        rowCount.add(-1);
+        clock.advance(MAX_STALENESS.minusSeconds(1));
+        final var actualTotal = rowCount.get();
+
+        // Assert - Then
+        assertThat(first).isEqualTo(new CachedRowCount.Total(100, true));
+        assertThat(actualTotal).isEqualTo(new CachedRowCount.Total(102, false));
+        assertThat(counts).hasValue(1);
+    }
+
+    /**
+     * Tests that a count as old as the maximum staleness is counted again, picking up writes the
+     * cache was not told about.
+     */
+    @Test
+    void givenAStaleCount_whenGet_thenCountsAgain() {
+        // Arrange - Given
+        rowCount.get();
+        rows.set(500);
+
+        // Act - When
+        clock.advance(MAX_STALENESS);
+        final var actualTotal = rowCount.get();
+
+        // Assert - Then
+        assertThat(actualTotal).isEqualTo(new CachedRowCount.Total(500, true));
+        assertThat(counts).hasValue(2);
+    }
+
+    /**
+     * Tests that invalidating the cache forces the next call to count the rows.
+     */
+    @Test
+    void givenAnInvalidatedCount_whenGet_thenCountsAgain() {
+        // Arrange - Given
+        rowCount.get();
+        rows.set(7);
+
+        // Act - When
+        rowCount.invalidate();
+        final var actualTotal = rowCount.get();
+
+        // Assert - Then
+        assertThat(actualTotal).isEqualTo(new CachedRowCount.Total(7, true));
+        assertThat(counts).hasValue(2);
+    }
+
+    /**
+     * Tests that an estimate never goes below zero, even if more deletions than rows were
+     * reported.
+     */
+    @Test
+    void givenMoreDeletionsThanRows_whenGet_thenReturnsZero() {
+        // Arrange - Given
+        rowCount.get();
+
+        // Act - When
+        rowCount.add(-150);
+        final var actualTotal = rowCount.get();
+
+        // Assert - Then
+        assertThat(actualTotal).isEqualTo(new CachedRowCount.Total(0, false));
+    }
+
+    /**
+     * Tests that a maximum staleness of zero counts the rows on every call.
+     */
+    @Test
+    void givenZeroMaxStaleness_whenGet_thenAlwaysCounts() {
+        // Arrange - Given
+        final var uncached = new CachedRowCount(rows::get, Duration.ZERO, clock);
+
+        // Act - When
+        final var first = uncached.get();
+        rows.set(101);
+        final var second = uncached.get();
+
+        // Assert - Then
+        assertThat(first).isEqualTo(new CachedRowCount.Total(100, true));
+        assertThat(second).isEqualTo(new CachedRowCount.Total(101, true));
+    }
+
+    /**
+     * Tests that while one caller recounts a stale count, the others get the current estimate
+     * and report writes without waiting, and that those writes are kept on top of the recount.
+     */
+    @Test
+    void givenARecountInProgress_whenGetAndAdd_thenReturnsEstimateWithoutWaiting()
+        throws Exception {
+        // Arrange - Given
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var blocking = new CachedRowCount(
+            () -> {
+                if (counts.incrementAndGet() > 1) {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return rows.get();
+            },
+            MAX_STALENESS,
+            clock
+        );
+        blocking.get();
+        clock.advance(MAX_STALENESS);
+        rows.set(200);
+
+        // Act - When
+        final var recount = CompletableFuture.supplyAsync(blocking::get);
+        started.await(5, TimeUnit.SECONDS);
+        final var duringRecount = blocking.get();
+        blocking.add(5);
+        release.countDown();
+        final var recounted = recount.get(5, TimeUnit.SECONDS);
+        final var afterRecount = blocking.get();
+
+        // Assert - Then
+        assertThat(duringRecount).isEqualTo(new CachedRowCount.Total(100, false));
+        assertThat(recounted).isEqualTo(new CachedRowCount.Total(200, true));
+        assertThat(afterRecount).isEqualTo(new CachedRowCount.Total(205, false));
+        assertThat(counts).hasValue(2);
+    }
+
+    /**
+     * Tests that a negative maximum staleness is rejected.
+     */
+    @Test
+    void givenNegativeMaxStaleness_whenCreate_thenThrowsException() {
+        // Arrange - Given
+        final var negative = Duration.ofSeconds(-1);
+
+        // Act - When
+        final var exception = catchException(() -> new CachedRowCount(rows::get, negative));
+
+        // Assert - Then
+        assertThat(exception).isInstanceOf(IllegalArgumentException.class)
+                             .hasMessage("Max staleness must not be negative.");
+    }
+
+    /**
+     * A clock whose instant only moves when the test advances it.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.josenaldo.codeflix.catalog.annotations.MySQLGatewayTest;
+import br.com.josenaldo.codeflix.catalog.domain.category.Category;
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryGateway;
+import br.com.josenaldo.codeflix.catalog.domain.genre.Genre;
+import br.com.josenaldo.codeflix.catalog.domain.genre.GenreGateway;
+import br.com.josenaldo.codeflix.catalog.domain.pagination.SearchQuery;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryRepository;
+import br.com.josenaldo.codeflix.catalog.infrastructure.genre.persistence.GenreRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Checks that the second-level and query caches answer repeated reads and are invalidated by
+ * writes.
+ * <p>
+ * Hibernate only fills and trusts the caches after the writing transaction commits, so these
+ * tests run without the test transaction and delete the rows they commit afterwards.
+ */
+@MySQLGatewayTest
+@TestPropertySource(properties = "database.cache.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HibernateCacheTest {
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        genreRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    /**
+     * Tests that a category read by its identifier after being created is answered by the
+     * category region.
+     */
+    @Test
+    void givenACreatedCategory_whenFindById_thenShouldHitEntityRegion() {
+        // Arrange - Given
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var hitsBefore = stats(CacheRegions.CATEGORIES).hits();
+
+        // Act - When
+        final var actualCategory = categoryGateway.findById(aCategory.getId());
+
+        // Assert - Then
+        assertThat(actualCategory).isPresent();
+        assertThat(stats(CacheRegions.CATEGORIES).hits()).isEqualTo(hitsBefore + 1);
+    }
+
+    /**
+     * Tests that repeating a search answers its page and count from the query region, and that a
+     * category write makes the next search read the database again.
+     */
+    @Test
+    void givenARepeatedSearch_whenCategoryIsWritten_thenShouldMissQueryRegionAgain() {
+        // Arrange - Given
+        categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var query = SearchQuery.of(0, 10, "film", "name", "asc");
+        categoryGateway.findAll(query);
+        final var before = stats(CacheRegions.CATEGORY_QUERIES);
+
+        // Act - When
+        final var cachedPage = categoryGateway.findAll(query);
+        final var afterRepeat = stats(CacheRegions.CATEGORY_QUERIES);
+
+        categoryGateway.create(Category.newCategory("Filmes de ação", null, true));
+        final var refreshedPage = categoryGateway.findAll(query);
+        final var afterWrite = stats(CacheRegions.CATEGORY_QUERIES);
+
+        // Assert - Then
+        assertThat(cachedPage.total()).isEqualTo(1);
+        assertThat(afterRepeat.hits()).isEqualTo(before.hits() + 2);
+        assertThat(refreshedPage.total()).isEqualTo(2);
+        assertThat(afterWrite.hits()).isEqualTo(afterRepeat.hits());
+        assertThat(afterWrite.misses()).isEqualTo(afterRepeat.misses() + 2);
+    }
+
+    /**
+     * Tests that deleting a category evicts the cached links of its genres, so a genre read and
+     * updated afterwards no longer has the link the database removed on cascade.
+     */
+    @Test
+    void givenACachedGenre_whenItsCategoryIsDeleted_thenShouldReadAndUpdateWithoutIt() {
+        // Arrange - Given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var aGenre = genreGateway.create(
+            Genre.newGenre("Ação", true, List.of(filmes.getId(), series.getId()))
+        );
+        genreGateway.findById(aGenre.getId());
+        genreGateway.update(Genre.with(aGenre));
+
+        // Act - When
+        categoryGateway.deleteById(filmes.getId());
+        final var actualGenre = genreGateway.findById(aGenre.getId()).orElseThrow();
+        final var updatedGenre = genreGateway.update(
+            Genre.with(actualGenre).update("Ação", true, List.of())
+        );
+
+        // Assert - Then
+        assertThat(actualGenre.getCategories()).containsExactly(series.getId());
+        assertThat(updatedGenre.getCategories()).isEmpty();
+        assertThat(genreGateway.findById(aGenre.getId()).orElseThrow().getCategories()).isEmpty();
+    }
+
+    private CacheRegionStats stats(final String region) {
+        return CacheRegionStats.of(statistics, region);
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.CategorySearchStrategy;
+import br.com.josenaldo.codeflix.catalog.infrastructure.category.persistence.FullTextCategorySearchStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Checks the SQL Hibernate renders for the full-text searches with a MySQL dialect, which only
+ * holds if the contributor is discovered from its service file on the classpath.
+ * <p>
+ * The session factory reads no database metadata on boot, and each statement is captured and
+ * aborted before it reaches the database.
+ */
+class MySQLFullTextFunctionContributorTest {
+
+    private final List<String> statements = new ArrayList<>();
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        final StatementInspector inspector = sql -> {
+            statements.add(sql);
+            throw new IllegalStateException("Statement captured");
+        };
+
+        final var registry = new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.DIALECT, MySQLDialect.class.getName())
+            .applySetting("hibernate.boot.allow_jdbc_metadata_access", false)
+            .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+            .applySetting(AvailableSettings.STATEMENT_INSPECTOR, inspector)
+            .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:fulltext-sql")
+            .build();
+
+        sessionFactory = new MetadataSources(registry)
+            .addAnnotatedClass(CategoryJpaEntity.class)
+            .buildMetadata()
+            .buildSessionFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    /**
+     * Tests that the full-text match of a search is rendered as a {@code MATCH ... AGAINST} in
+     * boolean mode, instead of a call to an unknown {@code match_against} function.
+     */
+    @Test
+    void givenTerms_whenRendersMatchingQuery_thenShouldUseMatchAgainst() {
+        // Arrange - Given
+        final var strategy = new FullTextCategorySearchStrategy();
+
+        // Act - When
+        final var actualSql = render(strategy.matching("filmes"));
+
+        // Assert - Then
+        assertThat(actualSql)
+            .containsPattern("(?i)match\\(\\w+\\.name,\\s*\\w+\\.description\\)\\s*against")
+            .containsIgnoringCase("in boolean mode")
+            .doesNotContainIgnoringCase(MySQLFullTextFunctionContributor.MATCH_AGAINST);
+    }
+
+    /**
+     * Tests that the search ranked by relevance orders by the full-text score.
+     */
+    @Test
+    void givenTerms_whenRendersRankedQuery_thenShouldOrderByMatchAgainst() {
+        // Arrange - Given
+        final var strategy = new FullTextCategorySearchStrategy();
+
+        // Act - When
+        final var actualSql = render(strategy.rankedByRelevance("filmes"));
+
+        // Assert - Then
+        assertThat(actualSql)
+            .containsPattern("(?i)order by match\\(")
+            .doesNotContainIgnoringCase(MySQLFullTextFunctionContributor.MATCH_AGAINST);
+    }
+
+    /**
+     * Renders the SQL of the query selecting the categories that satisfy the given
+     * Specification.
+     *
+     * @param specification the Specification, as built by a {@link CategorySearchStrategy}.
+     * @return the rendered SQL.
+     */
+    private String render(final Specification<CategoryJpaEntity> specification) {
+        try (var session = sessionFactory.openSession()) {
+            final var cb = session.getCriteriaBuilder();
+            final var query = cb.createQuery(CategoryJpaEntity.class);
+            final var root = query.from(CategoryJpaEntity.class);
+            query.where(specification.toPredicate(root, query, cb));
+
+            catchThrowable(() -> session.createQuery(query).getResultList());
+        }
+
+        assertThat(statements).hasSize(1);
+        return statements.getFirst();
+    }
+}
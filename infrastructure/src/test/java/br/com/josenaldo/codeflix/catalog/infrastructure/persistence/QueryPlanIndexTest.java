@@ -0,0 +1,79 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.josenaldo.codeflix.catalog.annotations.MySQLGatewayTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Checks, through {@code EXPLAIN} on H2, that the queries of the supported listings are answered
+ * by the indexes created by the Liquibase changelog.
+ * <p>
+ * Only ascending sorts are checked: H2 does not read an index backwards, while MySQL 8 answers
+ * the descending sorts with a backward scan of the same indexes.
+ */
+@MySQLGatewayTest
+class QueryPlanIndexTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Tests that the page query of every supported sort reads the rows in index order, without
+     * sorting them.
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "name, idx_categories_name_id",
+        "created_at, idx_categories_created_at_id",
+        "updated_at, idx_categories_updated_at_id"
+    })
+    void givenASupportedSort_whenExplainsPageQuery_thenShouldBeIndexSorted(
+        final String sortColumn,
+        final String expectedIndex
+    ) {
+        // Arrange - Given
+        final var sql = "EXPLAIN SELECT id FROM categories ORDER BY %s, id LIMIT 11"
+            .formatted(sortColumn);
+
+        // Act - When
+        final var actualPlan = explain(sql);
+
+        // Assert - Then
+        assertThat(actualPlan).containsIgnoringCase(expectedIndex);
+        assertThat(actualPlan).containsIgnoringCase("index sorted");
+    }
+
+    /**
+     * Tests that looking up the genres of a category reads an index on {@code category_id}
+     * instead of scanning the link table.
+     */
+    @Test
+    void givenACategoryId_whenExplainsGenresLookup_thenShouldNotScanTable() {
+        // Arrange - Given
+        final var sql = "EXPLAIN SELECT genre_id FROM genres_categories WHERE category_id = ?";
+
+        // Act - When
+        final var actualPlan = (String) entityManager.createNativeQuery(sql)
+                                                     .setParameter(1, new byte[16])
+                                                     .getSingleResult();
+
+        // Assert - Then
+        assertThat(actualPlan).doesNotContainIgnoringCase("tableScan");
+        assertThat(actualPlan).containsIgnoringCase("category_id =");
+    }
+
+    /**
+     * Runs an {@code EXPLAIN} statement and returns the plan.
+     *
+     * @param sql the {@code EXPLAIN} statement.
+     * @return the plan, as printed by H2.
+     */
+    private String explain(final String sql) {
+        return (String) entityManager.createNativeQuery(sql).getSingleResult();
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.josenaldo.codeflix.catalog.domain.category.CategoryID;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class UlidBinaryConverterTest {
+
+    private final UlidBinaryConverter converter = new UlidBinaryConverter();
+
+    @Test
+    void givenAValidUlid_whenConvertsToDatabaseColumnAndBack_thenReturnsLowercaseUlid() {
+        // Arrange - Given
+        final var expectedValue = "01aryz6s41tsv4rrffq69g5fav";
+
+        // Act - When
+        final var bytes = converter.convertToDatabaseColumn(expectedValue.toUpperCase());
+        final var actualValue = converter.convertToEntityAttribute(bytes);
+
+        // Assert - Then
+        assertThat(bytes).hasSize(16);
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    void givenACategoryID_whenConvertsToDatabaseColumn_thenMatchesDomainBinaryForm() {
+        // Arrange - Given
+        final var categoryID = CategoryID.unique();
+
+        // Act - When
+        final var actualBytes = converter.convertToDatabaseColumn(categoryID.getValue());
+
+        // Assert - Then
+        assertThat(actualBytes).isEqualTo(categoryID.toBytes());
+    }
+
+    @Test
+    void givenNullValues_whenConverts_thenReturnsNull() {
+        // Arrange - Given
+
+        // Act - When
+        final var actualBytes = converter.convertToDatabaseColumn(null);
+        final var actualValue = converter.convertToEntityAttribute(null);
+
+        // Assert - Then
+        assertThat(actualBytes).isNull();
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    void givenUlidsInAscendingOrder_whenConvertsToDatabaseColumn_thenBytesKeepTheSameOrder() {
+        // Arrange - Given
+        final var lower = converter.convertToDatabaseColumn("01aryz6s41tsv4rrffq69g5fav");
+        final var higher = converter.convertToDatabaseColumn("01aryz6s41tsv4rrffq69g5faw");
+
+        // Act - When
+        final var actualComparison = Arrays.compareUnsigned(lower, higher);
+
+        // Assert - Then
+        assertThat(actualComparison).isNegative();
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the routing of connections between two in-memory H2 databases, each holding a marker row
+ * with its own role.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private Connection primaryKeepAlive;
+
+    private Connection replicaKeepAlive;
+
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        final DataSource primary = h2("primary");
+        final DataSource replica = h2("replica");
+        primaryKeepAlive = primary.getConnection();
+        replicaKeepAlive = replica.getConnection();
+        mark(primaryKeepAlive, "primary");
+        mark(replicaKeepAlive, "replica");
+
+        dataSource = new ReadWriteRoutingDataSource(primary, replica);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        ReplicaRoutingContext.setReplicaReads(false);
+        ReplicaRoutingContext.setPinnedToPrimary(false);
+        primaryKeepAlive.close();
+        replicaKeepAlive.close();
+    }
+
+    /**
+     * Tests that connections come from the primary outside any read-only use case.
+     */
+    @Test
+    void givenNoReadOnlyUseCase_whenGetsConnection_thenReadsFromPrimary() throws SQLException {
+        // Arrange - Given
+        final var reader = new RoleReader(dataSource);
+
+        // Act - When
+        final var actualRole = reader.read();
+
+        // Assert - Then
+        assertThat(actualRole).isEqualTo("primary");
+    }
+
+    /**
+     * Tests that a use case wrapped for replica reads reads from the replica, and that the
+     * connections after it come from the primary again.
+     */
+    @Test
+    void givenAReadOnlyUseCase_whenGetsConnection_thenReadsFromReplica() throws SQLException {
+        // Arrange - Given
+        final var reader = ReplicaReadInterceptor.readingFromReplica(new RoleReader(dataSource));
+
+        // Act - When
+        final var actualRole = reader.read();
+        final var roleAfter = new RoleReader(dataSource).read();
+
+        // Assert - Then
+        assertThat(actualRole).isEqualTo("replica");
+        assertThat(roleAfter).isEqualTo("primary");
+    }
+
+    /**
+     * Tests that a client pinned to the primary after a write reads its own writes from the
+     * primary, even through a use case wrapped for replica reads.
+     */
+    @Test
+    void givenAPinnedClient_whenReadOnlyUseCaseGetsConnection_thenReadsFromPrimary()
+        throws SQLException {
+        // Arrange - Given
+        final var reader = ReplicaReadInterceptor.readingFromReplica(new RoleReader(dataSource));
+        ReplicaRoutingContext.setPinnedToPrimary(true);
+
+        // Act - When
+        final var actualRole = reader.read();
+
+        // Assert - Then
+        assertThat(actualRole).isEqualTo("primary");
+    }
+
+    private static DataSource h2(final String role) {
+        final var h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:%s-%s".formatted(role, UUID.randomUUID()));
+        h2.setUser("sa");
+        return h2;
+    }
+
+    private static void mark(final Connection connection, final String role) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE marker (role VARCHAR(16))");
+            statement.execute("INSERT INTO marker VALUES ('%s')".formatted(role));
+        }
+    }
+
+    /**
+     * Stands in for a read-only use case, reading the role of the database it is connected to.
+     */
+    static class RoleReader {
+
+        private final DataSource dataSource;
+
+        RoleReader(final DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public String read() throws SQLException {
+            try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT role FROM marker")
+            ) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.josenaldo.codeflix.catalog.infrastructure.persistence.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ReadYourWritesFilterTest {
+
+    private static final Duration STICKINESS = Duration.ofSeconds(5);
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(
+        STICKINESS,
+        Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+    private final AtomicBoolean pinnedInChain = new AtomicBoolean();
+
+    private final FilterChain chain = (request, response) ->
+        pinnedInChain.set(ReplicaRoutingContext.isPinnedToPrimary());
+
+    /**
+     * Tests that a write is served by the primary and stamps the cookie that keeps its client on
+     * the primary.
+     */
+    @Test
+    void givenAWrite_whenFilters_thenPinsToPrimaryAndSetsCookie() throws Exception {
+        // Arrange - Given
+        final var request = new MockHttpServletRequest("POST", "/categories");
+        final var response = new MockHttpServletResponse();
+
+        // Act - When
+        filter.doFilter(request, response, chain);
+
+        // Assert - Then
+        final var cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(pinnedInChain).isTrue();
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getValue()).isEqualTo(Long.toString(NOW.plus(STICKINESS).toEpochMilli()));
+        assertThat(cookie.isHttpOnly()).isTrue();
+        assertThat(cookie.getMaxAge()).isEqualTo(5);
+        assertThat(ReplicaRoutingContext.isPinnedToPrimary()).isFalse();
+    }
+
+    /**
+     * Tests that a read right after a write of the same client is served by the primary.
+     */
+    @Test
+    void givenAReadWithinStickiness_whenFilters_thenPinsToPrimary() throws Exception {
+        // Arrange - Given
+        final var request = new MockHttpServletRequest("GET", "/categories");
+        final var until = NOW.plusSeconds(1).toEpochMilli();
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(until)));
+
+        // Act - When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert - Then
+        assertThat(pinnedInChain).isTrue();
+    }
+
+    /**
+     * Tests that reads without a recent write are left to the replicas, and that an expired or
+     * malformed cookie is ignored.
+     */
+    @Test
+    void givenAReadWithoutRecentWrite_whenFilters_thenDoesNotPin() throws Exception {
+        // Arrange - Given
+        final var fresh = new MockHttpServletRequest("GET", "/categories");
+        final var expired = new MockHttpServletRequest("GET", "/categories");
+        expired.setCookies(
+            new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(NOW.toEpochMilli()))
+        );
+        final var malformed = new MockHttpServletRequest("GET", "/categories");
+        malformed.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, "soon"));
+        final var response = new MockHttpServletResponse();
+
+        // Act & Assert
+        for (final var request : new MockHttpServletRequest[] {fresh, expired, malformed}) {
+            pinnedInChain.set(true);
+            filter.doFilter(request, response, chain);
+            assertThat(pinnedInChain).isFalse();
+        }
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+    }
+}